@@ -0,0 +1,142 @@
+package org.sla256.antjira.bench;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+import org.sla256.antjira.transport.RemoteIssueStreamDecoder;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Measures looking issues up in a ConcurrentHashMap shared by several threads, by keys equal to (but distinct
+ * from) the stored issues, so that every lookup runs hashCode on the key and equals on the stored issue:
+ * <ul>
+ * <li>locked: issues whose equals and hashCode are synchronized, as Axis generates them</li>
+ * <li>lock-free: the issues as shipped, guarded against cycles by a BeanCycleGuard</li>
+ * </ul>
+ * All threads look up the same issues, the way a build sharing a mirror or a filter result does. The issues
+ * are decoded from the generated response of the IssueDecodingBenchmark.
+ *
+ * Usage: ant bench-equality [-Dbench.rounds=5] [-Dbench.threads=4]
+ */
+public class BeanEqualityBenchmark {
+
+	private static final int ISSUES = 1000;
+
+	private static final int LOOKUPS_PER_THREAD = 200000;
+
+	public static void main(String[] args) throws Exception {
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+		RemoteIssue[] stored = decode(false);
+		RemoteIssue[] keys = decode(false);
+		RemoteIssue[] lockedStored = decode(true);
+		RemoteIssue[] lockedKeys = decode(true);
+
+		measure("locked", rounds, 1, lockedStored, lockedKeys);
+		measure("lock-free", rounds, 1, stored, keys);
+		double locked = measure("locked", rounds, threads, lockedStored, lockedKeys);
+		double lockFree = measure("lock-free", rounds, threads, stored, keys);
+		System.out.println(String.format("speedup of lock-free over locked on %d threads: %.2fx", threads, locked / lockFree));
+	}
+
+	/**
+	 * @param locked true for issues with synchronized equals and hashCode
+	 * @return freshly decoded issues
+	 */
+	private static RemoteIssue[] decode(final boolean locked) throws Exception {
+		final List<RemoteIssue> issues = new ArrayList<RemoteIssue>();
+		new RemoteIssueStreamDecoder(null).decode(new ByteArrayInputStream(IssueDecodingBenchmark.generateResponse(ISSUES)),
+				new RemoteIssueHandler() {
+					public void handleIssue(RemoteIssue issue) {
+						issues.add(locked ? new LockedIssue(issue) : issue);
+					}
+				});
+		return issues.toArray(new RemoteIssue[issues.size()]);
+	}
+
+	/**
+	 * Runs a warm-up round, then the given number of measured rounds.
+	 * @return best round time in ms
+	 */
+	private static double measure(String name, int rounds, int threads, RemoteIssue[] stored, RemoteIssue[] keys)
+			throws Exception {
+		Map<RemoteIssue, Integer> map = new ConcurrentHashMap<RemoteIssue, Integer>();
+		for(int i = 0; i < stored.length; i++) {
+			map.put(stored[i], Integer.valueOf(i));
+		}
+		run(threads, map, keys);
+		double best = Double.MAX_VALUE;
+		for(int i = 0; i < rounds; i++) {
+			System.gc();
+			long start = System.nanoTime();
+			run(threads, map, keys);
+			best = Math.min(best, (System.nanoTime() - start) / 1e6);
+		}
+		int lookups = threads * LOOKUPS_PER_THREAD;
+		System.out.println(String.format("%-9s best %9.1f ms for %d lookups on %d threads, %10.0f lookups/s", name,
+				best, lookups, threads, lookups * 1000 / best));
+		return best;
+	}
+
+	private static void run(int threads, final Map<RemoteIssue, Integer> map, final RemoteIssue[] keys)
+			throws Exception {
+		final CountDownLatch done = new CountDownLatch(threads);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		for(int i = 0; i < threads; i++) {
+			final int offset = i * 7919;
+			new Thread() {
+				public void run() {
+					try {
+						for(int j = 0; j < LOOKUPS_PER_THREAD; j++) {
+							int k = (offset + j) % keys.length;
+							Integer found = map.get(keys[k]);
+							if( found == null || found.intValue() != k ) {
+								throw new IllegalStateException("Issue " + k + " not found");
+							}
+						}
+					} catch(Throwable t) {
+						failure.compareAndSet(null, t);
+					} finally {
+						done.countDown();
+					}
+				}
+			}.start();
+		}
+		done.await();
+		if( failure.get() != null ) {
+			throw new IllegalStateException("Benchmark thread failed", failure.get());
+		}
+	}
+
+	/**
+	 * Issue comparing and hashing under its monitor, as the generated beans used to.
+	 */
+	private static class LockedIssue extends RemoteIssue {
+
+		private static final long serialVersionUID = 1L;
+
+		LockedIssue(RemoteIssue issue) {
+			super(issue.getId(), issue.getAffectsVersions(), issue.getAssignee(), issue.getAttachmentNames(),
+					issue.getComponents(), issue.getCreated(), issue.getCustomFieldValues(), issue.getDescription(),
+					issue.getDuedate(), issue.getEnvironment(), issue.getFixVersions(), issue.getKey(),
+					issue.getPriority(), issue.getProject(), issue.getReporter(), issue.getResolution(),
+					issue.getStatus(), issue.getSummary(), issue.getType(), issue.getUpdated(), issue.getVotes());
+		}
+
+		public synchronized boolean equals(Object obj) {
+			return super.equals(obj);
+		}
+
+		public synchronized int hashCode() {
+			return super.hashCode();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package org.sla256.antjira.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.EngineConfiguration;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.SimpleTargetedChain;
+import org.apache.axis.configuration.EngineConfigurationFactoryFinder;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.handlers.BasicHandler;
+
+/**
+ * Axis transport answering calls from memory, with a fixed response per operation, so that benchmarks
+ * measure the client side only. Optionally, request envelopes are serialized (and discarded) the way a real
+ * transport writes them, as Axis only serializes a request when its transport writes it.
+ */
+class CannedResponseHandler extends BasicHandler {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Map<String, byte[]> responses;
+
+	private final boolean writeRequests;
+
+	/**
+	 * @param responses SOAP response envelopes by operation name
+	 * @param writeRequests true to serialize the request envelopes
+	 */
+	CannedResponseHandler(Map<String, byte[]> responses, boolean writeRequests) {
+		this.responses = responses;
+		this.writeRequests = writeRequests;
+	}
+
+	/**
+	 * @param responses SOAP response envelopes by operation name
+	 * @return Axis client configuration using this transport for http endpoints
+	 */
+	static EngineConfiguration configuration(Map<String, byte[]> responses) {
+		return configuration(responses, false);
+	}
+
+	/**
+	 * @param responses SOAP response envelopes by operation name
+	 * @param writeRequests true to serialize the request envelopes
+	 * @return Axis client configuration using this transport for http endpoints
+	 */
+	static EngineConfiguration configuration(Map<String, byte[]> responses, boolean writeRequests) {
+		SimpleProvider config = new SimpleProvider(EngineConfigurationFactoryFinder.newFactory().getClientEngineConfig());
+		config.deployTransport("http", new SimpleTargetedChain(new CannedResponseHandler(responses, writeRequests)));
+		return config;
+	}
+
+	/**
+	 * @return RPC/encoded response envelope of an operation returning a simple value
+	 */
+	static byte[] simpleResponse(String operation, String xsdType, String value) throws Exception {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\""
+			+ " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"><soapenv:Body>"
+			+ "<ns1:" + operation + "Response soapenv:encodingStyle=\"http://schemas.xmlsoap.org/soap/encoding/\" xmlns:ns1=\"http://soap.rpc.jira.atlassian.com\">"
+			+ "<" + operation + "Return xsi:type=\"xsd:" + xsdType + "\">" + value + "</" + operation + "Return>"
+			+ "</ns1:" + operation + "Response></soapenv:Body></soapenv:Envelope>";
+		return xml.getBytes("UTF-8");
+	}
+
+	public void invoke(MessageContext msgContext) throws AxisFault {
+		String operation = msgContext.getOperation().getName();
+		byte[] response = responses.get(operation);
+		if( response == null ) {
+			throw new AxisFault("No canned response for " + operation);
+		}
+		if( writeRequests ) {
+			try {
+				msgContext.getRequestMessage().writeTo(new DiscardingOutputStream());
+			}
+			catch(Exception e) {
+				throw AxisFault.makeFault(e);
+			}
+		}
+		msgContext.setResponseMessage(new Message(new ByteArrayInputStream(response), false, "text/xml; charset=utf-8", null));
+	}
+
+	private static class DiscardingOutputStream extends OutputStream {
+
+		public void write(int b) throws IOException {
+			// discarded
+		}
+
+		public void write(byte[] b, int off, int len) throws IOException {
+			// discarded
+		}
+	}
+}
@@ -0,0 +1,417 @@
+package org.sla256.antjira.bench;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URL;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.apache.axis.Constants;
+import org.apache.axis.client.Call;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.encoding.TypeMappingRegistryImpl;
+import org.apache.axis.encoding.ser.BeanDeserializerFactory;
+import org.apache.axis.encoding.ser.BeanSerializerFactory;
+import org.sla256.antjira.jirasoapservice.IssueProjection;
+import org.sla256.antjira.jirasoapservice.IssueRecord;
+import org.sla256.antjira.jirasoapservice.IssueRecordHandler;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
+import org.sla256.antjira.jirasoapservice.JiraSoapTypeMappings;
+import org.sla256.antjira.jirasoapservice.JirasoapserviceV2SoapBindingStub;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+import org.sla256.antjira.transport.RemoteIssueStreamDecoder;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Measures the decoding of a large getIssuesFromFilter response, laid out the way Jira (Axis) sends it: every
+ * issue, version, component and custom field value as a multiRef element. The response is generated, then
+ * replayed by an in-process transport, so only the client side is measured:
+ * <ul>
+ * <li>stock: the SOAP binding stub with the Axis BeanDeserializer registered for the bean types</li>
+ * <li>fast: the SOAP binding stub as shipped, i.e. with the hand-written FastBeanDeserializer</li>
+ * <li>stream: the StAX RemoteIssueStreamDecoder, handing RemoteIssues over</li>
+ * <li>records: the same decoder handing IssueRecords over, as for the exportfilter task</li>
+ * <li>projected: the same decoder limited to the key, status and updated fields by an IssueProjection</li>
+ * </ul>
+ * All results are checked to be equal before timing. The number of distinct String instances held by the low
+ * cardinality issue fields (project, status, assignee, ...) shows the effect of the StringPool used by the
+ * decoders but stock; the heap retained by the streamed issues and records, that of the dates held as epoch
+ * milliseconds instead of Calendars. Retained heap is read from the usage of the heap memory pools after
+ * full collections requested through the MemoryMXBean, once they no longer free anything, and reported as not
+ * measurable when the JVM does not collect on request or the reading is not positive.
+ *
+ * Usage: ant bench [-Dbench.issues=5000] [-Dbench.rounds=5]
+ */
+public class IssueDecodingBenchmark {
+
+	private static final String BEANS_NS = "http://beans.soap.rpc.jira.atlassian.com";
+
+	/**
+	 * Decrease of the heap in use (bytes) between two full collections below which the reading is settled.
+	 */
+	private static final long SETTLED_HEAP = 64 * 1024;
+
+	/**
+	 * Number of full collections in a row which must not free more than SETTLED_HEAP.
+	 */
+	private static final int SETTLED_ROUNDS = 3;
+
+	public static void main(String[] args) throws Exception {
+		int issues = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		byte[] response = generateResponse(issues);
+		System.out.println("getIssuesFromFilter response: " + issues + " issues, " + (response.length / 1024) + " KB");
+
+		final JiraSoapService stock = createStub(response, true);
+		final JiraSoapService fast = createStub(response, false);
+		final RemoteIssueStreamDecoder decoder = new RemoteIssueStreamDecoder(null);
+		final IssueProjection projection = IssueProjection.parse("key,status,updated");
+		final RemoteIssueStreamDecoder projectedDecoder = new RemoteIssueStreamDecoder(null, projection);
+		final byte[] body = response;
+
+		RemoteIssue[] expected = stock.getIssuesFromFilter("token", "10000");
+		if( expected.length != issues ) {
+			throw new IllegalStateException("stock: " + expected.length + " issues decoded, expected " + issues);
+		}
+		RemoteIssue[] fastIssues = fast.getIssuesFromFilter("token", "10000");
+		if( !Arrays.equals(expected, fastIssues) ) {
+			throw new IllegalStateException("fast: decoded issues differ from stock");
+		}
+		final List<RemoteIssue> streamed = new ArrayList<RemoteIssue>();
+		decoder.decode(new ByteArrayInputStream(body), new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) {
+				streamed.add(issue);
+			}
+		});
+		if( !Arrays.equals(expected, streamed.toArray(new RemoteIssue[streamed.size()])) ) {
+			throw new IllegalStateException("stream: decoded issues differ from stock");
+		}
+		final List<IssueRecord> records = new ArrayList<IssueRecord>();
+		decoder.decode(new ByteArrayInputStream(body), new IssueRecordHandler() {
+			public void handleRecord(IssueRecord record) {
+				records.add(record);
+			}
+		});
+		for(int i = 0; i < expected.length; i++) {
+			if( i >= records.size() || !IssueRecord.of(expected[i]).equals(records.get(i))
+					|| !records.get(i).toRemoteIssue().equals(expected[i]) ) {
+				throw new IllegalStateException("records: decoded issues differ from stock");
+			}
+		}
+		final List<RemoteIssue> projected = new ArrayList<RemoteIssue>();
+		projectedDecoder.decode(new ByteArrayInputStream(body), new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) {
+				projected.add(issue);
+			}
+		});
+		RemoteIssue[] cleared = fast.getIssuesFromFilter("token", "10000");
+		for(int i = 0; i < cleared.length; i++) {
+			if( i >= projected.size() || !projection.apply(cleared[i]).equals(projected.get(i)) ) {
+				throw new IllegalStateException("projected: decoded issues differ from stock");
+			}
+		}
+		System.out.println("String instances of low cardinality fields: stock " + countStrings(Arrays.asList(expected))
+				+ ", fast " + countStrings(Arrays.asList(fastIssues)) + ", stream " + countStrings(streamed));
+		expected = null;
+		fastIssues = null;
+		cleared = null;
+		projected.clear();
+		streamed.clear();
+		long base = usedHeap();
+		decoder.decode(new ByteArrayInputStream(body), new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) {
+				streamed.add(issue);
+			}
+		});
+		long streamHeap = retainedHeap(base);
+		streamed.clear();
+		records.clear();
+		base = usedHeap();
+		decoder.decode(new ByteArrayInputStream(body), new IssueRecordHandler() {
+			public void handleRecord(IssueRecord record) {
+				records.add(record);
+			}
+		});
+		long recordsHeap = retainedHeap(base);
+		if( streamHeap > 0 && recordsHeap > 0 ) {
+			System.out.println(String.format("retained heap per issue: stream %d bytes, records %d bytes",
+					streamHeap / issues, recordsHeap / issues));
+		}
+		else {
+			System.out.println("retained heap per issue: not measurable, run with a larger bench.issues");
+		}
+		records.clear();
+
+		double stockMs = measure("stock", issues, rounds, new Task() {
+			public void run() throws Exception {
+				stock.getIssuesFromFilter("token", "10000");
+			}
+		});
+		double fastMs = measure("fast", issues, rounds, new Task() {
+			public void run() throws Exception {
+				fast.getIssuesFromFilter("token", "10000");
+			}
+		});
+		double streamMs = measure("stream", issues, rounds, new Task() {
+			public void run() throws Exception {
+				decoder.decode(new ByteArrayInputStream(body), new RemoteIssueHandler() {
+					public void handleIssue(RemoteIssue issue) {
+						// only decoding is measured
+					}
+				});
+			}
+		});
+		double recordsMs = measure("records", issues, rounds, new Task() {
+			public void run() throws Exception {
+				decoder.decode(new ByteArrayInputStream(body), new IssueRecordHandler() {
+					public void handleRecord(IssueRecord record) {
+						// only decoding is measured
+					}
+				});
+			}
+		});
+		double projectedMs = measure("projected", issues, rounds, new Task() {
+			public void run() throws Exception {
+				projectedDecoder.decode(new ByteArrayInputStream(body), new RemoteIssueHandler() {
+					public void handleIssue(RemoteIssue issue) {
+						// only decoding is measured
+					}
+				});
+			}
+		});
+		System.out.println(String.format("speedup over stock: fast %.2fx, stream %.2fx, records %.2fx, projected %.2fx",
+				stockMs / fastMs, stockMs / streamMs, stockMs / recordsMs, stockMs / projectedMs));
+	}
+
+	/**
+	 * @return bytes of heap in use after full collections, repeated until SETTLED_ROUNDS readings in a row
+	 * decrease by less than SETTLED_HEAP (objects with finalizers or cleaners are only freed by later
+	 * collections, once their finalizers ran); -1 if the JVM did not collect on request (e.g. with
+	 * -XX:+DisableExplicitGC)
+	 */
+	private static long usedHeap() throws InterruptedException {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		long used = Long.MAX_VALUE;
+		int settled = 0;
+		for(int i = 0; i < 20 && settled < SETTLED_ROUNDS; i++) {
+			long collections = collectionCount();
+			memory.gc();
+			if( collectionCount() == collections ) {
+				return -1;
+			}
+			// usage right after the collection, not counting what was allocated since
+			long now = 0;
+			for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+				if( pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null ) {
+					now += pool.getCollectionUsage().getUsed();
+				}
+			}
+			settled = used - now < SETTLED_HEAP ? settled + 1 : 0;
+			used = Math.min(used, now);
+			Thread.sleep(100);
+		}
+		return used;
+	}
+
+	/**
+	 * @param base heap in use before the measured objects were created
+	 * @return bytes of heap retained since base, 0 if not measurable
+	 */
+	private static long retainedHeap(long base) throws InterruptedException {
+		long used = usedHeap();
+		if( base < 0 || used < 0 ) {
+			return 0;
+		}
+		return Math.max(0, used - base);
+	}
+
+	private static long collectionCount() {
+		long count = 0;
+		for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+		}
+		return count;
+	}
+
+	/**
+	 * @return number of distinct String instances held by the pooled fields of the issues
+	 */
+	private static int countStrings(List<RemoteIssue> issues) {
+		IdentityHashMap<String, Boolean> strings = new IdentityHashMap<String, Boolean>();
+		for(RemoteIssue issue : issues) {
+			String[] values = { issue.getProject(), issue.getType(), issue.getPriority(), issue.getStatus(),
+				issue.getResolution(), issue.getAssignee(), issue.getReporter() };
+			for(String value : values) {
+				if( value != null ) {
+					strings.put(value, Boolean.TRUE);
+				}
+			}
+		}
+		return strings.size();
+	}
+
+	private interface Task {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Runs a warm-up round, then the given number of measured rounds.
+	 * @return best round time in ms
+	 */
+	private static double measure(String name, int issues, int rounds, Task task) throws Exception {
+		task.run();
+		double best = Double.MAX_VALUE;
+		double total = 0;
+		for(int i = 0; i < rounds; i++) {
+			System.gc();
+			long start = System.nanoTime();
+			task.run();
+			double ms = (System.nanoTime() - start) / 1e6;
+			best = Math.min(best, ms);
+			total += ms;
+		}
+		System.out.println(String.format("%-8s best %9.1f ms, mean %9.1f ms, %9.0f issues/s", name, best, total / rounds,
+				issues * 1000 / best));
+		return best;
+	}
+
+	/**
+	 * @param stock true to decode the bean types with the Axis BeanDeserializer, through a registry of its own in
+	 * place of the shared JiraSoapTypeMappings one
+	 * @return stub answering every call with the given response
+	 */
+	private static JiraSoapService createStub(byte[] response, boolean stock) throws Exception {
+		JiraSoapServiceServiceLocator locator = new JiraSoapServiceServiceLocator(
+				CannedResponseHandler.configuration(Collections.singletonMap("getIssuesFromFilter", response)));
+		URL endpoint = new URL("http://localhost/rpc/soap/jirasoapservice-v2");
+		if( !stock ) {
+			return locator.getJirasoapserviceV2(endpoint);
+		}
+		final TypeMappingRegistryImpl registry = new TypeMappingRegistryImpl();
+		registry.doRegisterFromVersion("1.2");
+		TypeMapping tm = registry.getOrMakeTypeMapping(Constants.URI_SOAP11_ENC);
+		JiraSoapTypeMappings.registerTypes(tm);
+		Class<?>[] beans = { RemoteIssue.class, RemoteVersion.class, RemoteComponent.class, RemoteCustomFieldValue.class };
+		for(Class<?> bean : beans) {
+			QName qName = new QName(BEANS_NS, bean.getSimpleName());
+			tm.register(bean, qName, new BeanSerializerFactory(bean, qName), new BeanDeserializerFactory(bean, qName));
+		}
+		return new JirasoapserviceV2SoapBindingStub(endpoint, locator) {
+			protected Call createCall() throws RemoteException {
+				Call call = super.createCall();
+				call.getMessageContext().setTypeMappingRegistry(registry);
+				return call;
+			}
+		};
+	}
+
+	/**
+	 * @return getIssuesFromFilter response with the given number of issues, each with a component, a fix
+	 * version and a custom field value
+	 */
+	static byte[] generateResponse(int issues) throws Exception {
+		String multiRef = " soapenc:root=\"0\" soapenv:encodingStyle=\"http://schemas.xmlsoap.org/soap/encoding/\""
+			+ " xmlns:soapenc=\"http://schemas.xmlsoap.org/soap/encoding/\"";
+		// about 3.3 KB per issue
+		StringBuilder sb = new StringBuilder(issues * 3400 + 1024);
+		sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\"");
+		sb.append(" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">\n");
+		sb.append(" <soapenv:Body>\n");
+		sb.append("  <ns1:getIssuesFromFilterResponse soapenv:encodingStyle=\"http://schemas.xmlsoap.org/soap/encoding/\"");
+		sb.append(" xmlns:ns1=\"http://soap.rpc.jira.atlassian.com\">\n");
+		sb.append("   <getIssuesFromFilterReturn soapenc:arrayType=\"ns2:RemoteIssue[").append(issues);
+		sb.append("]\" xsi:type=\"soapenc:Array\" xmlns:ns2=\"").append(BEANS_NS);
+		sb.append("\" xmlns:soapenc=\"http://schemas.xmlsoap.org/soap/encoding/\">\n");
+		for(int i = 0; i < issues; i++) {
+			sb.append("    <getIssuesFromFilterReturn href=\"#id").append(i).append("\"/>\n");
+		}
+		sb.append("   </getIssuesFromFilterReturn>\n  </ns1:getIssuesFromFilterResponse>\n");
+
+		// issue i references its component, custom field value and version as ids N + 3i, N + 3i + 1, N + 3i + 2
+		int nested = issues;
+		int booleanId = issues * 4;
+		for(int i = 0; i < issues; i++) {
+			String day = String.format("2011-03-%02dT%02d:%02d:40.000Z", 1 + i % 28, i % 24, i % 60);
+			sb.append("  <multiRef id=\"id").append(i).append('"').append(multiRef);
+			sb.append(" xsi:type=\"ns3:RemoteIssue\" xmlns:ns3=\"").append(BEANS_NS).append("\">\n");
+			appendString(sb, "id", Integer.toString(10000 + i));
+			sb.append("   <affectsVersions soapenc:arrayType=\"ns3:RemoteVersion[0]\" xsi:type=\"soapenc:Array\"/>\n");
+			appendString(sb, "assignee", i % 3 == 0 ? "bob" : "alice");
+			sb.append("   <attachmentNames soapenc:arrayType=\"xsd:string[0]\" xsi:type=\"soapenc:Array\"/>\n");
+			appendRefArray(sb, "components", "RemoteComponent", nested + 3 * i);
+			sb.append("   <created xsi:type=\"xsd:dateTime\">").append(day).append("</created>\n");
+			appendRefArray(sb, "customFieldValues", "RemoteCustomFieldValue", nested + 3 * i + 1);
+			appendString(sb, "description", "Steps to reproduce &lt;" + i + "&gt;: open the &amp; dialog, then press OK.");
+			sb.append("   <duedate xsi:type=\"xsd:dateTime\" xsi:nil=\"true\"/>\n");
+			sb.append("   <environment xsi:type=\"xsd:string\" xsi:nil=\"true\"/>\n");
+			appendRefArray(sb, "fixVersions", "RemoteVersion", nested + 3 * i + 2);
+			appendString(sb, "key", "TST-" + i);
+			appendString(sb, "priority", Integer.toString(1 + i % 5));
+			appendString(sb, "project", "TST");
+			appendString(sb, "reporter", "carol");
+			sb.append("   <resolution xsi:type=\"xsd:string\" xsi:nil=\"true\"/>\n");
+			appendString(sb, "status", Integer.toString(1 + i % 6));
+			appendString(sb, "summary", "Issue number " + i + " of the benchmark");
+			appendString(sb, "type", Integer.toString(1 + i % 4));
+			sb.append("   <updated xsi:type=\"xsd:dateTime\">").append(day).append("</updated>\n");
+			sb.append("   <votes xsi:type=\"xsd:long\">").append(i % 7).append("</votes>\n");
+			sb.append("  </multiRef>\n");
+		}
+		for(int i = 0; i < issues; i++) {
+			sb.append("  <multiRef id=\"id").append(nested + 3 * i).append('"').append(multiRef);
+			sb.append(" xsi:type=\"ns4:RemoteComponent\" xmlns:ns4=\"").append(BEANS_NS).append("\">\n");
+			appendString(sb, "id", Integer.toString(10 + i % 5));
+			appendString(sb, "name", "component-" + i % 5);
+			sb.append("  </multiRef>\n");
+
+			sb.append("  <multiRef id=\"id").append(nested + 3 * i + 1).append('"').append(multiRef);
+			sb.append(" xsi:type=\"ns5:RemoteCustomFieldValue\" xmlns:ns5=\"").append(BEANS_NS).append("\">\n");
+			appendString(sb, "customfieldId", "customfield_10010");
+			sb.append("   <key xsi:type=\"xsd:string\" xsi:nil=\"true\"/>\n");
+			sb.append("   <values soapenc:arrayType=\"xsd:string[2]\" xsi:type=\"soapenc:Array\">\n");
+			sb.append("    <values xsi:type=\"xsd:string\">sprint-").append(i % 10).append("</values>\n");
+			sb.append("    <values xsi:type=\"xsd:string\">team-").append(i % 4).append("</values>\n");
+			sb.append("   </values>\n  </multiRef>\n");
+
+			sb.append("  <multiRef id=\"id").append(nested + 3 * i + 2).append('"').append(multiRef);
+			sb.append(" xsi:type=\"ns6:RemoteVersion\" xmlns:ns6=\"").append(BEANS_NS).append("\">\n");
+			appendString(sb, "id", Integer.toString(20 + i % 3));
+			appendString(sb, "name", "1." + i % 3);
+			sb.append("   <archived href=\"#id").append(booleanId).append("\"/>\n");
+			sb.append("   <releaseDate xsi:type=\"xsd:dateTime\" xsi:nil=\"true\"/>\n");
+			sb.append("   <released href=\"#id").append(booleanId).append("\"/>\n");
+			sb.append("   <sequence xsi:type=\"xsd:long\">").append(i % 3).append("</sequence>\n");
+			sb.append("  </multiRef>\n");
+		}
+		sb.append("  <multiRef id=\"id").append(booleanId).append('"').append(multiRef);
+		sb.append(" xsi:type=\"xsd:boolean\">false</multiRef>\n");
+		sb.append(" </soapenv:Body>\n</soapenv:Envelope>");
+		return sb.toString().getBytes("UTF-8");
+	}
+
+	private static void appendString(StringBuilder sb, String name, String value) {
+		sb.append("   <").append(name).append(" xsi:type=\"xsd:string\">").append(value).append("</").append(name).append(">\n");
+	}
+
+	private static void appendRefArray(StringBuilder sb, String name, String type, int id) {
+		sb.append("   <").append(name).append(" soapenc:arrayType=\"ns3:").append(type).append("[1]\" xsi:type=\"soapenc:Array\">\n");
+		sb.append("    <").append(name).append(" href=\"#id").append(id).append("\"/>\n");
+		sb.append("   </").append(name).append(">\n");
+	}
+}
@@ -0,0 +1,160 @@
+package org.sla256.antjira.bench;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.sla256.antjira.io.IssueSnapshotReader;
+import org.sla256.antjira.io.IssueSnapshotWriter;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+import org.sla256.antjira.transport.RemoteIssueStreamDecoder;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Compares file size, write time and load time of an issue set stored with Java serialization (the issue
+ * array written by an ObjectOutputStream) and as an issue snapshot (IssueSnapshotWriter, read back memory
+ * mapped by IssueSnapshotReader). The issues are decoded from the generated response of the
+ * IssueDecodingBenchmark; both loaded sets are checked to be equal to it before timing.
+ *
+ * Usage: ant bench-snapshot [-Dbench.issues=5000] [-Dbench.rounds=5]
+ */
+public class SnapshotBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		final List<RemoteIssue> decoded = new ArrayList<RemoteIssue>();
+		new RemoteIssueStreamDecoder(null).decode(new ByteArrayInputStream(IssueDecodingBenchmark.generateResponse(count)),
+				new RemoteIssueHandler() {
+					public void handleIssue(RemoteIssue issue) {
+						decoded.add(issue);
+					}
+				});
+		final RemoteIssue[] issues = decoded.toArray(new RemoteIssue[decoded.size()]);
+
+		final File serialized = File.createTempFile("antjira-bench", ".ser");
+		final File snapshot = File.createTempFile("antjira-bench", ".snapshot");
+		serialized.deleteOnExit();
+		snapshot.deleteOnExit();
+		try {
+			writeSerialized(issues, serialized);
+			writeSnapshot(issues, snapshot);
+			if( !Arrays.equals(issues, readSerialized(serialized)) ) {
+				throw new IllegalStateException("serialized: loaded issues differ");
+			}
+			if( !Arrays.equals(issues, readSnapshot(snapshot)) ) {
+				throw new IllegalStateException("snapshot: loaded issues differ");
+			}
+			System.out.println(String.format("%d issues: serialized %d KB, snapshot %d KB (%.1fx smaller)", count,
+					serialized.length() / 1024, snapshot.length() / 1024, (double) serialized.length() / snapshot.length()));
+
+			double serializedWrite = measure("serialized write", count, rounds, new Task() {
+				public void run() throws Exception {
+					writeSerialized(issues, serialized);
+				}
+			});
+			double snapshotWrite = measure("snapshot write", count, rounds, new Task() {
+				public void run() throws Exception {
+					writeSnapshot(issues, snapshot);
+				}
+			});
+			double serializedLoad = measure("serialized load", count, rounds, new Task() {
+				public void run() throws Exception {
+					readSerialized(serialized);
+				}
+			});
+			double snapshotLoad = measure("snapshot load", count, rounds, new Task() {
+				public void run() throws Exception {
+					readSnapshot(snapshot);
+				}
+			});
+			double statusColumn = measure("snapshot status column", count, rounds, new Task() {
+				public void run() throws Exception {
+					IssueSnapshotReader.open(snapshot).getStrings("status");
+				}
+			});
+			System.out.println(String.format("speedup of snapshot: write %.2fx, load %.2fx, status column %.2fx",
+					serializedWrite / snapshotWrite, serializedLoad / snapshotLoad, serializedLoad / statusColumn));
+		}
+		finally {
+			serialized.delete();
+			snapshot.delete();
+		}
+	}
+
+	private interface Task {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Runs a warm-up round, then the given number of measured rounds.
+	 * @return best round time in ms
+	 */
+	private static double measure(String name, int issues, int rounds, Task task) throws Exception {
+		task.run();
+		double best = Double.MAX_VALUE;
+		double total = 0;
+		for(int i = 0; i < rounds; i++) {
+			System.gc();
+			long start = System.nanoTime();
+			task.run();
+			double ms = (System.nanoTime() - start) / 1e6;
+			best = Math.min(best, ms);
+			total += ms;
+		}
+		System.out.println(String.format("%-24s best %9.1f ms, mean %9.1f ms, %9.0f issues/s", name, best,
+				total / rounds, issues * 1000 / best));
+		return best;
+	}
+
+	private static void writeSerialized(RemoteIssue[] issues, File file) throws Exception {
+		ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file), 65536));
+		try {
+			out.writeObject(issues);
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	private static RemoteIssue[] readSerialized(File file) throws Exception {
+		ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file), 65536));
+		try {
+			return (RemoteIssue[]) in.readObject();
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	private static void writeSnapshot(RemoteIssue[] issues, File file) throws Exception {
+		IssueSnapshotWriter out = new IssueSnapshotWriter(new BufferedOutputStream(new FileOutputStream(file), 65536));
+		for(RemoteIssue issue : issues) {
+			out.write(issue);
+		}
+		out.close();
+	}
+
+	private static RemoteIssue[] readSnapshot(File file) throws Exception {
+		IssueSnapshotReader in = IssueSnapshotReader.open(file);
+		final RemoteIssue[] issues = new RemoteIssue[in.size()];
+		in.read(new RemoteIssueHandler() {
+			private int n = 0;
+
+			public void handleIssue(RemoteIssue issue) {
+				issues[n++] = issue;
+			}
+		});
+		return issues;
+	}
+}
@@ -0,0 +1,119 @@
+package org.sla256.antjira.bench;
+
+import java.net.URL;
+import java.rmi.RemoteException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.axis.Constants;
+import org.apache.axis.client.Call;
+import org.apache.axis.encoding.TypeMappingRegistryImpl;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
+import org.sla256.antjira.jirasoapservice.JiraSoapTypeMappings;
+import org.sla256.antjira.jirasoapservice.JirasoapserviceV2SoapBindingStub;
+
+/**
+ * Measures creating a stub and making one getIssueCountForFilter call with it, from several threads sharing a
+ * locator, against an in-process transport:
+ * <ul>
+ * <li>per-stub: each stub builds its own type mapping registry on its first call, as stubs used to</li>
+ * <li>shared: the stub as shipped, using the JiraSoapTypeMappings registry</li>
+ * </ul>
+ *
+ * Usage: ant bench-stubs [-Dbench.rounds=5] [-Dbench.threads=4]
+ */
+public class StubCreationBenchmark {
+
+	private static final int STUBS_PER_THREAD = 2000;
+
+	public static void main(String[] args) throws Exception {
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+		Map<String, byte[]> responses = new HashMap<String, byte[]>();
+		responses.put("getIssueCountForFilter", CannedResponseHandler.simpleResponse("getIssueCountForFilter", "long", "42"));
+		JiraSoapServiceServiceLocator locator = new JiraSoapServiceServiceLocator(CannedResponseHandler.configuration(responses));
+		URL endpoint = new URL("http://localhost/rpc/soap/jirasoapservice-v2");
+
+		double perStub = measure("per-stub", rounds, threads, locator, endpoint, true);
+		double shared = measure("shared", rounds, threads, locator, endpoint, false);
+		System.out.println(String.format("speedup of shared over per-stub: %.2fx", perStub / shared));
+	}
+
+	/**
+	 * Runs a warm-up round, then the given number of measured rounds.
+	 * @return best round time in ms
+	 */
+	private static double measure(String name, int rounds, int threads, JiraSoapServiceServiceLocator locator, URL endpoint,
+			boolean perStub) throws Exception {
+		run(threads, locator, endpoint, perStub);
+		double best = Double.MAX_VALUE;
+		for(int i = 0; i < rounds; i++) {
+			System.gc();
+			long start = System.nanoTime();
+			run(threads, locator, endpoint, perStub);
+			best = Math.min(best, (System.nanoTime() - start) / 1e6);
+		}
+		int stubs = threads * STUBS_PER_THREAD;
+		System.out.println(String.format("%-8s best %9.1f ms for %d stubs on %d threads, %7.1f us per stub and call", name,
+				best, stubs, threads, best * 1000 / stubs));
+		return best;
+	}
+
+	private static void run(int threads, final JiraSoapServiceServiceLocator locator, final URL endpoint,
+			final boolean perStub) throws Exception {
+		final CountDownLatch done = new CountDownLatch(threads);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		for(int i = 0; i < threads; i++) {
+			new Thread() {
+				public void run() {
+					try {
+						for(int j = 0; j < STUBS_PER_THREAD; j++) {
+							JiraSoapService jss = perStub ? new PerStubRegistryStub(endpoint, locator)
+									: locator.getJirasoapserviceV2(endpoint);
+							if( jss.getIssueCountForFilter("token", "10000") != 42 ) {
+								throw new IllegalStateException("Unexpected filter count");
+							}
+						}
+					} catch(Throwable t) {
+						failure.compareAndSet(null, t);
+					} finally {
+						done.countDown();
+					}
+				}
+			}.start();
+		}
+		done.await();
+		if( failure.get() != null ) {
+			throw new IllegalStateException("Benchmark thread failed", failure.get());
+		}
+	}
+
+	/**
+	 * Stub registering all the JiraSoapService types into a registry of its own, under its lock, on its first call.
+	 */
+	private static class PerStubRegistryStub extends JirasoapserviceV2SoapBindingStub {
+
+		private TypeMappingRegistryImpl registry;
+
+		PerStubRegistryStub(URL endpoint, JiraSoapServiceServiceLocator locator) throws Exception {
+			super(endpoint, locator);
+		}
+
+		protected Call createCall() throws RemoteException {
+			Call call = super.createCall();
+			synchronized( this ) {
+				if( registry == null ) {
+					registry = new TypeMappingRegistryImpl();
+					registry.doRegisterFromVersion("1.2");
+					JiraSoapTypeMappings.registerTypes(registry.getOrMakeTypeMapping(Constants.URI_SOAP11_ENC));
+				}
+				call.getMessageContext().setTypeMappingRegistry(registry);
+			}
+			return call;
+		}
+	}
+}
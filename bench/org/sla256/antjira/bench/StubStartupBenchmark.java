@@ -0,0 +1,98 @@
+package org.sla256.antjira.bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
+import org.sla256.antjira.jirasoapservice.JirasoapserviceV2SoapBindingStub;
+
+/**
+ * Measures the cold start of a typical short build, login then getIssueCountForFilter, each run in a fresh
+ * JVM against an in-process transport:
+ * <ul>
+ * <li>eager: all 97 operation descriptors are built before the first call, as the stub's static
+ * initializer used to do</li>
+ * <li>lazy: the stub as shipped, building the descriptors of the two operations called</li>
+ * </ul>
+ * Reported times run from the start of main to the end of the second call (JVM boot excluded).
+ *
+ * Usage: ant bench-startup [-Dbench.rounds=5]
+ */
+public class StubStartupBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		if( args.length > 1 && "child".equals(args[0]) ) {
+			runChild("eager".equals(args[1]));
+			return;
+		}
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+		rounds = Math.max(3, rounds * 2);
+
+		List<Long> eager = new ArrayList<Long>();
+		List<Long> lazy = new ArrayList<Long>();
+		for(int i = 0; i < rounds; i++) {
+			eager.add(Long.valueOf(fork("eager")));
+			lazy.add(Long.valueOf(fork("lazy")));
+		}
+		double eagerMs = median(eager) / 1e6;
+		double lazyMs = median(lazy) / 1e6;
+		System.out.println(String.format("eager    median %7.1f ms over %d JVMs", eagerMs, rounds));
+		System.out.println(String.format("lazy     median %7.1f ms over %d JVMs", lazyMs, rounds));
+		System.out.println(String.format("saved    %7.1f ms per cold start (%.1f%%)", eagerMs - lazyMs, (eagerMs - lazyMs) * 100 / eagerMs));
+	}
+
+	private static void runChild(boolean eager) throws Exception {
+		long start = System.nanoTime();
+		Map<String, byte[]> responses = new HashMap<String, byte[]>();
+		responses.put("login", CannedResponseHandler.simpleResponse("login", "string", "token"));
+		responses.put("getIssueCountForFilter", CannedResponseHandler.simpleResponse("getIssueCountForFilter", "long", "42"));
+
+		if( eager ) {
+			Method getOperation = JirasoapserviceV2SoapBindingStub.class.getDeclaredMethod("_getOperation", int.class);
+			getOperation.setAccessible(true);
+			for(int i = 0; i < 97; i++) {
+				getOperation.invoke(null, Integer.valueOf(i));
+			}
+		}
+		JiraSoapServiceServiceLocator locator = new JiraSoapServiceServiceLocator(CannedResponseHandler.configuration(responses));
+		JiraSoapService jss = locator.getJirasoapserviceV2(new URL("http://localhost/rpc/soap/jirasoapservice-v2"));
+		String token = jss.login("user", "password");
+		if( jss.getIssueCountForFilter(token, "10000") != 42 ) {
+			throw new IllegalStateException("Unexpected filter count");
+		}
+		System.out.println(System.nanoTime() - start);
+	}
+
+	private static long fork(String mode) throws Exception {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		ProcessBuilder pb = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				StubStartupBenchmark.class.getName(), "child", mode);
+		pb.redirectErrorStream(true);
+		Process process = pb.start();
+		BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+		String line;
+		String last = null;
+		while( (line = in.readLine()) != null ) {
+			last = line;
+		}
+		if( process.waitFor() != 0 || last == null ) {
+			throw new IllegalStateException(mode + " run failed: " + last);
+		}
+		return Long.parseLong(last.trim());
+	}
+
+	private static long median(List<Long> values) {
+		List<Long> sorted = new ArrayList<Long>(values);
+		Collections.sort(sorted);
+		return sorted.get(sorted.size() / 2).longValue();
+	}
+}
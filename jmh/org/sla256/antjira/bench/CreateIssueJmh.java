@@ -0,0 +1,93 @@
+package org.sla256.antjira.bench;
+
+import java.net.URL;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * JMH benchmarks of a createIssue call with an issue as the createissue task sends it, plus components, versions
+ * and a custom field value, against an in-process transport answering with a small issue:
+ * <ul>
+ * <li>serialized: the request envelope is written out, as by a real transport</li>
+ * <li>unserialized: the request envelope is built but never written, Axis serializing it lazily</li>
+ * </ul>
+ * The difference between the two is the cost of the envelope serialization.
+ *
+ * Usage: ant bench-jmh -Djmh.lib.dir=... [-Djmh.includes=CreateIssueJmh]
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateIssueJmh {
+
+	private JiraSoapService serializing;
+
+	private JiraSoapService discarding;
+
+	private RemoteIssue issue;
+
+	@Setup
+	public void setUp() throws Exception {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\""
+			+ " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"><soapenv:Body>"
+			+ "<ns1:createIssueResponse soapenv:encodingStyle=\"http://schemas.xmlsoap.org/soap/encoding/\" xmlns:ns1=\"http://soap.rpc.jira.atlassian.com\">"
+			+ "<createIssueReturn xsi:type=\"ns2:RemoteIssue\" xmlns:ns2=\"http://beans.soap.rpc.jira.atlassian.com\">"
+			+ "<id xsi:type=\"xsd:string\">10000</id><key xsi:type=\"xsd:string\">TST-1</key></createIssueReturn>"
+			+ "</ns1:createIssueResponse></soapenv:Body></soapenv:Envelope>";
+		URL endpoint = new URL("http://localhost/rpc/soap/jirasoapservice-v2");
+		serializing = new JiraSoapServiceServiceLocator(CannedResponseHandler.configuration(
+				Collections.singletonMap("createIssue", xml.getBytes("UTF-8")), true)).getJirasoapserviceV2(endpoint);
+		discarding = new JiraSoapServiceServiceLocator(CannedResponseHandler.configuration(
+				Collections.singletonMap("createIssue", xml.getBytes("UTF-8")), false)).getJirasoapserviceV2(endpoint);
+
+		issue = new RemoteIssue();
+		issue.setProject("TST");
+		issue.setType("1");
+		issue.setPriority("4");
+		issue.setAssignee("ant-jira-test");
+		issue.setSummary("ant-jira-test issue created by the benchmark");
+		issue.setDescription("Steps to reproduce <1>: open the & dialog, then press OK.\nExpected: no error.");
+		Calendar duedate = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+		duedate.setTimeInMillis(1300000000000L);
+		issue.setDuedate(duedate);
+		issue.setComponents(new RemoteComponent[] { new RemoteComponent("10", "core") });
+		issue.setAffectsVersions(new RemoteVersion[] { new RemoteVersion("20", "1.0", false, null, true, Long.valueOf(1)) });
+		issue.setFixVersions(new RemoteVersion[] { new RemoteVersion("21", "1.1", false, null, false, Long.valueOf(2)) });
+		issue.setCustomFieldValues(new RemoteCustomFieldValue[] {
+			new RemoteCustomFieldValue("customfield_10010", null, new String[] { "sprint-1", "team-2" }) });
+	}
+
+	@Benchmark
+	public RemoteIssue serialized() throws Exception {
+		return serializing.createIssue("token", issue);
+	}
+
+	@Benchmark
+	public RemoteIssue unserialized() throws Exception {
+		return discarding.createIssue("token", issue);
+	}
+}
@@ -0,0 +1,121 @@
+package org.sla256.antjira.bench;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sla256.antjira.jirasoapservice.IssueRecord;
+import org.sla256.antjira.jirasoapservice.IssueRecordHandler;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+import org.sla256.antjira.transport.RemoteIssueStreamDecoder;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * JMH benchmarks of the decoding of getIssuesFromFilter responses of 1k, 10k and 100k issues, generated like
+ * those of {@link IssueDecodingBenchmark} (every bean a multiRef element, as Jira sends them):
+ * <ul>
+ * <li>stub: the SOAP binding stub as shipped, answering a RemoteIssue[]</li>
+ * <li>stream: the StAX RemoteIssueStreamDecoder, handing RemoteIssues over</li>
+ * <li>records: the same decoder handing IssueRecords over</li>
+ * </ul>
+ * One operation decodes a whole response. The stub holds the whole response as Axis message elements while
+ * decoding it, about 500 MB of heap per 10k issues: it only decodes the 1k and 10k issue responses by default,
+ * which the default heap of 3 GB allows. Its 100k issue case needs a heap of some 5 GB and is run on its own:
+ * ant bench-jmh -Djmh.lib.dir=... -Djmh.includes=FilterDecodingJmh.stub -Djmh.args="-p issues=100000" -Djmh.jvmArgs=-Xmx6g
+ *
+ * Usage: ant bench-jmh -Djmh.lib.dir=... [-Djmh.includes=FilterDecodingJmh]
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class FilterDecodingJmh {
+
+	/**
+	 * Response decoded by the stream decoder.
+	 */
+	@State(Scope.Benchmark)
+	public static class Response {
+
+		@Param({ "1000", "10000", "100000" })
+		private int issues;
+
+		private byte[] response;
+
+		private RemoteIssueStreamDecoder decoder;
+
+		@Setup
+		public void setUp() throws Exception {
+			response = IssueDecodingBenchmark.generateResponse(issues);
+			decoder = new RemoteIssueStreamDecoder(null);
+			final int[] count = new int[1];
+			decoder.decode(new ByteArrayInputStream(response), new RemoteIssueHandler() {
+				public void handleIssue(RemoteIssue issue) {
+					count[0]++;
+				}
+			});
+			if( count[0] != issues ) {
+				throw new IllegalStateException("Unexpected number of decoded issues: " + count[0]);
+			}
+		}
+	}
+
+	/**
+	 * Stub answering with a response, up to 10k issues unless the issues parameter is given.
+	 */
+	@State(Scope.Benchmark)
+	public static class StubResponse {
+
+		@Param({ "1000", "10000" })
+		private int issues;
+
+		private JiraSoapService stub;
+
+		@Setup
+		public void setUp() throws Exception {
+			stub = new JiraSoapServiceServiceLocator(CannedResponseHandler.configuration(
+					Collections.singletonMap("getIssuesFromFilter", IssueDecodingBenchmark.generateResponse(issues)))).getJirasoapserviceV2(
+					new URL("http://localhost/rpc/soap/jirasoapservice-v2"));
+		}
+	}
+
+	@Benchmark
+	public RemoteIssue[] stub(StubResponse state) throws Exception {
+		return state.stub.getIssuesFromFilter("token", "10000");
+	}
+
+	@Benchmark
+	public void stream(Response state, final Blackhole blackhole) throws Exception {
+		state.decoder.decode(new ByteArrayInputStream(state.response), new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) {
+				blackhole.consume(issue);
+			}
+		});
+	}
+
+	@Benchmark
+	public void records(Response state, final Blackhole blackhole) throws Exception {
+		state.decoder.decode(new ByteArrayInputStream(state.response), new IssueRecordHandler() {
+			public void handleRecord(IssueRecord record) {
+				blackhole.consume(record);
+			}
+		});
+	}
+}
@@ -0,0 +1,81 @@
+package org.sla256.antjira.bench;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.axis.Constants;
+import org.apache.axis.encoding.TypeMappingRegistryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
+import org.sla256.antjira.jirasoapservice.JiraSoapTypeMappings;
+
+/**
+ * JMH benchmarks of the per-call costs of the SOAP binding stub, against an in-process transport:
+ * <ul>
+ * <li>stub: getting a stub from a shared locator</li>
+ * <li>stubAndCall: getting a stub and making one getIssueCountForFilter call with it, as each task does</li>
+ * <li>call: a getIssueCountForFilter call on an existing stub, i.e. createCall() and a small response</li>
+ * <li>typeMappings: building a type mapping registry with the JiraSoapService types, which stubs used to do
+ * on their first call and JiraSoapTypeMappings now does once per process</li>
+ * </ul>
+ *
+ * Usage: ant bench-jmh -Djmh.lib.dir=... [-Djmh.includes=StubJmh]
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StubJmh {
+
+	private JiraSoapServiceServiceLocator locator;
+
+	private URL endpoint;
+
+	private JiraSoapService stub;
+
+	@Setup
+	public void setUp() throws Exception {
+		Map<String, byte[]> responses = new HashMap<String, byte[]>();
+		responses.put("getIssueCountForFilter", CannedResponseHandler.simpleResponse("getIssueCountForFilter", "long", "42"));
+		locator = new JiraSoapServiceServiceLocator(CannedResponseHandler.configuration(responses));
+		endpoint = new URL("http://localhost/rpc/soap/jirasoapservice-v2");
+		stub = locator.getJirasoapserviceV2(endpoint);
+	}
+
+	@Benchmark
+	public JiraSoapService stub() throws Exception {
+		return locator.getJirasoapserviceV2(endpoint);
+	}
+
+	@Benchmark
+	public long stubAndCall() throws Exception {
+		return locator.getJirasoapserviceV2(endpoint).getIssueCountForFilter("token", "10000");
+	}
+
+	@Benchmark
+	public long call() throws Exception {
+		return stub.getIssueCountForFilter("token", "10000");
+	}
+
+	@Benchmark
+	public Object typeMappings() {
+		TypeMappingRegistryImpl registry = new TypeMappingRegistryImpl();
+		registry.doRegisterFromVersion("1.2");
+		JiraSoapTypeMappings.registerTypes(registry.getOrMakeTypeMapping(Constants.URI_SOAP11_ENC));
+		return registry;
+	}
+}
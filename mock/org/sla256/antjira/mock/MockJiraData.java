@@ -0,0 +1,368 @@
+package org.sla256.antjira.mock;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteAttachment;
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteProject;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Synthetic issues served by the {@link MockJiraServer}. Issues are generated on demand from their index and a
+ * seed, so that data sets of any size cost no memory and are the same from one run to the next; created issues
+ * and updates made through the service are kept on top of the generated ones.
+ *
+ * Issue i belongs to project i % projects, has ID 10000 + i and is created i minutes after 2011-03-13; its
+ * status, priority, type, assignee, components, versions and custom field values are drawn from the seed.
+ * Attachment j of issue i has ID i * 10 + j.
+ */
+public class MockJiraData {
+
+	static final String[] STATUSES = { "1", "3", "4", "5", "6" };
+
+	static final String[] STATUS_NAMES = { "Open", "In Progress", "Reopened", "Resolved", "Closed" };
+
+	static final String[] PRIORITIES = { "1", "2", "3", "4", "5" };
+
+	static final String[] PRIORITY_NAMES = { "Blocker", "Critical", "Major", "Minor", "Trivial" };
+
+	static final String[] TYPES = { "1", "2", "3", "4" };
+
+	static final String[] TYPE_NAMES = { "Bug", "New Feature", "Task", "Improvement" };
+
+	static final String[] RESOLUTIONS = { "1", "2", "3" };
+
+	static final String[] RESOLUTION_NAMES = { "Fixed", "Won't Fix", "Duplicate" };
+
+	static final String[] CUSTOM_FIELDS = { "customfield_10000", "customfield_10001" };
+
+	static final String[] CUSTOM_FIELD_NAMES = { "Team", "Labels" };
+
+	private static final String[] WORDS = { "build", "server", "fails", "when", "the", "release", "plugin", "is",
+		"configured", "with", "an", "empty", "version", "after", "upgrade", "of", "client", "timeout", "cache", "index" };
+
+	private static final long START = 1300000000000L;
+
+	private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
+	private final int size;
+
+	private final int projects;
+
+	private final int users;
+
+	private final int descriptionLength;
+
+	private final int attachmentSize;
+
+	private final long seed;
+
+	/**
+	 * Issues updated through the service, by index.
+	 */
+	private final Map<Integer, RemoteIssue> updated = new ConcurrentHashMap<Integer, RemoteIssue>();
+
+	/**
+	 * Issues created through the service, with indexes from size on.
+	 */
+	private final List<RemoteIssue> created = new CopyOnWriteArrayList<RemoteIssue>();
+
+	/**
+	 * @param size number of generated issues
+	 * @param projects number of projects, at least 1
+	 * @param users number of users, at least 1
+	 * @param descriptionLength approximate length in characters of the issue descriptions
+	 * @param attachmentSize size in bytes of the attachments, 0 for no attachments
+	 * @param seed seed of the generated values
+	 */
+	public MockJiraData(int size, int projects, int users, int descriptionLength, int attachmentSize, long seed) {
+		this.size = size;
+		this.projects = Math.max(1, projects);
+		this.users = Math.max(1, users);
+		this.descriptionLength = descriptionLength;
+		this.attachmentSize = attachmentSize;
+		this.seed = seed;
+	}
+
+	/**
+	 * @return number of issues, created ones included
+	 */
+	public int size() {
+		return size + created.size();
+	}
+
+	/**
+	 * @return the issue of the given index, a new instance which may be modified
+	 */
+	public RemoteIssue getIssue(int index) {
+		if( index >= size ) {
+			return copy(created.get(index - size));
+		}
+		RemoteIssue issue = updated.get(Integer.valueOf(index));
+		return issue != null ? copy(issue) : generate(index);
+	}
+
+	/**
+	 * @return index of the issue with the given key or ID, -1 if none
+	 */
+	public int indexOf(String keyOrId) {
+		if( keyOrId == null ) {
+			return -1;
+		}
+		int dash = keyOrId.lastIndexOf('-');
+		try {
+			if( dash == -1 ) {
+				int index = Integer.parseInt(keyOrId) - 10000;
+				return index >= 0 && index < size() ? index : -1;
+			}
+			int project = indexOfProject(keyOrId.substring(0, dash));
+			int number = Integer.parseInt(keyOrId.substring(dash + 1));
+			int index = (number - 1) * projects + project;
+			if( project >= 0 && number >= 1 && index < size ) {
+				return index;
+			}
+		}
+		catch(NumberFormatException e) {
+			return -1;
+		}
+		for(int i = 0; i < created.size(); i++) {
+			if( keyOrId.equals(created.get(i).getKey()) ) {
+				return size + i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Stores an updated issue.
+	 */
+	public void update(int index, RemoteIssue issue) {
+		issue.setUpdated(now());
+		if( index >= size ) {
+			created.set(index - size, copy(issue));
+		}
+		else {
+			updated.put(Integer.valueOf(index), copy(issue));
+		}
+	}
+
+	/**
+	 * Adds an issue, giving it an ID and a key in its project.
+	 * @return the created issue
+	 */
+	public synchronized RemoteIssue create(RemoteIssue issue) {
+		int index = size();
+		String project = issue.getProject() != null ? issue.getProject() : getProjectKey(0);
+		issue.setId(String.valueOf(10000 + index));
+		// above the numbers of the generated issues
+		issue.setKey(project + "-" + (index + 1));
+		issue.setProject(project);
+		if( issue.getStatus() == null ) {
+			issue.setStatus(STATUSES[0]);
+		}
+		issue.setCreated(now());
+		issue.setUpdated(issue.getCreated());
+		created.add(copy(issue));
+		return issue;
+	}
+
+	/**
+	 * @return key of the project of the given index: AAA, AAB, ...
+	 */
+	public String getProjectKey(int project) {
+		char[] key = new char[3];
+		for(int i = 2; i >= 0; i--) {
+			key[i] = (char) ('A' + project % 26);
+			project /= 26;
+		}
+		return new String(key);
+	}
+
+	/**
+	 * @return index of the project with the given key (case insensitive), -1 if none
+	 */
+	public int indexOfProject(String key) {
+		if( key.length() != 3 ) {
+			return -1;
+		}
+		int project = 0;
+		for(int i = 0; i < 3; i++) {
+			char c = Character.toUpperCase(key.charAt(i));
+			if( c < 'A' || c > 'Z' ) {
+				return -1;
+			}
+			project = project * 26 + (c - 'A');
+		}
+		return project < projects ? project : -1;
+	}
+
+	public RemoteProject[] getProjects() {
+		RemoteProject[] result = new RemoteProject[projects];
+		for(int i = 0; i < projects; i++) {
+			result[i] = getProject(i);
+		}
+		return result;
+	}
+
+	public RemoteProject getProject(int project) {
+		RemoteProject result = new RemoteProject();
+		result.setId(String.valueOf(10000 + project));
+		result.setKey(getProjectKey(project));
+		result.setName("Project " + getProjectKey(project));
+		result.setLead(getUser(project));
+		return result;
+	}
+
+	/**
+	 * @return versions of a project: 1.0 (released), 1.1 and 2.0
+	 */
+	public RemoteVersion[] getVersions(int project) {
+		RemoteVersion[] versions = new RemoteVersion[3];
+		String[] names = { "1.0", "1.1", "2.0" };
+		for(int i = 0; i < versions.length; i++) {
+			versions[i] = new RemoteVersion();
+			versions[i].setId(String.valueOf(10000 + project * 10 + i));
+			versions[i].setName(names[i]);
+			versions[i].setArchived(false);
+			versions[i].setReleased(i == 0);
+			versions[i].setSequence(Long.valueOf(i + 1));
+		}
+		return versions;
+	}
+
+	/**
+	 * @return components of a project: core, ui and docs
+	 */
+	public RemoteComponent[] getComponents(int project) {
+		String[] names = { "core", "ui", "docs" };
+		RemoteComponent[] components = new RemoteComponent[names.length];
+		for(int i = 0; i < names.length; i++) {
+			components[i] = new RemoteComponent(String.valueOf(10000 + project * 10 + i), names[i]);
+		}
+		return components;
+	}
+
+	public String getUser(int user) {
+		return "user" + (user % users);
+	}
+
+	/**
+	 * @return attachments of the issue of the given index
+	 */
+	public RemoteAttachment[] getAttachments(int index) {
+		RemoteIssue issue = getIssue(index);
+		String[] names = issue.getAttachmentNames() != null ? issue.getAttachmentNames() : new String[0];
+		RemoteAttachment[] attachments = new RemoteAttachment[names.length];
+		for(int j = 0; j < names.length; j++) {
+			attachments[j] = new RemoteAttachment();
+			attachments[j].setId(String.valueOf(index * 10L + j));
+			attachments[j].setAuthor(issue.getReporter());
+			attachments[j].setCreated(issue.getCreated());
+			attachments[j].setFilename(names[j]);
+			attachments[j].setFilesize(Long.valueOf(attachmentSize));
+			attachments[j].setMimetype("application/octet-stream");
+		}
+		return attachments;
+	}
+
+	/**
+	 * @return size in bytes of every attachment
+	 */
+	public int getAttachmentSize() {
+		return attachmentSize;
+	}
+
+	/**
+	 * Fills a buffer with content of an attachment, the same for every call.
+	 * @param id attachment ID
+	 * @param offset offset of the buffer in the attachment
+	 */
+	public void fillAttachment(long id, long offset, byte[] buf, int len) {
+		for(int i = 0; i < len; i++) {
+			long pos = offset + i;
+			buf[i] = (byte) ((id * 31 + pos * 7 + (pos >>> 8)) & 0xff);
+		}
+	}
+
+	private RemoteIssue generate(int index) {
+		Random random = new Random(seed * 1000003L + index);
+		int project = index % projects;
+		String projectKey = getProjectKey(project);
+		RemoteIssue issue = new RemoteIssue();
+		issue.setId(String.valueOf(10000 + index));
+		issue.setKey(projectKey + "-" + (index / projects + 1));
+		issue.setProject(projectKey);
+		int status = random.nextInt(STATUSES.length);
+		issue.setStatus(STATUSES[status]);
+		issue.setResolution(status >= 3 ? RESOLUTIONS[random.nextInt(RESOLUTIONS.length)] : null);
+		issue.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+		issue.setType(TYPES[random.nextInt(TYPES.length)]);
+		issue.setAssignee(random.nextInt(5) == 0 ? null : getUser(random.nextInt(users)));
+		issue.setReporter(getUser(random.nextInt(users)));
+		issue.setSummary(text(random, 40) + " (" + issue.getKey() + ")");
+		issue.setDescription(descriptionLength > 0 ? text(random, descriptionLength) : null);
+		issue.setEnvironment(random.nextInt(3) == 0 ? "JDK 1." + (5 + random.nextInt(3)) : null);
+		long createdTime = START + index * 60000L;
+		issue.setCreated(calendar(createdTime));
+		issue.setUpdated(calendar(createdTime + random.nextInt(30 * 24 * 60) * 60000L));
+		issue.setDuedate(random.nextInt(4) == 0 ? calendar(createdTime + 90L * 24 * 3600000L) : null);
+		issue.setVotes(Long.valueOf(random.nextInt(10)));
+		RemoteComponent[] components = getComponents(project);
+		issue.setComponents(new RemoteComponent[] { components[random.nextInt(components.length)] });
+		RemoteVersion[] versions = getVersions(project);
+		issue.setAffectsVersions(random.nextBoolean() ? new RemoteVersion[] { versions[0] } : new RemoteVersion[0]);
+		issue.setFixVersions(new RemoteVersion[] { versions[1 + random.nextInt(versions.length - 1)] });
+		issue.setCustomFieldValues(new RemoteCustomFieldValue[] {
+			new RemoteCustomFieldValue(CUSTOM_FIELDS[0], null, new String[] { "team" + random.nextInt(4) }),
+			new RemoteCustomFieldValue(CUSTOM_FIELDS[1], null, new String[] { WORDS[random.nextInt(WORDS.length)],
+				WORDS[random.nextInt(WORDS.length)] }) });
+		int attachments = attachmentSize > 0 ? random.nextInt(3) : 0;
+		String[] names = new String[attachments];
+		for(int j = 0; j < attachments; j++) {
+			names[j] = "attachment-" + index + "-" + j + ".bin";
+		}
+		issue.setAttachmentNames(names);
+		return issue;
+	}
+
+	private static String text(Random random, int length) {
+		StringBuilder sb = new StringBuilder(length + 16);
+		while( sb.length() < length ) {
+			if( sb.length() > 0 ) {
+				sb.append(' ');
+			}
+			sb.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return sb.toString();
+	}
+
+	private static Calendar calendar(long millis) {
+		Calendar calendar = new GregorianCalendar(GMT);
+		calendar.setTimeInMillis(millis);
+		return calendar;
+	}
+
+	private static Calendar now() {
+		return calendar(System.currentTimeMillis());
+	}
+
+	/**
+	 * @return shallow copy of the issue, so that stored issues are not modified by the service
+	 */
+	private static RemoteIssue copy(RemoteIssue issue) {
+		return new RemoteIssue(issue.getId(), issue.getAffectsVersions(), issue.getAssignee(), issue.getAttachmentNames(),
+				issue.getComponents(), issue.getCreated(), issue.getCustomFieldValues(), issue.getDescription(),
+				issue.getDuedate(), issue.getEnvironment(), issue.getFixVersions(), issue.getKey(), issue.getPriority(),
+				issue.getProject(), issue.getReporter(), issue.getResolution(), issue.getStatus(), issue.getSummary(),
+				issue.getType(), issue.getUpdated(), issue.getVotes());
+	}
+}
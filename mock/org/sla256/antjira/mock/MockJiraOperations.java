@@ -0,0 +1,12 @@
+package org.sla256.antjira.mock;
+
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+
+/**
+ * Operations published by the {@link MockJiraServer}: those of JiraSoapService, plus getIssuesFromJqlSearch,
+ * which Jira 4.0 added after the WSDL the interface was generated from.
+ */
+public interface MockJiraOperations extends JiraSoapService {
+
+	public com.atlassian.jira.rpc.soap.beans.RemoteIssue[] getIssuesFromJqlSearch(java.lang.String in0, java.lang.String in1, int in2) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException;
+}
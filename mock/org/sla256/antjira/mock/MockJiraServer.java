@@ -0,0 +1,508 @@
+package org.sla256.antjira.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.axis.AxisEngine;
+import org.apache.axis.AxisFault;
+import org.apache.axis.Constants;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.handlers.soap.SOAPService;
+import org.apache.axis.providers.java.RPCProvider;
+import org.apache.axis.server.AxisServer;
+import org.sla256.antjira.jirasoapservice.JiraSoapTypeMappings;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded stand-in for a Jira server, for load and regression tests which cannot reach a real one. It speaks
+ * the jirasoapservice-v2 RPC/encoded contract at http://localhost:PORT/rpc/soap/jirasoapservice-v2 (see
+ * {@link MockJiraService} for the operations implemented), serves attachments at
+ * /secure/attachment/ID/NAME like Jira, and answers from a synthetic {@link MockJiraData} set of the configured
+ * size, so that runs are repeatable.
+ *
+ * Latency and failures can be injected into the SOAP calls: each call waits latency milliseconds plus up to
+ * latencyJitter more, then fails with probability errorRate with an HTTP 503 and no SOAP envelope (as from an
+ * overloaded proxy), or with probability faultRate with a SOAP fault "Injected fault". The draws come from the
+ * seed, so a single threaded client sees the same failures from one run to the next.
+ *
+ * Usage: java org.sla256.antjira.mock.MockJiraServer [name=value ...], with the names of the setters, e.g.
+ * port=8089 issues=10000 latency=20 faultRate=0.01. It serves until killed, or with exitOnEndOfInput=true until
+ * its standard input is closed.
+ */
+public class MockJiraServer {
+
+	/**
+	 * Path of the SOAP endpoint, as on Jira.
+	 */
+	public static final String SOAP_PATH = "/rpc/soap/jirasoapservice-v2";
+
+	private static final String ATTACHMENT_PATH = "/secure/attachment/";
+
+	/**
+	 * Port to listen on, 0 for any free port.
+	 */
+	private int port = 8089;
+
+	/**
+	 * Number of generated issues.
+	 */
+	private int issues = 1000;
+
+	/**
+	 * Number of projects the issues are spread over.
+	 */
+	private int projects = 3;
+
+	/**
+	 * Number of users the issues are assigned to.
+	 */
+	private int users = 20;
+
+	/**
+	 * Approximate length of the issue descriptions, in characters.
+	 */
+	private int descriptionLength = 200;
+
+	/**
+	 * Size of the attachments in bytes, 0 for issues without attachments.
+	 */
+	private int attachmentSize = 4096;
+
+	/**
+	 * Seed of the generated data and of the injected failures.
+	 */
+	private long seed = 1;
+
+	/**
+	 * Time in milliseconds each SOAP call waits before it is answered.
+	 */
+	private int latency;
+
+	/**
+	 * Maximum random time in milliseconds added to the latency.
+	 */
+	private int latencyJitter;
+
+	/**
+	 * Probability of a SOAP call answered with a SOAP fault.
+	 */
+	private double faultRate;
+
+	/**
+	 * Probability of a SOAP call answered with an HTTP 503 error.
+	 */
+	private double errorRate;
+
+	/**
+	 * Number of threads serving the requests.
+	 */
+	private int threads = 16;
+
+	/**
+	 * True to encode the responses with multiRef elements, like Jira.
+	 */
+	private boolean multiRefs = true;
+
+	/**
+	 * Password of every user, null to accept any.
+	 */
+	private String password;
+
+	/**
+	 * True for main to stop the server when its standard input is closed.
+	 */
+	private boolean exitOnEndOfInput;
+
+	private HttpServer httpServer;
+
+	private ExecutorService executor;
+
+	private MockJiraData data;
+
+	private MockJiraService service;
+
+	private Random random;
+
+	public static void main(String[] args) throws Exception {
+		MockJiraServer server = new MockJiraServer();
+		for(String arg : args) {
+			int eq = arg.indexOf('=');
+			if( eq < 1 ) {
+				throw new IllegalArgumentException("Expected name=value, got " + arg);
+			}
+			server.setProperty(arg.substring(0, eq), arg.substring(eq + 1));
+		}
+		server.start();
+		System.out.println("Mock Jira server listening at " + server.getEndpointUrl() + " with " + server.issues
+				+ " issues");
+		if( server.exitOnEndOfInput ) {
+			// lets a parent process, e.g. Ant, stop the server by exiting
+			while( System.in.read() != -1 ) {
+				continue;
+			}
+			server.stop();
+			return;
+		}
+		synchronized( server ) {
+			while( true ) {
+				server.wait();
+			}
+		}
+	}
+
+	/**
+	 * Sets a property by the name of its setter, e.g. "faultRate".
+	 * @throws IllegalArgumentException if there is no such property or the value is invalid
+	 */
+	public void setProperty(String name, String value) {
+		String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		for(Method method : getClass().getMethods()) {
+			if( method.getName().equals(setter) && method.getParameterTypes().length == 1 ) {
+				Class<?> type = method.getParameterTypes()[0];
+				try {
+					if( type == Integer.TYPE ) {
+						method.invoke(this, Integer.valueOf(value));
+					}
+					else if( type == Long.TYPE ) {
+						method.invoke(this, Long.valueOf(value));
+					}
+					else if( type == Double.TYPE ) {
+						method.invoke(this, Double.valueOf(value));
+					}
+					else if( type == Boolean.TYPE ) {
+						method.invoke(this, Boolean.valueOf(value));
+					}
+					else {
+						method.invoke(this, value);
+					}
+					return;
+				}
+				catch(NumberFormatException e) {
+					throw new IllegalArgumentException("Invalid value of " + name + ": " + value);
+				}
+				catch(Exception e) {
+					throw new IllegalArgumentException("Cannot set " + name + ": " + e);
+				}
+			}
+		}
+		throw new IllegalArgumentException("Unknown property " + name);
+	}
+
+	/**
+	 * Starts serving, in background threads.
+	 * @throws IOException if the port cannot be listened on
+	 */
+	public synchronized void start() throws IOException {
+		if( httpServer != null ) {
+			throw new IllegalStateException("Mock Jira server already started");
+		}
+		data = new MockJiraData(issues, projects, users, descriptionLength, attachmentSize, seed);
+		random = new Random(seed);
+		httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+		service = new MockJiraService(data, password, "http://localhost:" + httpServer.getAddress().getPort());
+		httpServer.createContext(SOAP_PATH, new SoapHandler(createEngine(service.newProxy())));
+		httpServer.createContext(ATTACHMENT_PATH, new AttachmentHandler());
+		executor = Executors.newFixedThreadPool(threads);
+		httpServer.setExecutor(executor);
+		httpServer.start();
+	}
+
+	/**
+	 * Stops serving, waiting for no running request.
+	 */
+	public synchronized void stop() {
+		if( httpServer != null ) {
+			httpServer.stop(0);
+			executor.shutdown();
+			httpServer = null;
+		}
+	}
+
+	/**
+	 * @return URL of the SOAP endpoint, once started
+	 */
+	public synchronized String getEndpointUrl() {
+		return "http://localhost:" + httpServer.getAddress().getPort() + SOAP_PATH;
+	}
+
+	/**
+	 * @return the served data, once started
+	 */
+	public synchronized MockJiraData getData() {
+		return data;
+	}
+
+	/**
+	 * @return the service, once started
+	 */
+	public synchronized MockJiraService getService() {
+		return service;
+	}
+
+	private AxisServer createEngine(final MockJiraOperations operations) {
+		SimpleProvider config = new SimpleProvider();
+		AxisServer engine = new AxisServer(config);
+		engine.setOption(AxisEngine.PROP_DOMULTIREFS, Boolean.valueOf(multiRefs));
+		SOAPService soapService = new SOAPService(new RPCProvider() {
+			protected Object makeNewServiceObject(MessageContext msgContext, String clsName) {
+				return operations;
+			}
+		});
+		soapService.setOption("className", MockJiraOperations.class.getName());
+		soapService.setOption("allowedMethods", "*");
+		soapService.setStyle(org.apache.axis.constants.Style.RPC);
+		soapService.setUse(org.apache.axis.constants.Use.ENCODED);
+		soapService.setEngine(engine);
+		TypeMapping tm = soapService.getTypeMappingRegistry().getOrMakeTypeMapping(Constants.URI_SOAP11_ENC);
+		JiraSoapTypeMappings.registerTypes(tm);
+		soapService.getServiceDescription().setDefaultNamespace("http://soap.rpc.jira.atlassian.com");
+		soapService.getServiceDescription().setTypeMapping(tm);
+		soapService.init();
+		config.deployService(SOAP_PATH, soapService);
+		return engine;
+	}
+
+	/**
+	 * @return true with the given probability
+	 */
+	private boolean draw(double rate) {
+		if( rate <= 0 ) {
+			return false;
+		}
+		synchronized( random ) {
+			return random.nextDouble() < rate;
+		}
+	}
+
+	private static boolean acceptsGzip(HttpExchange exchange) {
+		String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+		return accept != null && accept.toLowerCase().contains("gzip");
+	}
+
+	/**
+	 * Handler of the SOAP calls.
+	 */
+	private class SoapHandler implements HttpHandler {
+
+		private final AxisServer engine;
+
+		SoapHandler(AxisServer engine) {
+			this.engine = engine;
+		}
+
+		public void handle(HttpExchange exchange) throws IOException {
+			try {
+				if( latency > 0 || latencyJitter > 0 ) {
+					int jitter;
+					synchronized( random ) {
+						jitter = latencyJitter > 0 ? random.nextInt(latencyJitter + 1) : 0;
+					}
+					Thread.sleep(latency + jitter);
+				}
+				if( draw(errorRate) ) {
+					exchange.sendResponseHeaders(503, -1);
+					return;
+				}
+				InputStream in = exchange.getRequestBody();
+				if( "gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding")) ) {
+					in = new GZIPInputStream(in);
+				}
+				MessageContext msgContext = new MessageContext(engine);
+				msgContext.setRequestMessage(new Message(in, false, exchange.getRequestHeaders().getFirst("Content-Type"), null));
+				msgContext.setTargetService(SOAP_PATH);
+				Message response;
+				int status = 200;
+				try {
+					if( draw(faultRate) ) {
+						throw new AxisFault("Server.Unavailable", "Injected fault", null, null);
+					}
+					engine.invoke(msgContext);
+					response = msgContext.getResponseMessage();
+				}
+				catch(AxisFault e) {
+					response = new Message(e);
+					status = 500;
+				}
+				ByteArrayOutputStream buf = new ByteArrayOutputStream();
+				response.writeTo(buf);
+				byte[] body = buf.toByteArray();
+				exchange.getResponseHeaders().set("Content-Type", "text/xml; charset=utf-8");
+				if( acceptsGzip(exchange) ) {
+					buf = new ByteArrayOutputStream(body.length / 4);
+					GZIPOutputStream gzip = new GZIPOutputStream(buf);
+					gzip.write(body);
+					gzip.close();
+					body = buf.toByteArray();
+					exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+				}
+				exchange.sendResponseHeaders(status, body.length);
+				exchange.getResponseBody().write(body);
+			}
+			catch(Exception e) {
+				e.printStackTrace();
+				exchange.sendResponseHeaders(500, -1);
+			}
+			finally {
+				exchange.close();
+			}
+		}
+	}
+
+	/**
+	 * Handler of the attachment downloads, /secure/attachment/ID/NAME.
+	 */
+	private class AttachmentHandler implements HttpHandler {
+
+		public void handle(HttpExchange exchange) throws IOException {
+			try {
+				String[] path = exchange.getRequestURI().getPath().substring(ATTACHMENT_PATH.length()).split("/");
+				long id;
+				try {
+					id = Long.parseLong(path[0]);
+				}
+				catch(NumberFormatException e) {
+					exchange.sendResponseHeaders(404, -1);
+					return;
+				}
+				int index = (int) (id / 10);
+				if( path.length != 2 || index >= data.size() || id % 10 >= data.getAttachments(index).length ) {
+					exchange.sendResponseHeaders(404, -1);
+					return;
+				}
+				long size = data.getAttachmentSize();
+				exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+				exchange.sendResponseHeaders(200, size);
+				OutputStream out = exchange.getResponseBody();
+				byte[] buf = new byte[8192];
+				for(long offset = 0; offset < size; offset += buf.length) {
+					int len = (int) Math.min(buf.length, size - offset);
+					data.fillAttachment(id, offset, buf, len);
+					out.write(buf, 0, len);
+				}
+			}
+			finally {
+				exchange.close();
+			}
+		}
+	}
+
+	/**
+	 * @param port port to listen on, 0 for any free port
+	 */
+	public void setPort(int port) {
+		this.port = port;
+	}
+
+	/**
+	 * @param issues number of generated issues
+	 */
+	public void setIssues(int issues) {
+		this.issues = issues;
+	}
+
+	/**
+	 * @param projects number of projects the issues are spread over
+	 */
+	public void setProjects(int projects) {
+		this.projects = projects;
+	}
+
+	/**
+	 * @param users number of users the issues are assigned to
+	 */
+	public void setUsers(int users) {
+		this.users = users;
+	}
+
+	/**
+	 * @param descriptionLength approximate length of the issue descriptions, in characters
+	 */
+	public void setDescriptionLength(int descriptionLength) {
+		this.descriptionLength = descriptionLength;
+	}
+
+	/**
+	 * @param attachmentSize size of the attachments in bytes, 0 for issues without attachments
+	 */
+	public void setAttachmentSize(int attachmentSize) {
+		this.attachmentSize = attachmentSize;
+	}
+
+	/**
+	 * @param seed seed of the generated data and of the injected failures
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * @param latency time in milliseconds each SOAP call waits before it is answered
+	 */
+	public void setLatency(int latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * @param latencyJitter maximum random time in milliseconds added to the latency
+	 */
+	public void setLatencyJitter(int latencyJitter) {
+		this.latencyJitter = latencyJitter;
+	}
+
+	/**
+	 * @param faultRate probability, from 0 to 1, of a SOAP call answered with a SOAP fault
+	 */
+	public void setFaultRate(double faultRate) {
+		this.faultRate = faultRate;
+	}
+
+	/**
+	 * @param errorRate probability, from 0 to 1, of a SOAP call answered with an HTTP 503 error
+	 */
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	/**
+	 * @param threads number of threads serving the requests
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * @param multiRefs true to encode the responses with multiRef elements, like Jira
+	 */
+	public void setMultiRefs(boolean multiRefs) {
+		this.multiRefs = multiRefs;
+	}
+
+	/**
+	 * @param password password of every user, null to accept any
+	 */
+	public void setPassword(String password) {
+		this.password = password;
+	}
+
+	/**
+	 * @param exitOnEndOfInput true for main to stop the server when its standard input is closed
+	 */
+	public void setExitOnEndOfInput(boolean exitOnEndOfInput) {
+		this.exitOnEndOfInput = exitOnEndOfInput;
+	}
+}
@@ -0,0 +1,404 @@
+package org.sla256.antjira.mock;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.atlassian.jira.rpc.exception.RemoteAuthenticationException;
+import com.atlassian.jira.rpc.exception.RemoteException;
+import com.atlassian.jira.rpc.soap.beans.RemoteComment;
+import com.atlassian.jira.rpc.soap.beans.RemoteField;
+import com.atlassian.jira.rpc.soap.beans.RemoteFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteFilter;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.beans.RemotePriority;
+import com.atlassian.jira.rpc.soap.beans.RemoteResolution;
+import com.atlassian.jira.rpc.soap.beans.RemoteServerInfo;
+import com.atlassian.jira.rpc.soap.beans.RemoteStatus;
+
+/**
+ * Implementation of the {@link MockJiraOperations} served by the {@link MockJiraServer}, over a
+ * {@link MockJiraData} set. Implemented are the calls of the Ant tasks and those of the usual clients:
+ * login / logout, issues (get, create, update, filters, text and JQL searches), attachments, comments and the
+ * project, version, component, constant and custom field lookups. Every other operation checks its token and
+ * returns an empty result: 0, false, null or an empty array.
+ *
+ * Any user name is accepted, with any password unless one was configured. Tokens stay valid until logout.
+ */
+public class MockJiraService implements InvocationHandler {
+
+	/**
+	 * ID of the single saved filter, which holds every issue.
+	 */
+	static final String FILTER_ID = "10000";
+
+	private final MockJiraData data;
+
+	private final String password;
+
+	private final String baseUrl;
+
+	/**
+	 * Valid tokens, with the name of their user.
+	 */
+	private final Map<String, String> tokens = new ConcurrentHashMap<String, String>();
+
+	private final AtomicLong logins = new AtomicLong();
+
+	/**
+	 * Comments added through the service, by issue index.
+	 */
+	private final Map<Integer, List<RemoteComment>> comments = new ConcurrentHashMap<Integer, List<RemoteComment>>();
+
+	/**
+	 * @param data issues served
+	 * @param password password of every user, null to accept any
+	 * @param baseUrl base URL reported by getServerInfo
+	 */
+	public MockJiraService(MockJiraData data, String password, String baseUrl) {
+		this.data = data;
+		this.password = password;
+		this.baseUrl = baseUrl;
+	}
+
+	/**
+	 * @return a MockJiraOperations proxy calling this service
+	 */
+	public MockJiraOperations newProxy() {
+		return (MockJiraOperations) Proxy.newProxyInstance(MockJiraOperations.class.getClassLoader(),
+				new Class<?>[] { MockJiraOperations.class }, this);
+	}
+
+	/**
+	 * @return number of successful logins so far
+	 */
+	public long getLoginCount() {
+		return logins.get();
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		String name = method.getName();
+		if( method.getDeclaringClass() == Object.class ) {
+			if( "equals".equals(name) ) {
+				return Boolean.valueOf(proxy == args[0]);
+			}
+			if( "hashCode".equals(name) ) {
+				return Integer.valueOf(System.identityHashCode(proxy));
+			}
+			return "MockJiraService proxy";
+		}
+		if( "login".equals(name) ) {
+			return login((String) args[0], (String) args[1]);
+		}
+		checkToken((String) args[0]);
+		try {
+			return call(name, args, method.getReturnType());
+		}
+		catch(IllegalArgumentException e) {
+			throw remoteException(e.getMessage());
+		}
+	}
+
+	private String login(String username, String password) throws RemoteAuthenticationException {
+		if( username == null || username.length() == 0 || this.password != null && !this.password.equals(password) ) {
+			RemoteAuthenticationException e = new RemoteAuthenticationException();
+			e.setFaultString("Invalid username or password.");
+			throw e;
+		}
+		String token = "mock-" + logins.incrementAndGet() + "-" + Long.toHexString(Double.doubleToLongBits(Math.random()));
+		tokens.put(token, username);
+		return token;
+	}
+
+	private void checkToken(String token) throws RemoteAuthenticationException {
+		if( token == null || !tokens.containsKey(token) ) {
+			RemoteAuthenticationException e = new RemoteAuthenticationException();
+			e.setFaultString("User not authenticated yet, or session timed out.");
+			throw e;
+		}
+	}
+
+	private Object call(String name, Object[] args, Class<?> returnType) throws RemoteException {
+		if( "logout".equals(name) ) {
+			return Boolean.valueOf(tokens.remove(args[0]) != null);
+		}
+		if( "getServerInfo".equals(name) ) {
+			RemoteServerInfo info = new RemoteServerInfo();
+			info.setBaseUrl(baseUrl);
+			info.setVersion("4.4 (mock)");
+			info.setBuildNumber("0");
+			info.setEdition("Mock");
+			return info;
+		}
+		if( "getIssue".equals(name) || "getIssueById".equals(name) ) {
+			return data.getIssue(index((String) args[1]));
+		}
+		if( "createIssue".equals(name) || "createIssueWithSecurityLevel".equals(name) ) {
+			RemoteIssue issue = (RemoteIssue) args[1];
+			if( issue == null || issue.getSummary() == null ) {
+				throw remoteException("Summary: You must specify a summary of the issue.");
+			}
+			if( issue.getProject() != null && data.indexOfProject(issue.getProject()) < 0 ) {
+				throw remoteException("No project could be found with key '" + issue.getProject() + "'.");
+			}
+			return data.create(issue);
+		}
+		if( "updateIssue".equals(name) ) {
+			int index = index((String) args[1]);
+			RemoteIssue issue = data.getIssue(index);
+			RemoteFieldValue[] values = (RemoteFieldValue[]) args[2];
+			if( values != null ) {
+				for(RemoteFieldValue value : values) {
+					update(issue, value);
+				}
+			}
+			data.update(index, issue);
+			return data.getIssue(index);
+		}
+		if( "getIssuesFromFilter".equals(name) || "getIssueCountForFilter".equals(name) ) {
+			if( !FILTER_ID.equals(args[1]) ) {
+				throw remoteException("No filter with id '" + args[1] + "'.");
+			}
+			if( "getIssueCountForFilter".equals(name) ) {
+				return Long.valueOf(data.size());
+			}
+			return toArray(filter(null, Integer.MAX_VALUE));
+		}
+		if( "getIssuesFromJqlSearch".equals(name) ) {
+			MockJql jql = new MockJql((String) args[1]);
+			List<RemoteIssue> issues = filter(jql, Integer.MAX_VALUE);
+			Comparator<RemoteIssue> order = jql.getOrder();
+			if( order != null ) {
+				Collections.sort(issues, order);
+			}
+			int max = ((Integer) args[2]).intValue();
+			return toArray(issues.subList(0, Math.min(max, issues.size())));
+		}
+		if( "getIssuesFromTextSearch".equals(name) ) {
+			return toArray(search((String) args[1], null, Integer.MAX_VALUE));
+		}
+		if( "getIssuesFromTextSearchWithProject".equals(name) ) {
+			return toArray(search((String) args[2], (String[]) args[1], ((Integer) args[3]).intValue()));
+		}
+		if( "getProjectsNoSchemes".equals(name) ) {
+			return data.getProjects();
+		}
+		if( "getProjectByKey".equals(name) ) {
+			return data.getProject(project((String) args[1]));
+		}
+		if( "getVersions".equals(name) ) {
+			return data.getVersions(project((String) args[1]));
+		}
+		if( "getComponents".equals(name) ) {
+			return data.getComponents(project((String) args[1]));
+		}
+		if( "getPriorities".equals(name) ) {
+			RemotePriority[] priorities = new RemotePriority[MockJiraData.PRIORITIES.length];
+			for(int i = 0; i < priorities.length; i++) {
+				priorities[i] = new RemotePriority(MockJiraData.PRIORITIES[i], MockJiraData.PRIORITY_NAMES[i], null, null, null);
+			}
+			return priorities;
+		}
+		if( "getStatuses".equals(name) ) {
+			RemoteStatus[] statuses = new RemoteStatus[MockJiraData.STATUSES.length];
+			for(int i = 0; i < statuses.length; i++) {
+				statuses[i] = new RemoteStatus(MockJiraData.STATUSES[i], MockJiraData.STATUS_NAMES[i], null, null);
+			}
+			return statuses;
+		}
+		if( "getResolutions".equals(name) ) {
+			RemoteResolution[] resolutions = new RemoteResolution[MockJiraData.RESOLUTIONS.length];
+			for(int i = 0; i < resolutions.length; i++) {
+				resolutions[i] = new RemoteResolution(MockJiraData.RESOLUTIONS[i], MockJiraData.RESOLUTION_NAMES[i], null, null);
+			}
+			return resolutions;
+		}
+		if( "getIssueTypes".equals(name) || "getIssueTypesForProject".equals(name) ) {
+			RemoteIssueType[] types = new RemoteIssueType[MockJiraData.TYPES.length];
+			for(int i = 0; i < types.length; i++) {
+				types[i] = new RemoteIssueType(MockJiraData.TYPES[i], MockJiraData.TYPE_NAMES[i], null, null, false);
+			}
+			return types;
+		}
+		if( "getCustomFields".equals(name) ) {
+			RemoteField[] fields = new RemoteField[MockJiraData.CUSTOM_FIELDS.length];
+			for(int i = 0; i < fields.length; i++) {
+				fields[i] = new RemoteField(MockJiraData.CUSTOM_FIELDS[i], MockJiraData.CUSTOM_FIELD_NAMES[i]);
+			}
+			return fields;
+		}
+		if( "getFavouriteFilters".equals(name) || "getSavedFilters".equals(name) ) {
+			RemoteFilter filter = new RemoteFilter();
+			filter.setId(FILTER_ID);
+			filter.setName("All issues");
+			filter.setAuthor(tokens.get(args[0]));
+			return new RemoteFilter[] { filter };
+		}
+		if( "getAttachmentsFromIssue".equals(name) ) {
+			return data.getAttachments(index((String) args[1]));
+		}
+		if( "addAttachmentsToIssue".equals(name) ) {
+			int index = index((String) args[1]);
+			RemoteIssue issue = data.getIssue(index);
+			String[] names = issue.getAttachmentNames() != null ? issue.getAttachmentNames() : new String[0];
+			List<String> all = new ArrayList<String>(Arrays.asList(names));
+			all.addAll(Arrays.asList((String[]) args[2]));
+			issue.setAttachmentNames(all.toArray(new String[all.size()]));
+			data.update(index, issue);
+			return Boolean.TRUE;
+		}
+		if( "addComment".equals(name) ) {
+			Integer index = Integer.valueOf(index((String) args[1]));
+			RemoteComment comment = (RemoteComment) args[2];
+			comment.setAuthor(tokens.get(args[0]));
+			comment.setCreated(Calendar.getInstance());
+			List<RemoteComment> list = comments.get(index);
+			if( list == null ) {
+				synchronized( comments ) {
+					list = comments.get(index);
+					if( list == null ) {
+						list = new CopyOnWriteArrayList<RemoteComment>();
+						comments.put(index, list);
+					}
+				}
+			}
+			comment.setId(String.valueOf(10000 + list.size()));
+			list.add(comment);
+			return null;
+		}
+		if( "getComments".equals(name) ) {
+			List<RemoteComment> list = comments.get(Integer.valueOf(index((String) args[1])));
+			return list != null ? list.toArray(new RemoteComment[list.size()]) : new RemoteComment[0];
+		}
+		return empty(returnType);
+	}
+
+	private void update(RemoteIssue issue, RemoteFieldValue value) {
+		String id = value.getId() != null ? value.getId().toLowerCase(Locale.ENGLISH) : "";
+		String[] values = value.getValues();
+		String first = values != null && values.length > 0 ? values[0] : null;
+		if( "summary".equals(id) ) {
+			issue.setSummary(first);
+		}
+		else if( "description".equals(id) ) {
+			issue.setDescription(first);
+		}
+		else if( "environment".equals(id) ) {
+			issue.setEnvironment(first);
+		}
+		else if( "assignee".equals(id) ) {
+			issue.setAssignee(first);
+		}
+		else if( "reporter".equals(id) ) {
+			issue.setReporter(first);
+		}
+		else if( "priority".equals(id) ) {
+			issue.setPriority(first);
+		}
+		else if( "issuetype".equals(id) || "type".equals(id) ) {
+			issue.setType(first);
+		}
+		else if( "status".equals(id) ) {
+			issue.setStatus(first);
+		}
+		else if( "resolution".equals(id) ) {
+			issue.setResolution(first);
+		}
+		else {
+			throw new IllegalArgumentException("Field not supported by the mock server: " + value.getId());
+		}
+	}
+
+	private List<RemoteIssue> filter(MockJql jql, int max) {
+		int size = data.size();
+		List<RemoteIssue> issues = new ArrayList<RemoteIssue>(jql == null ? size : 16);
+		for(int i = 0; i < size && issues.size() < max; i++) {
+			RemoteIssue issue = data.getIssue(i);
+			if( jql == null || jql.matches(issue) ) {
+				issues.add(issue);
+			}
+		}
+		return issues;
+	}
+
+	/**
+	 * @return issues whose summary or description holds one of the words of the terms, case insensitively
+	 */
+	private List<RemoteIssue> search(String terms, String[] projects, int max) {
+		String[] words = terms != null ? terms.toLowerCase(Locale.ENGLISH).trim().split("\\s+") : new String[0];
+		List<RemoteIssue> issues = new ArrayList<RemoteIssue>();
+		int size = data.size();
+		for(int i = 0; i < size && issues.size() < max; i++) {
+			RemoteIssue issue = data.getIssue(i);
+			if( projects != null && projects.length > 0 && !Arrays.asList(projects).contains(issue.getProject()) ) {
+				continue;
+			}
+			String text = (issue.getSummary() + " " + issue.getDescription()).toLowerCase(Locale.ENGLISH);
+			for(String word : words) {
+				if( word.length() > 0 && text.contains(word) ) {
+					issues.add(issue);
+					break;
+				}
+			}
+		}
+		return issues;
+	}
+
+	private int index(String keyOrId) throws RemoteException {
+		int index = data.indexOf(keyOrId);
+		if( index < 0 ) {
+			throw remoteException("Issue " + keyOrId + " does not exist.");
+		}
+		return index;
+	}
+
+	private int project(String key) throws RemoteException {
+		int project = key != null ? data.indexOfProject(key) : -1;
+		if( project < 0 ) {
+			throw remoteException("No project could be found with key '" + key + "'.");
+		}
+		return project;
+	}
+
+	private static RemoteIssue[] toArray(List<RemoteIssue> issues) {
+		return issues.toArray(new RemoteIssue[issues.size()]);
+	}
+
+	private static RemoteException remoteException(String message) {
+		RemoteException e = new RemoteException();
+		e.setFaultString(message);
+		return e;
+	}
+
+	/**
+	 * @return result of an operation the mock does not implement
+	 */
+	private static Object empty(Class<?> type) {
+		if( type == Boolean.TYPE ) {
+			return Boolean.FALSE;
+		}
+		if( type == Long.TYPE ) {
+			return Long.valueOf(0);
+		}
+		if( type == Integer.TYPE ) {
+			return Integer.valueOf(0);
+		}
+		if( type.isArray() ) {
+			return Array.newInstance(type.getComponentType(), 0);
+		}
+		return null;
+	}
+}
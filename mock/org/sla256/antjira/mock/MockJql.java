@@ -0,0 +1,271 @@
+package org.sla256.antjira.mock;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.atlassian.jira.rpc.soap.beans.AbstractNamedRemoteEntity;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * The subset of JQL the {@link MockJiraServer} understands: clauses joined by AND, each one of
+ * field = value, field != value, field in (value, ...), or a date comparison (created / updated &gt;=, &lt;=,
+ * &gt;, &lt; a relative date such as "-15m", "-2h" or "-1d"), followed by an optional ORDER BY field ASC|DESC.
+ * Values match the IDs and names of statuses, priorities, types, resolutions, components and versions, case
+ * insensitively. filter = ID clauses match every issue and filter != ID ones none, as every filter of the mock
+ * holds all issues.
+ * Anything else is rejected with an IllegalArgumentException, so that tests notice what the mock does not
+ * support instead of getting wrong results.
+ */
+class MockJql {
+
+	private static final Pattern CLAUSE = Pattern.compile(
+		"\\s*(\\w+)\\s*(=|!=|>=|<=|>|<|\\bin\\b)\\s*(\\([^)]*\\)|\"[^\"]*\"|'[^']*'|[^\\s()]+)\\s*", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern ORDER_BY = Pattern.compile("\\s+order\\s+by\\s+(\\w+)(?:\\s+(asc|desc))?\\s*$",
+		Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern RELATIVE_DATE = Pattern.compile("(-?\\d+)([mhdw])");
+
+	private static final String[] NAMED_FIELDS = { "status", "priority", "type", "resolution" };
+
+	private final List<String> fields = new ArrayList<String>();
+
+	private final List<String> operators = new ArrayList<String>();
+
+	private final List<String[]> values = new ArrayList<String[]>();
+
+	private String orderField;
+
+	private boolean descending;
+
+	/**
+	 * @throws IllegalArgumentException if the query is not supported
+	 */
+	MockJql(String jql) {
+		String where = jql;
+		Matcher order = ORDER_BY.matcher(where);
+		if( order.find() ) {
+			orderField = field(order.group(1));
+			descending = "desc".equalsIgnoreCase(order.group(2));
+			where = where.substring(0, order.start());
+		}
+		for(String clause : where.split("(?i)\\s+and\\s+")) {
+			clause = clause.trim();
+			// parentheses of a group split by AND
+			while( clause.startsWith("(") && balance(clause) > 0 ) {
+				clause = clause.substring(1).trim();
+			}
+			while( clause.endsWith(")") && balance(clause) < 0 ) {
+				clause = clause.substring(0, clause.length() - 1).trim();
+			}
+			// parentheses around a whole clause
+			while( clause.startsWith("(") && clause.endsWith(")") && balance(clause.substring(1, clause.length() - 1)) == 0 ) {
+				clause = clause.substring(1, clause.length() - 1).trim();
+			}
+			if( clause.length() == 0 ) {
+				continue;
+			}
+			Matcher m = CLAUSE.matcher(clause);
+			if( !m.matches() ) {
+				throw new IllegalArgumentException("JQL clause not supported by the mock server: " + clause);
+			}
+			String operator = m.group(2).toLowerCase(Locale.ENGLISH);
+			String value = m.group(3);
+			String[] list;
+			if( value.startsWith("(") ) {
+				if( !"in".equals(operator) ) {
+					throw new IllegalArgumentException("JQL clause not supported by the mock server: " + clause);
+				}
+				list = value.substring(1, value.length() - 1).split(",");
+				for(int i = 0; i < list.length; i++) {
+					list[i] = unquote(list[i].trim());
+				}
+			}
+			else {
+				if( value.endsWith(")") || "in".equals(operator) ) {
+					throw new IllegalArgumentException("JQL clause not supported by the mock server: " + clause);
+				}
+				list = new String[] { unquote(value) };
+			}
+			fields.add(field(m.group(1)));
+			operators.add(operator);
+			values.add(list);
+		}
+	}
+
+	boolean matches(RemoteIssue issue) {
+		for(int i = 0; i < fields.size(); i++) {
+			String field = fields.get(i);
+			String operator = operators.get(i);
+			String[] list = values.get(i);
+			if( "filter".equals(field) ) {
+				if( "!=".equals(operator) ) {
+					return false;
+				}
+				continue;
+			}
+			if( "created".equals(field) || "updated".equals(field) ) {
+				Calendar time = "created".equals(field) ? issue.getCreated() : issue.getUpdated();
+				if( time == null || !compare(time.getTimeInMillis(), operator, relativeTime(list[0])) ) {
+					return false;
+				}
+				continue;
+			}
+			boolean found = false;
+			for(String value : list) {
+				if( matches(issue, field, value) ) {
+					found = true;
+					break;
+				}
+			}
+			if( found == "!=".equals(operator) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return order of the ORDER BY clause, null if none
+	 */
+	Comparator<RemoteIssue> getOrder() {
+		if( orderField == null ) {
+			return null;
+		}
+		if( !"created".equals(orderField) && !"updated".equals(orderField) && !"key".equals(orderField) ) {
+			throw new IllegalArgumentException("JQL order not supported by the mock server: " + orderField);
+		}
+		return new Comparator<RemoteIssue>() {
+			public int compare(RemoteIssue a, RemoteIssue b) {
+				int c;
+				if( "key".equals(orderField) ) {
+					c = Long.valueOf(a.getId()).compareTo(Long.valueOf(b.getId()));
+				}
+				else if( "created".equals(orderField) ) {
+					c = a.getCreated().compareTo(b.getCreated());
+				}
+				else {
+					c = a.getUpdated().compareTo(b.getUpdated());
+				}
+				return descending ? -c : c;
+			}
+		};
+	}
+
+	private static boolean matches(RemoteIssue issue, String field, String value) {
+		if( "project".equals(field) ) {
+			return value.equalsIgnoreCase(issue.getProject());
+		}
+		if( "key".equals(field) ) {
+			return value.equalsIgnoreCase(issue.getKey());
+		}
+		if( "id".equals(field) ) {
+			return value.equals(issue.getId());
+		}
+		if( "assignee".equals(field) || "reporter".equals(field) ) {
+			if( value.endsWith("()") ) {
+				throw new IllegalArgumentException("JQL function not supported by the mock server: " + value);
+			}
+			return value.equalsIgnoreCase("assignee".equals(field) ? issue.getAssignee() : issue.getReporter());
+		}
+		if( "component".equals(field) ) {
+			return matches(issue.getComponents(), value);
+		}
+		if( "fixversion".equals(field) ) {
+			return matches(issue.getFixVersions(), value);
+		}
+		if( "affectedversion".equals(field) ) {
+			return matches(issue.getAffectsVersions(), value);
+		}
+		for(int i = 0; i < NAMED_FIELDS.length; i++) {
+			if( NAMED_FIELDS[i].equals(field) ) {
+				String id = i == 0 ? issue.getStatus() : i == 1 ? issue.getPriority() : i == 2 ? issue.getType() : issue.getResolution();
+				return id != null && (value.equals(id) || value.equalsIgnoreCase(name(i, id)));
+			}
+		}
+		throw new IllegalArgumentException("JQL field not supported by the mock server: " + field);
+	}
+
+	private static boolean matches(AbstractNamedRemoteEntity[] entities, String value) {
+		if( entities != null ) {
+			for(AbstractNamedRemoteEntity entity : entities) {
+				if( value.equals(entity.getId()) || value.equalsIgnoreCase(entity.getName()) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return name of a status, priority, type or resolution ID
+	 */
+	private static String name(int field, String id) {
+		String[] ids = field == 0 ? MockJiraData.STATUSES : field == 1 ? MockJiraData.PRIORITIES
+			: field == 2 ? MockJiraData.TYPES : MockJiraData.RESOLUTIONS;
+		String[] names = field == 0 ? MockJiraData.STATUS_NAMES : field == 1 ? MockJiraData.PRIORITY_NAMES
+			: field == 2 ? MockJiraData.TYPE_NAMES : MockJiraData.RESOLUTION_NAMES;
+		for(int i = 0; i < ids.length; i++) {
+			if( ids[i].equals(id) ) {
+				return names[i];
+			}
+		}
+		return null;
+	}
+
+	private static boolean compare(long time, String operator, long reference) {
+		if( ">=".equals(operator) ) {
+			return time >= reference;
+		}
+		if( ">".equals(operator) ) {
+			return time > reference;
+		}
+		if( "<=".equals(operator) ) {
+			return time <= reference;
+		}
+		if( "<".equals(operator) ) {
+			return time < reference;
+		}
+		throw new IllegalArgumentException("JQL date operator not supported by the mock server: " + operator);
+	}
+
+	private static long relativeTime(String value) {
+		Matcher m = RELATIVE_DATE.matcher(value);
+		if( !m.matches() ) {
+			throw new IllegalArgumentException("JQL date not supported by the mock server: " + value);
+		}
+		long amount = Long.parseLong(m.group(1));
+		char unit = m.group(2).charAt(0);
+		long millis = unit == 'm' ? 60000L : unit == 'h' ? 3600000L : unit == 'd' ? 86400000L : 7 * 86400000L;
+		return System.currentTimeMillis() + amount * millis;
+	}
+
+	/**
+	 * @return number of opening minus number of closing parentheses
+	 */
+	private static int balance(String s) {
+		int balance = 0;
+		for(int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			balance += c == '(' ? 1 : c == ')' ? -1 : 0;
+		}
+		return balance;
+	}
+
+	private static String field(String name) {
+		String field = name.toLowerCase(Locale.ENGLISH);
+		return "issuetype".equals(field) ? "type" : "issuekey".equals(field) ? "key" : field;
+	}
+
+	private static String unquote(String value) {
+		if( value.length() >= 2 && (value.startsWith("\"") && value.endsWith("\"") || value.startsWith("'") && value.endsWith("'")) ) {
+			return value.substring(1, value.length() - 1);
+		}
+		return value;
+	}
+}
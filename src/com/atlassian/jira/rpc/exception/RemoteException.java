@@ -11,30 +11,36 @@ public class RemoteException  extends org.apache.axis.AxisFault  implements java
     public RemoteException() {
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteException)) return false;
         RemoteException other = (RemoteException) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = true;
-        __equalsCalc = null;
+        try {
+            _equals = true;
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        __hashCodeCalc = false;
+        int _hashCode;
+        try {
+            _hashCode = 1;
+        } finally {
+            __hashCodeGuard.exit();
+        }
         return _hashCode;
     }
 
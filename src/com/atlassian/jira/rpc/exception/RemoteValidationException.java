@@ -11,30 +11,36 @@ public class RemoteValidationException  extends com.atlassian.jira.rpc.exception
     public RemoteValidationException() {
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteValidationException)) return false;
         RemoteValidationException other = (RemoteValidationException) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj);
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj);
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        __hashCodeCalc = false;
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+        } finally {
+            __hashCodeGuard.exit();
+        }
         return _hashCode;
     }
 
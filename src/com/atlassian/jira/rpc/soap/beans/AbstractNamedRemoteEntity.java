@@ -41,36 +41,42 @@ public abstract class AbstractNamedRemoteEntity  extends com.atlassian.jira.rpc.
         this.name = name;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AbstractNamedRemoteEntity)) return false;
         AbstractNamedRemoteEntity other = (AbstractNamedRemoteEntity) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
@@ -67,42 +67,48 @@ public abstract class AbstractRemoteConstant  extends com.atlassian.jira.rpc.soa
         this.icon = icon;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AbstractRemoteConstant)) return false;
         AbstractRemoteConstant other = (AbstractRemoteConstant) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.icon==null && other.getIcon()==null) || 
-             (this.icon!=null &&
-              this.icon.equals(other.getIcon())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.icon==null && other.getIcon()==null) || 
+                 (this.icon!=null &&
+                  this.icon.equals(other.getIcon())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getIcon() != null) {
-            _hashCode += getIcon().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getIcon() != null) {
+                _hashCode += getIcon().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
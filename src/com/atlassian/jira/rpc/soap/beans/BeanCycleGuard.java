@@ -0,0 +1,72 @@
+package com.atlassian.jira.rpc.soap.beans;
+
+/**
+ * Guard of the equals / hashCode methods of the generated beans against cycles in the object graph, in place
+ * of the __equalsCalc / __hashCodeCalc fields Axis generates. Those fields required the methods to be
+ * synchronized, so that beans shared between threads (e.g. held in concurrent maps) serialized all
+ * comparisons on their monitors. The guard instead records the comparisons in progress per thread: a bean
+ * reached again while being compared compares equal only to the object it is already being compared with,
+ * and hashes to 0, as with the generated fields.
+ *
+ * Each bean class has one guard per method, just like each class had its own fields, so that the super
+ * class part of a comparison is guarded separately from the subclass part.
+ */
+public final class BeanCycleGuard {
+
+	/**
+	 * Comparisons in progress on the current thread, as a stack of (bean, other) pairs; graphs are shallow,
+	 * so a linear scan is cheaper than any map.
+	 */
+	private static final class Frames {
+
+		Object[] beans = new Object[8];
+
+		Object[] others = new Object[8];
+
+		int depth = 0;
+	}
+
+	private final ThreadLocal<Frames> frames = new ThreadLocal<Frames>() {
+		protected Frames initialValue() {
+			return new Frames();
+		}
+	};
+
+	/**
+	 * Starts guarding a comparison, unless the bean is already being compared on this thread.
+	 * Each call returning null must be paired with a call to {@link #exit()}.
+	 * @param bean bean being compared or hashed
+	 * @param other object the bean is compared with (the bean itself for hashCode)
+	 * @return null if the comparison started, otherwise the object the bean is already being compared with
+	 */
+	public Object enter(Object bean, Object other) {
+		Frames f = frames.get();
+		for(int i = f.depth - 1; i >= 0; i--) {
+			if( f.beans[i] == bean ) {
+				return f.others[i];
+			}
+		}
+		if( f.depth == f.beans.length ) {
+			Object[] beans = new Object[f.depth * 2];
+			Object[] others = new Object[f.depth * 2];
+			System.arraycopy(f.beans, 0, beans, 0, f.depth);
+			System.arraycopy(f.others, 0, others, 0, f.depth);
+			f.beans = beans;
+			f.others = others;
+		}
+		f.beans[f.depth] = bean;
+		f.others[f.depth] = other;
+		f.depth++;
+		return null;
+	}
+
+	/**
+	 * Ends the innermost comparison started by {@link #enter(Object, Object)}.
+	 */
+	public void exit() {
+		Frames f = frames.get();
+		f.depth--;
+		f.beans[f.depth] = null;
+		f.others[f.depth] = null;
+	}
+}
@@ -137,60 +137,66 @@ public class RemoteAttachment  extends com.atlassian.jira.rpc.soap.beans.Abstrac
         this.mimetype = mimetype;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteAttachment)) return false;
         RemoteAttachment other = (RemoteAttachment) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.author==null && other.getAuthor()==null) || 
-             (this.author!=null &&
-              this.author.equals(other.getAuthor()))) &&
-            ((this.created==null && other.getCreated()==null) || 
-             (this.created!=null &&
-              this.created.equals(other.getCreated()))) &&
-            ((this.filename==null && other.getFilename()==null) || 
-             (this.filename!=null &&
-              this.filename.equals(other.getFilename()))) &&
-            ((this.filesize==null && other.getFilesize()==null) || 
-             (this.filesize!=null &&
-              this.filesize.equals(other.getFilesize()))) &&
-            ((this.mimetype==null && other.getMimetype()==null) || 
-             (this.mimetype!=null &&
-              this.mimetype.equals(other.getMimetype())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                ((this.author==null && other.getAuthor()==null) || 
+                 (this.author!=null &&
+                  this.author.equals(other.getAuthor()))) &&
+                ((this.created==null && other.getCreated()==null) || 
+                 (this.created!=null &&
+                  this.created.equals(other.getCreated()))) &&
+                ((this.filename==null && other.getFilename()==null) || 
+                 (this.filename!=null &&
+                  this.filename.equals(other.getFilename()))) &&
+                ((this.filesize==null && other.getFilesize()==null) || 
+                 (this.filesize!=null &&
+                  this.filesize.equals(other.getFilesize()))) &&
+                ((this.mimetype==null && other.getMimetype()==null) || 
+                 (this.mimetype!=null &&
+                  this.mimetype.equals(other.getMimetype())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAuthor() != null) {
-            _hashCode += getAuthor().hashCode();
-        }
-        if (getCreated() != null) {
-            _hashCode += getCreated().hashCode();
-        }
-        if (getFilename() != null) {
-            _hashCode += getFilename().hashCode();
-        }
-        if (getFilesize() != null) {
-            _hashCode += getFilesize().hashCode();
-        }
-        if (getMimetype() != null) {
-            _hashCode += getMimetype().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            if (getAuthor() != null) {
+                _hashCode += getAuthor().hashCode();
+            }
+            if (getCreated() != null) {
+                _hashCode += getCreated().hashCode();
+            }
+            if (getFilename() != null) {
+                _hashCode += getFilename().hashCode();
+            }
+            if (getFilesize() != null) {
+                _hashCode += getFilesize().hashCode();
+            }
+            if (getMimetype() != null) {
+                _hashCode += getMimetype().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
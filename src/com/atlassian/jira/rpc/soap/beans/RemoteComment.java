@@ -206,78 +206,84 @@ public class RemoteComment  implements java.io.Serializable {
         this.updated = updated;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteComment)) return false;
         RemoteComment other = (RemoteComment) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = true && 
-            ((this.author==null && other.getAuthor()==null) || 
-             (this.author!=null &&
-              this.author.equals(other.getAuthor()))) &&
-            ((this.body==null && other.getBody()==null) || 
-             (this.body!=null &&
-              this.body.equals(other.getBody()))) &&
-            ((this.created==null && other.getCreated()==null) || 
-             (this.created!=null &&
-              this.created.equals(other.getCreated()))) &&
-            ((this.groupLevel==null && other.getGroupLevel()==null) || 
-             (this.groupLevel!=null &&
-              this.groupLevel.equals(other.getGroupLevel()))) &&
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.roleLevel==null && other.getRoleLevel()==null) || 
-             (this.roleLevel!=null &&
-              this.roleLevel.equals(other.getRoleLevel()))) &&
-            ((this.updateAuthor==null && other.getUpdateAuthor()==null) || 
-             (this.updateAuthor!=null &&
-              this.updateAuthor.equals(other.getUpdateAuthor()))) &&
-            ((this.updated==null && other.getUpdated()==null) || 
-             (this.updated!=null &&
-              this.updated.equals(other.getUpdated())));
-        __equalsCalc = null;
+        try {
+            _equals = true && 
+                ((this.author==null && other.getAuthor()==null) || 
+                 (this.author!=null &&
+                  this.author.equals(other.getAuthor()))) &&
+                ((this.body==null && other.getBody()==null) || 
+                 (this.body!=null &&
+                  this.body.equals(other.getBody()))) &&
+                ((this.created==null && other.getCreated()==null) || 
+                 (this.created!=null &&
+                  this.created.equals(other.getCreated()))) &&
+                ((this.groupLevel==null && other.getGroupLevel()==null) || 
+                 (this.groupLevel!=null &&
+                  this.groupLevel.equals(other.getGroupLevel()))) &&
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.roleLevel==null && other.getRoleLevel()==null) || 
+                 (this.roleLevel!=null &&
+                  this.roleLevel.equals(other.getRoleLevel()))) &&
+                ((this.updateAuthor==null && other.getUpdateAuthor()==null) || 
+                 (this.updateAuthor!=null &&
+                  this.updateAuthor.equals(other.getUpdateAuthor()))) &&
+                ((this.updated==null && other.getUpdated()==null) || 
+                 (this.updated!=null &&
+                  this.updated.equals(other.getUpdated())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAuthor() != null) {
-            _hashCode += getAuthor().hashCode();
-        }
-        if (getBody() != null) {
-            _hashCode += getBody().hashCode();
-        }
-        if (getCreated() != null) {
-            _hashCode += getCreated().hashCode();
-        }
-        if (getGroupLevel() != null) {
-            _hashCode += getGroupLevel().hashCode();
-        }
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getRoleLevel() != null) {
-            _hashCode += getRoleLevel().hashCode();
-        }
-        if (getUpdateAuthor() != null) {
-            _hashCode += getUpdateAuthor().hashCode();
-        }
-        if (getUpdated() != null) {
-            _hashCode += getUpdated().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = 1;
+            if (getAuthor() != null) {
+                _hashCode += getAuthor().hashCode();
+            }
+            if (getBody() != null) {
+                _hashCode += getBody().hashCode();
+            }
+            if (getCreated() != null) {
+                _hashCode += getCreated().hashCode();
+            }
+            if (getGroupLevel() != null) {
+                _hashCode += getGroupLevel().hashCode();
+            }
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getRoleLevel() != null) {
+                _hashCode += getRoleLevel().hashCode();
+            }
+            if (getUpdateAuthor() != null) {
+                _hashCode += getUpdateAuthor().hashCode();
+            }
+            if (getUpdated() != null) {
+                _hashCode += getUpdated().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
@@ -254,50 +254,56 @@ public class RemoteConfiguration  implements java.io.Serializable {
         this.timeTrackingHoursPerDay = timeTrackingHoursPerDay;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteConfiguration)) return false;
         RemoteConfiguration other = (RemoteConfiguration) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = true && 
-            this.allowAttachments == other.isAllowAttachments() &&
-            this.allowExternalUserManagment == other.isAllowExternalUserManagment() &&
-            this.allowIssueLinking == other.isAllowIssueLinking() &&
-            this.allowSubTasks == other.isAllowSubTasks() &&
-            this.allowTimeTracking == other.isAllowTimeTracking() &&
-            this.allowUnassignedIssues == other.isAllowUnassignedIssues() &&
-            this.allowVoting == other.isAllowVoting() &&
-            this.allowWatching == other.isAllowWatching() &&
-            this.timeTrackingDaysPerWeek == other.getTimeTrackingDaysPerWeek() &&
-            this.timeTrackingHoursPerDay == other.getTimeTrackingHoursPerDay();
-        __equalsCalc = null;
+        try {
+            _equals = true && 
+                this.allowAttachments == other.isAllowAttachments() &&
+                this.allowExternalUserManagment == other.isAllowExternalUserManagment() &&
+                this.allowIssueLinking == other.isAllowIssueLinking() &&
+                this.allowSubTasks == other.isAllowSubTasks() &&
+                this.allowTimeTracking == other.isAllowTimeTracking() &&
+                this.allowUnassignedIssues == other.isAllowUnassignedIssues() &&
+                this.allowVoting == other.isAllowVoting() &&
+                this.allowWatching == other.isAllowWatching() &&
+                this.timeTrackingDaysPerWeek == other.getTimeTrackingDaysPerWeek() &&
+                this.timeTrackingHoursPerDay == other.getTimeTrackingHoursPerDay();
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        _hashCode += (isAllowAttachments() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        _hashCode += (isAllowExternalUserManagment() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        _hashCode += (isAllowIssueLinking() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        _hashCode += (isAllowSubTasks() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        _hashCode += (isAllowTimeTracking() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        _hashCode += (isAllowUnassignedIssues() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        _hashCode += (isAllowVoting() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        _hashCode += (isAllowWatching() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        _hashCode += getTimeTrackingDaysPerWeek();
-        _hashCode += getTimeTrackingHoursPerDay();
-        __hashCodeCalc = false;
+        int _hashCode;
+        try {
+            _hashCode = 1;
+            _hashCode += (isAllowAttachments() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            _hashCode += (isAllowExternalUserManagment() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            _hashCode += (isAllowIssueLinking() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            _hashCode += (isAllowSubTasks() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            _hashCode += (isAllowTimeTracking() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            _hashCode += (isAllowUnassignedIssues() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            _hashCode += (isAllowVoting() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            _hashCode += (isAllowWatching() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            _hashCode += getTimeTrackingDaysPerWeek();
+            _hashCode += getTimeTrackingHoursPerDay();
+        } finally {
+            __hashCodeGuard.exit();
+        }
         return _hashCode;
     }
 
@@ -115,54 +115,60 @@ public class RemoteFilter  extends com.atlassian.jira.rpc.soap.beans.AbstractNam
         this.xml = xml;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteFilter)) return false;
         RemoteFilter other = (RemoteFilter) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.author==null && other.getAuthor()==null) || 
-             (this.author!=null &&
-              this.author.equals(other.getAuthor()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.project==null && other.getProject()==null) || 
-             (this.project!=null &&
-              this.project.equals(other.getProject()))) &&
-            ((this.xml==null && other.getXml()==null) || 
-             (this.xml!=null &&
-              this.xml.equals(other.getXml())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                ((this.author==null && other.getAuthor()==null) || 
+                 (this.author!=null &&
+                  this.author.equals(other.getAuthor()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.project==null && other.getProject()==null) || 
+                 (this.project!=null &&
+                  this.project.equals(other.getProject()))) &&
+                ((this.xml==null && other.getXml()==null) || 
+                 (this.xml!=null &&
+                  this.xml.equals(other.getXml())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAuthor() != null) {
-            _hashCode += getAuthor().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getProject() != null) {
-            _hashCode += getProject().hashCode();
-        }
-        if (getXml() != null) {
-            _hashCode += getXml().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            if (getAuthor() != null) {
+                _hashCode += getAuthor().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getProject() != null) {
+                _hashCode += getProject().hashCode();
+            }
+            if (getXml() != null) {
+                _hashCode += getXml().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
@@ -497,190 +497,196 @@ public class RemoteIssue  extends com.atlassian.jira.rpc.soap.beans.AbstractRemo
         this.votes = votes;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteIssue)) return false;
         RemoteIssue other = (RemoteIssue) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.affectsVersions==null && other.getAffectsVersions()==null) || 
-             (this.affectsVersions!=null &&
-              java.util.Arrays.equals(this.affectsVersions, other.getAffectsVersions()))) &&
-            ((this.assignee==null && other.getAssignee()==null) || 
-             (this.assignee!=null &&
-              this.assignee.equals(other.getAssignee()))) &&
-            ((this.attachmentNames==null && other.getAttachmentNames()==null) || 
-             (this.attachmentNames!=null &&
-              java.util.Arrays.equals(this.attachmentNames, other.getAttachmentNames()))) &&
-            ((this.components==null && other.getComponents()==null) || 
-             (this.components!=null &&
-              java.util.Arrays.equals(this.components, other.getComponents()))) &&
-            ((this.created==null && other.getCreated()==null) || 
-             (this.created!=null &&
-              this.created.equals(other.getCreated()))) &&
-            ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
-             (this.customFieldValues!=null &&
-              java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.duedate==null && other.getDuedate()==null) || 
-             (this.duedate!=null &&
-              this.duedate.equals(other.getDuedate()))) &&
-            ((this.environment==null && other.getEnvironment()==null) || 
-             (this.environment!=null &&
-              this.environment.equals(other.getEnvironment()))) &&
-            ((this.fixVersions==null && other.getFixVersions()==null) || 
-             (this.fixVersions!=null &&
-              java.util.Arrays.equals(this.fixVersions, other.getFixVersions()))) &&
-            ((this.key==null && other.getKey()==null) || 
-             (this.key!=null &&
-              this.key.equals(other.getKey()))) &&
-            ((this.priority==null && other.getPriority()==null) || 
-             (this.priority!=null &&
-              this.priority.equals(other.getPriority()))) &&
-            ((this.project==null && other.getProject()==null) || 
-             (this.project!=null &&
-              this.project.equals(other.getProject()))) &&
-            ((this.reporter==null && other.getReporter()==null) || 
-             (this.reporter!=null &&
-              this.reporter.equals(other.getReporter()))) &&
-            ((this.resolution==null && other.getResolution()==null) || 
-             (this.resolution!=null &&
-              this.resolution.equals(other.getResolution()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.summary==null && other.getSummary()==null) || 
-             (this.summary!=null &&
-              this.summary.equals(other.getSummary()))) &&
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType()))) &&
-            ((this.updated==null && other.getUpdated()==null) || 
-             (this.updated!=null &&
-              this.updated.equals(other.getUpdated()))) &&
-            ((this.votes==null && other.getVotes()==null) || 
-             (this.votes!=null &&
-              this.votes.equals(other.getVotes())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                ((this.affectsVersions==null && other.getAffectsVersions()==null) || 
+                 (this.affectsVersions!=null &&
+                  java.util.Arrays.equals(this.affectsVersions, other.getAffectsVersions()))) &&
+                ((this.assignee==null && other.getAssignee()==null) || 
+                 (this.assignee!=null &&
+                  this.assignee.equals(other.getAssignee()))) &&
+                ((this.attachmentNames==null && other.getAttachmentNames()==null) || 
+                 (this.attachmentNames!=null &&
+                  java.util.Arrays.equals(this.attachmentNames, other.getAttachmentNames()))) &&
+                ((this.components==null && other.getComponents()==null) || 
+                 (this.components!=null &&
+                  java.util.Arrays.equals(this.components, other.getComponents()))) &&
+                ((this.created==null && other.getCreated()==null) || 
+                 (this.created!=null &&
+                  this.created.equals(other.getCreated()))) &&
+                ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
+                 (this.customFieldValues!=null &&
+                  java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.duedate==null && other.getDuedate()==null) || 
+                 (this.duedate!=null &&
+                  this.duedate.equals(other.getDuedate()))) &&
+                ((this.environment==null && other.getEnvironment()==null) || 
+                 (this.environment!=null &&
+                  this.environment.equals(other.getEnvironment()))) &&
+                ((this.fixVersions==null && other.getFixVersions()==null) || 
+                 (this.fixVersions!=null &&
+                  java.util.Arrays.equals(this.fixVersions, other.getFixVersions()))) &&
+                ((this.key==null && other.getKey()==null) || 
+                 (this.key!=null &&
+                  this.key.equals(other.getKey()))) &&
+                ((this.priority==null && other.getPriority()==null) || 
+                 (this.priority!=null &&
+                  this.priority.equals(other.getPriority()))) &&
+                ((this.project==null && other.getProject()==null) || 
+                 (this.project!=null &&
+                  this.project.equals(other.getProject()))) &&
+                ((this.reporter==null && other.getReporter()==null) || 
+                 (this.reporter!=null &&
+                  this.reporter.equals(other.getReporter()))) &&
+                ((this.resolution==null && other.getResolution()==null) || 
+                 (this.resolution!=null &&
+                  this.resolution.equals(other.getResolution()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.summary==null && other.getSummary()==null) || 
+                 (this.summary!=null &&
+                  this.summary.equals(other.getSummary()))) &&
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType()))) &&
+                ((this.updated==null && other.getUpdated()==null) || 
+                 (this.updated!=null &&
+                  this.updated.equals(other.getUpdated()))) &&
+                ((this.votes==null && other.getVotes()==null) || 
+                 (this.votes!=null &&
+                  this.votes.equals(other.getVotes())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAffectsVersions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAffectsVersions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAffectsVersions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            if (getAffectsVersions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAffectsVersions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAffectsVersions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAssignee() != null) {
-            _hashCode += getAssignee().hashCode();
-        }
-        if (getAttachmentNames() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAttachmentNames());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAttachmentNames(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAssignee() != null) {
+                _hashCode += getAssignee().hashCode();
+            }
+            if (getAttachmentNames() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAttachmentNames());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAttachmentNames(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getComponents() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getComponents());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getComponents(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getComponents() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getComponents());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getComponents(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCreated() != null) {
-            _hashCode += getCreated().hashCode();
-        }
-        if (getCustomFieldValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCreated() != null) {
+                _hashCode += getCreated().hashCode();
+            }
+            if (getCustomFieldValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getDuedate() != null) {
-            _hashCode += getDuedate().hashCode();
-        }
-        if (getEnvironment() != null) {
-            _hashCode += getEnvironment().hashCode();
-        }
-        if (getFixVersions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFixVersions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFixVersions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getDuedate() != null) {
+                _hashCode += getDuedate().hashCode();
+            }
+            if (getEnvironment() != null) {
+                _hashCode += getEnvironment().hashCode();
+            }
+            if (getFixVersions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFixVersions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFixVersions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getKey() != null) {
+                _hashCode += getKey().hashCode();
+            }
+            if (getPriority() != null) {
+                _hashCode += getPriority().hashCode();
+            }
+            if (getProject() != null) {
+                _hashCode += getProject().hashCode();
+            }
+            if (getReporter() != null) {
+                _hashCode += getReporter().hashCode();
+            }
+            if (getResolution() != null) {
+                _hashCode += getResolution().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getSummary() != null) {
+                _hashCode += getSummary().hashCode();
+            }
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            if (getUpdated() != null) {
+                _hashCode += getUpdated().hashCode();
+            }
+            if (getVotes() != null) {
+                _hashCode += getVotes().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        if (getKey() != null) {
-            _hashCode += getKey().hashCode();
-        }
-        if (getPriority() != null) {
-            _hashCode += getPriority().hashCode();
-        }
-        if (getProject() != null) {
-            _hashCode += getProject().hashCode();
-        }
-        if (getReporter() != null) {
-            _hashCode += getReporter().hashCode();
-        }
-        if (getResolution() != null) {
-            _hashCode += getResolution().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getSummary() != null) {
-            _hashCode += getSummary().hashCode();
-        }
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        if (getUpdated() != null) {
-            _hashCode += getUpdated().hashCode();
-        }
-        if (getVotes() != null) {
-            _hashCode += getVotes().hashCode();
-        }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
@@ -62,50 +62,56 @@ public class RemotePermissionMapping  implements java.io.Serializable {
         this.remoteEntities = remoteEntities;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemotePermissionMapping)) return false;
         RemotePermissionMapping other = (RemotePermissionMapping) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = true && 
-            ((this.permission==null && other.getPermission()==null) || 
-             (this.permission!=null &&
-              this.permission.equals(other.getPermission()))) &&
-            ((this.remoteEntities==null && other.getRemoteEntities()==null) || 
-             (this.remoteEntities!=null &&
-              java.util.Arrays.equals(this.remoteEntities, other.getRemoteEntities())));
-        __equalsCalc = null;
+        try {
+            _equals = true && 
+                ((this.permission==null && other.getPermission()==null) || 
+                 (this.permission!=null &&
+                  this.permission.equals(other.getPermission()))) &&
+                ((this.remoteEntities==null && other.getRemoteEntities()==null) || 
+                 (this.remoteEntities!=null &&
+                  java.util.Arrays.equals(this.remoteEntities, other.getRemoteEntities())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getPermission() != null) {
-            _hashCode += getPermission().hashCode();
-        }
-        if (getRemoteEntities() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRemoteEntities());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRemoteEntities(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        int _hashCode;
+        try {
+            _hashCode = 1;
+            if (getPermission() != null) {
+                _hashCode += getPermission().hashCode();
+            }
+            if (getRemoteEntities() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRemoteEntities());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRemoteEntities(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
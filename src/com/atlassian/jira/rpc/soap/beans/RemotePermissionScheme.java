@@ -47,44 +47,50 @@ public class RemotePermissionScheme  extends com.atlassian.jira.rpc.soap.beans.R
         this.permissionMappings = permissionMappings;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemotePermissionScheme)) return false;
         RemotePermissionScheme other = (RemotePermissionScheme) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.permissionMappings==null && other.getPermissionMappings()==null) || 
-             (this.permissionMappings!=null &&
-              java.util.Arrays.equals(this.permissionMappings, other.getPermissionMappings())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                ((this.permissionMappings==null && other.getPermissionMappings()==null) || 
+                 (this.permissionMappings!=null &&
+                  java.util.Arrays.equals(this.permissionMappings, other.getPermissionMappings())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getPermissionMappings() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPermissionMappings());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPermissionMappings(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            if (getPermissionMappings() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPermissionMappings());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPermissionMappings(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
@@ -211,78 +211,84 @@ public class RemoteProject  extends com.atlassian.jira.rpc.soap.beans.AbstractNa
         this.url = url;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteProject)) return false;
         RemoteProject other = (RemoteProject) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.issueSecurityScheme==null && other.getIssueSecurityScheme()==null) || 
-             (this.issueSecurityScheme!=null &&
-              this.issueSecurityScheme.equals(other.getIssueSecurityScheme()))) &&
-            ((this.key==null && other.getKey()==null) || 
-             (this.key!=null &&
-              this.key.equals(other.getKey()))) &&
-            ((this.lead==null && other.getLead()==null) || 
-             (this.lead!=null &&
-              this.lead.equals(other.getLead()))) &&
-            ((this.notificationScheme==null && other.getNotificationScheme()==null) || 
-             (this.notificationScheme!=null &&
-              this.notificationScheme.equals(other.getNotificationScheme()))) &&
-            ((this.permissionScheme==null && other.getPermissionScheme()==null) || 
-             (this.permissionScheme!=null &&
-              this.permissionScheme.equals(other.getPermissionScheme()))) &&
-            ((this.projectUrl==null && other.getProjectUrl()==null) || 
-             (this.projectUrl!=null &&
-              this.projectUrl.equals(other.getProjectUrl()))) &&
-            ((this.url==null && other.getUrl()==null) || 
-             (this.url!=null &&
-              this.url.equals(other.getUrl())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.issueSecurityScheme==null && other.getIssueSecurityScheme()==null) || 
+                 (this.issueSecurityScheme!=null &&
+                  this.issueSecurityScheme.equals(other.getIssueSecurityScheme()))) &&
+                ((this.key==null && other.getKey()==null) || 
+                 (this.key!=null &&
+                  this.key.equals(other.getKey()))) &&
+                ((this.lead==null && other.getLead()==null) || 
+                 (this.lead!=null &&
+                  this.lead.equals(other.getLead()))) &&
+                ((this.notificationScheme==null && other.getNotificationScheme()==null) || 
+                 (this.notificationScheme!=null &&
+                  this.notificationScheme.equals(other.getNotificationScheme()))) &&
+                ((this.permissionScheme==null && other.getPermissionScheme()==null) || 
+                 (this.permissionScheme!=null &&
+                  this.permissionScheme.equals(other.getPermissionScheme()))) &&
+                ((this.projectUrl==null && other.getProjectUrl()==null) || 
+                 (this.projectUrl!=null &&
+                  this.projectUrl.equals(other.getProjectUrl()))) &&
+                ((this.url==null && other.getUrl()==null) || 
+                 (this.url!=null &&
+                  this.url.equals(other.getUrl())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getIssueSecurityScheme() != null) {
-            _hashCode += getIssueSecurityScheme().hashCode();
-        }
-        if (getKey() != null) {
-            _hashCode += getKey().hashCode();
-        }
-        if (getLead() != null) {
-            _hashCode += getLead().hashCode();
-        }
-        if (getNotificationScheme() != null) {
-            _hashCode += getNotificationScheme().hashCode();
-        }
-        if (getPermissionScheme() != null) {
-            _hashCode += getPermissionScheme().hashCode();
-        }
-        if (getProjectUrl() != null) {
-            _hashCode += getProjectUrl().hashCode();
-        }
-        if (getUrl() != null) {
-            _hashCode += getUrl().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getIssueSecurityScheme() != null) {
+                _hashCode += getIssueSecurityScheme().hashCode();
+            }
+            if (getKey() != null) {
+                _hashCode += getKey().hashCode();
+            }
+            if (getLead() != null) {
+                _hashCode += getLead().hashCode();
+            }
+            if (getNotificationScheme() != null) {
+                _hashCode += getNotificationScheme().hashCode();
+            }
+            if (getPermissionScheme() != null) {
+                _hashCode += getPermissionScheme().hashCode();
+            }
+            if (getProjectUrl() != null) {
+                _hashCode += getProjectUrl().hashCode();
+            }
+            if (getUrl() != null) {
+                _hashCode += getUrl().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
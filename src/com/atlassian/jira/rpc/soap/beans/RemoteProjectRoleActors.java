@@ -45,36 +45,42 @@ public class RemoteProjectRoleActors  extends com.atlassian.jira.rpc.soap.beans.
         this.project = project;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteProjectRoleActors)) return false;
         RemoteProjectRoleActors other = (RemoteProjectRoleActors) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.project==null && other.getProject()==null) || 
-             (this.project!=null &&
-              this.project.equals(other.getProject())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                ((this.project==null && other.getProject()==null) || 
+                 (this.project!=null &&
+                  this.project.equals(other.getProject())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getProject() != null) {
-            _hashCode += getProject().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            if (getProject() != null) {
+                _hashCode += getProject().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
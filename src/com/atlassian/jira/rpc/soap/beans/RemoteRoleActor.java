@@ -134,68 +134,74 @@ public class RemoteRoleActor  implements java.io.Serializable {
         this.users = users;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteRoleActor)) return false;
         RemoteRoleActor other = (RemoteRoleActor) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = true && 
-            ((this.descriptor==null && other.getDescriptor()==null) || 
-             (this.descriptor!=null &&
-              this.descriptor.equals(other.getDescriptor()))) &&
-            ((this.parameter==null && other.getParameter()==null) || 
-             (this.parameter!=null &&
-              this.parameter.equals(other.getParameter()))) &&
-            ((this.projectRole==null && other.getProjectRole()==null) || 
-             (this.projectRole!=null &&
-              this.projectRole.equals(other.getProjectRole()))) &&
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType()))) &&
-            ((this.users==null && other.getUsers()==null) || 
-             (this.users!=null &&
-              java.util.Arrays.equals(this.users, other.getUsers())));
-        __equalsCalc = null;
+        try {
+            _equals = true && 
+                ((this.descriptor==null && other.getDescriptor()==null) || 
+                 (this.descriptor!=null &&
+                  this.descriptor.equals(other.getDescriptor()))) &&
+                ((this.parameter==null && other.getParameter()==null) || 
+                 (this.parameter!=null &&
+                  this.parameter.equals(other.getParameter()))) &&
+                ((this.projectRole==null && other.getProjectRole()==null) || 
+                 (this.projectRole!=null &&
+                  this.projectRole.equals(other.getProjectRole()))) &&
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType()))) &&
+                ((this.users==null && other.getUsers()==null) || 
+                 (this.users!=null &&
+                  java.util.Arrays.equals(this.users, other.getUsers())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getDescriptor() != null) {
-            _hashCode += getDescriptor().hashCode();
-        }
-        if (getParameter() != null) {
-            _hashCode += getParameter().hashCode();
-        }
-        if (getProjectRole() != null) {
-            _hashCode += getProjectRole().hashCode();
-        }
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        if (getUsers() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getUsers());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getUsers(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        int _hashCode;
+        try {
+            _hashCode = 1;
+            if (getDescriptor() != null) {
+                _hashCode += getDescriptor().hashCode();
+            }
+            if (getParameter() != null) {
+                _hashCode += getParameter().hashCode();
+            }
+            if (getProjectRole() != null) {
+                _hashCode += getProjectRole().hashCode();
+            }
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            if (getUsers() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getUsers());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getUsers(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
@@ -86,64 +86,70 @@ public class RemoteRoleActors  implements java.io.Serializable {
         this.users = users;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteRoleActors)) return false;
         RemoteRoleActors other = (RemoteRoleActors) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = true && 
-            ((this.projectRole==null && other.getProjectRole()==null) || 
-             (this.projectRole!=null &&
-              this.projectRole.equals(other.getProjectRole()))) &&
-            ((this.roleActors==null && other.getRoleActors()==null) || 
-             (this.roleActors!=null &&
-              java.util.Arrays.equals(this.roleActors, other.getRoleActors()))) &&
-            ((this.users==null && other.getUsers()==null) || 
-             (this.users!=null &&
-              java.util.Arrays.equals(this.users, other.getUsers())));
-        __equalsCalc = null;
+        try {
+            _equals = true && 
+                ((this.projectRole==null && other.getProjectRole()==null) || 
+                 (this.projectRole!=null &&
+                  this.projectRole.equals(other.getProjectRole()))) &&
+                ((this.roleActors==null && other.getRoleActors()==null) || 
+                 (this.roleActors!=null &&
+                  java.util.Arrays.equals(this.roleActors, other.getRoleActors()))) &&
+                ((this.users==null && other.getUsers()==null) || 
+                 (this.users!=null &&
+                  java.util.Arrays.equals(this.users, other.getUsers())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getProjectRole() != null) {
-            _hashCode += getProjectRole().hashCode();
-        }
-        if (getRoleActors() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRoleActors());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRoleActors(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        int _hashCode;
+        try {
+            _hashCode = 1;
+            if (getProjectRole() != null) {
+                _hashCode += getProjectRole().hashCode();
+            }
+            if (getRoleActors() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRoleActors());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRoleActors(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getUsers() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getUsers());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getUsers(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getUsers() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getUsers());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getUsers(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
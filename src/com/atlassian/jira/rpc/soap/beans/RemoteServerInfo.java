@@ -134,60 +134,66 @@ public class RemoteServerInfo  implements java.io.Serializable {
         this.version = version;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteServerInfo)) return false;
         RemoteServerInfo other = (RemoteServerInfo) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = true && 
-            ((this.baseUrl==null && other.getBaseUrl()==null) || 
-             (this.baseUrl!=null &&
-              this.baseUrl.equals(other.getBaseUrl()))) &&
-            ((this.buildDate==null && other.getBuildDate()==null) || 
-             (this.buildDate!=null &&
-              this.buildDate.equals(other.getBuildDate()))) &&
-            ((this.buildNumber==null && other.getBuildNumber()==null) || 
-             (this.buildNumber!=null &&
-              this.buildNumber.equals(other.getBuildNumber()))) &&
-            ((this.edition==null && other.getEdition()==null) || 
-             (this.edition!=null &&
-              this.edition.equals(other.getEdition()))) &&
-            ((this.version==null && other.getVersion()==null) || 
-             (this.version!=null &&
-              this.version.equals(other.getVersion())));
-        __equalsCalc = null;
+        try {
+            _equals = true && 
+                ((this.baseUrl==null && other.getBaseUrl()==null) || 
+                 (this.baseUrl!=null &&
+                  this.baseUrl.equals(other.getBaseUrl()))) &&
+                ((this.buildDate==null && other.getBuildDate()==null) || 
+                 (this.buildDate!=null &&
+                  this.buildDate.equals(other.getBuildDate()))) &&
+                ((this.buildNumber==null && other.getBuildNumber()==null) || 
+                 (this.buildNumber!=null &&
+                  this.buildNumber.equals(other.getBuildNumber()))) &&
+                ((this.edition==null && other.getEdition()==null) || 
+                 (this.edition!=null &&
+                  this.edition.equals(other.getEdition()))) &&
+                ((this.version==null && other.getVersion()==null) || 
+                 (this.version!=null &&
+                  this.version.equals(other.getVersion())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getBaseUrl() != null) {
-            _hashCode += getBaseUrl().hashCode();
-        }
-        if (getBuildDate() != null) {
-            _hashCode += getBuildDate().hashCode();
-        }
-        if (getBuildNumber() != null) {
-            _hashCode += getBuildNumber().hashCode();
-        }
-        if (getEdition() != null) {
-            _hashCode += getEdition().hashCode();
-        }
-        if (getVersion() != null) {
-            _hashCode += getVersion().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = 1;
+            if (getBaseUrl() != null) {
+                _hashCode += getBaseUrl().hashCode();
+            }
+            if (getBuildDate() != null) {
+                _hashCode += getBuildDate().hashCode();
+            }
+            if (getBuildNumber() != null) {
+                _hashCode += getBuildNumber().hashCode();
+            }
+            if (getEdition() != null) {
+                _hashCode += getEdition().hashCode();
+            }
+            if (getVersion() != null) {
+                _hashCode += getVersion().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
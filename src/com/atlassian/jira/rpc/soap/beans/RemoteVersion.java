@@ -115,46 +115,52 @@ public class RemoteVersion  extends com.atlassian.jira.rpc.soap.beans.AbstractNa
         this.sequence = sequence;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __equalsGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RemoteVersion)) return false;
         RemoteVersion other = (RemoteVersion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc = __equalsGuard.enter(this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
         boolean _equals;
-        _equals = super.equals(obj) && 
-            this.archived == other.isArchived() &&
-            ((this.releaseDate==null && other.getReleaseDate()==null) || 
-             (this.releaseDate!=null &&
-              this.releaseDate.equals(other.getReleaseDate()))) &&
-            this.released == other.isReleased() &&
-            ((this.sequence==null && other.getSequence()==null) || 
-             (this.sequence!=null &&
-              this.sequence.equals(other.getSequence())));
-        __equalsCalc = null;
+        try {
+            _equals = super.equals(obj) && 
+                this.archived == other.isArchived() &&
+                ((this.releaseDate==null && other.getReleaseDate()==null) || 
+                 (this.releaseDate!=null &&
+                  this.releaseDate.equals(other.getReleaseDate()))) &&
+                this.released == other.isReleased() &&
+                ((this.sequence==null && other.getSequence()==null) || 
+                 (this.sequence!=null &&
+                  this.sequence.equals(other.getSequence())));
+        } finally {
+            __equalsGuard.exit();
+        }
         return _equals;
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    private static final com.atlassian.jira.rpc.soap.beans.BeanCycleGuard __hashCodeGuard = new com.atlassian.jira.rpc.soap.beans.BeanCycleGuard();
+    public int hashCode() {
+        if (__hashCodeGuard.enter(this, this) != null) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        _hashCode += (isArchived() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        if (getReleaseDate() != null) {
-            _hashCode += getReleaseDate().hashCode();
-        }
-        _hashCode += (isReleased() ? Boolean.TRUE : Boolean.FALSE).hashCode();
-        if (getSequence() != null) {
-            _hashCode += getSequence().hashCode();
+        int _hashCode;
+        try {
+            _hashCode = super.hashCode();
+            _hashCode += (isArchived() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            if (getReleaseDate() != null) {
+                _hashCode += getReleaseDate().hashCode();
+            }
+            _hashCode += (isReleased() ? Boolean.TRUE : Boolean.FALSE).hashCode();
+            if (getSequence() != null) {
+                _hashCode += getSequence().hashCode();
+            }
+        } finally {
+            __hashCodeGuard.exit();
         }
-        __hashCodeCalc = false;
         return _hashCode;
     }
 
@@ -1,6 +1,11 @@
 package org.sla256.antjira;
 
+import java.io.IOException;
+
 import org.apache.tools.ant.Task;
+import org.sla256.antjira.cache.MetadataCache;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
 
 /**
  * Abstract parent class for all main ant-jira tasks and sub-tasks. A few reusable methods and common properties.
@@ -19,6 +24,19 @@ public abstract class AntJiraAbstractTask extends Task {
 	 */
 	protected String jiraLoginResponse;
 	
+	/**
+	 * Jira SOAP web service handle shared by the main task with all of its nested tasks. The stub is created
+	 * (and its type mappings registered by the login call) only once per antjira block.
+	 * Like the login token, this is set internally by the parent main task AntJira.
+	 */
+	protected JiraSoapService jiraSoapService;
+	
+	/**
+	 * Metadata (priorities, statuses, issue types, etc) cache shared by the main task with its nested tasks.
+	 * Internally set by the parent main task AntJira.
+	 */
+	protected MetadataCache metadataCache;
+	
 	protected Boolean isVerbose = false;
 	
 	/**
@@ -39,6 +57,55 @@ public abstract class AntJiraAbstractTask extends Task {
 		this.jiraLoginResponse = jiraLoginResponse;
 	}
 	
+	/**
+	 * Note this setter can only be called from this package. I.e. it is intentionally not available as an ant
+	 * task attribute. 
+	 * @param jiraSoapService
+	 */
+	void setJiraSoapService(JiraSoapService jiraSoapService) {
+		this.jiraSoapService = jiraSoapService;
+	}
+	
+	/**
+	 * Returns the Jira SOAP web service handle handed over by the parent task. Only creates a new one from the
+	 * endpoint URL if the task runs outside of an antjira block. 
+	 * @return Jira SOAP web service handle
+	 * @throws javax.xml.rpc.ServiceException
+	 */
+	protected JiraSoapService getJiraSoapService() throws javax.xml.rpc.ServiceException {
+		if( jiraSoapService == null ) {
+			trace("No shared Jira SOAP WS handle, creating a new one");
+			
+	        JiraSoapServiceServiceLocator jssLocator = new JiraSoapServiceServiceLocator();
+	        
+	        jssLocator.setJirasoapserviceV2EndpointAddress(webServiceEndpointUrl);
+	        jiraSoapService = jssLocator.getJirasoapserviceV2();
+		}
+		return jiraSoapService;
+	}
+	
+	/**
+	 * Note this setter can only be called from this package. I.e. it is intentionally not available as an ant
+	 * task attribute. 
+	 * @param metadataCache
+	 */
+	void setMetadataCache(MetadataCache metadataCache) {
+		this.metadataCache = metadataCache;
+	}
+	
+	/**
+	 * Returns the metadata cache handed over by the parent task, or an in-memory only one if the task runs
+	 * outside of an antjira block.
+	 * @return metadata cache
+	 * @throws IOException
+	 */
+	protected MetadataCache getMetadataCache() throws IOException {
+		if( metadataCache == null ) {
+			metadataCache = new MetadataCache(null, MetadataCache.DEFAULT_TTL, webServiceEndpointUrl, null);
+		}
+		return metadataCache;
+	}
+	
 	/**
 	 * Internal reusable method for tracing, only prints given message in case of enabled verbose method.
 	 * @param msg
@@ -0,0 +1,144 @@
+package org.sla256.antjira;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.axis.AxisFault;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.DirectoryScanner;
+import org.apache.tools.ant.types.FileSet;
+import org.sla256.antjira.jirasoapservice.AttachmentUpload;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+
+/**
+ * Specialized AntJira task which attaches the files of nested filesets to a Jira issue, one SOAP call per
+ * file, each attachment named after its file. File contents are read and base64 encoded while the request
+ * is being sent, so memory use does not grow with the size of the files (with the pooled transport of the
+ * antjira task; otherwise each file is read into memory before its call).
+ * Required Ant properties:
+ * issueKey: key of the issue receiving the attachments
+ * at least one nested fileset
+ *
+ * Example of usage:
+ * <pre>
+ * {@code
+ * <attach issueKey="TST-42" countProperty="jira.attached.count">
+ *     <fileset dir="build/logs" includes="*.log" />
+ * </attach>
+ * }
+ * </pre>
+ */
+public class AntJiraAttachTask extends AntJiraAbstractTask {
+
+	/**
+	 * Key of the issue receiving the attachments.
+	 */
+	private String issueKey;
+
+	/**
+	 * Name of Ant property receiving the number of attached files.
+	 */
+	private String countProperty;
+
+	/**
+	 * Files to attach.
+	 */
+	private List<FileSet> filesets = new ArrayList<FileSet>();
+
+	/**
+	 * Note this setter can only be called from this package, i.e. we don't want it to be set from the
+	 * build file. This ensures the endpoint is defined only once at the parent task level.
+	 * @param webServiceEndpointUrl
+	 */
+	void setWebServiceEndpointUrl(String webServiceEndpointUrl) {
+		trace("Setting ws end point URL to " + webServiceEndpointUrl);
+		this.webServiceEndpointUrl = webServiceEndpointUrl;
+	}
+
+	/**
+	 * Key of the issue receiving the attachments, e.g. TST-42.
+	 * @param issueKey
+	 */
+	public void setIssueKey(String issueKey) {
+		this.issueKey = issueKey;
+	}
+
+	/**
+	 * Name of Ant property receiving the number of attached files.
+	 * @param countProperty
+	 */
+	public void setCountProperty(String countProperty) {
+		this.countProperty = countProperty;
+	}
+
+	/**
+	 * Allows nested filesets, selecting the files to attach.
+	 * @param fileset
+	 */
+	public void addFileset(FileSet fileset) {
+		filesets.add(fileset);
+	}
+
+	/**
+	 * Uploads the files. Assumes authentication was performed and a correct / valid Jira login token is
+	 * available.
+	 */
+	public void execute() {
+		if( issueKey == null || filesets.isEmpty() ) {
+			throw new BuildException("issueKey attribute and a nested fileset are required");
+		}
+
+		trace("Running AntJiraAttachTask.execute()");
+
+		List<File> files = new ArrayList<File>();
+		for(FileSet fileset : filesets) {
+			DirectoryScanner scanner = fileset.getDirectoryScanner(getProject());
+			for(String name : scanner.getIncludedFiles()) {
+				files.add(new File(scanner.getBasedir(), name));
+			}
+		}
+
+		int count = 0;
+		try
+		{
+			JiraSoapService jss = getJiraSoapService();
+			for(File file : files) {
+				trace("Attaching " + file + " (" + file.length() + " bytes) to " + issueKey);
+
+				String[] names = { file.getName() };
+				File[] contents = { file };
+				boolean added;
+				if( jss instanceof JiraSoapStreamingService ) {
+					added = ((JiraSoapStreamingService) jss).addAttachmentsToIssue(jiraLoginResponse, issueKey, names, contents);
+				}
+				else {
+					added = jss.addAttachmentsToIssue(jiraLoginResponse, issueKey, names, new AttachmentUpload(contents).readFiles());
+				}
+				if( !added ) {
+					throw new BuildException("Jira did not attach " + file + " to " + issueKey);
+				}
+				count++;
+			}
+
+			trace("Attached " + count + " file(s)");
+			if( countProperty != null ) {
+				getProject().setProperty(countProperty, Integer.toString(count));
+			}
+		}
+		catch(BuildException e)
+		{
+			throw e;
+		}
+		catch(Exception e)
+		{
+			// failures reading the files reach us wrapped in an AxisFault
+			Throwable cause = e instanceof AxisFault && e.getCause() != null ? e.getCause() : e;
+			log(cause.getMessage());
+			throw new BuildException(cause.getMessage(), cause);
+		}
+
+		trace("Finished AntJiraAttachTask.execute()");
+	}
+}
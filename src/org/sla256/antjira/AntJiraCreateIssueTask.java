@@ -2,8 +2,8 @@ package org.sla256.antjira;
 
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Task;
+import org.sla256.antjira.cache.MetadataCache;
 import org.sla256.antjira.jirasoapservice.JiraSoapService;
-import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
 import com.atlassian.jira.rpc.soap.beans.*;
 
 /**
@@ -11,12 +11,15 @@ import com.atlassian.jira.rpc.soap.beans.*;
  * Required Ant properties:
  * project: Jira project ket/shortname
  * summary: summary/title of the issue
- * type: issue type (corresponding number, e.g. 1)
+ * type: issue type (corresponding number, e.g. 1, or name, e.g. Bug)
+ * Issue type, priority, status and resolution can be given either as IDs or as names. Names are resolved 
+ * through the metadata cache, so they don't cost extra round trips once the cache is populated.
  * 
  * Example of usage: 
  * <pre>
  * {@code
  * <createissue verbose="true" summary="ant-jira-test1" type="1" project="TST" />
+ * <createissue summary="ant-jira-test2" type="Bug" priority="Major" project="TST" />
  * }
  * </pre>
  */
@@ -33,7 +36,7 @@ public class AntJiraCreateIssueTask extends AntJiraAbstractTask {
 	private String project;
 
 	/**
-	 * Represents Jira issue type (Jira expects a number).
+	 * Represents Jira issue type (ID or name).
 	 */
 	private String type;
 	
@@ -78,7 +81,7 @@ public class AntJiraCreateIssueTask extends AntJiraAbstractTask {
 	}
 	
 	/**
-	 * Represents Jira issue type (Jira expects a number).
+	 * Represents Jira issue type, either its ID (e.g. 1) or its name (e.g. Bug).
 	 * @param type
 	 */
 	public void setType(String type) {
@@ -94,6 +97,10 @@ public class AntJiraCreateIssueTask extends AntJiraAbstractTask {
 		this.description = description;
 	}
 	
+	/**
+	 * Issue priority, either its ID or its name (e.g. Major).
+	 * @param priority
+	 */
 	public void setPriority(String priority) {
 		this.priority = priority;
 	}
@@ -119,26 +126,25 @@ public class AntJiraCreateIssueTask extends AntJiraAbstractTask {
         {
         	trace("Running AntJiraCreateIssueTask.execute()");
         	
-	        JiraSoapServiceServiceLocator jssLocator = new JiraSoapServiceServiceLocator();
-	        
-	        jssLocator.setJirasoapserviceV2EndpointAddress(webServiceEndpointUrl);
-	        JiraSoapService jss = jssLocator.getJirasoapserviceV2();
+	        JiraSoapService jss = getJiraSoapService();
 	        
 	        trace("Obtained Jira SOAP WS handle, calling createIssue");
 	        trace(project);
 	        trace(type);
 	        trace(summary);
 	        
+	        MetadataCache mc = getMetadataCache();
+	        
 	        RemoteIssue newIssue = new RemoteIssue();
 	        newIssue.setSummary(summary);
 	        newIssue.setProject(project);
-	        newIssue.setType(type);
+	        newIssue.setType(mc.resolveIssueType(jss, jiraLoginResponse, type));
 	        newIssue.setAssignee(assignee);
 	        newIssue.setDescription(description);
-	        newIssue.setPriority(priority);
+	        newIssue.setPriority(mc.resolvePriority(jss, jiraLoginResponse, priority));
 	        newIssue.setReporter(reporter);
-	        newIssue.setResolution(resolution);
-	        newIssue.setStatus(status);
+	        newIssue.setResolution(mc.resolveResolution(jss, jiraLoginResponse, resolution));
+	        newIssue.setStatus(mc.resolveStatus(jss, jiraLoginResponse, status));
 	        
 	        RemoteIssue createdIssue = jss.createIssue(jiraLoginResponse, newIssue);
 
@@ -0,0 +1,482 @@
+package org.sla256.antjira;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.tools.ant.BuildException;
+import org.sla256.antjira.cache.MetadataCache;
+import org.sla256.antjira.io.CsvRecordReader;
+import org.sla256.antjira.io.JsonRecordReader;
+import org.sla256.antjira.io.RecordReader;
+import org.sla256.antjira.jirasoapservice.AsyncJiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Specialized AntJira task which creates one Jira issue per record of a CSV or JSON file.
+ * Records are streamed from the file and submitted to Jira with bounded concurrency, so memory use does not
+ * depend on the size of the file. Keys of the created issues are written, in input order, to an output file
+ * (one per line) and/or to an Ant property (comma separated). When a record cannot be mapped or an issue
+ * cannot be created, no further record is submitted but the calls already sent are waited for, so that the
+ * keys of all the issues created before the failure are still written out.
+ *
+ * Record fields map to issue fields of the same name (case insensitive): summary, project, type, priority,
+ * assignee, reporter, description, environment, status, resolution, duedate (yyyy-MM-dd), components,
+ * affectsVersions and fixVersions (comma separated IDs). Other column names can be mapped with nested
+ * column elements. Task attributes of the same names provide defaults for records lacking a field or having
+ * an empty value for it; type, priority, status and resolution may be given as names.
+ * Required Ant properties:
+ * file: CSV (with header row) or JSON (array of objects, or one object per line) input file
+ *
+ * Example of usage:
+ * <pre>
+ * {@code
+ * <createissues file="failures.csv" project="TST" type="Bug" parallelism="8"
+ *         outputFile="created-keys.txt" keysProperty="jira.created.keys">
+ *     <column name="Test" field="summary" />
+ *     <column name="Log" field="description" />
+ * </createissues>
+ * }
+ * </pre>
+ */
+public class AntJiraCreateIssuesTask extends AntJiraAbstractTask {
+
+	/**
+	 * Input file with one record per issue.
+	 */
+	private File file;
+
+	/**
+	 * Input format: csv or json. Derived from the file extension if not set.
+	 */
+	private String format;
+
+	/**
+	 * Field separator of CSV input.
+	 */
+	private char separator = ',';
+
+	/**
+	 * Maximum number of createIssue calls in flight.
+	 */
+	private int parallelism = 4;
+
+	/**
+	 * File receiving the keys of the created issues, one per line.
+	 */
+	private File outputFile;
+
+	/**
+	 * Name of Ant property receiving the comma separated keys of the created issues.
+	 */
+	private String keysProperty;
+
+	/**
+	 * Column name to issue field mappings set by nested column elements, keyed by lower-case column name.
+	 */
+	private Map<String, String> columnMappings = new HashMap<String, String>();
+
+	/**
+	 * Default field values for records lacking them, keyed by lower-case field name.
+	 */
+	private Map<String, String> defaults = new HashMap<String, String>();
+
+	/**
+	 * Note this setter can only be called from this package, i.e. we don't want it to be set from the
+	 * build file. This ensures the endpoint is defined only once at the parent task level.
+	 * @param webServiceEndpointUrl
+	 */
+	void setWebServiceEndpointUrl(String webServiceEndpointUrl) {
+		trace("Setting ws end point URL to " + webServiceEndpointUrl);
+		this.webServiceEndpointUrl = webServiceEndpointUrl;
+	}
+
+	/**
+	 * Input file, CSV with a header row or JSON.
+	 * @param file
+	 */
+	public void setFile(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Input format, csv or json. Defaults to the file extension.
+	 * @param format
+	 */
+	public void setFormat(String format) {
+		this.format = format;
+	}
+
+	/**
+	 * Field separator of CSV input, defaults to comma.
+	 * @param separator
+	 */
+	public void setSeparator(String separator) {
+		if( separator == null || separator.length() != 1 ) {
+			throw new BuildException("separator must be a single character");
+		}
+		this.separator = separator.charAt(0);
+	}
+
+	/**
+	 * Maximum number of issues being created at the same time, defaults to 4.
+	 * @param parallelism
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * File receiving the keys of the created issues, one per line, in input order.
+	 * @param outputFile
+	 */
+	public void setOutputFile(File outputFile) {
+		this.outputFile = outputFile;
+	}
+
+	/**
+	 * Name of Ant property receiving the comma separated keys of the created issues.
+	 * @param keysProperty
+	 */
+	public void setKeysProperty(String keysProperty) {
+		this.keysProperty = keysProperty;
+	}
+
+	public void setSummary(String summary) {
+		defaults.put("summary", summary);
+	}
+
+	public void setProject(String project) {
+		defaults.put("project", project);
+	}
+
+	public void setType(String type) {
+		defaults.put("type", type);
+	}
+
+	public void setPriority(String priority) {
+		defaults.put("priority", priority);
+	}
+
+	public void setAssignee(String assignee) {
+		defaults.put("assignee", assignee);
+	}
+
+	public void setReporter(String reporter) {
+		defaults.put("reporter", reporter);
+	}
+
+	public void setDescription(String description) {
+		defaults.put("description", description);
+	}
+
+	public void setEnvironment(String environment) {
+		defaults.put("environment", environment);
+	}
+
+	public void setStatus(String status) {
+		defaults.put("status", status);
+	}
+
+	public void setResolution(String resolution) {
+		defaults.put("resolution", resolution);
+	}
+
+	/**
+	 * Default due date, yyyy-MM-dd.
+	 * @param duedate
+	 */
+	public void setDuedate(String duedate) {
+		defaults.put("duedate", duedate);
+	}
+
+	public void setComponents(String components) {
+		defaults.put("components", components);
+	}
+
+	public void setAffectsVersions(String affectsVersions) {
+		defaults.put("affectsversions", affectsVersions);
+	}
+
+	public void setFixVersions(String fixVersions) {
+		defaults.put("fixversions", fixVersions);
+	}
+
+	/**
+	 * Allows nested column elements mapping input columns to issue fields.
+	 * @return new column mapping
+	 */
+	public Column createColumn() {
+		return new Column();
+	}
+
+	/**
+	 * Reads the input file and creates its issues. Assumes authentication was performed and a correct / valid
+	 * Jira login token is available.
+	 */
+	public void execute() {
+		if( file == null ) {
+			throw new BuildException("file attribute is required");
+		}
+
+		trace("Running AntJiraCreateIssuesTask.execute()");
+
+		ExecutorService executor = null;
+		LinkedList<Future<RemoteIssue>> inFlight = new LinkedList<Future<RemoteIssue>>();
+		StringBuilder keys = new StringBuilder();
+		RecordReader reader = null;
+		Writer output = null;
+		int created = 0;
+		int submitted = 0;
+		try
+		{
+			JiraSoapService jss = getJiraSoapService();
+			MetadataCache mc = getMetadataCache();
+
+			reader = openReader();
+			if( outputFile != null ) {
+				output = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputFile), "UTF-8"));
+			}
+			executor = AntJiraExecutors.newBoundedExecutor(parallelism, "antjira-createissues");
+			AsyncJiraSoapService async = new AsyncJiraSoapService(jss, executor);
+
+			int window = Math.max(1, parallelism) * 2;
+			int record = 0;
+			Map<String, String> values;
+			while( (values = reader.next()) != null ) {
+				record++;
+				RemoteIssue issue = toIssue(values, jss, mc, record);
+				inFlight.add(async.createIssue(jiraLoginResponse, issue));
+				submitted = record;
+
+				if( inFlight.size() >= window ) {
+					created += complete(inFlight.removeFirst(), output, keys, submitted - inFlight.size());
+				}
+			}
+
+			while( !inFlight.isEmpty() ) {
+				created += complete(inFlight.removeFirst(), output, keys, submitted - inFlight.size());
+			}
+
+			trace("Created " + created + " issue(s) from " + file);
+		}
+		catch(Exception e)
+		{
+			log(e.getMessage());
+			// issues whose creation was already sent are most likely created anyway: record their keys
+			// so that a run after the failure does not create them again
+			created += drain(inFlight, output, keys, submitted);
+			log("Created " + created + " issue(s) from " + file + " before the failure");
+			throw new BuildException(e.getMessage(), e);
+		}
+		finally
+		{
+			if( executor != null ) {
+				AntJiraExecutors.shutdown(executor, inFlight);
+			}
+			close(reader);
+			close(output);
+			if( keysProperty != null ) {
+				getProject().setProperty(keysProperty, keys.toString());
+			}
+		}
+
+		trace("Finished AntJiraCreateIssuesTask.execute()");
+	}
+
+	/**
+	 * Waits for all the createIssue calls still in flight after a failure, recording the keys of those which
+	 * succeeded. Failures are only logged, the first one being reported by the caller.
+	 * @return number of created issues
+	 */
+	private int drain(LinkedList<Future<RemoteIssue>> inFlight, Writer output, StringBuilder keys, int submitted) {
+		int created = 0;
+		while( !inFlight.isEmpty() ) {
+			Future<RemoteIssue> future = inFlight.removeFirst();
+			try {
+				created += complete(future, output, keys, submitted - inFlight.size());
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				inFlight.addFirst(future);
+				break;
+			}
+			catch(Exception e) {
+				log(e.getMessage());
+			}
+		}
+		return created;
+	}
+
+	/**
+	 * Waits for the oldest createIssue call and records its key.
+	 * @return 1
+	 */
+	private int complete(Future<RemoteIssue> future, Writer output, StringBuilder keys, int record) throws Exception {
+		String key;
+		try {
+			key = future.get().getKey();
+		}
+		catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw new BuildException("Creating issue of record " + record + " failed: " + cause.getMessage(), cause);
+		}
+		trace("Record " + record + " created as " + key);
+		if( keys.length() > 0 ) {
+			keys.append(',');
+		}
+		keys.append(key);
+		if( output != null ) {
+			output.write(key);
+			output.write('\n');
+		}
+		return 1;
+	}
+
+	private RecordReader openReader() throws Exception {
+		String fmt = format;
+		if( fmt == null ) {
+			fmt = file.getName().toLowerCase().endsWith(".json") || file.getName().toLowerCase().endsWith(".ndjson") ? "json" : "csv";
+		}
+		BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+		if( "json".equalsIgnoreCase(fmt) ) {
+			return new JsonRecordReader(in);
+		}
+		if( "csv".equalsIgnoreCase(fmt) ) {
+			return new CsvRecordReader(in, separator);
+		}
+		in.close();
+		throw new BuildException("Unsupported format " + fmt + ", expected csv or json");
+	}
+
+	/**
+	 * Maps a record to a new issue, applying column mappings and defaults. Null and empty record values (e.g.
+	 * empty CSV cells) count as lacking fields and leave the defaults in place.
+	 */
+	private RemoteIssue toIssue(Map<String, String> values, JiraSoapService jss, MetadataCache mc, int record) throws Exception {
+		Map<String, String> fields = new HashMap<String, String>(defaults);
+		for(Map.Entry<String, String> e : values.entrySet()) {
+			if( e.getValue() == null || e.getValue().length() == 0 ) {
+				continue;
+			}
+			String column = e.getKey().toLowerCase();
+			String field = columnMappings.get(column);
+			fields.put(field != null ? field : column, e.getValue());
+		}
+
+		RemoteIssue issue = new RemoteIssue();
+		issue.setSummary(fields.get("summary"));
+		issue.setProject(fields.get("project"));
+		issue.setType(mc.resolveIssueType(jss, jiraLoginResponse, fields.get("type")));
+		issue.setPriority(mc.resolvePriority(jss, jiraLoginResponse, fields.get("priority")));
+		issue.setStatus(mc.resolveStatus(jss, jiraLoginResponse, fields.get("status")));
+		issue.setResolution(mc.resolveResolution(jss, jiraLoginResponse, fields.get("resolution")));
+		issue.setAssignee(fields.get("assignee"));
+		issue.setReporter(fields.get("reporter"));
+		issue.setDescription(fields.get("description"));
+		issue.setEnvironment(fields.get("environment"));
+
+		String duedate = fields.get("duedate");
+		if( duedate != null ) {
+			Calendar cal = Calendar.getInstance();
+			cal.setTime(new SimpleDateFormat("yyyy-MM-dd").parse(duedate));
+			issue.setDuedate(cal);
+		}
+
+		String[] components = split(fields.get("components"));
+		if( components != null ) {
+			RemoteComponent[] rc = new RemoteComponent[components.length];
+			for(int i = 0; i < components.length; i++) {
+				rc[i] = new RemoteComponent(components[i], null);
+			}
+			issue.setComponents(rc);
+		}
+		issue.setAffectsVersions(toVersions(split(fields.get("affectsversions"))));
+		issue.setFixVersions(toVersions(split(fields.get("fixversions"))));
+
+		if( issue.getSummary() == null || issue.getProject() == null || issue.getType() == null ) {
+			throw new BuildException("Record " + record + " lacks summary, project or type");
+		}
+		return issue;
+	}
+
+	private static RemoteVersion[] toVersions(String[] ids) {
+		if( ids == null ) {
+			return null;
+		}
+		RemoteVersion[] versions = new RemoteVersion[ids.length];
+		for(int i = 0; i < ids.length; i++) {
+			versions[i] = new RemoteVersion();
+			versions[i].setId(ids[i]);
+		}
+		return versions;
+	}
+
+	private static String[] split(String value) {
+		if( value == null ) {
+			return null;
+		}
+		List<String> parts = new ArrayList<String>();
+		for(String part : value.split(",")) {
+			if( part.trim().length() > 0 ) {
+				parts.add(part.trim());
+			}
+		}
+		return parts.toArray(new String[parts.size()]);
+	}
+
+	private static void close(java.io.Closeable c) {
+		if( c != null ) {
+			try {
+				c.close();
+			}
+			catch(Exception e) {
+				// nothing more to do
+			}
+		}
+	}
+
+	/**
+	 * Nested column element: maps an input column name to an issue field.
+	 */
+	public class Column {
+		private String name;
+
+		private String field;
+
+		public void setName(String name) {
+			this.name = name;
+			register();
+		}
+
+		public void setField(String field) {
+			this.field = field;
+			register();
+		}
+
+		private void register() {
+			if( name != null && field != null ) {
+				columnMappings.put(name.toLowerCase(), field.toLowerCase());
+			}
+		}
+	}
+}
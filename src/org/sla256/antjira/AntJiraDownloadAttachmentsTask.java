@@ -0,0 +1,419 @@
+package org.sla256.antjira;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.axis.AxisFault;
+import org.apache.tools.ant.BuildException;
+import org.sla256.antjira.jirasoapservice.AsyncJiraSoapService;
+import org.sla256.antjira.jirasoapservice.IssueProjection;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+import org.sla256.antjira.transport.HttpConnectionPool;
+import org.sla256.antjira.transport.HttpDownloader;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteAttachment;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Specialized AntJira task which downloads the attachments of one issue, or of every issue of a Jira filter,
+ * to a local directory. Attachment lists and files are fetched concurrently (see parallelism attribute), over
+ * the persistent connections of the antjira block, and written to disk with FileChannel transfers.
+ * The directory doubles as a cache: a file whose size and modification time already match the size and
+ * creation time of its attachment is not downloaded again, and downloaded files get the creation time of
+ * their attachment as modification time, so repeated runs only fetch new or changed attachments.
+ * Attachments of a single issue are stored directly in dir, those of a filter in one sub-directory per issue
+ * key. When an issue holds several attachments with the same file name, the most recent one wins.
+ * Required Ant properties:
+ * issueKey or filterID: issue (e.g. TST-42) or numeric Jira filter ID whose attachments are downloaded
+ * dir: target directory, created if needed
+ *
+ * Example of usage:
+ * <pre>
+ * {@code
+ * <downloadattachments filterID="10021" dir="build/artifacts" parallelism="8"
+ *         countProperty="jira.downloaded.count" skippedProperty="jira.uptodate.count" />
+ * }
+ * </pre>
+ */
+public class AntJiraDownloadAttachmentsTask extends AntJiraAbstractTask {
+
+	/**
+	 * Default number of concurrent downloads.
+	 */
+	public static final int DEFAULT_PARALLELISM = 4;
+
+	/**
+	 * Path of the SOAP service below the Jira base URL.
+	 */
+	private static final String SOAP_PATH = "/rpc/soap/";
+
+	/**
+	 * Key of the issue whose attachments are downloaded.
+	 */
+	private String issueKey;
+
+	/**
+	 * Jira filter ID of the issues whose attachments are downloaded.
+	 */
+	private String filterID;
+
+	/**
+	 * Target / cache directory.
+	 */
+	private File dir;
+
+	/**
+	 * Jira base URL, derived from the endpoint URL if not set.
+	 */
+	private String baseUrl;
+
+	/**
+	 * Maximum number of concurrent SOAP calls and downloads.
+	 */
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	/**
+	 * Name of Ant property receiving the number of downloaded files.
+	 */
+	private String countProperty;
+
+	/**
+	 * Name of Ant property receiving the number of files found up to date.
+	 */
+	private String skippedProperty;
+
+	/**
+	 * Connection pool shared with the SOAP calls of the parent task.
+	 */
+	private HttpConnectionPool connectionPool;
+
+	/**
+	 * Jira credentials of the parent task, sent with the downloads.
+	 */
+	private String username;
+
+	private String password;
+
+	/**
+	 * Note this setter can only be called from this package, i.e. we don't want it to be set from the
+	 * build file. This ensures the endpoint is defined only once at the parent task level.
+	 * @param webServiceEndpointUrl
+	 */
+	void setWebServiceEndpointUrl(String webServiceEndpointUrl) {
+		trace("Setting ws end point URL to " + webServiceEndpointUrl);
+		this.webServiceEndpointUrl = webServiceEndpointUrl;
+	}
+
+	/**
+	 * Note this setter can only be called from this package. I.e. it is intentionally not available as an ant
+	 * task attribute.
+	 * @param connectionPool
+	 */
+	void setConnectionPool(HttpConnectionPool connectionPool) {
+		this.connectionPool = connectionPool;
+	}
+
+	/**
+	 * Note this setter can only be called from this package, credentials are defined at the parent task level.
+	 * @param username
+	 * @param password
+	 */
+	void setCredentials(String username, String password) {
+		this.username = username;
+		this.password = password;
+	}
+
+	/**
+	 * Key of the issue whose attachments are downloaded, e.g. TST-42.
+	 * @param issueKey
+	 */
+	public void setIssueKey(String issueKey) {
+		this.issueKey = issueKey;
+	}
+
+	/**
+	 * Numeric Jira filter ID; the attachments of all issues of the filter are downloaded.
+	 * @param filterID
+	 */
+	public void setFilterID(String filterID) {
+		this.filterID = filterID;
+	}
+
+	/**
+	 * Target directory, also used as cache of previously downloaded attachments.
+	 * @param dir
+	 */
+	public void setDir(File dir) {
+		this.dir = dir;
+	}
+
+	/**
+	 * Jira base URL the attachments are downloaded from, e.g. https://jira.example.com/jira. Defaults to the
+	 * web service endpoint URL without its /rpc/soap/ path.
+	 * @param baseUrl
+	 */
+	public void setBaseUrl(String baseUrl) {
+		this.baseUrl = baseUrl;
+	}
+
+	/**
+	 * Maximum number of attachment lists / files fetched at the same time; defaults to 4.
+	 * @param parallelism
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Name of Ant property receiving the number of downloaded files.
+	 * @param countProperty
+	 */
+	public void setCountProperty(String countProperty) {
+		this.countProperty = countProperty;
+	}
+
+	/**
+	 * Name of Ant property receiving the number of files which were already up to date.
+	 * @param skippedProperty
+	 */
+	public void setSkippedProperty(String skippedProperty) {
+		this.skippedProperty = skippedProperty;
+	}
+
+	/**
+	 * Downloads the attachments. Assumes authentication was performed and a correct / valid Jira login token
+	 * is available.
+	 */
+	public void execute() {
+		if( (issueKey == null) == (filterID == null) ) {
+			throw new BuildException("Exactly one of issueKey and filterID attributes is required");
+		}
+		if( dir == null ) {
+			throw new BuildException("dir attribute is required");
+		}
+		if( parallelism < 1 ) {
+			throw new BuildException("parallelism must be at least 1");
+		}
+
+		trace("Running AntJiraDownloadAttachmentsTask.execute()");
+
+		if( !dir.isDirectory() && !dir.mkdirs() ) {
+			throw new BuildException("Cannot create directory " + dir);
+		}
+
+		HttpConnectionPool pool = connectionPool != null ? connectionPool : new HttpConnectionPool();
+		ExecutorService executor = null;
+		List<Future<?>> futures = new ArrayList<Future<?>>();
+		try
+		{
+			JiraSoapService jss = getJiraSoapService();
+			String base = getBaseUrl();
+
+			List<String> issueKeys = issueKey != null ? Collections.singletonList(issueKey) : getIssueKeys(jss);
+			trace("Fetching attachments of " + issueKeys.size() + " issue(s) with parallelism " + parallelism
+					+ (AntJiraExecutors.isVirtual() ? " (virtual threads)" : ""));
+
+			executor = AntJiraExecutors.newBoundedExecutor(parallelism, "antjira-download");
+			AsyncJiraSoapService async = new AsyncJiraSoapService(jss, executor);
+
+			List<Future<RemoteAttachment[]>> listings = new ArrayList<Future<RemoteAttachment[]>>();
+			for(String key : issueKeys) {
+				Future<RemoteAttachment[]> listing = async.getAttachmentsFromIssue(jiraLoginResponse, key);
+				listings.add(listing);
+				futures.add(listing);
+			}
+
+			final HttpDownloader downloader = new HttpDownloader(pool, username, password);
+			List<Future<Long>> downloads = new ArrayList<Future<Long>>();
+			int skipped = 0;
+			for(int i = 0; i < issueKeys.size(); i++) {
+				String key = issueKeys.get(i);
+				File issueDir = issueKey != null ? dir : new File(dir, key);
+				RemoteAttachment[] attachments = get(listings.get(i));
+
+				for(final RemoteAttachment attachment : latestByName(attachments)) {
+					final File target = new File(issueDir, fileName(attachment.getFilename()));
+					if( isUpToDate(target, attachment) ) {
+						trace(target + " is up to date");
+						skipped++;
+						continue;
+					}
+					if( !issueDir.isDirectory() && !issueDir.mkdirs() ) {
+						throw new BuildException("Cannot create directory " + issueDir);
+					}
+
+					final URL url = new URL(base + "/secure/attachment/" + attachment.getId() + "/"
+							+ URLEncoder.encode(attachment.getFilename(), "UTF-8").replace("+", "%20"));
+					trace("Downloading " + url + " to " + target);
+					Future<Long> download = executor.submit(new Callable<Long>() {
+						public Long call() throws Exception {
+							return Long.valueOf(download(downloader, url, target, attachment));
+						}
+					});
+					downloads.add(download);
+					futures.add(download);
+				}
+			}
+
+			long bytes = 0;
+			for(Future<Long> download : downloads) {
+				bytes += get(download).longValue();
+			}
+
+			trace("Downloaded " + downloads.size() + " file(s), " + bytes + " bytes; " + skipped + " file(s) up to date");
+			if( countProperty != null ) {
+				getProject().setProperty(countProperty, Integer.toString(downloads.size()));
+			}
+			if( skippedProperty != null ) {
+				getProject().setProperty(skippedProperty, Integer.toString(skipped));
+			}
+		}
+		catch(BuildException e)
+		{
+			throw e;
+		}
+		catch(Exception e)
+		{
+			Throwable cause = e instanceof AxisFault && e.getCause() != null ? e.getCause() : e;
+			log(cause.getMessage());
+			throw new BuildException(cause.getMessage(), cause);
+		}
+		finally
+		{
+			if( executor != null ) {
+				AntJiraExecutors.shutdown(executor, futures);
+			}
+			if( pool != connectionPool ) {
+				pool.close();
+			}
+		}
+
+		trace("Finished AntJiraDownloadAttachmentsTask.execute()");
+	}
+
+	/**
+	 * @return keys of the issues of the filter, in filter order
+	 */
+	private List<String> getIssueKeys(JiraSoapService jss) throws Exception {
+		final List<String> keys = new ArrayList<String>();
+		RemoteIssueHandler handler = new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) throws Exception {
+				keys.add(issue.getKey());
+			}
+		};
+		if( jss instanceof JiraSoapStreamingService ) {
+			((JiraSoapStreamingService) jss).getIssuesFromFilter(jiraLoginResponse, filterID, IssueProjection.parse("key"), handler);
+		}
+		else {
+			for(RemoteIssue issue : jss.getIssuesFromFilter(jiraLoginResponse, filterID)) {
+				handler.handleIssue(issue);
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * @return Jira base URL, without trailing slash
+	 */
+	private String getBaseUrl() {
+		String base = baseUrl;
+		if( base == null ) {
+			int i = webServiceEndpointUrl == null ? -1 : webServiceEndpointUrl.indexOf(SOAP_PATH);
+			if( i == -1 ) {
+				throw new BuildException("Cannot derive the Jira base URL from " + webServiceEndpointUrl + ", please set baseUrl");
+			}
+			base = webServiceEndpointUrl.substring(0, i);
+		}
+		while( base.endsWith("/") ) {
+			base = base.substring(0, base.length() - 1);
+		}
+		return base;
+	}
+
+	/**
+	 * Downloads one attachment and stamps the file with the attachment creation time.
+	 * @return number of bytes downloaded
+	 */
+	private static long download(HttpDownloader downloader, URL url, File target, RemoteAttachment attachment) throws Exception {
+		long bytes = downloader.download(url, target);
+		if( attachment.getFilesize() != null && bytes != attachment.getFilesize().longValue() ) {
+			throw new BuildException("Downloaded " + bytes + " bytes for " + target + ", Jira reports " + attachment.getFilesize());
+		}
+		if( attachment.getCreated() != null ) {
+			target.setLastModified(attachment.getCreated().getTimeInMillis());
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return true if the file matches size and creation time (to the second, as not all file systems keep
+	 * milliseconds) of the attachment
+	 */
+	private static boolean isUpToDate(File target, RemoteAttachment attachment) {
+		Long size = attachment.getFilesize();
+		Calendar created = attachment.getCreated();
+		return size != null && created != null && target.isFile() && target.length() == size.longValue()
+				&& target.lastModified() / 1000 == created.getTimeInMillis() / 1000;
+	}
+
+	/**
+	 * @return attachments with distinct file names, keeping the most recent one of each name
+	 */
+	private static List<RemoteAttachment> latestByName(RemoteAttachment[] attachments) {
+		Map<String, RemoteAttachment> latest = new LinkedHashMap<String, RemoteAttachment>();
+		if( attachments != null ) {
+			for(RemoteAttachment attachment : attachments) {
+				String name = fileName(attachment.getFilename());
+				RemoteAttachment previous = latest.get(name);
+				if( previous == null || isNewer(attachment, previous) ) {
+					latest.put(name, attachment);
+				}
+			}
+		}
+		return new ArrayList<RemoteAttachment>(latest.values());
+	}
+
+	private static boolean isNewer(RemoteAttachment a, RemoteAttachment b) {
+		if( a.getCreated() == null || b.getCreated() == null ) {
+			return a.getCreated() != null;
+		}
+		return a.getCreated().after(b.getCreated());
+	}
+
+	/**
+	 * @return last path segment of an attachment file name, so that names can not escape the target directory
+	 */
+	private static String fileName(String filename) {
+		String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+		if( name.length() == 0 || ".".equals(name) || "..".equals(name) ) {
+			throw new BuildException("Invalid attachment file name " + filename);
+		}
+		return name;
+	}
+
+	/**
+	 * Waits for a concurrent call, unwrapping its failure.
+	 */
+	private static <T> T get(Future<T> future) throws Exception {
+		try {
+			return future.get();
+		}
+		catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof Exception ? (Exception) cause : new BuildException(cause);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package org.sla256.antjira;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Helper creating the executors used to run ant-jira work concurrently, shared by the tasks and
+ * {@link org.sla256.antjira.jirasoapservice.AsyncJiraSoapService}.
+ * Uses virtual threads when the running JVM provides them (looked up reflectively, so the code still
+ * compiles and runs on older JVMs), otherwise daemon platform threads.
+ */
+public final class AntJiraExecutors {
+
+	private static final ThreadFactory VIRTUAL_THREAD_FACTORY = lookupVirtualThreadFactory();
+
+	private AntJiraExecutors() {
+	}
+
+	/**
+	 * Creates an executor running at most the given number of tasks at the same time.
+	 * @param parallelism maximum number of concurrently running tasks
+	 * @param name thread name prefix, used for platform threads only
+	 * @return new executor, to be shut down by the caller (see {@link #shutdown(ExecutorService, List)})
+	 */
+	public static ExecutorService newBoundedExecutor(int parallelism, String name) {
+		return Executors.newFixedThreadPool(Math.max(1, parallelism), newThreadFactory(name));
+	}
+
+	/**
+	 * Creates an executor starting a thread for every task when none is idle.
+	 * @param name thread name prefix, used for platform threads only
+	 * @return new executor, to be shut down by the caller
+	 */
+	public static ExecutorService newUnboundedExecutor(String name) {
+		return Executors.newCachedThreadPool(newThreadFactory(name));
+	}
+
+	/**
+	 * @param name thread name prefix, used for platform threads only
+	 * @return factory of virtual threads if available, of daemon platform threads otherwise
+	 */
+	public static ThreadFactory newThreadFactory(String name) {
+		return VIRTUAL_THREAD_FACTORY != null ? VIRTUAL_THREAD_FACTORY : newDaemonThreadFactory(name);
+	}
+
+	/**
+	 * @param name thread name prefix
+	 * @return factory of daemon platform threads named after the prefix and a sequence number
+	 */
+	public static ThreadFactory newDaemonThreadFactory(final String name) {
+		return new ThreadFactory() {
+			private final AtomicInteger count = new AtomicInteger();
+
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			}
+		};
+	}
+
+	/**
+	 * @return true if tasks run on virtual threads
+	 */
+	public static boolean isVirtual() {
+		return VIRTUAL_THREAD_FACTORY != null;
+	}
+
+	/**
+	 * Cancels any still pending futures, shuts the executor down and waits for running tasks to finish, so
+	 * that no thread outlives the calling task.
+	 * @param executor
+	 * @param futures futures to cancel, may be null
+	 */
+	public static void shutdown(ExecutorService executor, List<? extends Future<?>> futures) {
+		if( futures != null ) {
+			for(Future<?> f : futures) {
+				f.cancel(true);
+			}
+		}
+		executor.shutdownNow();
+		try {
+			while( !executor.awaitTermination(1, TimeUnit.SECONDS) ) {
+				executor.shutdownNow();
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static ThreadFactory lookupVirtualThreadFactory() {
+		try {
+			Method ofVirtual = Thread.class.getMethod("ofVirtual");
+			Object builder = ofVirtual.invoke(null);
+			Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+			return (ThreadFactory) factory.invoke(builder);
+		}
+		catch(Exception e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,376 @@
+package org.sla256.antjira;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.axis.AxisFault;
+import org.apache.tools.ant.BuildException;
+import org.sla256.antjira.encoding.Iso8601;
+import org.sla256.antjira.io.CsvRecordWriter;
+import org.sla256.antjira.io.IssueSnapshotWriter;
+import org.sla256.antjira.io.JsonRecordWriter;
+import org.sla256.antjira.io.RecordWriter;
+import org.sla256.antjira.jirasoapservice.IssueProjection;
+import org.sla256.antjira.jirasoapservice.IssueRecord;
+import org.sla256.antjira.jirasoapservice.IssueRecordHandler;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+
+import com.atlassian.jira.rpc.soap.beans.AbstractNamedRemoteEntity;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Specialized AntJira task which exports the issues of a Jira filter (by ID) to a newline delimited JSON or
+ * CSV file. Issues are written one at a time while the SOAP response is being parsed, so the filter result is
+ * never held in memory as a whole.
+ *
+ * NDJSON records hold all non-empty issue fields: id, key, project, type, priority, status, resolution,
+ * summary, description, environment, assignee, reporter, created, updated, duedate (ISO-8601, UTC), votes,
+ * components, affectsVersions and fixVersions (names), attachmentNames and one array per custom field,
+ * named by custom field ID. CSV files hold the given columns, taken from the same names.
+ * With fields set, only the given issue fields are exported; the others are skipped while the response is
+ * parsed, so that large fields (description, custom field values, ...) cost neither decoding nor memory.
+ * CSV exports decode only the fields of their columns by default.
+ * The snapshot format is a compact binary file holding the complete issues (see IssueSnapshotWriter), meant
+ * to be archived per build and read back with IssueSnapshotReader; its metadata hold the endpoint, filter ID
+ * and time of the export.
+ * Required Ant properties:
+ * filterID: numeric Jira filter ID to export
+ * file: output file, format derived from its extension (.csv, .snapshot, otherwise NDJSON) unless format is
+ * set
+ *
+ * Example of usage:
+ * <pre>
+ * {@code
+ * <exportfilter filterID="10021" file="open-bugs.csv" columns="key,summary,status,customfield_10010"
+ *         countProperty="jira.open.bugs.count" />
+ * <exportfilter filterID="10021" file="open-bugs.ndjson" fields="key,status,updated" />
+ * }
+ * </pre>
+ */
+public class AntJiraExportFilterTask extends AntJiraAbstractTask {
+
+	/**
+	 * Columns of CSV exports if not set by the build file.
+	 */
+	static final String DEFAULT_COLUMNS = "key,summary,project,type,priority,status,resolution,assignee,reporter,"
+		+ "created,updated,duedate,components,affectsVersions,fixVersions";
+
+	/**
+	 * Jira filter ID of the exported issues.
+	 */
+	private String filterID;
+
+	/**
+	 * Output file.
+	 */
+	private File file;
+
+	/**
+	 * Output format: ndjson, csv or snapshot. Derived from the file extension if not set.
+	 */
+	private String format;
+
+	/**
+	 * Field separator of CSV output.
+	 */
+	private char separator = ',';
+
+	/**
+	 * Comma separated columns of CSV output.
+	 */
+	private String columns = DEFAULT_COLUMNS;
+
+	/**
+	 * Comma separated issue fields to export, null for all (or those of the CSV columns).
+	 */
+	private String fields;
+
+	/**
+	 * Name of Ant property receiving the number of exported issues.
+	 */
+	private String countProperty;
+
+	/**
+	 * Note this setter can only be called from this package, i.e. we don't want it to be set from the
+	 * build file. This ensures the endpoint is defined only once at the parent task level.
+	 * @param webServiceEndpointUrl
+	 */
+	void setWebServiceEndpointUrl(String webServiceEndpointUrl) {
+		trace("Setting ws end point URL to " + webServiceEndpointUrl);
+		this.webServiceEndpointUrl = webServiceEndpointUrl;
+	}
+
+	/**
+	 * Jira filter ID of the exported issues.
+	 * @param filterID
+	 */
+	public void setFilterID(String filterID) {
+		this.filterID = filterID;
+	}
+
+	/**
+	 * Output file.
+	 * @param file
+	 */
+	public void setFile(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Output format, ndjson, csv or snapshot. Defaults to csv for .csv files, snapshot for .snapshot files,
+	 * ndjson otherwise.
+	 * @param format
+	 */
+	public void setFormat(String format) {
+		this.format = format;
+	}
+
+	/**
+	 * Field separator of CSV output, defaults to comma.
+	 * @param separator
+	 */
+	public void setSeparator(String separator) {
+		if( separator == null || separator.length() != 1 ) {
+			throw new BuildException("separator must be a single character");
+		}
+		this.separator = separator.charAt(0);
+	}
+
+	/**
+	 * Comma separated columns of CSV output, see the class description for the available names.
+	 * @param columns
+	 */
+	public void setColumns(String columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Comma separated issue fields to export, named like the NDJSON record fields, customFieldValues
+	 * standing for all custom fields. Defaults to all fields, or to the fields of the columns for CSV output.
+	 * @param fields
+	 */
+	public void setFields(String fields) {
+		this.fields = fields;
+	}
+
+	/**
+	 * Name of Ant property receiving the number of exported issues.
+	 * @param countProperty
+	 */
+	public void setCountProperty(String countProperty) {
+		this.countProperty = countProperty;
+	}
+
+	/**
+	 * Streams the filter result to the output file. Assumes authentication was performed and a correct / valid
+	 * Jira login token is available.
+	 */
+	public void execute() {
+		if( filterID == null || file == null ) {
+			throw new BuildException("filterID and file attributes are required");
+		}
+
+		trace("Running AntJiraExportFilterTask.execute()");
+
+		String fmt = getOutputFormat();
+		final IssueProjection projection = getProjection(fmt);
+		if( projection != null ) {
+			trace("Exporting issue fields " + projection);
+		}
+		final Closeable writer;
+		try {
+			writer = openWriter(fmt, projection);
+		}
+		catch(Exception e) {
+			throw new BuildException(e.getMessage(), e);
+		}
+
+		int count = 0;
+		try
+		{
+			JiraSoapService jss = getJiraSoapService();
+			RemoteIssueHandler handler;
+			if( writer instanceof IssueSnapshotWriter ) {
+				handler = new RemoteIssueHandler() {
+					public void handleIssue(RemoteIssue issue) throws Exception {
+						((IssueSnapshotWriter) writer).write(issue);
+					}
+				};
+			}
+			else {
+				// records spare the three Calendars of each issue, the dates being written as text anyway
+				handler = new IssueRecordHandler() {
+					public void handleRecord(IssueRecord issue) throws Exception {
+						((RecordWriter) writer).write(toRecord(issue));
+					}
+				};
+			}
+
+			if( jss instanceof JiraSoapStreamingService ) {
+				trace("Streaming issues of filter " + filterID + " to " + file);
+				count = ((JiraSoapStreamingService) jss).getIssuesFromFilter(jiraLoginResponse, filterID, projection, handler);
+			}
+			else {
+				trace("Jira SOAP WS handle can not stream, exporting issues of filter " + filterID + " to " + file);
+				RemoteIssue[] issues = jss.getIssuesFromFilter(jiraLoginResponse, filterID);
+				for(RemoteIssue issue : issues) {
+					handler.handleIssue(projection != null ? projection.apply(issue) : issue);
+				}
+				count = issues.length;
+			}
+			writer.close();
+
+			trace("Exported " + count + " issue(s)");
+			if( countProperty != null ) {
+				getProject().setProperty(countProperty, Integer.toString(count));
+			}
+		}
+		catch(Exception e)
+		{
+			try {
+				writer.close();
+			}
+			catch(Exception e2) {
+				// nothing more to do
+			}
+			// failures of the handler reach us wrapped in an AxisFault
+			Throwable cause = e instanceof AxisFault && e.getCause() != null ? e.getCause() : e;
+			log(cause.getMessage());
+			throw new BuildException(cause.getMessage(), cause);
+		}
+
+		trace("Finished AntJiraExportFilterTask.execute()");
+	}
+
+	/**
+	 * @return format attribute, or the format of the file extension
+	 */
+	private String getOutputFormat() {
+		if( format != null ) {
+			return format;
+		}
+		String name = file.getName().toLowerCase();
+		return name.endsWith(".csv") ? "csv" : name.endsWith(".snapshot") ? "snapshot" : "ndjson";
+	}
+
+	/**
+	 * @return fields to export, null for all
+	 */
+	private IssueProjection getProjection(String fmt) {
+		String names = fields;
+		if( names == null && "csv".equalsIgnoreCase(fmt) ) {
+			// columns other than issue fields are custom field IDs
+			StringBuilder sb = new StringBuilder();
+			for(String column : columns.split(",")) {
+				column = column.trim();
+				sb.append(IssueProjection.isField(column) ? column : "customFieldValues").append(',');
+			}
+			names = sb.toString();
+		}
+		if( names == null ) {
+			return null;
+		}
+		try {
+			return IssueProjection.parse(names);
+		}
+		catch(IllegalArgumentException e) {
+			throw new BuildException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @param projection fields to export, null for all
+	 * @return RecordWriter, or IssueSnapshotWriter for snapshots
+	 */
+	private Closeable openWriter(String fmt, IssueProjection projection) throws Exception {
+		if( "snapshot".equalsIgnoreCase(fmt) ) {
+			IssueSnapshotWriter snapshot = new IssueSnapshotWriter(new BufferedOutputStream(new FileOutputStream(file), 65536));
+			snapshot.setMetadata("endpoint", webServiceEndpointUrl);
+			snapshot.setMetadata("filterID", filterID);
+			snapshot.setMetadata("exported", Iso8601.format(System.currentTimeMillis()));
+			if( projection != null ) {
+				snapshot.setMetadata("fields", projection.toString());
+			}
+			return snapshot;
+		}
+		if( !"csv".equalsIgnoreCase(fmt) && !"ndjson".equalsIgnoreCase(fmt) && !"json".equalsIgnoreCase(fmt) ) {
+			throw new BuildException("Unsupported format " + fmt + ", expected ndjson, csv or snapshot");
+		}
+		Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"), 65536);
+		if( "csv".equalsIgnoreCase(fmt) ) {
+			String[] names = columns.split(",");
+			for(int i = 0; i < names.length; i++) {
+				names[i] = names[i].trim();
+			}
+			return new CsvRecordWriter(out, separator, names);
+		}
+		return new JsonRecordWriter(out);
+	}
+
+	/**
+	 * @return export record of the given issue
+	 */
+	Map<String, Object> toRecord(IssueRecord issue) {
+		Map<String, Object> record = new LinkedHashMap<String, Object>();
+		record.put("id", issue.getId());
+		record.put("key", issue.getKey());
+		record.put("project", issue.getProject());
+		record.put("type", issue.getType());
+		record.put("priority", issue.getPriority());
+		record.put("status", issue.getStatus());
+		record.put("resolution", issue.getResolution());
+		record.put("summary", issue.getSummary());
+		record.put("description", issue.getDescription());
+		record.put("environment", issue.getEnvironment());
+		record.put("assignee", issue.getAssignee());
+		record.put("reporter", issue.getReporter());
+		record.put("created", format(issue.getCreated()));
+		record.put("updated", format(issue.getUpdated()));
+		record.put("duedate", format(issue.getDuedate()));
+		record.put("votes", issue.getVotes());
+		record.put("components", names(issue.getComponents()));
+		record.put("affectsVersions", names(issue.getAffectsVersions()));
+		record.put("fixVersions", names(issue.getFixVersions()));
+		record.put("attachmentNames", issue.getAttachmentNames());
+		if( issue.getCustomFieldValues() != null ) {
+			for(RemoteCustomFieldValue value : issue.getCustomFieldValues()) {
+				if( value != null && value.getCustomfieldId() != null ) {
+					record.put(value.getCustomfieldId(), value.getValues());
+				}
+			}
+		}
+		return record;
+	}
+
+	private static String format(long millis) {
+		return millis == IssueRecord.NO_TIME ? null : Iso8601.format(millis);
+	}
+
+	/**
+	 * @return entity names (IDs of unnamed entities), null for null; nil entities are skipped
+	 */
+	private static String[] names(AbstractNamedRemoteEntity[] entities) {
+		if( entities == null ) {
+			return null;
+		}
+		List<String> names = new ArrayList<String>(entities.length);
+		for(AbstractNamedRemoteEntity entity : entities) {
+			if( entity != null ) {
+				names.add(entity.getName() != null ? entity.getName() : entity.getId());
+			}
+		}
+		return names.toArray(new String[names.size()]);
+	}
+}
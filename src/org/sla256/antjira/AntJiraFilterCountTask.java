@@ -1,9 +1,20 @@
 package org.sla256.antjira; 
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Task;
+import org.sla256.antjira.cache.IndexQuery;
+import org.sla256.antjira.cache.IssueIndex;
+import org.sla256.antjira.cache.MetadataCache;
+import org.sla256.antjira.jirasoapservice.IssueProjection;
 import org.sla256.antjira.jirasoapservice.JiraSoapService;
-import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
 
 /**
  * Specialized AntJira task which calls Jira web service to count number of Jira items in the 
@@ -12,15 +23,48 @@ import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
  * filterID: numeric Jira filter ID to be queries for a count
  * filterCountProperty: string, a name of Ant property to store the result
  * 
+ * The optional where attribute narrows the count down with further JQL clauses, which Jira then evaluates
+ * with a JQL search (Jira 4.0 or later). Jira caps the results of a search (1000 issues by default, see
+ * searchLimit attribute): the task fails rather than publish a count reaching that limit, which may be truncated.
+ * With source="local", the count is instead taken from the index of a local mirror of the filter kept up to
+ * date by the syncmirror task (see mirror attribute), without calling Jira. Only where clauses of the form
+ * field = value and field in (values) joined by AND, on project, status, priority, type / issuetype,
+ * assignee, fixVersion and component, can be answered locally. Project keys, names and IDs are all accepted.
+ * The server is asked instead when the index is missing, belongs to another filter, is older than maxAge
+ * minutes, the clauses are not supported, or a project, status, priority or type is unknown or an assignee
+ * has no issue in the index (it may be given otherwise than by username).
+ * 
  * Example of usage: 
  * <pre>
  * {@code
  * <filtercount filterID="10021" filterCountProperty="jira.test.filter.count" />
+ * <filtercount filterID="10021" source="local" mirror="mirror/10021.mirror" where="status in (Open, 3) AND priority = Blocker"
+ *         filterCountProperty="jira.open.blockers.count" />
  * }
  * </pre>
  */
 public class AntJiraFilterCountTask extends AntJiraAbstractTask {
 
+	/**
+	 * Source value: counts are fetched from Jira.
+	 */
+	public static final String SOURCE_SERVER = "server";
+
+	/**
+	 * Source value: counts are taken from a local mirror index when possible.
+	 */
+	public static final String SOURCE_LOCAL = "local";
+
+	/**
+	 * Default maximum age (minutes) of a local index.
+	 */
+	public static final int DEFAULT_MAX_AGE = 60;
+
+	/**
+	 * Default maximum number of results of a JQL search, that of Jira (jira.search.views.default.max).
+	 */
+	public static final int DEFAULT_SEARCH_LIMIT = 1000;
+
 	/**
 	 * Represents Jira filter ID which this task will call and set the returned count in the defined property.
 	 * This is a traditional ant task property which we want to be set in the build file.
@@ -32,6 +76,37 @@ public class AntJiraFilterCountTask extends AntJiraAbstractTask {
 	 */
 	private String filterCountProperty;
 	
+	/**
+	 * Where counts come from: server (default) or local.
+	 */
+	private String source = SOURCE_SERVER;
+	
+	/**
+	 * Mirror file, whose index is used with source="local".
+	 */
+	private File mirror;
+	
+	/**
+	 * Additional JQL clauses, null for none.
+	 */
+	private String where;
+	
+	/**
+	 * Maximum age (minutes) of the local index; 0 for no limit.
+	 */
+	private int maxAge = DEFAULT_MAX_AGE;
+	
+	/**
+	 * Maximum number of results of a JQL search on the server.
+	 */
+	private int searchLimit = DEFAULT_SEARCH_LIMIT;
+	
+	/**
+	 * Issue count fetched ahead of execution by the parent task when running filter counts in parallel.
+	 * Internally set, null if the count has to be fetched by execute().
+	 */
+	private Long prefetchedIssueCount;
+	
 	/**
 	 * Note this setter can only be called from this package, i.e. we don't want it to be set from the 
 	 * build file. This ensures the endpoint is defined only once at the parent task level.
@@ -61,22 +136,206 @@ public class AntJiraFilterCountTask extends AntJiraAbstractTask {
 	}
 	
 	/**
-	 * Calls Jira getIssueCountForFilter WS. Assumes authentication was performed and a correct / valid
-	 * Jira login token is available.
+	 * Where the count comes from: server (default) or local, see mirror attribute.
+	 * @param source
+	 */
+	public void setSource(String source) {
+		this.source = source;
+	}
+	
+	/**
+	 * Mirror file maintained by a syncmirror task of the same filter, whose index answers counts with
+	 * source="local".
+	 * @param mirror
+	 */
+	public void setMirror(File mirror) {
+		this.mirror = mirror;
+	}
+	
+	/**
+	 * Additional JQL clauses the counted issues must match, e.g. status in (Open, Reopened).
+	 * @param where
+	 */
+	public void setWhere(String where) {
+		this.where = where != null && where.trim().length() > 0 ? where : null;
+	}
+	
+	/**
+	 * Maximum age in minutes of the local index (time since its synchronization) for it to be used; older
+	 * indexes are ignored and the count fetched from Jira. 0 for no limit, defaults to 60.
+	 * @param maxAge
+	 */
+	public void setMaxAge(int maxAge) {
+		this.maxAge = maxAge;
+	}
+	
+	/**
+	 * Maximum number of results of a JQL search on the server, defaults to 1000 as Jira. Counts with a where
+	 * attribute are made with a search of at most that many issues, and fail when the search returns as many:
+	 * raise it to that of the server (jira.search.views.default.max) to count more issues.
+	 * @param searchLimit
+	 */
+	public void setSearchLimit(int searchLimit) {
+		trace("Setting search limit to " + searchLimit);
+		this.searchLimit = searchLimit;
+	}
+	
+	/**
+	 * Counts the issues, locally or by calling Jira, without publishing the result. Used by the parent task
+	 * to fetch several counts concurrently; the results are then published in order by {@link #execute()}.
+	 * @return issue count of the filter
+	 * @throws Exception
+	 */
+	long fetchIssueCount() throws Exception {
+		if( SOURCE_LOCAL.equals(source) ) {
+			if( mirror == null ) {
+				throw new BuildException("mirror attribute is required with source=\"local\"");
+			}
+			long count = countLocally();
+			if( count >= 0 ) {
+				return count;
+			}
+		}
+		else if( !SOURCE_SERVER.equals(source) ) {
+			throw new BuildException("Unsupported source " + source + ", expected server or local");
+		}
+		
+		JiraSoapService jss = getJiraSoapService();
+		
+		if( where == null ) {
+			trace("Obtained Jira SOAP WS handle, calling filter count");
+			return jss.getIssueCountForFilter(jiraLoginResponse, filterID);
+		}
+		if( !(jss instanceof JiraSoapStreamingService) ) {
+			throw new BuildException("The where attribute needs the streaming Jira SOAP WS handle of an antjira block");
+		}
+		
+		if( searchLimit <= 0 ) {
+			throw new BuildException("searchLimit must be positive, got " + searchLimit);
+		}
+		
+		String jql = "filter = " + filterID + " AND (" + where + ")";
+		trace("Obtained Jira SOAP WS handle, counting " + jql);
+		
+		// issues are only counted, decoding their IDs is enough
+		long count = ((JiraSoapStreamingService) jss).getIssuesFromJqlSearch(jiraLoginResponse, jql, searchLimit, IssueProjection.parse("id"), new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) {
+				// only counted
+			}
+		});
+		if( count >= searchLimit ) {
+			throw new BuildException("Jira returned " + count + " issue(s) for " + jql + ", the search result limit: the count "
+					+ "may be truncated. Narrow the where clauses, or raise searchLimit up to the limit of the server");
+		}
+		return count;
+	}
+	
+	/**
+	 * Counts the issues with the index of the mirror.
+	 * @return issue count, -1 if the count has to be fetched from Jira
+	 * @throws Exception
+	 */
+	private long countLocally() throws Exception {
+		long start = System.nanoTime();
+		
+		File indexFile = IssueIndex.fileFor(mirror);
+		IssueIndex index = IssueIndex.load(indexFile);
+		if( index == null ) {
+			trace("No usable index " + indexFile + ", asking Jira");
+			return -1;
+		}
+		if( !index.isFor(webServiceEndpointUrl, filterID) ) {
+			trace("Index " + indexFile + " does not hold filter " + filterID + " of " + webServiceEndpointUrl + ", asking Jira");
+			return -1;
+		}
+		if( maxAge > 0 && System.currentTimeMillis() - index.getSyncTime() > maxAge * 60000L ) {
+			trace("Index " + indexFile + " is older than " + maxAge + " minutes, asking Jira");
+			return -1;
+		}
+		
+		long count = index.size();
+		if( where != null ) {
+			IndexQuery query = IndexQuery.parse(where);
+			if( query == null ) {
+				trace("Clauses not supported by the index, asking Jira: " + where);
+				return -1;
+			}
+			if( !resolveNames(query, index) ) {
+				return -1;
+			}
+			count = index.count(query);
+		}
+		trace("Counted " + count + " issue(s) locally in " + (System.nanoTime() - start) / 1000 + " us");
+		return count;
+	}
+	
+	/**
+	 * Replaces status, priority and type names of the query by their IDs, and project names and IDs by
+	 * project keys, which are what the index holds.
+	 * @return false if a name is unknown or an assignee is not indexed, the query is then left to Jira
+	 */
+	private boolean resolveNames(IndexQuery query, IssueIndex index) throws Exception {
+		for(int i = 0; i < query.size(); i++) {
+			String field = query.getField(i);
+			if( IssueIndex.ASSIGNEE.equals(field) ) {
+				for(String value : query.getValues(i)) {
+					if( !index.hasTerm(field, value) ) {
+						trace("No issue assigned to " + value + " in the index, asking Jira");
+						return false;
+					}
+				}
+				continue;
+			}
+			if( !IssueIndex.PROJECT.equals(field) && !IssueIndex.STATUS.equals(field) && !IssueIndex.PRIORITY.equals(field)
+					&& !IssueIndex.TYPE.equals(field) ) {
+				continue;
+			}
+			MetadataCache cache = getMetadataCache();
+			List<String> ids = new ArrayList<String>();
+			for(String value : query.getValues(i)) {
+				try {
+					if( IssueIndex.PROJECT.equals(field) ) {
+						ids.add(cache.resolveProjectKey(getJiraSoapService(), jiraLoginResponse, value));
+					}
+					else if( IssueIndex.STATUS.equals(field) ) {
+						ids.add(cache.resolveStatus(getJiraSoapService(), jiraLoginResponse, value));
+					}
+					else if( IssueIndex.PRIORITY.equals(field) ) {
+						ids.add(cache.resolvePriority(getJiraSoapService(), jiraLoginResponse, value));
+					}
+					else {
+						ids.add(cache.resolveIssueType(getJiraSoapService(), jiraLoginResponse, value));
+					}
+				}
+				catch(IllegalArgumentException e) {
+					trace(e.getMessage() + ", asking Jira");
+					return false;
+				}
+			}
+			query.setValues(i, ids);
+		}
+		return true;
+	}
+	
+	/**
+	 * Note this setter can only be called from this package. Sets the count fetched ahead of execution by
+	 * the parent task.
+	 * @param prefetchedIssueCount
+	 */
+	void setPrefetchedIssueCount(Long prefetchedIssueCount) {
+		this.prefetchedIssueCount = prefetchedIssueCount;
+	}
+	
+	/**
+	 * Calls Jira getIssueCountForFilter WS (unless the count was already fetched by the parent task). 
+	 * Assumes authentication was performed and a correct / valid Jira login token is available.
 	 */
 	public void execute() {
         try
         {
         	trace("Running AntJiraFilterCountTask.execute()");
         	
-	        JiraSoapServiceServiceLocator jssLocator = new JiraSoapServiceServiceLocator();
-	        
-	        jssLocator.setJirasoapserviceV2EndpointAddress(webServiceEndpointUrl);
-	        JiraSoapService jss = jssLocator.getJirasoapserviceV2();
-	        
-	        trace("Obtained Jira SOAP WS handle, calling filter count");
-	        
-	        long issueCount = jss.getIssueCountForFilter(jiraLoginResponse, filterID);
+	        long issueCount = prefetchedIssueCount != null ? prefetchedIssueCount.longValue() : fetchIssueCount();
 
 	        trace("Got filter count at " + issueCount + ", setting property");
 
@@ -0,0 +1,40 @@
+package org.sla256.antjira;
+
+import org.apache.tools.ant.BuildException;
+
+/**
+ * Specialized AntJira task which drops all cached Jira metadata (priorities, statuses, resolutions, issue
+ * types, projects, configuration) of the endpoint, in memory and on disk, so that it is fetched again on next use.
+ * Runs before all other nested tasks of the antjira block.
+ *
+ * Example of usage:
+ * <pre>
+ * {@code
+ * <antjira username="ant-jira-test" password="111111" webServiceEndpointUrl="http://sandbox.onjira.com/rpc/soap/jirasoapservice-v2">
+ *     <invalidatemetadata />
+ *     <createissue summary="ant-jira-test1" type="Bug" priority="Major" project="TST" />
+ * </antjira>
+ * }
+ * </pre>
+ */
+public class AntJiraInvalidateMetadataTask extends AntJiraAbstractTask {
+
+	/**
+	 * Invalidates the metadata cache passed on by the parent task.
+	 */
+	public void execute() {
+        try
+        {
+        	trace("Running AntJiraInvalidateMetadataTask.execute()");
+
+        	getMetadataCache().invalidate();
+
+	        trace("Finished AntJiraInvalidateMetadataTask.execute()");
+        }
+        catch(Exception e)
+        {
+        	log(e.getMessage());
+        	throw new BuildException(e.getMessage(), e);
+        }
+	}
+}
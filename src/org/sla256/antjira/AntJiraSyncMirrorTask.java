@@ -0,0 +1,395 @@
+package org.sla256.antjira;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.axis.AxisFault;
+import org.apache.tools.ant.BuildException;
+import org.sla256.antjira.cache.IssueIndex;
+import org.sla256.antjira.cache.IssueMirror;
+import org.sla256.antjira.jirasoapservice.IssueProjection;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+
+import com.atlassian.jira.rpc.exception.RemoteException;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Specialized AntJira task which keeps a local mirror file of the issues of a Jira filter up to date.
+ * The first run pulls the whole filter; subsequent runs only ask for the issues updated since the latest
+ * updated timestamp found in the mirror (its watermark), with a JQL search for
+ * filter = ID AND updated >= "-Nm", and merge them into the mirror. The relative form of the date lets the
+ * server evaluate it in its own time zone; overlapMinutes widens the window to absorb clock differences
+ * between build host and server. Re-fetched unchanged issues are harmless, they are merged again.
+ * Issues updated out of the filter in the same window (e.g. resolved ones of a filter of unresolved issues)
+ * are found with a second search, project in (...) AND filter != ID AND updated >= "-Nm", limited to the projects
+ * of the mirrored issues, and dropped from the mirror.
+ * Deleted issues are only dropped by a full pull, which happens with full="true", when the mirror is empty
+ * or unreadable, once fullSyncInterval hours (24 by default) have passed since the last one, and as a fall
+ * back when the server does not support JQL searches (Jira before 4.0).
+ * After each run the mirror is indexed (see IssueIndex) into a file next to it, named after the mirror file
+ * with an .idx suffix, from which filtercount tasks with source="local" count issues without calling Jira.
+ * Required Ant properties:
+ * filterID: numeric Jira filter ID of the mirrored issues
+ * file: mirror file, created if needed
+ *
+ * Example of usage:
+ * <pre>
+ * {@code
+ * <syncmirror filterID="10021" file="${user.home}/.antjira/mirror/10021.mirror"
+ *         countProperty="jira.mirror.count" changedProperty="jira.mirror.changed" />
+ * }
+ * </pre>
+ */
+public class AntJiraSyncMirrorTask extends AntJiraAbstractTask {
+
+	/**
+	 * Default maximum number of issues returned by one delta query.
+	 */
+	public static final int DEFAULT_MAX_RESULTS = 1000;
+
+	/**
+	 * Default widening (minutes) of the delta window.
+	 */
+	public static final int DEFAULT_OVERLAP_MINUTES = 5;
+
+	/**
+	 * Default interval (hours) between full pulls.
+	 */
+	public static final int DEFAULT_FULL_SYNC_INTERVAL = 24;
+
+	/**
+	 * Jira filter ID of the mirrored issues.
+	 */
+	private String filterID;
+
+	/**
+	 * Mirror file.
+	 */
+	private File file;
+
+	/**
+	 * Forces a full pull.
+	 */
+	private boolean full = false;
+
+	/**
+	 * Hours after which a full pull is made, 0 for never (unless required).
+	 */
+	private int fullSyncInterval = DEFAULT_FULL_SYNC_INTERVAL;
+
+	private int maxResults = DEFAULT_MAX_RESULTS;
+
+	private int overlapMinutes = DEFAULT_OVERLAP_MINUTES;
+
+	/**
+	 * Name of Ant property receiving the number of mirrored issues.
+	 */
+	private String countProperty;
+
+	/**
+	 * Name of Ant property receiving the number of new, changed or dropped issues.
+	 */
+	private String changedProperty;
+
+	/**
+	 * Number of issues added, changed or dropped by the running synchronization.
+	 */
+	private int changed;
+
+	/**
+	 * Note this setter can only be called from this package, i.e. we don't want it to be set from the
+	 * build file. This ensures the endpoint is defined only once at the parent task level.
+	 * @param webServiceEndpointUrl
+	 */
+	void setWebServiceEndpointUrl(String webServiceEndpointUrl) {
+		trace("Setting ws end point URL to " + webServiceEndpointUrl);
+		this.webServiceEndpointUrl = webServiceEndpointUrl;
+	}
+
+	/**
+	 * Numeric Jira filter ID of the mirrored issues.
+	 * @param filterID
+	 */
+	public void setFilterID(String filterID) {
+		this.filterID = filterID;
+	}
+
+	/**
+	 * Mirror file. Must not be shared between filters or endpoints.
+	 * @param file
+	 */
+	public void setFile(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * If true, pulls the whole filter instead of the changes only; defaults to false.
+	 * @param full
+	 */
+	public void setFull(boolean full) {
+		this.full = full;
+	}
+
+	/**
+	 * Hours after which the next run makes a full pull, dropping deleted issues; defaults to 24, 0 for never.
+	 * @param fullSyncInterval
+	 */
+	public void setFullSyncInterval(int fullSyncInterval) {
+		this.fullSyncInterval = fullSyncInterval;
+	}
+
+	/**
+	 * Maximum number of issues returned by one delta query; larger deltas are fetched in several queries.
+	 * Defaults to 1000. Should not exceed the search result limit of the Jira server.
+	 * @param maxResults
+	 */
+	public void setMaxResults(int maxResults) {
+		this.maxResults = maxResults;
+	}
+
+	/**
+	 * Minutes added to the delta window, to absorb differences between the clocks of build host and Jira
+	 * server. Defaults to 5.
+	 * @param overlapMinutes
+	 */
+	public void setOverlapMinutes(int overlapMinutes) {
+		this.overlapMinutes = overlapMinutes;
+	}
+
+	/**
+	 * Name of Ant property receiving the number of mirrored issues after the synchronization.
+	 * @param countProperty
+	 */
+	public void setCountProperty(String countProperty) {
+		this.countProperty = countProperty;
+	}
+
+	/**
+	 * Name of Ant property receiving the number of issues added, changed or dropped by the synchronization.
+	 * @param changedProperty
+	 */
+	public void setChangedProperty(String changedProperty) {
+		this.changedProperty = changedProperty;
+	}
+
+	/**
+	 * Synchronizes the mirror. Assumes authentication was performed and a correct / valid Jira login token
+	 * is available.
+	 */
+	public void execute() {
+		if( filterID == null || file == null ) {
+			throw new BuildException("filterID and file attributes are required");
+		}
+		if( maxResults < 1 ) {
+			throw new BuildException("maxResults must be at least 1");
+		}
+
+		trace("Running AntJiraSyncMirrorTask.execute()");
+
+		try
+		{
+			JiraSoapService jss = getJiraSoapService();
+			IssueMirror mirror = IssueMirror.load(file, webServiceEndpointUrl, filterID);
+			trace("Loaded " + mirror.size() + " issue(s) from " + file);
+
+			long now = System.currentTimeMillis();
+			boolean fullSync = full || mirror.getWatermark() == IssueMirror.NO_WATERMARK
+					|| !(jss instanceof JiraSoapStreamingService)
+					|| (fullSyncInterval > 0 && now - mirror.getFullSyncTime() > fullSyncInterval * 3600000L);
+
+			changed = 0;
+			if( fullSync || !pullChanges((JiraSoapStreamingService) jss, mirror) ) {
+				pullAll(jss, mirror, now);
+			}
+
+			mirror.save();
+			IssueIndex.build(mirror, webServiceEndpointUrl, filterID, now).save(IssueIndex.fileFor(file));
+
+			trace(changed + " issue(s) added, changed or dropped, " + mirror.size() + " issue(s) mirrored");
+			if( countProperty != null ) {
+				getProject().setProperty(countProperty, Integer.toString(mirror.size()));
+			}
+			if( changedProperty != null ) {
+				getProject().setProperty(changedProperty, Integer.toString(changed));
+			}
+		}
+		catch(BuildException e)
+		{
+			throw e;
+		}
+		catch(Exception e)
+		{
+			Throwable cause = e instanceof AxisFault && e.getCause() != null ? e.getCause() : e;
+			log(cause.getMessage());
+			throw new BuildException(cause.getMessage(), cause);
+		}
+
+		trace("Finished AntJiraSyncMirrorTask.execute()");
+	}
+
+	/**
+	 * Merges the issues updated since the watermark of the mirror, in pages of maxResults issues, and drops
+	 * those updated out of the filter since then.
+	 * @return false if a full pull is needed instead
+	 */
+	private boolean pullChanges(JiraSoapStreamingService jss, final IssueMirror mirror) throws Exception {
+		long since = mirror.getWatermark();
+		RemoteIssueHandler handler = new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) throws Exception {
+				if( mirror.merge(issue) ) {
+					changed++;
+				}
+			}
+		};
+
+		while( true ) {
+			long watermark = mirror.getWatermark();
+			long minutes = (System.currentTimeMillis() - watermark + 59999) / 60000 + overlapMinutes;
+			String jql = "filter = " + filterID + " AND updated >= \"-" + Math.max(1, minutes) + "m\" ORDER BY updated ASC";
+			trace("Fetching changes: " + jql);
+
+			int count;
+			try {
+				count = jss.getIssuesFromJqlSearch(jiraLoginResponse, jql, maxResults, handler);
+			}
+			catch(AxisFault e) {
+				if( !isUnknownOperation(e) ) {
+					throw e;
+				}
+				log("JQL search not supported by the server (" + e.getFaultString() + "), pulling the whole filter instead");
+				return false;
+			}
+			trace("Fetched " + count + " issue(s)");
+
+			if( count < maxResults ) {
+				return dropDepartures(jss, mirror, since);
+			}
+			if( mirror.getWatermark() / 60000 <= watermark / 60000 ) {
+				// a full page within the same minute, paging by updated timestamp can not make progress
+				log("More than " + maxResults + " issues changed at once, pulling the whole filter instead");
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Drops the issues updated out of the filter since the given time, in pages of maxResults issues. The search
+	 * is limited to the projects of the mirrored issues, and only keys and updated timestamps are decoded.
+	 * @param since watermark of the mirror before the changes were merged
+	 * @return false if a full pull is needed instead
+	 */
+	private boolean dropDepartures(JiraSoapStreamingService jss, final IssueMirror mirror, long since) throws Exception {
+		String projects = getProjectKeys(mirror);
+		if( projects.length() == 0 ) {
+			return true;
+		}
+
+		// updated timestamps of the first and the latest issue of the current page
+		final long[] page = { IssueMirror.NO_WATERMARK, IssueMirror.NO_WATERMARK };
+		RemoteIssueHandler handler = new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) throws Exception {
+				if( mirror.remove(issue.getKey()) ) {
+					changed++;
+				}
+				if( issue.getUpdated() != null ) {
+					long updated = issue.getUpdated().getTimeInMillis();
+					if( page[0] == IssueMirror.NO_WATERMARK ) {
+						page[0] = updated;
+					}
+					page[1] = Math.max(page[1], updated);
+				}
+			}
+		};
+		IssueProjection fields = IssueProjection.parse("key,updated");
+
+		long watermark = since;
+		while( true ) {
+			long minutes = (System.currentTimeMillis() - watermark + 59999) / 60000 + overlapMinutes;
+			String jql = "project in (" + projects + ") AND filter != " + filterID
+					+ " AND updated >= \"-" + Math.max(1, minutes) + "m\" ORDER BY updated ASC";
+			trace("Fetching departures: " + jql);
+
+			page[0] = page[1] = IssueMirror.NO_WATERMARK;
+			int count = jss.getIssuesFromJqlSearch(jiraLoginResponse, jql, maxResults, fields, handler);
+			trace("Fetched " + count + " issue(s) out of the filter");
+
+			if( count < maxResults ) {
+				return true;
+			}
+			if( page[1] / 60000 <= page[0] / 60000 ) {
+				// a full page within the same minute, paging by updated timestamp can not make progress
+				log("More than " + maxResults + " issues updated out of the filter at once, pulling the whole filter instead");
+				return false;
+			}
+			watermark = page[1];
+		}
+	}
+
+	/**
+	 * @return the quoted, comma separated keys of the projects of the mirrored issues
+	 */
+	private static String getProjectKeys(IssueMirror mirror) {
+		Set<String> keys = new TreeSet<String>();
+		for(RemoteIssue issue : mirror.getIssues()) {
+			if( issue.getProject() != null ) {
+				keys.add(issue.getProject());
+			}
+		}
+		StringBuilder projects = new StringBuilder();
+		for(String key : keys) {
+			if( projects.length() > 0 ) {
+				projects.append(", ");
+			}
+			projects.append('"').append(key).append('"');
+		}
+		return projects.toString();
+	}
+
+	/**
+	 * @return true if the fault means the server does not know the called operation (a Jira older than 4.0),
+	 * false for Jira faults and failures of the call itself (timeouts, connection resets, HTTP errors)
+	 */
+	private static boolean isUnknownOperation(AxisFault fault) {
+		if( fault instanceof RemoteException || fault.getCause() != null ) {
+			return false;
+		}
+		String faultString = fault.getFaultString();
+		if( faultString != null && faultString.startsWith("No such operation") ) {
+			return true;
+		}
+		String code = fault.getFaultCode() != null ? fault.getFaultCode().getLocalPart() : null;
+		return "Client".equals(code) || (code != null && code.startsWith("Client."));
+	}
+
+	/**
+	 * Merges all issues of the filter and drops those no longer part of it.
+	 */
+	private void pullAll(JiraSoapService jss, final IssueMirror mirror, long now) throws Exception {
+		trace("Fetching all issues of filter " + filterID);
+
+		final Set<String> keys = new HashSet<String>();
+		RemoteIssueHandler handler = new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) throws Exception {
+				keys.add(issue.getKey());
+				if( mirror.merge(issue) ) {
+					changed++;
+				}
+			}
+		};
+		if( jss instanceof JiraSoapStreamingService ) {
+			((JiraSoapStreamingService) jss).getIssuesFromFilter(jiraLoginResponse, filterID, handler);
+		}
+		else {
+			for(RemoteIssue issue : jss.getIssuesFromFilter(jiraLoginResponse, filterID)) {
+				handler.handleIssue(issue);
+			}
+		}
+
+		int removed = mirror.completeFullSync(keys, now);
+		trace("Dropped " + removed + " issue(s) no longer in filter " + filterID);
+	}
+}
@@ -1,11 +1,29 @@
 package org.sla256.antjira; 
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Task;
 import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.cache.LoginTokenCache;
+import org.sla256.antjira.cache.MetadataCache;
+import org.sla256.antjira.cache.ReloginInvocationHandler;
 import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
+import org.sla256.antjira.metrics.CallMetrics;
+import org.sla256.antjira.metrics.MetricsInvocationHandler;
+import org.sla256.antjira.metrics.OperationMetrics;
+import org.sla256.antjira.transport.Cassette;
+import org.sla256.antjira.transport.HttpConnectionPool;
+import org.sla256.antjira.transport.PooledHTTPSender;
+import org.sla256.antjira.transport.PooledTransportConfiguration;
 
 /**
  * Main / parent task to implement Ant-Jira integration in the build file.
@@ -13,6 +31,32 @@ import org.sla256.antjira.jirasoapservice.JiraSoapServiceServiceLocator;
  * Upon execution, performs initial Jira login and then calls nested specialized tasks to perform a particular
  * function, such as get Jira filter count, etc.
  * Transparently passes needed info (login token, WS endpoint URL, etc) to the nested tasks. 
+ * The Jira SOAP WS handle obtained for the login is shared with all nested tasks, so the stub is only
+ * created and its type mappings registered once per block.
+ * All SOAP calls of the block go over persistent HTTP/1.1 connections kept in a bounded pool, see 
+ * connectionPoolSize, connectionIdleTimeout, connectTimeout and readTimeout attributes.
+ * With compression="gzip", responses are requested gzip encoded and decompressed on the fly; with
+ * compressRequests="true" as well, large requests and attachment uploads are sent gzip encoded too, which
+ * the Jira server (or a proxy in front of it) must support.
+ * With parallelism greater than 1, nested filter counts are fetched concurrently (results are still
+ * published to Ant properties in the order of the build file).
+ * Nested syncmirror tasks run before the filter counts, so that local counts see the synchronized mirrors.
+ * By default the block logs in and out on every run. With tokenCache="true" the login token is instead kept
+ * in an owner-only file (per endpoint and username) and reused by subsequent builds given the same password
+ * until tokenCacheTtl expires; calls failing with RemoteAuthenticationException log in again automatically.
+ * Metadata such as priorities, statuses and issue types is cached in memory and on disk (see metadataCache,
+ * metadataCacheDir and metadataCacheTtl attributes), which lets nested tasks refer to them by name.
+ * With metricsPrefix and/or metricsFile set, every SOAP call of the block is measured; when the block ends
+ * (successfully or not) the call count, error count, latency percentiles (p50/p95/p99/max, in ms) and
+ * SOAP request/response sizes of each operation are published as Ant properties named
+ * prefix.operation.count / .errors / .p50 / .p95 / .p99 / .max / .requestBytes / .responseBytes
+ * (plus prefix.total.*), and/or written to a JSON report file. Request and response sizes are those on the
+ * wire; .uncompressedRequestBytes / .uncompressedResponseBytes give the sizes before compression.
+ * With mode="record", the SOAP calls of the block are recorded to the cassette file (plus an index file next
+ * to it); with mode="replay", they are answered from it without any network access, calls which were not
+ * recorded failing. Calls match whatever their login token, so a cassette recorded once serves later builds
+ * running the same queries. Attachment downloads are not recorded. mode="passthrough" (default) uses no
+ * cassette.
  * 
  * Example of usage:
  * <pre>
@@ -35,6 +79,36 @@ public class AntJiraTask extends AntJiraAbstractTask {
 	 */
 	private List<AntJiraCreateIssueTask> createIssueTasks = new ArrayList<AntJiraCreateIssueTask>();
 	
+	/**
+	 * Internal collection of batch create issues tasks.
+	 */
+	private List<AntJiraCreateIssuesTask> createIssuesTasks = new ArrayList<AntJiraCreateIssuesTask>();
+	
+	/**
+	 * Internal collection of filter export tasks.
+	 */
+	private List<AntJiraExportFilterTask> exportFilterTasks = new ArrayList<AntJiraExportFilterTask>();
+	
+	/**
+	 * Internal collection of attach tasks.
+	 */
+	private List<AntJiraAttachTask> attachTasks = new ArrayList<AntJiraAttachTask>();
+	
+	/**
+	 * Internal collection of attachment download tasks.
+	 */
+	private List<AntJiraDownloadAttachmentsTask> downloadAttachmentsTasks = new ArrayList<AntJiraDownloadAttachmentsTask>();
+	
+	/**
+	 * Internal collection of issue mirror synchronization tasks.
+	 */
+	private List<AntJiraSyncMirrorTask> syncMirrorTasks = new ArrayList<AntJiraSyncMirrorTask>();
+	
+	/**
+	 * Internal collection of metadata cache invalidation tasks.
+	 */
+	private List<AntJiraInvalidateMetadataTask> invalidateMetadataTasks = new ArrayList<AntJiraInvalidateMetadataTask>();
+	
 	/**
 	 * Jira username.
 	 */
@@ -45,6 +119,86 @@ public class AntJiraTask extends AntJiraAbstractTask {
 	 */
 	private String password;
 	
+	/**
+	 * Pool of persistent HTTP connections used by all SOAP calls of this block.
+	 */
+	private HttpConnectionPool connectionPool = new HttpConnectionPool();
+	
+	/**
+	 * Compression of the SOAP messages: none or gzip.
+	 */
+	private String compression = PooledHTTPSender.COMPRESSION_NONE;
+	
+	/**
+	 * Whether large requests are compressed too, with gzip compression.
+	 */
+	private boolean compressRequests = false;
+	
+	/**
+	 * Maximum number of nested filter counts fetched concurrently. 1 (default) runs them one by one.
+	 */
+	private int parallelism = 1;
+	
+	/**
+	 * Whether the login token is cached on disk and reused across builds.
+	 */
+	private boolean tokenCache = false;
+	
+	/**
+	 * Directory of the login token cache.
+	 */
+	private File tokenCacheDir = LoginTokenCache.getDefaultDir();
+	
+	/**
+	 * Time to live of a cached login token in milliseconds.
+	 */
+	private long tokenCacheTtl = LoginTokenCache.DEFAULT_TTL;
+	
+	/**
+	 * Whether metadata is also cached on disk (it is always cached in memory).
+	 */
+	private boolean metadataCacheOnDisk = true;
+	
+	/**
+	 * Directory of the on-disk metadata cache.
+	 */
+	private File metadataCacheDir = MetadataCache.getDefaultDir();
+	
+	/**
+	 * Time to live of cached metadata in milliseconds.
+	 */
+	private long metadataCacheTtl = MetadataCache.DEFAULT_TTL;
+	
+	/**
+	 * Prefix of the Ant properties receiving the call metrics, null to not publish them.
+	 */
+	private String metricsPrefix;
+	
+	/**
+	 * JSON report file of the call metrics, null for none.
+	 */
+	private File metricsFile;
+	
+	/**
+	 * Call metrics of this block, null unless requested.
+	 */
+	private CallMetrics callMetrics;
+	
+	/**
+	 * Cassette mode: record, replay or passthrough.
+	 */
+	private String mode = Cassette.MODE_PASSTHROUGH;
+	
+	/**
+	 * Cassette file of the record and replay modes.
+	 */
+	private File cassetteFile;
+	
+	/**
+	 * Cassette of this block, null in passthrough mode.
+	 */
+	private Cassette cassette;
+	
 
 	/**
 	 * Sets Jira username.
@@ -70,6 +224,153 @@ public class AntJiraTask extends AntJiraAbstractTask {
 		this.webServiceEndpointUrl = webServiceEndpointUrl;
 	}
 	
+	/**
+	 * Maximum number of idle keep-alive connections kept to the Jira server, 0 disables keep-alive.
+	 * @param connectionPoolSize
+	 */
+	public void setConnectionPoolSize(int connectionPoolSize) {
+		connectionPool.setPoolSize(connectionPoolSize);
+	}
+	
+	/**
+	 * Time in milliseconds after which an idle keep-alive connection is closed instead of being reused.
+	 * @param connectionIdleTimeout
+	 */
+	public void setConnectionIdleTimeout(long connectionIdleTimeout) {
+		connectionPool.setIdleTimeout(connectionIdleTimeout);
+	}
+	
+	/**
+	 * Connect (and TLS handshake) timeout in milliseconds.
+	 * @param connectTimeout
+	 */
+	public void setConnectTimeout(int connectTimeout) {
+		connectionPool.setConnectTimeout(connectTimeout);
+	}
+	
+	/**
+	 * Socket read timeout in milliseconds. Defaults to the Axis call timeout.
+	 * @param readTimeout
+	 */
+	public void setReadTimeout(int readTimeout) {
+		connectionPool.setReadTimeout(readTimeout);
+	}
+	
+	/**
+	 * Compression of the SOAP messages: none (default) or gzip. With gzip the server is asked for gzip encoded
+	 * responses, which are decompressed while being parsed.
+	 * @param compression
+	 */
+	public void setCompression(String compression) {
+		if( !PooledHTTPSender.COMPRESSION_NONE.equals(compression) && !PooledHTTPSender.COMPRESSION_GZIP.equals(compression) ) {
+			throw new BuildException("Unsupported compression " + compression + ", expected none or gzip");
+		}
+		this.compression = compression;
+	}
+	
+	/**
+	 * With compression="gzip", also sends requests of 1 KB or more gzip encoded. Off by default, as Jira
+	 * does not decode compressed requests unless set up to (e.g. by a proxy in front of it).
+	 * @param compressRequests
+	 */
+	public void setCompressRequests(boolean compressRequests) {
+		this.compressRequests = compressRequests;
+	}
+	
+	/**
+	 * Maximum number of nested filter count tasks fetched concurrently. Defaults to 1, i.e. sequential.
+	 * @param parallelism
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+	
+	/**
+	 * Enables the on-disk login token cache, so that builds reuse one Jira session instead of logging in
+	 * (and out) every time.
+	 * @param tokenCache
+	 */
+	public void setTokenCache(boolean tokenCache) {
+		this.tokenCache = tokenCache;
+	}
+	
+	/**
+	 * Directory of the login token cache, defaults to ~/.antjira/tokens.
+	 * @param tokenCacheDir
+	 */
+	public void setTokenCacheDir(File tokenCacheDir) {
+		this.tokenCacheDir = tokenCacheDir;
+	}
+	
+	/**
+	 * Time to live of a cached login token in seconds, defaults to 20 minutes.
+	 * @param tokenCacheTtl
+	 */
+	public void setTokenCacheTtl(long tokenCacheTtl) {
+		this.tokenCacheTtl = tokenCacheTtl * 1000;
+	}
+	
+	/**
+	 * Enables (default) or disables the on-disk metadata cache. Metadata is cached in memory either way.
+	 * @param metadataCache
+	 */
+	public void setMetadataCache(boolean metadataCache) {
+		this.metadataCacheOnDisk = metadataCache;
+	}
+	
+	/**
+	 * Directory of the on-disk metadata cache, defaults to ~/.antjira/metadata.
+	 * @param metadataCacheDir
+	 */
+	public void setMetadataCacheDir(File metadataCacheDir) {
+		this.metadataCacheDir = metadataCacheDir;
+	}
+	
+	/**
+	 * Time to live of cached metadata in seconds, defaults to one day.
+	 * @param metadataCacheTtl
+	 */
+	public void setMetadataCacheTtl(long metadataCacheTtl) {
+		this.metadataCacheTtl = metadataCacheTtl * 1000;
+	}
+	
+	/**
+	 * Prefix of the Ant properties receiving per-operation call metrics, e.g. jira.metrics. Not set by
+	 * default, i.e. no properties are published.
+	 * @param metricsPrefix
+	 */
+	public void setMetricsPrefix(String metricsPrefix) {
+		this.metricsPrefix = metricsPrefix;
+	}
+	
+	/**
+	 * JSON file receiving the per-operation call metrics when the block ends. Not set by default.
+	 * @param metricsFile
+	 */
+	public void setMetricsFile(File metricsFile) {
+		this.metricsFile = metricsFile;
+	}
+	
+	/**
+	 * Whether SOAP calls are recorded to the cassette (record), answered from it (replay) or neither
+	 * (passthrough, default).
+	 * @param mode
+	 */
+	public void setMode(String mode) {
+		if( !Cassette.isMode(mode) ) {
+			throw new BuildException("Unsupported mode " + mode + ", expected record, replay or passthrough");
+		}
+		this.mode = mode;
+	}
+	
+	/**
+	 * Cassette file the SOAP calls are recorded to or replayed from, required by the record and replay modes.
+	 * @param cassette
+	 */
+	public void setCassette(File cassette) {
+		this.cassetteFile = cassette;
+	}
+	
 	/**
 	 * Performs initial login / authentication, and then calls nested tasks (if any) passing the 
 	 * login token and WS endpoint URL.
@@ -79,25 +380,78 @@ public class AntJiraTask extends AntJiraAbstractTask {
         {
         	trace("Running AntJiraTask.execute()");
         	
-	        JiraSoapServiceServiceLocator jssLocator = new JiraSoapServiceServiceLocator();
+	        if( metricsPrefix != null || metricsFile != null ) {
+	        	callMetrics = new CallMetrics();
+	        }
+	        PooledTransportConfiguration transport = new PooledTransportConfiguration(connectionPool, callMetrics);
+	        transport.getSender().setCompression(compression);
+	        transport.getSender().setCompressRequests(compressRequests);
+	        if( !Cassette.MODE_PASSTHROUGH.equals(mode) ) {
+	        	if( cassetteFile == null ) {
+	        		throw new BuildException("mode=\"" + mode + "\" requires the cassette attribute");
+	        	}
+	        	cassette = new Cassette(cassetteFile, mode);
+	        	transport.getSender().setCassette(cassette);
+	        	trace((cassette.isReplaying() ? "Replaying " + cassette.size() + " SOAP call(s) from " : "Recording SOAP calls to ")
+	        			+ cassetteFile);
+	        }
+	        JiraSoapServiceServiceLocator jssLocator = new JiraSoapServiceServiceLocator(transport);
 	        
 	        jssLocator.setJirasoapserviceV2EndpointAddress(webServiceEndpointUrl);
 	        JiraSoapService jss = jssLocator.getJirasoapserviceV2();
+	        if( callMetrics != null ) {
+	        	jss = MetricsInvocationHandler.wrap(jss, callMetrics);
+	        }
 
-	        trace("Obtained Jira SOAP WS handle, calling login");
-
-	        jiraLoginResponse = jss.login(username, password);
+	        if( tokenCache ) {
+	        	trace("Obtained Jira SOAP WS handle, looking up cached login token in " + tokenCacheDir);
+	        	
+	        	LoginTokenCache cache = new LoginTokenCache(tokenCacheDir, tokenCacheTtl, webServiceEndpointUrl, username);
+	        	jiraLoginResponse = cache.getToken(jss, password);
+	        	jss = ReloginInvocationHandler.wrap(jss, cache, password, jiraLoginResponse);
+	        }
+	        else {
+	        	trace("Obtained Jira SOAP WS handle, calling login");
+	        	
+	        	jiraLoginResponse = jss.login(username, password);
+	        }
+	        jiraSoapService = jss;
 
 	        if( jiraLoginResponse == null ) {
 	        	log("Login failed.", 1);
 	        	throw new BuildException("Login failed");
 	        }
 
+	        metadataCache = new MetadataCache(metadataCacheOnDisk ? metadataCacheDir : null, metadataCacheTtl, webServiceEndpointUrl, username);
+	        
+	        for(AntJiraInvalidateMetadataTask imTask : invalidateMetadataTasks) {
+	        	imTask.setMetadataCache(metadataCache);
+	        	imTask.perform();
+	        }
+
+	        trace("Calling " + syncMirrorTasks.size() + " mirror synchronization task(s)");
+
+	        for(AntJiraSyncMirrorTask smTask : syncMirrorTasks) {
+	        	smTask.setJiraLoginResponse(jiraLoginResponse);
+	        	smTask.setJiraSoapService(jss);
+	        	smTask.setWebServiceEndpointUrl(webServiceEndpointUrl);
+	        	smTask.perform();
+	        }
+	        
 	        trace("Logged in, calling " + filterCountTasks.size() + " filter count task(s)");
 
 	        for(AntJiraFilterCountTask fcTask : filterCountTasks) {
 	        	fcTask.setJiraLoginResponse(jiraLoginResponse);
+	        	fcTask.setJiraSoapService(jss);
 	        	fcTask.setWebServiceEndpointUrl(webServiceEndpointUrl);
+	        	fcTask.setMetadataCache(metadataCache);
+	        }
+	        
+	        if( parallelism > 1 && filterCountTasks.size() > 1 ) {
+	        	prefetchFilterCounts();
+	        }
+
+	        for(AntJiraFilterCountTask fcTask : filterCountTasks) {
 	        	fcTask.perform();
 	        }
 
@@ -105,10 +459,51 @@ public class AntJiraTask extends AntJiraAbstractTask {
 
 	        for(AntJiraCreateIssueTask ciTask : createIssueTasks) {
 	        	ciTask.setJiraLoginResponse(jiraLoginResponse);
+	        	ciTask.setJiraSoapService(jss);
+	        	ciTask.setMetadataCache(metadataCache);
 	        	ciTask.setWebServiceEndpointUrl(webServiceEndpointUrl);
 	        	ciTask.perform();
 	        }
 	        
+	        trace("Calling " + createIssuesTasks.size() + " batch create issues task(s)");
+
+	        for(AntJiraCreateIssuesTask cisTask : createIssuesTasks) {
+	        	cisTask.setJiraLoginResponse(jiraLoginResponse);
+	        	cisTask.setJiraSoapService(jss);
+	        	cisTask.setMetadataCache(metadataCache);
+	        	cisTask.setWebServiceEndpointUrl(webServiceEndpointUrl);
+	        	cisTask.perform();
+	        }
+	        
+	        trace("Calling " + exportFilterTasks.size() + " filter export task(s)");
+
+	        for(AntJiraExportFilterTask efTask : exportFilterTasks) {
+	        	efTask.setJiraLoginResponse(jiraLoginResponse);
+	        	efTask.setJiraSoapService(jss);
+	        	efTask.setWebServiceEndpointUrl(webServiceEndpointUrl);
+	        	efTask.perform();
+	        }
+	        
+	        trace("Calling " + attachTasks.size() + " attach task(s)");
+
+	        for(AntJiraAttachTask aTask : attachTasks) {
+	        	aTask.setJiraLoginResponse(jiraLoginResponse);
+	        	aTask.setJiraSoapService(jss);
+	        	aTask.setWebServiceEndpointUrl(webServiceEndpointUrl);
+	        	aTask.perform();
+	        }
+	        
+	        trace("Calling " + downloadAttachmentsTasks.size() + " attachment download task(s)");
+
+	        for(AntJiraDownloadAttachmentsTask daTask : downloadAttachmentsTasks) {
+	        	daTask.setJiraLoginResponse(jiraLoginResponse);
+	        	daTask.setJiraSoapService(jss);
+	        	daTask.setWebServiceEndpointUrl(webServiceEndpointUrl);
+	        	daTask.setConnectionPool(connectionPool);
+	        	daTask.setCredentials(username, password);
+	        	daTask.perform();
+	        }
+	        
 	        trace("Finished AntJiraTask.execute()");
         }
         catch(Exception e)
@@ -116,6 +511,152 @@ public class AntJiraTask extends AntJiraAbstractTask {
         	log(e.getMessage());
         	throw new BuildException(e.getMessage(), e);
         }
+        finally
+        {
+        	logout();
+        	connectionPool.close();
+        	closeCassette();
+        	publishMetrics();
+        }
+	}
+	
+	/**
+	 * Publishes the call metrics of this block, if requested. Failures are only logged, so that they do not
+	 * hide the outcome of the block.
+	 */
+	private void publishMetrics() {
+		if( callMetrics == null ) {
+			return;
+		}
+		if( metricsPrefix != null ) {
+			long count = 0;
+			long errors = 0;
+			double totalMillis = 0;
+			long requestBytes = 0;
+			long responseBytes = 0;
+			long uncompressedRequestBytes = 0;
+			long uncompressedResponseBytes = 0;
+			for(OperationMetrics op : callMetrics.getOperations()) {
+				String prefix = metricsPrefix + "." + op.getOperation();
+				getProject().setProperty(prefix + ".count", Long.toString(op.getCount()));
+				getProject().setProperty(prefix + ".errors", Long.toString(op.getErrors()));
+				getProject().setProperty(prefix + ".p50", Long.toString(Math.round(op.getPercentileMillis(50))));
+				getProject().setProperty(prefix + ".p95", Long.toString(Math.round(op.getPercentileMillis(95))));
+				getProject().setProperty(prefix + ".p99", Long.toString(Math.round(op.getPercentileMillis(99))));
+				getProject().setProperty(prefix + ".max", Long.toString(Math.round(op.getMaxMillis())));
+				getProject().setProperty(prefix + ".requestBytes", Long.toString(op.getRequestBytes()));
+				getProject().setProperty(prefix + ".responseBytes", Long.toString(op.getResponseBytes()));
+				getProject().setProperty(prefix + ".uncompressedRequestBytes", Long.toString(op.getUncompressedRequestBytes()));
+				getProject().setProperty(prefix + ".uncompressedResponseBytes", Long.toString(op.getUncompressedResponseBytes()));
+				count += op.getCount();
+				errors += op.getErrors();
+				totalMillis += op.getTotalMillis();
+				requestBytes += op.getRequestBytes();
+				responseBytes += op.getResponseBytes();
+				uncompressedRequestBytes += op.getUncompressedRequestBytes();
+				uncompressedResponseBytes += op.getUncompressedResponseBytes();
+			}
+			getProject().setProperty(metricsPrefix + ".total.count", Long.toString(count));
+			getProject().setProperty(metricsPrefix + ".total.errors", Long.toString(errors));
+			getProject().setProperty(metricsPrefix + ".total.time", Long.toString(Math.round(totalMillis)));
+			getProject().setProperty(metricsPrefix + ".total.requestBytes", Long.toString(requestBytes));
+			getProject().setProperty(metricsPrefix + ".total.responseBytes", Long.toString(responseBytes));
+			getProject().setProperty(metricsPrefix + ".total.uncompressedRequestBytes", Long.toString(uncompressedRequestBytes));
+			getProject().setProperty(metricsPrefix + ".total.uncompressedResponseBytes", Long.toString(uncompressedResponseBytes));
+		}
+		if( metricsFile != null ) {
+			Writer out = null;
+			try {
+				out = new OutputStreamWriter(new FileOutputStream(metricsFile), "UTF-8");
+				callMetrics.writeJson(out, webServiceEndpointUrl);
+				trace("Wrote call metrics to " + metricsFile);
+			}
+			catch(Exception e) {
+				log("Could not write call metrics to " + metricsFile + ": " + e.getMessage());
+			}
+			finally {
+				if( out != null ) {
+					try {
+						out.close();
+					}
+					catch(Exception e) {
+						// nothing more to do
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Closes the cassette of this block, if any. Failures are only logged, as the calls were recorded already.
+	 */
+	private void closeCassette() {
+		if( cassette == null ) {
+			return;
+		}
+		try {
+			cassette.close();
+			if( !cassette.isReplaying() ) {
+				trace("Recorded " + cassette.size() + " SOAP call(s) to " + cassette.getFile());
+			}
+		}
+		catch(Exception e) {
+			log("Could not close cassette " + cassette.getFile() + ": " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * Ends the Jira session of this block, unless the login token is cached for later builds.
+	 */
+	private void logout() {
+		if( tokenCache || jiraSoapService == null || jiraLoginResponse == null ) {
+			return;
+		}
+		try {
+			jiraSoapService.logout(jiraLoginResponse);
+			trace("Logged out");
+		}
+		catch(Exception e) {
+			trace("Logout failed: " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * Fetches the counts of all nested filter count tasks on a bounded executor. The counts are only handed
+	 * over to the tasks here; they are published to Ant properties when the tasks are performed in order.
+	 * On the first failure all outstanding calls are cancelled and the executor is shut down before the
+	 * error is rethrown.
+	 * @throws Exception
+	 */
+	private void prefetchFilterCounts() throws Exception {
+		int threads = Math.min(parallelism, filterCountTasks.size());
+		trace("Fetching " + filterCountTasks.size() + " filter count(s) with parallelism " + threads
+				+ (AntJiraExecutors.isVirtual() ? " (virtual threads)" : ""));
+		
+		ExecutorService executor = AntJiraExecutors.newBoundedExecutor(threads, "antjira-filtercount");
+		List<Future<Long>> futures = new ArrayList<Future<Long>>();
+		try {
+			for(final AntJiraFilterCountTask fcTask : filterCountTasks) {
+				futures.add(executor.submit(new Callable<Long>() {
+					public Long call() throws Exception {
+						return Long.valueOf(fcTask.fetchIssueCount());
+					}
+				}));
+			}
+			
+			for(int i = 0; i < futures.size(); i++) {
+				try {
+					filterCountTasks.get(i).setPrefetchedIssueCount(futures.get(i).get());
+				}
+				catch(ExecutionException e) {
+					Throwable cause = e.getCause();
+					throw cause instanceof Exception ? (Exception) cause : new BuildException(cause);
+				}
+			}
+		}
+		finally {
+			AntJiraExecutors.shutdown(executor, futures);
+		}
 	}
 	
 	/**
@@ -133,4 +674,52 @@ public class AntJiraTask extends AntJiraAbstractTask {
 	public void addCreateIssue(AntJiraCreateIssueTask createIssueTask) {
 		createIssueTasks.add(createIssueTask);
 	}
+	
+	/**
+	 * Allows nested ant tasks of AntJiraCreateIssuesTask type.
+	 * @param createIssuesTask
+	 */
+	public void addCreateIssues(AntJiraCreateIssuesTask createIssuesTask) {
+		createIssuesTasks.add(createIssuesTask);
+	}
+	
+	/**
+	 * Allows nested ant tasks of AntJiraExportFilterTask type.
+	 * @param exportFilterTask
+	 */
+	public void addExportFilter(AntJiraExportFilterTask exportFilterTask) {
+		exportFilterTasks.add(exportFilterTask);
+	}
+	
+	/**
+	 * Allows nested ant tasks of AntJiraAttachTask type.
+	 * @param attachTask
+	 */
+	public void addAttach(AntJiraAttachTask attachTask) {
+		attachTasks.add(attachTask);
+	}
+	
+	/**
+	 * Allows nested ant tasks of AntJiraDownloadAttachmentsTask type.
+	 * @param downloadAttachmentsTask
+	 */
+	public void addDownloadAttachments(AntJiraDownloadAttachmentsTask downloadAttachmentsTask) {
+		downloadAttachmentsTasks.add(downloadAttachmentsTask);
+	}
+	
+	/**
+	 * Allows nested ant tasks of AntJiraSyncMirrorTask type.
+	 * @param syncMirrorTask
+	 */
+	public void addSyncMirror(AntJiraSyncMirrorTask syncMirrorTask) {
+		syncMirrorTasks.add(syncMirrorTask);
+	}
+	
+	/**
+	 * Allows nested ant tasks of AntJiraInvalidateMetadataTask type. These run before all other nested tasks.
+	 * @param invalidateMetadataTask
+	 */
+	public void addInvalidateMetadata(AntJiraInvalidateMetadataTask invalidateMetadataTask) {
+		invalidateMetadataTasks.add(invalidateMetadataTask);
+	}
 }
@@ -0,0 +1,66 @@
+package org.sla256.antjira.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Small file helpers shared by the on-disk caches.
+ */
+final class CacheFiles {
+
+	private CacheFiles() {
+	}
+
+	/**
+	 * @param s
+	 * @return hex SHA-1 of the given string, used to derive cache file names from endpoints, usernames, etc.
+	 * @throws IOException
+	 */
+	static String digest(String s) throws IOException {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-1").digest(s.getBytes("UTF-8"));
+			StringBuilder sb = new StringBuilder();
+			for(byte b : hash) {
+				sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			}
+			return sb.toString();
+		}
+		catch(NoSuchAlgorithmException e) {
+			throw new IOException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Makes a file or directory accessible by its owner only.
+	 * @param f
+	 * @param executable whether the owner keeps the execute (directory traversal) permission
+	 */
+	static void restrictToOwner(File f, boolean executable) {
+		f.setReadable(false, false);
+		f.setReadable(true, true);
+		f.setWritable(false, false);
+		f.setWritable(true, true);
+		f.setExecutable(false, false);
+		if( executable ) {
+			f.setExecutable(true, true);
+		}
+	}
+
+	/**
+	 * Moves a completely written temporary file over the target, so that readers never see a partial file.
+	 * @param tmp
+	 * @param target
+	 * @throws IOException
+	 */
+	static void replace(File tmp, File target) throws IOException {
+		if( !tmp.renameTo(target) ) {
+			target.delete();
+			if( !tmp.renameTo(target) ) {
+				tmp.delete();
+				throw new IOException("Can not write " + target);
+			}
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package org.sla256.antjira.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Conjunction of JQL clauses which the {@link IssueIndex} can evaluate: field = value and
+ * field in (value, ...) clauses on the indexed fields, joined by AND. Anything else (OR, NOT, other
+ * operators, functions, other fields) is not supported, the query must then be evaluated by Jira.
+ * Since the syntax is a subset of JQL, the same text can be sent to the server unchanged.
+ */
+public class IndexQuery {
+
+	private final List<String> fields = new ArrayList<String>();
+
+	private final List<List<String>> values = new ArrayList<List<String>>();
+
+	private IndexQuery() {
+	}
+
+	/**
+	 * @param jql JQL clauses
+	 * @return the parsed query, or null if the text uses anything not supported by the index
+	 */
+	public static IndexQuery parse(String jql) {
+		Tokenizer tokens = new Tokenizer(jql);
+		IndexQuery query = new IndexQuery();
+		do {
+			String field = tokens.next();
+			if( field == null || tokens.quoted ) {
+				return null;
+			}
+			field = IssueIndex.canonicalField(field);
+			if( field == null ) {
+				return null;
+			}
+
+			List<String> clauseValues = new ArrayList<String>();
+			String op = tokens.next();
+			if( "=".equals(op) && !tokens.quoted ) {
+				String value = tokens.nextValue();
+				if( value == null ) {
+					return null;
+				}
+				clauseValues.add(value);
+			}
+			else if( "in".equalsIgnoreCase(op) && !tokens.quoted ) {
+				if( !"(".equals(tokens.next()) ) {
+					return null;
+				}
+				while( true ) {
+					String value = tokens.nextValue();
+					if( value == null ) {
+						return null;
+					}
+					clauseValues.add(value);
+					String separator = tokens.next();
+					if( tokens.quoted || separator == null ) {
+						return null;
+					}
+					if( ")".equals(separator) ) {
+						break;
+					}
+					if( !",".equals(separator) ) {
+						return null;
+					}
+				}
+			}
+			else {
+				return null;
+			}
+			query.fields.add(field);
+			query.values.add(clauseValues);
+
+			String next = tokens.next();
+			if( next == null ) {
+				return query;
+			}
+			if( !"and".equalsIgnoreCase(next) || tokens.quoted ) {
+				return null;
+			}
+		}
+		while( true );
+	}
+
+	/**
+	 * @return number of clauses
+	 */
+	public int size() {
+		return fields.size();
+	}
+
+	/**
+	 * @param clause clause index
+	 * @return indexed field name of the clause, see {@link IssueIndex#FIELDS}
+	 */
+	public String getField(int clause) {
+		return fields.get(clause);
+	}
+
+	/**
+	 * @param clause clause index
+	 * @return values of the clause, any of which matches
+	 */
+	public List<String> getValues(int clause) {
+		return values.get(clause);
+	}
+
+	/**
+	 * Replaces the values of a clause, e.g. by the IDs of the names given in the query.
+	 * @param clause clause index
+	 * @param clauseValues
+	 */
+	public void setValues(int clause, List<String> clauseValues) {
+		values.set(clause, new ArrayList<String>(clauseValues));
+	}
+
+	/**
+	 * Splits JQL into words, quoted strings and the single character tokens = ( ) ,
+	 */
+	private static class Tokenizer {
+
+		private static final List<Character> SPECIAL = Arrays.asList(Character.valueOf('='), Character.valueOf('('),
+				Character.valueOf(')'), Character.valueOf(','));
+
+		private final String s;
+
+		private int pos = 0;
+
+		/**
+		 * Whether the last token returned by next() was a quoted string.
+		 */
+		boolean quoted;
+
+		Tokenizer(String s) {
+			this.s = s;
+		}
+
+		/**
+		 * @return next token, null at the end or on an unterminated string
+		 */
+		String next() {
+			quoted = false;
+			while( pos < s.length() && Character.isWhitespace(s.charAt(pos)) ) {
+				pos++;
+			}
+			if( pos == s.length() ) {
+				return null;
+			}
+			char c = s.charAt(pos);
+			if( SPECIAL.contains(Character.valueOf(c)) ) {
+				pos++;
+				return String.valueOf(c);
+			}
+			if( c == '"' || c == '\'' ) {
+				StringBuilder sb = new StringBuilder();
+				for(pos++; pos < s.length(); pos++) {
+					char d = s.charAt(pos);
+					if( d == c ) {
+						pos++;
+						quoted = true;
+						return sb.toString();
+					}
+					if( d == '\\' && pos + 1 < s.length() ) {
+						d = s.charAt(++pos);
+					}
+					sb.append(d);
+				}
+				pos = s.length();
+				return null;
+			}
+			int start = pos;
+			while( pos < s.length() && !Character.isWhitespace(s.charAt(pos)) && !SPECIAL.contains(Character.valueOf(s.charAt(pos)))
+					&& s.charAt(pos) != '"' && s.charAt(pos) != '\'' ) {
+				pos++;
+			}
+			return s.substring(start, pos);
+		}
+
+		/**
+		 * @return next token if it is a value (word or quoted string, but not EMPTY / NULL), otherwise null
+		 */
+		String nextValue() {
+			String token = next();
+			if( token == null || (!quoted && (SPECIAL.contains(Character.valueOf(token.charAt(0)))
+					|| "empty".equalsIgnoreCase(token) || "null".equalsIgnoreCase(token))) ) {
+				return null;
+			}
+			return token;
+		}
+	}
+}
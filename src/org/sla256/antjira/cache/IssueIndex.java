@@ -0,0 +1,409 @@
+package org.sla256.antjira.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Inverted index over the issues of an {@link IssueMirror}, answering issue counts of {@link IndexQuery}
+ * queries without contacting Jira. For each indexed field and value (term) the index holds the compressed
+ * list of the issues having that value (see {@link PostingLists}); a query ORs the lists of the values of
+ * each clause and ANDs the clauses.
+ * Indexed fields are project (key), status, priority, type (IDs), assignee (username), fixVersion and
+ * component (IDs and names). Version and component names are indexed apart from their IDs: like Jira, a value
+ * is taken as a name if one matches, and only otherwise as an ID. Terms are compared case-insensitively, as
+ * Jira does.
+ * The index is rebuilt from the mirror and written next to it by each synchronization, and records the time
+ * of that synchronization so that readers can tell how current it is. Loaded indexes are kept in memory,
+ * keyed by file, as long as the file does not change.
+ */
+public class IssueIndex {
+
+	public static final String PROJECT = "project";
+	public static final String STATUS = "status";
+	public static final String PRIORITY = "priority";
+	public static final String TYPE = "type";
+	public static final String ASSIGNEE = "assignee";
+	public static final String FIX_VERSION = "fixVersion";
+	public static final String COMPONENT = "component";
+
+	/**
+	 * Indexed fields.
+	 */
+	public static final String[] FIELDS = { PROJECT, STATUS, PRIORITY, TYPE, ASSIGNEE, FIX_VERSION, COMPONENT };
+
+	/**
+	 * Suffix appended to the mirror file name to get the index file name.
+	 */
+	public static final String FILE_SUFFIX = ".idx";
+
+	private static final int MAGIC = 0x414a4958;
+
+	private static final int FORMAT_VERSION = 2;
+
+	/**
+	 * Prefix of the terms of version and component names, keeping them apart from the terms of their IDs.
+	 */
+	private static final String NAME_PREFIX = "name:";
+
+	/**
+	 * Loaded indexes by canonical file path.
+	 */
+	private static final Map<String, IssueIndex> LOADED = new HashMap<String, IssueIndex>();
+
+	private final String source;
+
+	private final long syncTime;
+
+	private final int size;
+
+	/**
+	 * Encoded posting lists by field and term.
+	 */
+	private final Map<String, Map<String, byte[]>> postings = new HashMap<String, Map<String, byte[]>>();
+
+	/**
+	 * Modification time and length of the file the index was loaded from, to detect changes.
+	 */
+	private long fileModified;
+
+	private long fileLength;
+
+	private IssueIndex(String source, long syncTime, int size) {
+		this.source = source;
+		this.syncTime = syncTime;
+		this.size = size;
+		for(String field : FIELDS) {
+			postings.put(field, new HashMap<String, byte[]>());
+		}
+	}
+
+	/**
+	 * @param mirrorFile file of an {@link IssueMirror}
+	 * @return file of the index of the mirror
+	 */
+	public static File fileFor(File mirrorFile) {
+		return new File(mirrorFile.getPath() + FILE_SUFFIX);
+	}
+
+	/**
+	 * Maps a JQL field name to the indexed field.
+	 * @param name JQL field name, case insensitive; issuetype is accepted for type, fixVersions and
+	 * components for their singular forms
+	 * @return one of {@link #FIELDS}, null if the field is not indexed
+	 */
+	public static String canonicalField(String name) {
+		String lower = name.toLowerCase(Locale.ENGLISH);
+		if( "issuetype".equals(lower) ) {
+			return TYPE;
+		}
+		if( "fixversions".equals(lower) ) {
+			return FIX_VERSION;
+		}
+		if( "components".equals(lower) ) {
+			return COMPONENT;
+		}
+		for(String field : FIELDS) {
+			if( field.toLowerCase(Locale.ENGLISH).equals(lower) ) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Indexes the issues of a mirror.
+	 * @param mirror
+	 * @param endpointUrl Jira SOAP endpoint the issues come from
+	 * @param filterID Jira filter the issues belong to
+	 * @param syncTime time the mirror was last synchronized
+	 * @return new index
+	 */
+	public static IssueIndex build(IssueMirror mirror, String endpointUrl, String filterID, long syncTime) {
+		IssueIndex index = new IssueIndex(endpointUrl + "|" + filterID, syncTime, mirror.size());
+
+		Map<String, Map<String, int[]>> docs = new HashMap<String, Map<String, int[]>>();
+		for(String field : FIELDS) {
+			docs.put(field, new HashMap<String, int[]>());
+		}
+		int doc = 0;
+		for(RemoteIssue issue : mirror.getIssues()) {
+			add(docs, PROJECT, issue.getProject(), doc);
+			add(docs, STATUS, issue.getStatus(), doc);
+			add(docs, PRIORITY, issue.getPriority(), doc);
+			add(docs, TYPE, issue.getType(), doc);
+			add(docs, ASSIGNEE, issue.getAssignee(), doc);
+			if( issue.getFixVersions() != null ) {
+				for(RemoteVersion version : issue.getFixVersions()) {
+					if( version != null ) {
+						add(docs, FIX_VERSION, version.getId(), doc);
+						add(docs, FIX_VERSION, name(version.getName()), doc);
+					}
+				}
+			}
+			if( issue.getComponents() != null ) {
+				for(RemoteComponent component : issue.getComponents()) {
+					if( component != null ) {
+						add(docs, COMPONENT, component.getId(), doc);
+						add(docs, COMPONENT, name(component.getName()), doc);
+					}
+				}
+			}
+			doc++;
+		}
+
+		for(Map.Entry<String, Map<String, int[]>> field : docs.entrySet()) {
+			Map<String, byte[]> lists = index.postings.get(field.getKey());
+			for(Map.Entry<String, int[]> term : field.getValue().entrySet()) {
+				int[] termDocs = term.getValue();
+				lists.put(term.getKey(), PostingLists.encode(termDocs, 1, termDocs[0]));
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * @return term of a version or component name, null for null
+	 */
+	private static String name(String value) {
+		return value == null || value.length() == 0 ? null : NAME_PREFIX + value;
+	}
+
+	/**
+	 * Appends a document to the growing list of a term. Element 0 of a list holds its length, as lists are
+	 * built in place; a document is only added once even if it holds the same value twice.
+	 */
+	private static void add(Map<String, Map<String, int[]>> docs, String field, String value, int doc) {
+		if( value == null || value.length() == 0 ) {
+			return;
+		}
+		Map<String, int[]> terms = docs.get(field);
+		String term = value.toLowerCase(Locale.ENGLISH);
+		int[] list = terms.get(term);
+		if( list == null ) {
+			list = new int[8];
+			terms.put(term, list);
+		}
+		int count = list[0];
+		if( count > 0 && list[count] == doc ) {
+			return;
+		}
+		if( count + 1 == list.length ) {
+			int[] grown = new int[list.length * 2];
+			System.arraycopy(list, 0, grown, 0, list.length);
+			list = grown;
+			terms.put(term, list);
+		}
+		list[count + 1] = doc;
+		list[0] = count + 1;
+	}
+
+	/**
+	 * Loads the index stored in a file, reusing the instance loaded before if the file did not change.
+	 * @param file index file
+	 * @return the index, null if the file does not exist or can not be read
+	 */
+	public static IssueIndex load(File file) {
+		String key = canonicalPath(file);
+		long modified = file.lastModified();
+		long length = file.length();
+
+		synchronized (LOADED) {
+			IssueIndex index = LOADED.get(key);
+			if( index != null && index.fileModified == modified && index.fileLength == length ) {
+				return index;
+			}
+		}
+		if( !file.isFile() ) {
+			return null;
+		}
+
+		IssueIndex index;
+		try {
+			index = read(file);
+		}
+		catch(IOException e) {
+			// corrupt or incompatible index, counts are taken from the server until the next synchronization
+			return null;
+		}
+		index.fileModified = modified;
+		index.fileLength = length;
+		synchronized (LOADED) {
+			LOADED.put(key, index);
+		}
+		return index;
+	}
+
+	private static String canonicalPath(File file) {
+		try {
+			return file.getCanonicalPath();
+		}
+		catch(IOException e) {
+			return file.getAbsolutePath();
+		}
+	}
+
+	private static IssueIndex read(File file) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 65536));
+		try {
+			if( in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION ) {
+				throw new IOException("Not an issue index: " + file);
+			}
+			IssueIndex index = new IssueIndex(in.readUTF(), in.readLong(), in.readInt());
+			int fieldCount = in.readInt();
+			for(int f = 0; f < fieldCount; f++) {
+				String field = in.readUTF();
+				Map<String, byte[]> lists = index.postings.get(field);
+				int termCount = in.readInt();
+				for(int t = 0; t < termCount; t++) {
+					String term = in.readUTF();
+					byte[] list = new byte[in.readInt()];
+					in.readFully(list);
+					if( lists != null ) {
+						lists.put(term, list);
+					}
+				}
+			}
+			return index;
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Writes the index, replacing the file atomically.
+	 * @param file
+	 * @throws IOException
+	 */
+	public void save(File file) throws IOException {
+		File dir = file.getAbsoluteFile().getParentFile();
+		File tmp = File.createTempFile(file.getName(), ".tmp", dir);
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp), 65536));
+			try {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(source);
+				out.writeLong(syncTime);
+				out.writeInt(size);
+				out.writeInt(FIELDS.length);
+				for(String field : FIELDS) {
+					Map<String, byte[]> lists = postings.get(field);
+					out.writeUTF(field);
+					out.writeInt(lists.size());
+					for(Map.Entry<String, byte[]> term : lists.entrySet()) {
+						out.writeUTF(term.getKey());
+						out.writeInt(term.getValue().length);
+						out.write(term.getValue());
+					}
+				}
+			}
+			finally {
+				out.close();
+			}
+		}
+		catch(IOException e) {
+			tmp.delete();
+			throw e;
+		}
+		CacheFiles.replace(tmp, file);
+
+		fileModified = file.lastModified();
+		fileLength = file.length();
+		synchronized (LOADED) {
+			LOADED.put(canonicalPath(file), this);
+		}
+	}
+
+	/**
+	 * @param endpointUrl
+	 * @param filterID
+	 * @return true if the index holds the issues of the given filter of the given endpoint
+	 */
+	public boolean isFor(String endpointUrl, String filterID) {
+		return source.equals(endpointUrl + "|" + filterID);
+	}
+
+	/**
+	 * @return time (System.currentTimeMillis) of the synchronization the index was built from
+	 */
+	public long getSyncTime() {
+		return syncTime;
+	}
+
+	/**
+	 * @return number of indexed issues
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param field one of {@link #FIELDS}
+	 * @param value
+	 * @return true if some indexed issue has the value
+	 */
+	public boolean hasTerm(String field, String value) {
+		return list(postings.get(field), field, value) != null;
+	}
+
+	/**
+	 * Counts the issues matching all clauses of a query.
+	 * @param query
+	 * @return number of matching issues
+	 */
+	public int count(IndexQuery query) {
+		if( query.size() == 0 ) {
+			return size;
+		}
+		BitSet result = null;
+		for(int clause = 0; clause < query.size(); clause++) {
+			Map<String, byte[]> lists = postings.get(query.getField(clause));
+			BitSet matching = new BitSet(size);
+			for(String value : query.getValues(clause)) {
+				byte[] list = list(lists, query.getField(clause), value);
+				if( list != null ) {
+					PostingLists.decodeInto(list, matching);
+				}
+			}
+			if( result == null ) {
+				result = matching;
+			}
+			else {
+				result.and(matching);
+			}
+			if( result.isEmpty() ) {
+				return 0;
+			}
+		}
+		return result.cardinality();
+	}
+
+	/**
+	 * @return posting list of a value, that of the name before that of the ID for versions and components
+	 */
+	private static byte[] list(Map<String, byte[]> lists, String field, String value) {
+		String term = value.toLowerCase(Locale.ENGLISH);
+		if( FIX_VERSION.equals(field) || COMPONENT.equals(field) ) {
+			byte[] list = lists.get(NAME_PREFIX + term);
+			if( list != null ) {
+				return list;
+			}
+		}
+		return lists.get(term);
+	}
+}
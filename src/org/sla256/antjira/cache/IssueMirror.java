@@ -0,0 +1,241 @@
+package org.sla256.antjira.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.sla256.antjira.io.IssueSnapshotReader;
+import org.sla256.antjira.io.IssueSnapshotWriter;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Local copy of the issues of one Jira filter, keyed by issue key, persisted in a single file.
+ * Besides the issues the mirror tracks its watermark, the latest updated timestamp of all issues merged so
+ * far, from which the next synchronization asks the server only for the issues changed since.
+ * The file is an issue snapshot (see IssueSnapshotWriter) whose metadata hold the source, watermark and full
+ * synchronization time of the mirror. It is replaced atomically when saved, so readers never see a partially
+ * written mirror. A missing, unreadable or incompatible file (other endpoint or filter, other format
+ * version) yields an empty mirror, which then gets populated by a full synchronization.
+ */
+public class IssueMirror {
+
+	/**
+	 * Version of the mirror metadata, stored in the file.
+	 */
+	private static final String FORMAT_VERSION = "2";
+
+	/**
+	 * Watermark of a mirror which never received an issue with an updated timestamp.
+	 */
+	public static final long NO_WATERMARK = Long.MIN_VALUE;
+
+	/**
+	 * Orders issues by numeric ID (shorter IDs first, then lexically).
+	 */
+	private static final Comparator<RemoteIssue> ID_ORDER = new Comparator<RemoteIssue>() {
+		public int compare(RemoteIssue a, RemoteIssue b) {
+			String x = a.getId() != null ? a.getId() : "";
+			String y = b.getId() != null ? b.getId() : "";
+			return x.length() != y.length() ? x.length() - y.length() : x.compareTo(y);
+		}
+	};
+
+	private final File file;
+
+	/**
+	 * Identifies the mirrored data (endpoint and filter); a file of another source is not loaded.
+	 */
+	private final String source;
+
+	private final Map<String, RemoteIssue> issues = new HashMap<String, RemoteIssue>();
+
+	private long watermark = NO_WATERMARK;
+
+	/**
+	 * Time (System.currentTimeMillis) of the last full synchronization, 0 if none.
+	 */
+	private long fullSyncTime = 0;
+
+	private boolean dirty = false;
+
+	private IssueMirror(File file, String source) {
+		this.file = file;
+		this.source = source;
+	}
+
+	/**
+	 * Loads the mirror stored in the given file.
+	 * @param file mirror file, need not exist
+	 * @param endpointUrl Jira SOAP endpoint the issues come from
+	 * @param filterID Jira filter the issues belong to
+	 * @return the stored mirror, or an empty one if the file is missing or holds other data
+	 */
+	public static IssueMirror load(File file, String endpointUrl, String filterID) {
+		IssueMirror mirror = new IssueMirror(file, endpointUrl + "|" + filterID);
+		if( file.isFile() ) {
+			try {
+				mirror.read();
+			}
+			catch(Exception e) {
+				// corrupt or incompatible mirror file, rebuilt by a full synchronization
+				mirror.issues.clear();
+				mirror.watermark = NO_WATERMARK;
+				mirror.fullSyncTime = 0;
+			}
+		}
+		return mirror;
+	}
+
+	private void read() throws Exception {
+		IssueSnapshotReader in = IssueSnapshotReader.open(file, false);
+		if( !FORMAT_VERSION.equals(in.getMetadata("mirror")) || !source.equals(in.getMetadata("source")) ) {
+			return;
+		}
+		in.read(new RemoteIssueHandler() {
+			public void handleIssue(RemoteIssue issue) {
+				issues.put(issue.getKey(), issue);
+			}
+		});
+		watermark = Long.parseLong(in.getMetadata("watermark"));
+		fullSyncTime = Long.parseLong(in.getMetadata("fullSyncTime"));
+	}
+
+	/**
+	 * Writes the mirror to its file, if it was modified since it was loaded.
+	 * @throws IOException
+	 */
+	public void save() throws IOException {
+		if( !dirty ) {
+			return;
+		}
+		File dir = file.getAbsoluteFile().getParentFile();
+		if( !dir.isDirectory() && !dir.mkdirs() ) {
+			throw new IOException("Can not create directory " + dir);
+		}
+		File tmp = File.createTempFile(file.getName(), ".tmp", dir);
+		try {
+			IssueSnapshotWriter out = new IssueSnapshotWriter(new BufferedOutputStream(new FileOutputStream(tmp), 65536));
+			out.setMetadata("mirror", FORMAT_VERSION);
+			out.setMetadata("source", source);
+			out.setMetadata("watermark", Long.toString(watermark));
+			out.setMetadata("fullSyncTime", Long.toString(fullSyncTime));
+			// in ID order, which keeps the delta encoded IDs and dates of the snapshot small
+			RemoteIssue[] sorted = issues.values().toArray(new RemoteIssue[issues.size()]);
+			Arrays.sort(sorted, ID_ORDER);
+			for(RemoteIssue issue : sorted) {
+				out.write(issue);
+			}
+			out.close();
+		}
+		catch(IOException e) {
+			tmp.delete();
+			throw e;
+		}
+		CacheFiles.replace(tmp, file);
+		dirty = false;
+	}
+
+	/**
+	 * Adds an issue or replaces the stored issue of the same key, and moves the watermark forward to the
+	 * updated timestamp of the issue.
+	 * @param issue
+	 * @return true if the issue is new or differs in its updated timestamp from the stored one
+	 */
+	public boolean merge(RemoteIssue issue) {
+		long updated = issue.getUpdated() != null ? issue.getUpdated().getTimeInMillis() : NO_WATERMARK;
+		if( updated > watermark ) {
+			watermark = updated;
+		}
+		RemoteIssue previous = issues.put(issue.getKey(), issue);
+		dirty = true;
+		if( previous == null ) {
+			return true;
+		}
+		long previousUpdated = previous.getUpdated() != null ? previous.getUpdated().getTimeInMillis() : NO_WATERMARK;
+		return previousUpdated != updated;
+	}
+
+	/**
+	 * Drops an issue, e.g. one no longer matching the filter.
+	 * @param key issue key
+	 * @return true if the issue was mirrored
+	 */
+	public boolean remove(String key) {
+		if( issues.remove(key) == null ) {
+			return false;
+		}
+		dirty = true;
+		return true;
+	}
+
+	/**
+	 * Completes a full synchronization: drops the issues which were not returned by it (deleted or no longer
+	 * matching the filter) and records its time.
+	 * @param keys keys of all issues returned by the full synchronization
+	 * @param time start time of the full synchronization
+	 * @return number of dropped issues
+	 */
+	public int completeFullSync(Set<String> keys, long time) {
+		int removed = 0;
+		for(Iterator<String> i = issues.keySet().iterator(); i.hasNext(); ) {
+			if( !keys.contains(i.next()) ) {
+				i.remove();
+				removed++;
+			}
+		}
+		fullSyncTime = time;
+		dirty = true;
+		return removed;
+	}
+
+	/**
+	 * @return latest updated timestamp (epoch ms) of the mirrored issues, {@link #NO_WATERMARK} if unknown
+	 */
+	public long getWatermark() {
+		return watermark;
+	}
+
+	/**
+	 * @return time of the last full synchronization, 0 if the mirror was never fully synchronized
+	 */
+	public long getFullSyncTime() {
+		return fullSyncTime;
+	}
+
+	/**
+	 * @return number of mirrored issues
+	 */
+	public int size() {
+		return issues.size();
+	}
+
+	/**
+	 * @param key issue key
+	 * @return mirrored issue, null if not mirrored
+	 */
+	public RemoteIssue get(String key) {
+		return issues.get(key);
+	}
+
+	/**
+	 * @return all mirrored issues, in no particular order
+	 */
+	public Collection<RemoteIssue> getIssues() {
+		return Collections.unmodifiableCollection(issues.values());
+	}
+
+	public File getFile() {
+		return file;
+	}
+}
@@ -0,0 +1,247 @@
+package org.sla256.antjira.cache;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+
+/**
+ * Opt-in on-disk cache of Jira login tokens, shared by all builds running on the same host.
+ * A token is stored per endpoint URL and username in a file readable only by its owner, and is reused until
+ * its time to live expires. A salted PBKDF2 hash of the password is stored along with it, and the token is only
+ * reused by builds given the same password, so that a wrong or changed password fails right away. Refreshing a token (login) is single-flight: concurrent builds (and threads)
+ * serialize on a lock file, and whoever comes second picks up the token the first one stored instead of
+ * logging in again.
+ */
+public class LoginTokenCache {
+
+	/**
+	 * Default time to live of a cached token (ms). Jira sessions expire after 30 minutes of inactivity by
+	 * default, so this stays below.
+	 */
+	public static final long DEFAULT_TTL = 20 * 60 * 1000L;
+
+	private static final String TOKEN = "token";
+
+	private static final String CREATED = "created";
+
+	private static final String SALT = "salt";
+
+	private static final String PASSWORD_HASH = "passwordHash";
+
+	private static final int HASH_ITERATIONS = 10000;
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	/**
+	 * In-process locks per cache file. File locks are held by the whole JVM, so threads of the same build
+	 * need to be serialized separately.
+	 */
+	private static final Map<String, Object> LOCKS = new HashMap<String, Object>();
+
+	private final File tokenFile;
+
+	private final File lockFile;
+
+	private final long ttl;
+
+	private final String username;
+
+	/**
+	 * @param dir cache directory, created (owner-only) if missing
+	 * @param ttl time to live of a token in milliseconds
+	 * @param endpointUrl Jira SOAP endpoint the tokens are valid for
+	 * @param username Jira user the tokens belong to
+	 * @throws IOException
+	 */
+	public LoginTokenCache(File dir, long ttl, String endpointUrl, String username) throws IOException {
+		if( !dir.isDirectory() && !dir.mkdirs() ) {
+			throw new IOException("Can not create token cache directory " + dir);
+		}
+		CacheFiles.restrictToOwner(dir, true);
+		String key = CacheFiles.digest(endpointUrl + "\n" + username);
+		this.tokenFile = new File(dir, key + ".token");
+		this.lockFile = new File(dir, key + ".lock");
+		this.ttl = ttl;
+		this.username = username;
+	}
+
+	/**
+	 * Default cache directory: ~/.antjira/tokens
+	 * @return default cache directory
+	 */
+	public static File getDefaultDir() {
+		return new File(new File(System.getProperty("user.home"), ".antjira"), "tokens");
+	}
+
+	/**
+	 * Returns a cached, non expired token or logs in to get a new one.
+	 * @param jss Jira SOAP WS handle used for login
+	 * @param password
+	 * @return valid login token
+	 * @throws Exception if login fails
+	 */
+	public String getToken(JiraSoapService jss, String password) throws Exception {
+		String token = read(password);
+		if( token != null ) {
+			return token;
+		}
+		return refresh(jss, password, null);
+	}
+
+	/**
+	 * Logs in again and stores the new token, unless another build or thread already replaced the stale
+	 * token while this one was waiting for the lock.
+	 * @param jss Jira SOAP WS handle used for login
+	 * @param password
+	 * @param staleToken token found to be invalid, null if none
+	 * @return valid login token
+	 * @throws Exception if login fails
+	 */
+	public String refresh(JiraSoapService jss, String password, String staleToken) throws Exception {
+		synchronized (lockFor(tokenFile)) {
+			RandomAccessFile raf = new RandomAccessFile(lockFile, "rw");
+			CacheFiles.restrictToOwner(lockFile, false);
+			try {
+				FileLock lock = raf.getChannel().lock();
+				try {
+					String token = read(password);
+					if( token != null && !token.equals(staleToken) ) {
+						return token;
+					}
+
+					token = jss.login(username, password);
+					if( token == null ) {
+						throw new IOException("Login failed");
+					}
+					write(token, password);
+					return token;
+				}
+				finally {
+					lock.release();
+				}
+			}
+			finally {
+				raf.close();
+			}
+		}
+	}
+
+	/**
+	 * Removes the cached token, e.g. after logout.
+	 */
+	public void invalidate() {
+		tokenFile.delete();
+	}
+
+	/**
+	 * @param password password of the build, which must match the one the token was obtained with
+	 * @return the cached token if present, not expired and obtained with the given password, null otherwise
+	 */
+	private String read(String password) {
+		if( !tokenFile.isFile() ) {
+			return null;
+		}
+		Properties props = new Properties();
+		try {
+			InputStream in = new FileInputStream(tokenFile);
+			try {
+				props.load(in);
+			}
+			finally {
+				in.close();
+			}
+			long created = Long.parseLong(props.getProperty(CREATED, "0"));
+			if( System.currentTimeMillis() - created > ttl ) {
+				return null;
+			}
+			String salt = props.getProperty(SALT);
+			if( salt == null || !hash(password, salt).equals(props.getProperty(PASSWORD_HASH)) ) {
+				return null;
+			}
+			return props.getProperty(TOKEN);
+		}
+		catch(Exception e) {
+			// unreadable or corrupt cache entry, treated as missing
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the token to a temporary owner-only file first and renames it, so readers never see a partial
+	 * entry.
+	 */
+	private void write(String token, String password) throws IOException {
+		File tmp = new File(tokenFile.getParentFile(), tokenFile.getName() + ".tmp");
+		tmp.delete();
+		if( !tmp.createNewFile() ) {
+			throw new IOException("Can not create " + tmp);
+		}
+		CacheFiles.restrictToOwner(tmp, false);
+
+		Properties props = new Properties();
+		props.setProperty(TOKEN, token);
+		props.setProperty(CREATED, String.valueOf(System.currentTimeMillis()));
+		byte[] salt = new byte[16];
+		RANDOM.nextBytes(salt);
+		props.setProperty(SALT, toHex(salt));
+		props.setProperty(PASSWORD_HASH, hash(password, props.getProperty(SALT)));
+		OutputStream out = new FileOutputStream(tmp);
+		try {
+			props.store(out, "ant-jira login token for " + username);
+		}
+		finally {
+			out.close();
+		}
+
+		CacheFiles.replace(tmp, tokenFile);
+	}
+
+	/**
+	 * @return hex encoded PBKDF2 hash of the password with the given salt
+	 */
+	private static String hash(String password, String salt) throws IOException {
+		try {
+			PBEKeySpec spec = new PBEKeySpec((password == null ? "" : password).toCharArray(), salt.getBytes("UTF-8"),
+					HASH_ITERATIONS, 256);
+			return toHex(SecretKeyFactory.getInstance("PBKDF2WithHmacSHA1").generateSecret(spec).getEncoded());
+		}
+		catch(GeneralSecurityException e) {
+			throw new IOException(e.getMessage());
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for(byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+		}
+		return sb.toString();
+	}
+
+	private static Object lockFor(File f) throws IOException {
+		String path = f.getCanonicalPath();
+		synchronized (LOCKS) {
+			Object lock = LOCKS.get(path);
+			if( lock == null ) {
+				lock = new Object();
+				LOCKS.put(path, lock);
+			}
+			return lock;
+		}
+	}
+}
@@ -0,0 +1,434 @@
+package org.sla256.antjira.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+
+import com.atlassian.jira.rpc.soap.beans.AbstractNamedRemoteEntity;
+import com.atlassian.jira.rpc.soap.beans.RemoteConfiguration;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.beans.RemotePriority;
+import com.atlassian.jira.rpc.soap.beans.RemoteProject;
+import com.atlassian.jira.rpc.soap.beans.RemoteResolution;
+import com.atlassian.jira.rpc.soap.beans.RemoteStatus;
+
+/**
+ * Read-through cache of Jira metadata which practically never changes: priorities, statuses, resolutions,
+ * issue types, sub-task issue types, projects and the server configuration.
+ * Values are kept in memory for the lifetime of the JVM (shared by all antjira blocks of a build) and, if a
+ * directory is given, serialized to disk so that subsequent builds don't need to fetch them again.
+ * Both layers honour the same time to live. Projects depend on the permissions of the user, so they are
+ * cached per username, and only by the cache instance itself when no username is given.
+ * Also resolves names (e.g. type "Bug", priority "Major") to the IDs expected by Jira, and project names and IDs
+ * to project keys.
+ */
+public class MetadataCache {
+
+	/**
+	 * Default time to live of cached metadata (ms): one day.
+	 */
+	public static final long DEFAULT_TTL = 24 * 60 * 60 * 1000L;
+
+	private static final String PRIORITIES = "priorities";
+	private static final String STATUSES = "statuses";
+	private static final String RESOLUTIONS = "resolutions";
+	private static final String ISSUE_TYPES = "issuetypes";
+	private static final String SUBTASK_ISSUE_TYPES = "subtaskissuetypes";
+	private static final String PROJECTS = "projects";
+	private static final String CONFIGURATION = "configuration";
+
+	private static final String[] KINDS = { PRIORITIES, STATUSES, RESOLUTIONS, ISSUE_TYPES, SUBTASK_ISSUE_TYPES, PROJECTS, CONFIGURATION };
+
+	/**
+	 * In-memory layer, keyed by endpoint URL, username for user dependent kinds, and metadata kind, shared by
+	 * all cache instances of the JVM. Guards the local layer of the instances too.
+	 */
+	private static final Map<String, Entry> MEMORY = new HashMap<String, Entry>();
+
+	/**
+	 * In-memory layer of this instance, for user dependent kinds when the username is not known.
+	 */
+	private final Map<String, Entry> local = new HashMap<String, Entry>();
+
+	private final String endpointUrl;
+
+	/**
+	 * Jira username the user dependent kinds are cached for, null if unknown.
+	 */
+	private final String username;
+
+	/**
+	 * On-disk layer for this endpoint, null if disabled.
+	 */
+	private final File dir;
+
+	/**
+	 * Suffix of the file names of user dependent kinds, null if the username is unknown.
+	 */
+	private final String userSuffix;
+
+	private final long ttl;
+
+	/**
+	 * @param dir base directory of the on-disk layer, null for in-memory caching only
+	 * @param ttl time to live in milliseconds
+	 * @param endpointUrl Jira SOAP endpoint the metadata belongs to
+	 * @param username Jira username, null if unknown
+	 * @throws IOException
+	 */
+	public MetadataCache(File dir, long ttl, String endpointUrl, String username) throws IOException {
+		this.endpointUrl = endpointUrl;
+		this.username = username;
+		this.ttl = ttl;
+		this.dir = dir == null ? null : new File(dir, CacheFiles.digest(endpointUrl));
+		this.userSuffix = username == null ? null : "-" + CacheFiles.digest(username);
+	}
+
+	/**
+	 * Default on-disk cache directory: ~/.antjira/metadata
+	 * @return default cache directory
+	 */
+	public static File getDefaultDir() {
+		return new File(new File(System.getProperty("user.home"), ".antjira"), "metadata");
+	}
+
+	public RemotePriority[] getPriorities(JiraSoapService jss, String token) throws Exception {
+		return (RemotePriority[]) get(PRIORITIES, jss, token);
+	}
+
+	public RemoteStatus[] getStatuses(JiraSoapService jss, String token) throws Exception {
+		return (RemoteStatus[]) get(STATUSES, jss, token);
+	}
+
+	public RemoteResolution[] getResolutions(JiraSoapService jss, String token) throws Exception {
+		return (RemoteResolution[]) get(RESOLUTIONS, jss, token);
+	}
+
+	public RemoteIssueType[] getIssueTypes(JiraSoapService jss, String token) throws Exception {
+		return (RemoteIssueType[]) get(ISSUE_TYPES, jss, token);
+	}
+
+	public RemoteIssueType[] getSubTaskIssueTypes(JiraSoapService jss, String token) throws Exception {
+		return (RemoteIssueType[]) get(SUBTASK_ISSUE_TYPES, jss, token);
+	}
+
+	public RemoteProject[] getProjects(JiraSoapService jss, String token) throws Exception {
+		return (RemoteProject[]) get(PROJECTS, jss, token);
+	}
+
+	public RemoteConfiguration getConfiguration(JiraSoapService jss, String token) throws Exception {
+		return (RemoteConfiguration) get(CONFIGURATION, jss, token);
+	}
+
+	/**
+	 * Resolves an issue type (or sub-task issue type) name to its ID. Numeric values are taken as IDs already.
+	 * @param jss
+	 * @param token
+	 * @param nameOrId
+	 * @return issue type ID, null if nameOrId is null or empty (not set)
+	 * @throws Exception if no issue type of the given name exists
+	 */
+	public String resolveIssueType(JiraSoapService jss, String token, String nameOrId) throws Exception {
+		return resolve(jss, token, "issue type", nameOrId, ISSUE_TYPES, SUBTASK_ISSUE_TYPES);
+	}
+
+	/**
+	 * Resolves a priority name to its ID. Numeric values are taken as IDs already.
+	 */
+	public String resolvePriority(JiraSoapService jss, String token, String nameOrId) throws Exception {
+		return resolve(jss, token, "priority", nameOrId, PRIORITIES);
+	}
+
+	/**
+	 * Resolves a status name to its ID. Numeric values are taken as IDs already.
+	 */
+	public String resolveStatus(JiraSoapService jss, String token, String nameOrId) throws Exception {
+		return resolve(jss, token, "status", nameOrId, STATUSES);
+	}
+
+	/**
+	 * Resolves a resolution name to its ID. Numeric values are taken as IDs already.
+	 */
+	public String resolveResolution(JiraSoapService jss, String token, String nameOrId) throws Exception {
+		return resolve(jss, token, "resolution", nameOrId, RESOLUTIONS);
+	}
+
+	/**
+	 * Resolves a project key, ID or name to its key, as JQL accepts all three.
+	 * @param jss
+	 * @param token
+	 * @param keyNameOrId
+	 * @return project key
+	 * @throws Exception if no project of the given key, ID or name exists
+	 */
+	public String resolveProjectKey(JiraSoapService jss, String token, String keyNameOrId) throws Exception {
+		String key = findProjectKey(jss, token, keyNameOrId);
+		if( key == null && invalidateStale(PROJECTS) ) {
+			key = findProjectKey(jss, token, keyNameOrId);
+		}
+		if( key == null ) {
+			throw new IllegalArgumentException("Unknown Jira project: " + keyNameOrId);
+		}
+		return key;
+	}
+
+	/**
+	 * Drops all cached metadata of this endpoint, in memory and on disk.
+	 */
+	public void invalidate() {
+		for(String kind : KINDS) {
+			invalidate(kind);
+		}
+	}
+
+	private void invalidate(String kind) {
+		synchronized (MEMORY) {
+			memoryOf(kind).remove(keyOf(kind));
+		}
+		File f = fileOf(kind);
+		if( f != null ) {
+			f.delete();
+		}
+	}
+
+	/**
+	 * @return true if the kind depends on the permissions of the user
+	 */
+	private static boolean isUserDependent(String kind) {
+		return PROJECTS.equals(kind);
+	}
+
+	private String keyOf(String kind) {
+		return isUserDependent(kind) ? endpointUrl + "|" + username + "|" + kind : endpointUrl + "|" + kind;
+	}
+
+	private Map<String, Entry> memoryOf(String kind) {
+		return isUserDependent(kind) && username == null ? local : MEMORY;
+	}
+
+	/**
+	 * @return file of the kind in the on-disk layer, null if not cached on disk
+	 */
+	private File fileOf(String kind) {
+		if( dir == null ) {
+			return null;
+		}
+		if( !isUserDependent(kind) ) {
+			return new File(dir, kind + ".ser");
+		}
+		return userSuffix == null ? null : new File(dir, kind + userSuffix + ".ser");
+	}
+
+	/**
+	 * Invalidates the given kind if it was not just fetched from the server, so that a lookup miss on a
+	 * cached value is retried once against fresh data.
+	 * @return true if the kind was invalidated
+	 */
+	private boolean invalidateStale(String kind) {
+		Entry entry;
+		synchronized (MEMORY) {
+			entry = memoryOf(kind).get(keyOf(kind));
+		}
+		if( entry != null && entry.fetched ) {
+			return false;
+		}
+		invalidate(kind);
+		return true;
+	}
+
+	private Object get(String kind, JiraSoapService jss, String token) throws Exception {
+		String key = keyOf(kind);
+		long now = System.currentTimeMillis();
+
+		synchronized (MEMORY) {
+			Entry entry = memoryOf(kind).get(key);
+			if( entry != null && now - entry.created <= ttl ) {
+				return entry.value;
+			}
+		}
+
+		Entry entry = readFromDisk(kind, now);
+		if( entry == null ) {
+			entry = new Entry(now, (Serializable) load(kind, jss, token));
+			entry.fetched = true;
+			writeToDisk(kind, entry);
+		}
+
+		synchronized (MEMORY) {
+			memoryOf(kind).put(key, entry);
+		}
+		return entry.value;
+	}
+
+	private static Object load(String kind, JiraSoapService jss, String token) throws Exception {
+		if( PRIORITIES.equals(kind) ) {
+			return jss.getPriorities(token);
+		}
+		if( STATUSES.equals(kind) ) {
+			return jss.getStatuses(token);
+		}
+		if( RESOLUTIONS.equals(kind) ) {
+			return jss.getResolutions(token);
+		}
+		if( ISSUE_TYPES.equals(kind) ) {
+			return jss.getIssueTypes(token);
+		}
+		if( SUBTASK_ISSUE_TYPES.equals(kind) ) {
+			return jss.getSubTaskIssueTypes(token);
+		}
+		if( PROJECTS.equals(kind) ) {
+			return jss.getProjectsNoSchemes(token);
+		}
+		return jss.getConfiguration(token);
+	}
+
+	private Entry readFromDisk(String kind, long now) {
+		File f = fileOf(kind);
+		if( f == null || !f.isFile() ) {
+			return null;
+		}
+		try {
+			ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(f)));
+			try {
+				Entry entry = (Entry) in.readObject();
+				return now - entry.created <= ttl ? entry : null;
+			}
+			finally {
+				in.close();
+			}
+		}
+		catch(Exception e) {
+			// corrupt or incompatible cache file, fetched again
+			return null;
+		}
+	}
+
+	private void writeToDisk(String kind, Entry entry) {
+		File f = fileOf(kind);
+		if( f == null ) {
+			return;
+		}
+		try {
+			if( !dir.isDirectory() && !dir.mkdirs() ) {
+				return;
+			}
+			File tmp = File.createTempFile(kind, ".tmp", dir);
+			ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+			try {
+				out.writeObject(new Entry(entry.created, entry.value));
+			}
+			finally {
+				out.close();
+			}
+			CacheFiles.replace(tmp, f);
+		}
+		catch(IOException e) {
+			// the on-disk layer is best effort only
+		}
+	}
+
+	/**
+	 * Looks the name up in the given kinds of metadata; null and empty names stand for a value which is not
+	 * set and resolve to null. A miss on cached data is retried once against data
+	 * freshly fetched from the server before giving up.
+	 */
+	private String resolve(JiraSoapService jss, String token, String what, String nameOrId, String... kinds) throws Exception {
+		if( nameOrId == null || nameOrId.length() == 0 ) {
+			// not set
+			return null;
+		}
+		if( isId(nameOrId) ) {
+			return nameOrId;
+		}
+		String id = findId(jss, token, nameOrId, kinds);
+		if( id == null ) {
+			boolean stale = false;
+			for(String kind : kinds) {
+				stale = invalidateStale(kind) || stale;
+			}
+			if( stale ) {
+				id = findId(jss, token, nameOrId, kinds);
+			}
+		}
+		if( id == null ) {
+			throw new IllegalArgumentException("Unknown Jira " + what + ": " + nameOrId);
+		}
+		return id;
+	}
+
+	private String findId(JiraSoapService jss, String token, String name, String... kinds) throws Exception {
+		for(String kind : kinds) {
+			AbstractNamedRemoteEntity[] entities = (AbstractNamedRemoteEntity[]) get(kind, jss, token);
+			if( entities != null ) {
+				for(AbstractNamedRemoteEntity entity : entities) {
+					if( entity != null && name.equalsIgnoreCase(entity.getName()) ) {
+						return entity.getId();
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private String findProjectKey(JiraSoapService jss, String token, String keyNameOrId) throws Exception {
+		RemoteProject[] projects = getProjects(jss, token);
+		if( projects == null ) {
+			return null;
+		}
+		// keys first, as Jira does
+		for(RemoteProject project : projects) {
+			if( project != null && keyNameOrId.equalsIgnoreCase(project.getKey()) ) {
+				return project.getKey();
+			}
+		}
+		for(RemoteProject project : projects) {
+			if( project != null && (keyNameOrId.equalsIgnoreCase(project.getName()) || keyNameOrId.equals(project.getId())) ) {
+				return project.getKey();
+			}
+		}
+		return null;
+	}
+
+	private static boolean isId(String value) {
+		if( value == null || value.length() == 0 ) {
+			return false;
+		}
+		for(int i = 0; i < value.length(); i++) {
+			if( !Character.isDigit(value.charAt(i)) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Cached value with the time it was fetched from the server.
+	 */
+	private static class Entry implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final long created;
+
+		private final Serializable value;
+
+		/**
+		 * True if fetched from the server by this JVM (as opposed to read from disk). Not persisted.
+		 */
+		private transient boolean fetched;
+
+		Entry(long created, Serializable value) {
+			this.created = created;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package org.sla256.antjira.cache;
+
+import java.util.BitSet;
+
+/**
+ * Compressed posting lists of the {@link IssueIndex}: ascending document numbers stored as the differences
+ * between consecutive numbers (the first one as is), each written as an unsigned varint of 7 bits per byte,
+ * low order groups first, the high bit set on all but the last byte of a number. Dense lists thus take
+ * about one byte per document.
+ */
+final class PostingLists {
+
+	private PostingLists() {
+	}
+
+	/**
+	 * @param docs ascending document numbers
+	 * @param offset index of the first document to encode
+	 * @param count number of documents to encode
+	 * @return encoded list
+	 */
+	static byte[] encode(int[] docs, int offset, int count) {
+		byte[] buf = new byte[count * 5];
+		int pos = 0;
+		int previous = 0;
+		for(int i = offset; i < offset + count; i++) {
+			int delta = docs[i] - previous;
+			previous = docs[i];
+			while( (delta & ~0x7f) != 0 ) {
+				buf[pos++] = (byte) ((delta & 0x7f) | 0x80);
+				delta >>>= 7;
+			}
+			buf[pos++] = (byte) delta;
+		}
+		byte[] list = new byte[pos];
+		System.arraycopy(buf, 0, list, 0, pos);
+		return list;
+	}
+
+	/**
+	 * Sets the bits of all documents of an encoded list.
+	 * @param list encoded list
+	 * @param docs receives the document numbers
+	 */
+	static void decodeInto(byte[] list, BitSet docs) {
+		int doc = 0;
+		int pos = 0;
+		while( pos < list.length ) {
+			int delta = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = list[pos++];
+				delta |= (b & 0x7f) << shift;
+				shift += 7;
+			}
+			while( b < 0 );
+			doc += delta;
+			docs.set(doc);
+		}
+	}
+}
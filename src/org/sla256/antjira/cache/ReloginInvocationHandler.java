@@ -0,0 +1,116 @@
+package org.sla256.antjira.cache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.axis.AxisFault;
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+
+import com.atlassian.jira.rpc.exception.RemoteAuthenticationException;
+
+/**
+ * Wraps a JiraSoapService so that a call failing with RemoteAuthenticationException (typically because a
+ * cached token expired on the server) logs in again through the {@link LoginTokenCache} and is retried once
+ * with the new token.
+ * All JiraSoapService operations except login take the token as their first argument; calls still passing a
+ * token known to be stale get the current one substituted, so callers holding on to an old token string
+ * keep working.
+ * The proxy also implements JiraSoapStreamingService when the wrapped handle does.
+ */
+public class ReloginInvocationHandler implements InvocationHandler {
+
+	private final JiraSoapService delegate;
+
+	private final LoginTokenCache cache;
+
+	private final String password;
+
+	private String currentToken;
+
+	private final Set<String> staleTokens = new HashSet<String>();
+
+	private ReloginInvocationHandler(JiraSoapService delegate, LoginTokenCache cache, String password, String token) {
+		this.delegate = delegate;
+		this.cache = cache;
+		this.password = password;
+		this.currentToken = token;
+	}
+
+	/**
+	 * @param delegate Jira SOAP WS handle to wrap
+	 * @param cache token cache used to log in again
+	 * @param password
+	 * @param token token currently in use
+	 * @return JiraSoapService logging in again on authentication failures
+	 */
+	public static JiraSoapService wrap(JiraSoapService delegate, LoginTokenCache cache, String password, String token) {
+		Class<?>[] interfaces = delegate instanceof JiraSoapStreamingService
+			? new Class<?>[] { JiraSoapService.class, JiraSoapStreamingService.class }
+			: new Class<?>[] { JiraSoapService.class };
+		return (JiraSoapService) Proxy.newProxyInstance(JiraSoapService.class.getClassLoader(), interfaces,
+				new ReloginInvocationHandler(delegate, cache, password, token));
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if( method.getDeclaringClass() == Object.class ) {
+			return method.invoke(this, args);
+		}
+		boolean tokenCall = args != null && args.length > 0 && args[0] instanceof String
+				&& !"login".equals(method.getName());
+
+		String usedToken = null;
+		if( tokenCall ) {
+			synchronized (this) {
+				if( staleTokens.contains(args[0]) ) {
+					args[0] = currentToken;
+				}
+				usedToken = (String) args[0];
+			}
+		}
+
+		try {
+			return method.invoke(delegate, args);
+		}
+		catch(InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if( !tokenCall || !isAuthenticationFailure(cause) ) {
+				throw cause;
+			}
+		}
+
+		synchronized (this) {
+			if( usedToken.equals(currentToken) ) {
+				staleTokens.add(currentToken);
+				currentToken = cache.refresh(delegate, password, currentToken);
+			}
+			args[0] = currentToken;
+		}
+
+		try {
+			return method.invoke(delegate, args);
+		}
+		catch(InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Operations not declaring RemoteAuthenticationException get a plain AxisFault from Axis, whose fault
+	 * details still name the Jira exception.
+	 */
+	private static boolean isAuthenticationFailure(Throwable t) {
+		if( t instanceof RemoteAuthenticationException ) {
+			return true;
+		}
+		if( t instanceof AxisFault ) {
+			String fault = ((AxisFault) t).dumpToString();
+			return fault != null && fault.indexOf("RemoteAuthenticationException") != -1;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,248 @@
+package org.sla256.antjira.encoding;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.apache.axis.Constants;
+import org.apache.axis.encoding.ser.CalendarDeserializer;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Hand-written field table of a SOAP bean class: element name to field index lookup, field kinds and typed
+ * setters. Used by the deserializers of the bean types found in large responses, in place of the TypeDesc /
+ * reflection based population of the Axis BeanDeserializer.
+ *
+ * Simple fields (strings, dates, numbers, booleans) are parsed from the element text by {@link #parse}; all
+ * other fields (arrays, nested beans) are left to the regular Axis or StAX decoding of their type, then
+ * stored with {@link #set}. Codecs hold no state and are shared.
+ */
+public abstract class BeanCodec {
+
+	/**
+	 * Field kind: xsd:string.
+	 */
+	public static final int STRING = 0;
+
+	/**
+	 * Field kind: xsd:dateTime, as Calendar.
+	 */
+	public static final int CALENDAR = 1;
+
+	/**
+	 * Field kind: xsd:long, as Long.
+	 */
+	public static final int LONG = 2;
+
+	/**
+	 * Field kind: xsd:boolean, as Boolean.
+	 */
+	public static final int BOOLEAN = 3;
+
+	/**
+	 * Field kind: anything decoded by the deserializer of its type (arrays, beans).
+	 */
+	public static final int COMPLEX = 4;
+
+	/**
+	 * Field kind: xsd:string with few distinct values (IDs, keys, usernames), shared through the
+	 * {@link StringPool} of the response being decoded.
+	 */
+	public static final int POOLED_STRING = 5;
+
+	private static final String XSD_NS = "http://www.w3.org/2001/XMLSchema";
+
+	private static final String BEANS_NS = "http://beans.soap.rpc.jira.atlassian.com";
+
+	static final QName XSD_STRING = new QName(XSD_NS, "string");
+
+	static final QName XSD_DATETIME = new QName(XSD_NS, "dateTime");
+
+	static final QName XSD_LONG = new QName(XSD_NS, "long");
+
+	static final QName XSD_BOOLEAN = new QName(XSD_NS, "boolean");
+
+	static final QName REMOTE_VERSION = new QName(BEANS_NS, "RemoteVersion");
+
+	static final QName REMOTE_COMPONENT = new QName(BEANS_NS, "RemoteComponent");
+
+	static final QName REMOTE_CUSTOM_FIELD_VALUE = new QName(BEANS_NS, "RemoteCustomFieldValue");
+
+	private static final CalendarDeserializer calendarDeserializer =
+		new CalendarDeserializer(Calendar.class, Constants.XSD_DATETIME);
+
+	private static final Map<Class<?>, BeanCodec> codecs;
+
+	static {
+		Map<Class<?>, BeanCodec> map = new HashMap<Class<?>, BeanCodec>();
+		map.put(RemoteIssue.class, new RemoteIssueCodec());
+		map.put(RemoteVersion.class, new RemoteVersionCodec());
+		map.put(RemoteComponent.class, new RemoteComponentCodec());
+		map.put(RemoteCustomFieldValue.class, new RemoteCustomFieldValueCodec());
+		codecs = Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * @return codec of the given bean class, null if the class has none
+	 */
+	public static BeanCodec forClass(Class<?> type) {
+		return codecs.get(type);
+	}
+
+	private final Class<?> type;
+
+	private final Map<String, Integer> fields = new HashMap<String, Integer>();
+
+	private final String[] elements;
+
+	private final int[] kinds;
+
+	private final Class<?>[] javaTypes;
+
+	private final QName[] xmlTypes;
+
+	/**
+	 * @param type bean class
+	 * @param fieldCount number of fields, to be declared by {@link #addField} with indexes 0 to fieldCount - 1
+	 */
+	protected BeanCodec(Class<?> type, int fieldCount) {
+		this.type = type;
+		elements = new String[fieldCount];
+		kinds = new int[fieldCount];
+		javaTypes = new Class<?>[fieldCount];
+		xmlTypes = new QName[fieldCount];
+	}
+
+	/**
+	 * Declares a field.
+	 * @param index index passed to {@link #set}
+	 * @param element local name of the field element
+	 * @param kind STRING, POOLED_STRING, CALENDAR, LONG, BOOLEAN or COMPLEX
+	 * @param javaType type of the field values
+	 * @param xmlType schema type of the field, as in the TypeDesc of the bean
+	 */
+	protected final void addField(int index, String element, int kind, Class<?> javaType, QName xmlType) {
+		fields.put(element, Integer.valueOf(index));
+		elements[index] = element;
+		kinds[index] = kind;
+		javaTypes[index] = javaType;
+		xmlTypes[index] = xmlType;
+	}
+
+	/**
+	 * @return bean class
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * @return number of fields, i.e. one more than the highest field index
+	 */
+	public int getFieldCount() {
+		return kinds.length;
+	}
+
+	/**
+	 * @param element local name of a child element of the bean
+	 * @return index of the field, -1 if the bean has no such field
+	 */
+	public int getField(String element) {
+		Integer index = fields.get(element);
+		return index != null ? index.intValue() : -1;
+	}
+
+	/**
+	 * @return local name of the field element
+	 */
+	public String getElement(int field) {
+		return elements[field];
+	}
+
+	/**
+	 * @return kind of the field
+	 */
+	public int getKind(int field) {
+		return kinds[field];
+	}
+
+	/**
+	 * @return true if the field is parsed from its element text by {@link #parse}
+	 */
+	public boolean isSimple(int field) {
+		return kinds[field] != COMPLEX;
+	}
+
+	/**
+	 * @return type of the field values
+	 */
+	public Class<?> getJavaType(int field) {
+		return javaTypes[field];
+	}
+
+	/**
+	 * @return schema type of the field
+	 */
+	public QName getXmlType(int field) {
+		return xmlTypes[field];
+	}
+
+	/**
+	 * Parses the text of a simple field element.
+	 * @throws IllegalArgumentException if the text is not valid for the field kind
+	 */
+	public Object parse(int field, String text) {
+		switch( kinds[field] ) {
+		case STRING:
+		case POOLED_STRING:
+			return text;
+		case CALENDAR:
+			return calendarDeserializer.makeValue(text.trim());
+		case LONG:
+			return Long.valueOf(text.trim());
+		case BOOLEAN:
+			text = text.trim();
+			if( "true".equals(text) || "1".equals(text) ) {
+				return Boolean.TRUE;
+			}
+			if( "false".equals(text) || "0".equals(text) ) {
+				return Boolean.FALSE;
+			}
+			throw new IllegalArgumentException("Invalid boolean value " + text);
+		default:
+			throw new IllegalArgumentException("Field " + field + " of " + type.getName() + " is not a simple field");
+		}
+	}
+
+	/**
+	 * Parses the text of a simple field element, taking the values of pooled string fields from a pool.
+	 * @param pool pool of the response being decoded, null for none
+	 * @throws IllegalArgumentException if the text is not valid for the field kind
+	 */
+	public Object parse(int field, CharSequence text, StringPool pool) {
+		if( kinds[field] == POOLED_STRING && pool != null ) {
+			return pool.intern(text);
+		}
+		return parse(field, text.toString());
+	}
+
+	/**
+	 * @return new empty bean
+	 */
+	public abstract Object newInstance();
+
+	/**
+	 * Stores a field value; null values are ignored for fields of primitive types.
+	 * @param bean instance created by {@link #newInstance()}
+	 * @param field field index
+	 * @param value value of the field type
+	 */
+	public abstract void set(Object bean, int field, Object value);
+}
@@ -0,0 +1,175 @@
+package org.sla256.antjira.encoding;
+
+import javax.xml.namespace.QName;
+
+import org.apache.axis.MessageContext;
+import org.apache.axis.encoding.DeserializationContext;
+import org.apache.axis.encoding.Deserializer;
+import org.apache.axis.encoding.DeserializerImpl;
+import org.apache.axis.encoding.Target;
+import org.apache.axis.message.SOAPHandler;
+import org.apache.axis.utils.JavaUtils;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+
+/**
+ * Axis deserializer of a bean type with a {@link BeanCodec}. Behaves like the Axis BeanDeserializer, except
+ * that fields are looked up by index and set through the codec instead of by reflection, and simple fields
+ * are parsed by a small text collecting handler instead of a SimpleDeserializer with its value targets.
+ * Arrays, nested beans and multiRef references go through the regular Axis deserializers of their type.
+ * Values of pooled string fields are shared through a {@link StringPool} kept in the message context, i.e.
+ * one pool per call.
+ */
+class FastBeanDeserializer extends DeserializerImpl {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Message context property holding the StringPool of the call.
+	 */
+	static final String STRING_POOL_PROPERTY = "antjira.stringPool";
+
+	private final BeanCodec codec;
+
+	/**
+	 * Pool of the call, looked up by the first pooled field of the bean.
+	 */
+	private transient StringPool pool;
+
+	FastBeanDeserializer(BeanCodec codec) {
+		this.codec = codec;
+	}
+
+	public void onStartElement(String namespace, String localName, String prefix, Attributes attributes,
+			DeserializationContext context) throws SAXException {
+		if( value == null ) {
+			value = codec.newInstance();
+		}
+	}
+
+	public SOAPHandler onStartChild(String namespace, String localName, String prefix, Attributes attributes,
+			DeserializationContext context) throws SAXException {
+		int field = codec.getField(localName);
+		if( field < 0 ) {
+			throw new SAXException("Invalid element in " + codec.getType().getName() + " - " + localName);
+		}
+		if( context.isNil(attributes) ) {
+			return null;
+		}
+
+		String href = attributes.getValue(context.getSOAPConstants().getAttrHref());
+		if( href == null && codec.isSimple(field) ) {
+			if( pool == null && codec.getKind(field) == BeanCodec.POOLED_STRING ) {
+				pool = getStringPool(context);
+			}
+			return new SimpleFieldHandler(codec, value, field, pool);
+		}
+
+		Class<?> javaType = codec.getJavaType(field);
+		QName xmlType = context.getTypeFromAttributes(namespace, localName, attributes);
+		if( xmlType == null && href == null ) {
+			xmlType = codec.getXmlType(field);
+		}
+		if( javaType.isArray() ) {
+			context.setDestinationClass(javaType);
+		}
+		Deserializer deserializer;
+		if( href == null ) {
+			deserializer = context.getDeserializerForType(xmlType);
+		}
+		else {
+			deserializer = new DeserializerImpl();
+			context.setDestinationClass(javaType);
+			deserializer.setDefaultType(context.getTypeMapping().getTypeQName(javaType));
+		}
+		if( deserializer == null ) {
+			deserializer = context.getDeserializerForClass(javaType);
+		}
+		if( deserializer == null ) {
+			throw new SAXException("No deserializer for " + xmlType + " (" + localName + " in "
+					+ codec.getType().getName() + ")");
+		}
+		deserializer.registerValueTarget(new FieldTarget(codec, value, field));
+		addChildDeserializer(deserializer);
+		return (SOAPHandler) deserializer;
+	}
+
+	/**
+	 * @return pool of the call, created on first use; null if there is no message context
+	 */
+	private static StringPool getStringPool(DeserializationContext context) {
+		MessageContext messageContext = context.getMessageContext();
+		if( messageContext == null ) {
+			return null;
+		}
+		StringPool pool = (StringPool) messageContext.getProperty(STRING_POOL_PROPERTY);
+		if( pool == null ) {
+			pool = new StringPool();
+			messageContext.setProperty(STRING_POOL_PROPERTY, pool);
+		}
+		return pool;
+	}
+
+	/**
+	 * Collects the text of a simple field element and sets the parsed value when the element ends.
+	 */
+	private static class SimpleFieldHandler extends SOAPHandler {
+
+		private final BeanCodec codec;
+
+		private final Object bean;
+
+		private final int field;
+
+		private final StringPool pool;
+
+		private final StringBuilder text = new StringBuilder();
+
+		SimpleFieldHandler(BeanCodec codec, Object bean, int field, StringPool pool) {
+			this.codec = codec;
+			this.bean = bean;
+			this.field = field;
+			this.pool = pool;
+		}
+
+		public void characters(char[] chars, int start, int length) throws SAXException {
+			text.append(chars, start, length);
+		}
+
+		public void endElement(String namespace, String localName, DeserializationContext context) throws SAXException {
+			try {
+				codec.set(bean, field, codec.parse(field, text, pool));
+			}
+			catch(IllegalArgumentException e) {
+				throw new SAXException("Invalid value of " + localName + " in " + codec.getType().getName()
+						+ ": " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Value target storing the result of a field deserializer into the bean.
+	 */
+	private static class FieldTarget implements Target {
+
+		private final BeanCodec codec;
+
+		private final Object bean;
+
+		private final int field;
+
+		FieldTarget(BeanCodec codec, Object bean, int field) {
+			this.codec = codec;
+			this.bean = bean;
+			this.field = field;
+		}
+
+		public void set(Object value) throws SAXException {
+			Class<?> javaType = codec.getJavaType(field);
+			if( value != null && !javaType.isPrimitive() && !javaType.isInstance(value) ) {
+				value = JavaUtils.convert(value, javaType);
+			}
+			codec.set(bean, field, value);
+		}
+	}
+}
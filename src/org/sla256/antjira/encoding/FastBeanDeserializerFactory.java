@@ -0,0 +1,48 @@
+package org.sla256.antjira.encoding;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import javax.xml.namespace.QName;
+
+import org.apache.axis.Constants;
+import org.apache.axis.encoding.DeserializerFactory;
+import org.apache.axis.encoding.ser.BeanDeserializer;
+
+/**
+ * Axis deserializer factory of bean types, registered in the SOAP binding stub in place of the
+ * BeanDeserializerFactory for the bean types found in large responses. Beans with a {@link BeanCodec} get a
+ * {@link FastBeanDeserializer}; any other class falls back to the Axis BeanDeserializer.
+ */
+public class FastBeanDeserializerFactory implements DeserializerFactory {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Class<?> javaType;
+
+	private final QName xmlType;
+
+	private final BeanCodec codec;
+
+	/**
+	 * Called by Axis when the factory is registered by class.
+	 * @param javaType bean class
+	 * @param xmlType schema type of the bean
+	 */
+	public FastBeanDeserializerFactory(Class<?> javaType, QName xmlType) {
+		this.javaType = javaType;
+		this.xmlType = xmlType;
+		codec = BeanCodec.forClass(javaType);
+	}
+
+	public javax.xml.rpc.encoding.Deserializer getDeserializerAs(String mechanismType) {
+		if( codec == null ) {
+			return new BeanDeserializer(javaType, xmlType);
+		}
+		return new FastBeanDeserializer(codec);
+	}
+
+	public Iterator<?> getSupportedMechanismTypes() {
+		return Collections.singletonList(Constants.AXIS_SAX).iterator();
+	}
+}
@@ -0,0 +1,164 @@
+package org.sla256.antjira.encoding;
+
+/**
+ * Allocation free conversion between xsd:dateTime text and epoch milliseconds, for the dates of large
+ * responses. Accepts what the Axis CalendarDeserializer accepts from Jira: yyyy-MM-ddTHH:mm:ss, optionally
+ * followed by a fraction of seconds (rounded to milliseconds) and a time zone (Z or +hh:mm / -hh:mm; UTC if
+ * absent), without going through a SimpleDateFormat and a Calendar.
+ * Dates are in the proleptic Gregorian calendar, so times before the Gregorian cutover of 1582 differ from
+ * those of a default GregorianCalendar.
+ */
+public final class Iso8601 {
+
+	private static final long MILLIS_PER_DAY = 86400000L;
+
+	private Iso8601() {
+	}
+
+	/**
+	 * @param text xsd:dateTime, without surrounding whitespace
+	 * @return epoch milliseconds
+	 * @throws IllegalArgumentException if the text is not a valid date time
+	 */
+	public static long parse(CharSequence text) {
+		int len = text.length();
+		int pos = len > 0 && text.charAt(0) == '+' ? 1 : 0;
+		if( len - pos < 19 || text.charAt(pos + 4) != '-' || text.charAt(pos + 7) != '-' || text.charAt(pos + 10) != 'T'
+				|| text.charAt(pos + 13) != ':' || text.charAt(pos + 16) != ':' ) {
+			throw invalid(text);
+		}
+		int year = digits(text, pos, 4);
+		int month = digits(text, pos + 5, 2);
+		int day = digits(text, pos + 8, 2);
+		int hour = digits(text, pos + 11, 2);
+		int minute = digits(text, pos + 14, 2);
+		int second = digits(text, pos + 17, 2);
+		if( month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) || hour > 23 || minute > 59 || second > 59 ) {
+			throw invalid(text);
+		}
+		pos += 19;
+
+		int millis = 0;
+		if( pos < len && text.charAt(pos) == '.' ) {
+			int start = ++pos;
+			while( pos < len && text.charAt(pos) >= '0' && text.charAt(pos) <= '9' ) {
+				pos++;
+			}
+			if( pos == start ) {
+				throw invalid(text);
+			}
+			for(int i = 0; i < 3; i++) {
+				millis = millis * 10 + (start + i < pos ? text.charAt(start + i) - '0' : 0);
+			}
+			if( pos - start > 3 && text.charAt(start + 3) >= '5' ) {
+				millis++;
+			}
+		}
+
+		long offset = 0;
+		if( pos < len ) {
+			char c = text.charAt(pos);
+			if( c == 'Z' && pos + 1 == len ) {
+				pos++;
+			}
+			else if( (c == '+' || c == '-') && pos + 6 == len && text.charAt(pos + 3) == ':' ) {
+				int hours = digits(text, pos + 1, 2);
+				int minutes = digits(text, pos + 4, 2);
+				if( hours > 14 || minutes > 59 ) {
+					throw invalid(text);
+				}
+				offset = (hours * 60L + minutes) * 60000L;
+				if( c == '-' ) {
+					offset = -offset;
+				}
+				pos += 6;
+			}
+			else {
+				throw invalid(text);
+			}
+		}
+
+		return daysFromCivil(year, month, day) * MILLIS_PER_DAY + ((hour * 60L + minute) * 60L + second) * 1000L
+				+ millis - offset;
+	}
+
+	/**
+	 * @param millis epoch milliseconds
+	 * @return the time as yyyy-MM-ddTHH:mm:ss.SSSZ, in UTC
+	 */
+	public static String format(long millis) {
+		long days = millis >= 0 ? millis / MILLIS_PER_DAY : (millis + 1) / MILLIS_PER_DAY - 1;
+		int ms = (int) (millis - days * MILLIS_PER_DAY);
+
+		// civil from days, see daysFromCivil
+		long z = days + 719468;
+		long era = (z >= 0 ? z : z - 146096) / 146097;
+		int doe = (int) (z - era * 146097);
+		int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		int mp = (5 * doy + 2) / 153;
+		int day = doy - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+		char[] buf = new char[24];
+		pad(buf, 0, (int) year, 4);
+		buf[4] = '-';
+		pad(buf, 5, month, 2);
+		buf[7] = '-';
+		pad(buf, 8, day, 2);
+		buf[10] = 'T';
+		pad(buf, 11, ms / 3600000, 2);
+		buf[13] = ':';
+		pad(buf, 14, ms / 60000 % 60, 2);
+		buf[16] = ':';
+		pad(buf, 17, ms / 1000 % 60, 2);
+		buf[19] = '.';
+		pad(buf, 20, ms % 1000, 3);
+		buf[23] = 'Z';
+		return new String(buf);
+	}
+
+	/**
+	 * @return number of days from 1970-01-01 to the given date of the proleptic Gregorian calendar
+	 */
+	private static long daysFromCivil(int year, int month, int day) {
+		// eras of 400 years starting on March 1st, so that the leap day is the last day of a year
+		int y = month <= 2 ? year - 1 : year;
+		int era = (y >= 0 ? y : y - 399) / 400;
+		int yoe = y - era * 400;
+		int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097L + doe - 719468;
+	}
+
+	private static int daysInMonth(int year, int month) {
+		if( month == 2 ) {
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		}
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+
+	private static int digits(CharSequence text, int pos, int count) {
+		int value = 0;
+		for(int i = pos; i < pos + count; i++) {
+			char c = text.charAt(i);
+			if( c < '0' || c > '9' ) {
+				throw invalid(text);
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	private static void pad(char[] buf, int pos, int value, int width) {
+		for(int i = pos + width - 1; i >= pos; i--) {
+			buf[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+
+	private static IllegalArgumentException invalid(CharSequence text) {
+		return new IllegalArgumentException("Invalid date time " + text);
+	}
+}
@@ -0,0 +1,37 @@
+package org.sla256.antjira.encoding;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+
+/**
+ * Field table of RemoteComponent.
+ */
+final class RemoteComponentCodec extends BeanCodec {
+
+	private static final int ID = 0;
+
+	private static final int NAME = 1;
+
+	RemoteComponentCodec() {
+		super(RemoteComponent.class, 2);
+		addField(ID, "id", POOLED_STRING, String.class, XSD_STRING);
+		addField(NAME, "name", POOLED_STRING, String.class, XSD_STRING);
+	}
+
+	public Object newInstance() {
+		return new RemoteComponent();
+	}
+
+	public void set(Object bean, int field, Object value) {
+		RemoteComponent component = (RemoteComponent) bean;
+		switch( field ) {
+		case ID:
+			component.setId((String) value);
+			break;
+		case NAME:
+			component.setName((String) value);
+			break;
+		default:
+			throw new IllegalArgumentException("No field " + field + " in RemoteComponent");
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package org.sla256.antjira.encoding;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+
+/**
+ * Field table of RemoteCustomFieldValue.
+ */
+final class RemoteCustomFieldValueCodec extends BeanCodec {
+
+	private static final int CUSTOMFIELD_ID = 0;
+
+	private static final int KEY = 1;
+
+	private static final int VALUES = 2;
+
+	RemoteCustomFieldValueCodec() {
+		super(RemoteCustomFieldValue.class, 3);
+		addField(CUSTOMFIELD_ID, "customfieldId", POOLED_STRING, String.class, XSD_STRING);
+		addField(KEY, "key", STRING, String.class, XSD_STRING);
+		addField(VALUES, "values", COMPLEX, String[].class, XSD_STRING);
+	}
+
+	public Object newInstance() {
+		return new RemoteCustomFieldValue();
+	}
+
+	public void set(Object bean, int field, Object value) {
+		RemoteCustomFieldValue customFieldValue = (RemoteCustomFieldValue) bean;
+		switch( field ) {
+		case CUSTOMFIELD_ID:
+			customFieldValue.setCustomfieldId((String) value);
+			break;
+		case KEY:
+			customFieldValue.setKey((String) value);
+			break;
+		case VALUES:
+			customFieldValue.setValues((String[]) value);
+			break;
+		default:
+			throw new IllegalArgumentException("No field " + field + " in RemoteCustomFieldValue");
+		}
+	}
+}
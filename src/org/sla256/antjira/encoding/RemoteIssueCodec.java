@@ -0,0 +1,156 @@
+package org.sla256.antjira.encoding;
+
+import java.util.Calendar;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Field table of RemoteIssue.
+ */
+final class RemoteIssueCodec extends BeanCodec {
+
+	private static final int ID = 0;
+
+	private static final int AFFECTS_VERSIONS = 1;
+
+	private static final int ASSIGNEE = 2;
+
+	private static final int ATTACHMENT_NAMES = 3;
+
+	private static final int COMPONENTS = 4;
+
+	private static final int CREATED = 5;
+
+	private static final int CUSTOM_FIELD_VALUES = 6;
+
+	private static final int DESCRIPTION = 7;
+
+	private static final int DUEDATE = 8;
+
+	private static final int ENVIRONMENT = 9;
+
+	private static final int FIX_VERSIONS = 10;
+
+	private static final int KEY = 11;
+
+	private static final int PRIORITY = 12;
+
+	private static final int PROJECT = 13;
+
+	private static final int REPORTER = 14;
+
+	private static final int RESOLUTION = 15;
+
+	private static final int STATUS = 16;
+
+	private static final int SUMMARY = 17;
+
+	private static final int TYPE = 18;
+
+	private static final int UPDATED = 19;
+
+	private static final int VOTES = 20;
+
+	RemoteIssueCodec() {
+		super(RemoteIssue.class, 21);
+		addField(ID, "id", STRING, String.class, XSD_STRING);
+		addField(AFFECTS_VERSIONS, "affectsVersions", COMPLEX, RemoteVersion[].class, REMOTE_VERSION);
+		addField(ASSIGNEE, "assignee", POOLED_STRING, String.class, XSD_STRING);
+		addField(ATTACHMENT_NAMES, "attachmentNames", COMPLEX, String[].class, XSD_STRING);
+		addField(COMPONENTS, "components", COMPLEX, RemoteComponent[].class, REMOTE_COMPONENT);
+		addField(CREATED, "created", CALENDAR, Calendar.class, XSD_DATETIME);
+		addField(CUSTOM_FIELD_VALUES, "customFieldValues", COMPLEX, RemoteCustomFieldValue[].class, REMOTE_CUSTOM_FIELD_VALUE);
+		addField(DESCRIPTION, "description", STRING, String.class, XSD_STRING);
+		addField(DUEDATE, "duedate", CALENDAR, Calendar.class, XSD_DATETIME);
+		addField(ENVIRONMENT, "environment", STRING, String.class, XSD_STRING);
+		addField(FIX_VERSIONS, "fixVersions", COMPLEX, RemoteVersion[].class, REMOTE_VERSION);
+		addField(KEY, "key", STRING, String.class, XSD_STRING);
+		addField(PRIORITY, "priority", POOLED_STRING, String.class, XSD_STRING);
+		addField(PROJECT, "project", POOLED_STRING, String.class, XSD_STRING);
+		addField(REPORTER, "reporter", POOLED_STRING, String.class, XSD_STRING);
+		addField(RESOLUTION, "resolution", POOLED_STRING, String.class, XSD_STRING);
+		addField(STATUS, "status", POOLED_STRING, String.class, XSD_STRING);
+		addField(SUMMARY, "summary", STRING, String.class, XSD_STRING);
+		addField(TYPE, "type", POOLED_STRING, String.class, XSD_STRING);
+		addField(UPDATED, "updated", CALENDAR, Calendar.class, XSD_DATETIME);
+		addField(VOTES, "votes", LONG, Long.class, XSD_LONG);
+	}
+
+	public Object newInstance() {
+		return new RemoteIssue();
+	}
+
+	public void set(Object bean, int field, Object value) {
+		RemoteIssue issue = (RemoteIssue) bean;
+		switch( field ) {
+		case ID:
+			issue.setId((String) value);
+			break;
+		case AFFECTS_VERSIONS:
+			issue.setAffectsVersions((RemoteVersion[]) value);
+			break;
+		case ASSIGNEE:
+			issue.setAssignee((String) value);
+			break;
+		case ATTACHMENT_NAMES:
+			issue.setAttachmentNames((String[]) value);
+			break;
+		case COMPONENTS:
+			issue.setComponents((RemoteComponent[]) value);
+			break;
+		case CREATED:
+			issue.setCreated((Calendar) value);
+			break;
+		case CUSTOM_FIELD_VALUES:
+			issue.setCustomFieldValues((RemoteCustomFieldValue[]) value);
+			break;
+		case DESCRIPTION:
+			issue.setDescription((String) value);
+			break;
+		case DUEDATE:
+			issue.setDuedate((Calendar) value);
+			break;
+		case ENVIRONMENT:
+			issue.setEnvironment((String) value);
+			break;
+		case FIX_VERSIONS:
+			issue.setFixVersions((RemoteVersion[]) value);
+			break;
+		case KEY:
+			issue.setKey((String) value);
+			break;
+		case PRIORITY:
+			issue.setPriority((String) value);
+			break;
+		case PROJECT:
+			issue.setProject((String) value);
+			break;
+		case REPORTER:
+			issue.setReporter((String) value);
+			break;
+		case RESOLUTION:
+			issue.setResolution((String) value);
+			break;
+		case STATUS:
+			issue.setStatus((String) value);
+			break;
+		case SUMMARY:
+			issue.setSummary((String) value);
+			break;
+		case TYPE:
+			issue.setType((String) value);
+			break;
+		case UPDATED:
+			issue.setUpdated((Calendar) value);
+			break;
+		case VOTES:
+			issue.setVotes((Long) value);
+			break;
+		default:
+			throw new IllegalArgumentException("No field " + field + " in RemoteIssue");
+		}
+	}
+}
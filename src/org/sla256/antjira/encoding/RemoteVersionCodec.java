@@ -0,0 +1,67 @@
+package org.sla256.antjira.encoding;
+
+import java.util.Calendar;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Field table of RemoteVersion.
+ */
+final class RemoteVersionCodec extends BeanCodec {
+
+	private static final int ID = 0;
+
+	private static final int NAME = 1;
+
+	private static final int ARCHIVED = 2;
+
+	private static final int RELEASE_DATE = 3;
+
+	private static final int RELEASED = 4;
+
+	private static final int SEQUENCE = 5;
+
+	RemoteVersionCodec() {
+		super(RemoteVersion.class, 6);
+		addField(ID, "id", POOLED_STRING, String.class, XSD_STRING);
+		addField(NAME, "name", POOLED_STRING, String.class, XSD_STRING);
+		addField(ARCHIVED, "archived", BOOLEAN, boolean.class, XSD_BOOLEAN);
+		addField(RELEASE_DATE, "releaseDate", CALENDAR, Calendar.class, XSD_DATETIME);
+		addField(RELEASED, "released", BOOLEAN, boolean.class, XSD_BOOLEAN);
+		addField(SEQUENCE, "sequence", LONG, Long.class, XSD_LONG);
+	}
+
+	public Object newInstance() {
+		return new RemoteVersion();
+	}
+
+	public void set(Object bean, int field, Object value) {
+		RemoteVersion version = (RemoteVersion) bean;
+		switch( field ) {
+		case ID:
+			version.setId((String) value);
+			break;
+		case NAME:
+			version.setName((String) value);
+			break;
+		case ARCHIVED:
+			if( value != null ) {
+				version.setArchived(((Boolean) value).booleanValue());
+			}
+			break;
+		case RELEASE_DATE:
+			version.setReleaseDate((Calendar) value);
+			break;
+		case RELEASED:
+			if( value != null ) {
+				version.setReleased(((Boolean) value).booleanValue());
+			}
+			break;
+		case SEQUENCE:
+			version.setSequence((Long) value);
+			break;
+		default:
+			throw new IllegalArgumentException("No field " + field + " in RemoteVersion");
+		}
+	}
+}
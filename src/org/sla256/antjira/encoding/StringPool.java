@@ -0,0 +1,87 @@
+package org.sla256.antjira.encoding;
+
+/**
+ * Bounded canonicalizing pool of strings, so that the many occurrences of a few distinct values in a response
+ * (project keys, status and priority IDs, usernames, ...) share one String instance instead of each retaining
+ * its own copy.
+ *
+ * The pool is a fixed size, two way set associative table: a value goes to one of the two slots of the pair
+ * selected by its hash, evicting the least recently used value of the pair when both are taken. Lookups and
+ * insertions are thus constant time and memory is bounded by the table size (and {@link #MAX_LENGTH}); values
+ * which keep evicting each other merely stop being shared. Text from a character buffer is only turned into a
+ * String when not found, so repeated values allocate nothing.
+ * A pool is meant to live for one response (see FastBeanDeserializer and RemoteIssueStreamDecoder) and is
+ * not thread safe.
+ */
+public final class StringPool {
+
+	/**
+	 * Default number of slots.
+	 */
+	public static final int DEFAULT_SIZE = 1024;
+
+	/**
+	 * Longest value pooled; longer values are unlikely to repeat and are returned as new strings.
+	 */
+	public static final int MAX_LENGTH = 64;
+
+	/**
+	 * Slot pairs, the most recently used value of a pair in its even slot.
+	 */
+	private final String[] slots;
+
+	/**
+	 * Shift turning a hash into a pair index.
+	 */
+	private final int shift;
+
+	public StringPool() {
+		this(DEFAULT_SIZE);
+	}
+
+	/**
+	 * @param size number of slots, rounded up to a power of 2, at least 4
+	 */
+	public StringPool(int size) {
+		int capacity = Integer.highestOneBit(Math.max(size, 4) - 1) << 1;
+		slots = new String[capacity];
+		shift = 33 - Integer.numberOfTrailingZeros(capacity);
+	}
+
+	/**
+	 * @param text
+	 * @return pooled string equal to the given text
+	 */
+	public String intern(CharSequence text) {
+		int len = text.length();
+		if( len > MAX_LENGTH ) {
+			return text.toString();
+		}
+		int h;
+		if( text instanceof String ) {
+			h = text.hashCode();
+		}
+		else {
+			h = 0;
+			for(int i = 0; i < len; i++) {
+				h = 31 * h + text.charAt(i);
+			}
+		}
+		// Fibonacci hashing spreads the similar hashes of short strings over the pairs
+		int slot = ((h * 0x9e3779b9) >>> shift) << 1;
+		String pooled = slots[slot];
+		if( pooled != null && pooled.length() == len && pooled.hashCode() == h && pooled.contentEquals(text) ) {
+			return pooled;
+		}
+		String other = slots[slot + 1];
+		if( other != null && other.length() == len && other.hashCode() == h && other.contentEquals(text) ) {
+			slots[slot + 1] = pooled;
+			slots[slot] = other;
+			return other;
+		}
+		pooled = text.toString();
+		slots[slot + 1] = slots[slot];
+		slots[slot] = pooled;
+		return pooled;
+	}
+}
@@ -0,0 +1,153 @@
+package org.sla256.antjira.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 style CSV reader. The first row holds the field names; every following row is returned as one
+ * record. Quoted values may contain separators, doubled quotes and line breaks. Empty values are omitted
+ * from the record. A leading byte order mark, as written by spreadsheet applications, is skipped.
+ */
+public class CsvRecordReader implements RecordReader {
+
+	/**
+	 * Byte order mark, as decoded from any Unicode encoding.
+	 */
+	private static final char BOM = '\uFEFF';
+
+	private final Reader in;
+
+	private final char separator;
+
+	private final String[] header;
+
+	private int line = 1;
+
+	/**
+	 * Next character pushed back by the parser, -2 if none.
+	 */
+	private int pushedBack = -2;
+
+	/**
+	 * @param in input, should be buffered
+	 * @param separator field separator, typically ','
+	 * @throws IOException if the header row can not be read
+	 */
+	public CsvRecordReader(Reader in, char separator) throws IOException {
+		this.in = in;
+		this.separator = separator;
+		int first = in.read();
+		if( first != BOM ) {
+			pushedBack = first;
+		}
+		List<String> names = readRow();
+		if( names == null ) {
+			throw new IOException("CSV input has no header row");
+		}
+		header = names.toArray(new String[names.size()]);
+		for(int i = 0; i < header.length; i++) {
+			header[i] = header[i].trim();
+		}
+	}
+
+	public Map<String, String> next() throws IOException {
+		List<String> row;
+		do {
+			row = readRow();
+			if( row == null ) {
+				return null;
+			}
+		} while( row.size() == 1 && row.get(0).length() == 0 );
+
+		if( row.size() > header.length ) {
+			throw new IOException("CSV line " + line + " has " + row.size() + " values, header only " + header.length);
+		}
+		Map<String, String> record = new LinkedHashMap<String, String>();
+		for(int i = 0; i < row.size(); i++) {
+			String value = row.get(i);
+			if( value.length() > 0 ) {
+				record.put(header[i], value);
+			}
+		}
+		return record;
+	}
+
+	public void close() throws IOException {
+		in.close();
+	}
+
+	/**
+	 * @return the values of the next row, or null at end of input
+	 */
+	private List<String> readRow() throws IOException {
+		int c = read();
+		if( c == -1 ) {
+			return null;
+		}
+		List<String> values = new ArrayList<String>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+
+		while( true ) {
+			if( quoted ) {
+				if( c == -1 ) {
+					throw new IOException("Unterminated quoted CSV value at line " + line);
+				}
+				if( c == '"' ) {
+					int n = read();
+					if( n == '"' ) {
+						value.append('"');
+					}
+					else {
+						quoted = false;
+						c = n;
+						continue;
+					}
+				}
+				else {
+					if( c == '\n' ) {
+						line++;
+					}
+					value.append((char) c);
+				}
+			}
+			else if( c == '"' && value.length() == 0 ) {
+				quoted = true;
+			}
+			else if( c == separator ) {
+				values.add(value.toString());
+				value.setLength(0);
+			}
+			else if( c == '\r' || c == '\n' || c == -1 ) {
+				if( c == '\r' ) {
+					int n = read();
+					if( n != '\n' ) {
+						pushedBack = n;
+					}
+				}
+				if( c != -1 ) {
+					line++;
+				}
+				values.add(value.toString());
+				return values;
+			}
+			else {
+				value.append((char) c);
+			}
+			c = read();
+		}
+	}
+
+	private int read() throws IOException {
+		if( pushedBack != -2 ) {
+			int c = pushedBack;
+			pushedBack = -2;
+			return c;
+		}
+		return in.read();
+	}
+}
@@ -0,0 +1,77 @@
+package org.sla256.antjira.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * RFC 4180 style CSV writer with a fixed set of columns, written as header row. String arrays are joined
+ * with commas; values containing the separator, quotes or line breaks are quoted. The output can be read
+ * back with {@link CsvRecordReader}.
+ */
+public class CsvRecordWriter implements RecordWriter {
+
+	private final Writer out;
+
+	private final char separator;
+
+	private final String[] columns;
+
+	/**
+	 * @param out output, should be buffered
+	 * @param separator field separator, typically ','
+	 * @param columns names of the record fields written, in order
+	 * @throws IOException if the header row can not be written
+	 */
+	public CsvRecordWriter(Writer out, char separator, String[] columns) throws IOException {
+		this.out = out;
+		this.separator = separator;
+		this.columns = columns.clone();
+		for(int i = 0; i < columns.length; i++) {
+			if( i > 0 ) {
+				out.write(separator);
+			}
+			writeValue(columns[i]);
+		}
+		out.write("\r\n");
+	}
+
+	public void write(Map<String, Object> record) throws IOException {
+		for(int i = 0; i < columns.length; i++) {
+			if( i > 0 ) {
+				out.write(separator);
+			}
+			Object value = record.get(columns[i]);
+			if( value instanceof String[] ) {
+				StringBuilder sb = new StringBuilder();
+				for(String s : (String[]) value) {
+					if( sb.length() > 0 ) {
+						sb.append(',');
+					}
+					sb.append(s);
+				}
+				writeValue(sb.toString());
+			}
+			else if( value != null ) {
+				writeValue(value.toString());
+			}
+		}
+		out.write("\r\n");
+	}
+
+	public void close() throws IOException {
+		out.close();
+	}
+
+	private void writeValue(String value) throws IOException {
+		boolean quote = value.indexOf(separator) != -1 || value.indexOf('"') != -1
+				|| value.indexOf('\n') != -1 || value.indexOf('\r') != -1;
+		if( !quote ) {
+			out.write(value);
+			return;
+		}
+		out.write('"');
+		out.write(value.replace("\"", "\"\""));
+		out.write('"');
+	}
+}
@@ -0,0 +1,462 @@
+package org.sla256.antjira.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Reader of the issue snapshots written by {@link IssueSnapshotWriter}. The file is memory mapped (or read
+ * into memory at once), then issues are decoded on demand: all of them with {@link #read(RemoteIssueHandler)},
+ * or single columns without building issues with {@link #getStrings(String)} and {@link #getTimes(String)},
+ * e.g. to chart the statuses of archived snapshots.
+ * Dates are returned as GMT calendars, as the SOAP deserializer does. The components, versions and custom
+ * field values of the issues are shared between the issues holding the same values, and must not be modified.
+ * Readers are not thread safe. A mapping is released when the reader is garbage collected.
+ */
+public class IssueSnapshotReader {
+
+	/**
+	 * Value returned by {@link #getTimes(String)} for null dates.
+	 */
+	public static final long NO_TIME = Long.MIN_VALUE;
+
+	private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
+	private final ByteBuffer data;
+
+	private final int count;
+
+	private final Map<String, String> metadata = new LinkedHashMap<String, String>();
+
+	/**
+	 * Kind, offset and length of the columns by name.
+	 */
+	private final Map<String, int[]> columns = new HashMap<String, int[]>();
+
+	/**
+	 * Buffer for string bytes of mapped files.
+	 */
+	private byte[] scratch = new byte[256];
+
+	private IssueSnapshotReader(ByteBuffer data, File file) throws IOException {
+		this.data = data;
+		try {
+			if( data.getInt() != IssueSnapshotWriter.MAGIC || data.getInt() != IssueSnapshotWriter.FORMAT_VERSION ) {
+				throw new IOException("Not an issue snapshot: " + file);
+			}
+			count = (int) readVarint(data);
+			int entries = (int) readVarint(data);
+			for(int i = 0; i < entries; i++) {
+				String name = readString(data);
+				metadata.put(name, readString(data));
+			}
+			int columnCount = (int) readVarint(data);
+			String[] names = new String[columnCount];
+			int[][] descriptors = new int[columnCount][];
+			for(int i = 0; i < columnCount; i++) {
+				names[i] = readString(data);
+				descriptors[i] = new int[] { (int) readVarint(data), 0, (int) readVarint(data) };
+			}
+			int offset = data.position();
+			for(int i = 0; i < columnCount; i++) {
+				descriptors[i][1] = offset;
+				offset += descriptors[i][2];
+				columns.put(names[i], descriptors[i]);
+			}
+			if( offset != data.limit() ) {
+				throw new IOException("Truncated issue snapshot: " + file);
+			}
+		}
+		catch(BufferUnderflowException e) {
+			throw new IOException("Truncated issue snapshot: " + file);
+		}
+	}
+
+	/**
+	 * Opens a snapshot file, memory mapped.
+	 * @param file
+	 * @return the reader
+	 * @throws IOException if the file can not be read or is not a snapshot
+	 */
+	public static IssueSnapshotReader open(File file) throws IOException {
+		return open(file, true);
+	}
+
+	/**
+	 * Opens a snapshot file.
+	 * @param file
+	 * @param mapped whether to map the file, otherwise it is read into memory; files which are about to be
+	 * replaced should not be mapped, as a mapped file can not be deleted on Windows
+	 * @return the reader
+	 * @throws IOException if the file can not be read or is not a snapshot
+	 */
+	public static IssueSnapshotReader open(File file, boolean mapped) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			long size = channel.size();
+			if( size > Integer.MAX_VALUE ) {
+				throw new IOException("Issue snapshot too large: " + file);
+			}
+			ByteBuffer data;
+			if( mapped ) {
+				data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			}
+			else {
+				data = ByteBuffer.allocate((int) size);
+				while( data.hasRemaining() ) {
+					if( channel.read(data) < 0 ) {
+						throw new IOException("Truncated issue snapshot: " + file);
+					}
+				}
+				data.flip();
+			}
+			return new IssueSnapshotReader(data, file);
+		}
+		finally {
+			raf.close();
+		}
+	}
+
+	/**
+	 * @return number of issues in the snapshot
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * @param name
+	 * @return metadata entry stored by the writer, null if none
+	 */
+	public String getMetadata(String name) {
+		return metadata.get(name);
+	}
+
+	/**
+	 * Decodes all issues, in the order they were written.
+	 * @param handler receives the issues
+	 * @return number of issues
+	 * @throws Exception thrown by the handler, or IOException if the file is corrupt
+	 */
+	public int read(RemoteIssueHandler handler) throws Exception {
+		ColumnDecoder[] decoders = new ColumnDecoder[IssueSnapshotWriter.COLUMN_NAMES.length];
+		for(int i = 0; i < decoders.length; i++) {
+			decoders[i] = decoder(IssueSnapshotWriter.COLUMN_NAMES[i], IssueSnapshotWriter.COLUMN_KINDS[i]);
+		}
+		try {
+			for(int n = 0; n < count; n++) {
+				RemoteIssue issue = new RemoteIssue();
+				int c = 0;
+				issue.setId((String) next(decoders[c++]));
+				issue.setKey((String) next(decoders[c++]));
+				issue.setProject((String) next(decoders[c++]));
+				issue.setType((String) next(decoders[c++]));
+				issue.setPriority((String) next(decoders[c++]));
+				issue.setStatus((String) next(decoders[c++]));
+				issue.setResolution((String) next(decoders[c++]));
+				issue.setSummary((String) next(decoders[c++]));
+				issue.setDescription((String) next(decoders[c++]));
+				issue.setEnvironment((String) next(decoders[c++]));
+				issue.setAssignee((String) next(decoders[c++]));
+				issue.setReporter((String) next(decoders[c++]));
+				issue.setCreated((Calendar) next(decoders[c++]));
+				issue.setUpdated((Calendar) next(decoders[c++]));
+				issue.setDuedate((Calendar) next(decoders[c++]));
+				issue.setVotes((Long) next(decoders[c++]));
+				issue.setComponents((RemoteComponent[]) next(decoders[c++]));
+				issue.setAffectsVersions((RemoteVersion[]) next(decoders[c++]));
+				issue.setFixVersions((RemoteVersion[]) next(decoders[c++]));
+				issue.setAttachmentNames((String[]) next(decoders[c++]));
+				issue.setCustomFieldValues((RemoteCustomFieldValue[]) next(decoders[c++]));
+				handler.handleIssue(issue);
+			}
+		}
+		catch(BufferUnderflowException e) {
+			throw new IOException("Corrupt issue snapshot");
+		}
+		return count;
+	}
+
+	private static Object next(ColumnDecoder decoder) {
+		return decoder != null ? decoder.next() : null;
+	}
+
+	/**
+	 * Decodes a string column (strings, dictionary encoded strings or IDs) without building issues.
+	 * @param column column name, e.g. status
+	 * @return value per issue, null if the snapshot has no such column
+	 * @throws IOException if the file is corrupt
+	 */
+	public String[] getStrings(String column) throws IOException {
+		int[] descriptor = columns.get(column);
+		if( descriptor == null ) {
+			return null;
+		}
+		int kind = descriptor[0];
+		if( kind != IssueSnapshotWriter.STRING && kind != IssueSnapshotWriter.DICTIONARY && kind != IssueSnapshotWriter.NUMERIC_ID ) {
+			throw new IllegalArgumentException(column + " is not a string column");
+		}
+		ColumnDecoder decoder = decoder(column, kind);
+		String[] values = new String[count];
+		try {
+			for(int n = 0; n < count; n++) {
+				values[n] = (String) decoder.next();
+			}
+		}
+		catch(BufferUnderflowException e) {
+			throw new IOException("Corrupt issue snapshot");
+		}
+		return values;
+	}
+
+	/**
+	 * Decodes a date column without building issues.
+	 * @param column column name, e.g. created
+	 * @return epoch milliseconds per issue, {@link #NO_TIME} for null dates; null if the snapshot has no
+	 * such column
+	 * @throws IOException if the file is corrupt
+	 */
+	public long[] getTimes(String column) throws IOException {
+		int[] descriptor = columns.get(column);
+		if( descriptor == null ) {
+			return null;
+		}
+		if( descriptor[0] != IssueSnapshotWriter.TIME ) {
+			throw new IllegalArgumentException(column + " is not a date column");
+		}
+		ColumnDecoder decoder = decoder(column, IssueSnapshotWriter.TIME);
+		long[] values = new long[count];
+		try {
+			for(int n = 0; n < count; n++) {
+				values[n] = decoder.nextTime();
+			}
+		}
+		catch(BufferUnderflowException e) {
+			throw new IOException("Corrupt issue snapshot");
+		}
+		return values;
+	}
+
+	/**
+	 * @return decoder of the given column, null if the snapshot has no such column of the expected kind
+	 * @throws IOException if the dictionary of the column is corrupt
+	 */
+	private ColumnDecoder decoder(String column, int kind) throws IOException {
+		int[] descriptor = columns.get(column);
+		if( descriptor == null || descriptor[0] != kind ) {
+			return null;
+		}
+		ByteBuffer in = data.duplicate();
+		in.limit(descriptor[1] + descriptor[2]);
+		in.position(descriptor[1]);
+		try {
+			return new ColumnDecoder(in, kind);
+		}
+		catch(BufferUnderflowException e) {
+			throw new IOException("Corrupt issue snapshot, column " + column);
+		}
+	}
+
+	static long readVarint(ByteBuffer in) {
+		long v = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.get();
+			v |= (long) (b & 0x7f) << shift;
+			shift += 7;
+		}
+		while( b < 0 );
+		return v;
+	}
+
+	private String readString(ByteBuffer in) {
+		int len = (int) readVarint(in) - 1;
+		if( len < 0 ) {
+			return null;
+		}
+		if( in.remaining() < len ) {
+			throw new BufferUnderflowException();
+		}
+		if( in.hasArray() ) {
+			String s = new String(in.array(), in.arrayOffset() + in.position(), len, SnapshotBuffer.UTF8);
+			in.position(in.position() + len);
+			return s;
+		}
+		if( scratch.length < len ) {
+			scratch = new byte[Math.max(len, scratch.length * 2)];
+		}
+		in.get(scratch, 0, len);
+		return new String(scratch, 0, len, SnapshotBuffer.UTF8);
+	}
+
+	private String[] readStrings(ByteBuffer in) {
+		int len = (int) readVarint(in) - 1;
+		if( len < 0 ) {
+			return null;
+		}
+		String[] values = new String[len];
+		for(int i = 0; i < len; i++) {
+			values[i] = readString(in);
+		}
+		return values;
+	}
+
+	private static Calendar calendar(long millis) {
+		Calendar cal = new GregorianCalendar(GMT);
+		cal.setTimeInMillis(millis);
+		return cal;
+	}
+
+	/**
+	 * Sequential decoder of the values of one column.
+	 */
+	private class ColumnDecoder {
+
+		private final ByteBuffer in;
+
+		private final int kind;
+
+		/**
+		 * Dictionary entries, for dictionary encoded columns.
+		 */
+		private Object[] entries;
+
+		/**
+		 * Previous value of delta encoded columns.
+		 */
+		private long previous = 0;
+
+		ColumnDecoder(ByteBuffer in, int kind) {
+			this.in = in;
+			this.kind = kind;
+			if( kind == IssueSnapshotWriter.DICTIONARY || kind == IssueSnapshotWriter.COMPONENTS || kind == IssueSnapshotWriter.VERSIONS || kind == IssueSnapshotWriter.CUSTOM_FIELD_VALUES ) {
+				entries = new Object[(int) readVarint(in)];
+				for(int i = 0; i < entries.length; i++) {
+					entries[i] = readEntry();
+				}
+			}
+		}
+
+		private Object readEntry() {
+			if( kind == IssueSnapshotWriter.DICTIONARY ) {
+				return readString(in);
+			}
+			if( kind == IssueSnapshotWriter.COMPONENTS ) {
+				RemoteComponent component = new RemoteComponent();
+				component.setId(readString(in));
+				component.setName(readString(in));
+				return component;
+			}
+			if( kind == IssueSnapshotWriter.VERSIONS ) {
+				RemoteVersion version = new RemoteVersion();
+				version.setId(readString(in));
+				version.setName(readString(in));
+				long flags = readVarint(in);
+				version.setArchived((flags & 1) != 0);
+				version.setReleased((flags & 2) != 0);
+				long releaseDate = readVarint(in);
+				version.setReleaseDate(releaseDate == 0 ? null : calendar(SnapshotBuffer.unzigzag(releaseDate - 1)));
+				long sequence = readVarint(in);
+				version.setSequence(sequence == 0 ? null : Long.valueOf(SnapshotBuffer.unzigzag(sequence - 1)));
+				return version;
+			}
+			RemoteCustomFieldValue value = new RemoteCustomFieldValue();
+			value.setCustomfieldId(readString(in));
+			value.setKey(readString(in));
+			value.setValues(readStrings(in));
+			return value;
+		}
+
+		/**
+		 * @return next value of the column, as set on the issue
+		 */
+		Object next() {
+			if( kind == IssueSnapshotWriter.STRING ) {
+				return readString(in);
+			}
+			if( kind == IssueSnapshotWriter.DICTIONARY ) {
+				return entry((int) readVarint(in));
+			}
+			if( kind == IssueSnapshotWriter.NUMERIC_ID ) {
+				long v = readVarint(in);
+				if( v == 0 ) {
+					return null;
+				}
+				if( v == 1 ) {
+					return readString(in);
+				}
+				previous += SnapshotBuffer.unzigzag(v - 2);
+				return Long.toString(previous);
+			}
+			if( kind == IssueSnapshotWriter.TIME ) {
+				long millis = nextTime();
+				return millis == NO_TIME ? null : calendar(millis);
+			}
+			if( kind == IssueSnapshotWriter.NUMBER ) {
+				long v = readVarint(in);
+				return v == 0 ? null : Long.valueOf(SnapshotBuffer.unzigzag(v - 1));
+			}
+			if( kind == IssueSnapshotWriter.STRINGS ) {
+				return readStrings(in);
+			}
+			int len = (int) readVarint(in) - 1;
+			if( len < 0 ) {
+				return null;
+			}
+			Object[] values;
+			if( kind == IssueSnapshotWriter.COMPONENTS ) {
+				values = new RemoteComponent[len];
+			}
+			else if( kind == IssueSnapshotWriter.VERSIONS ) {
+				values = new RemoteVersion[len];
+			}
+			else {
+				values = new RemoteCustomFieldValue[len];
+			}
+			for(int i = 0; i < len; i++) {
+				values[i] = entry((int) readVarint(in));
+			}
+			return values;
+		}
+
+		/**
+		 * @return next value of a date column, {@link #NO_TIME} for null
+		 */
+		long nextTime() {
+			long v = readVarint(in);
+			if( v == 0 ) {
+				return NO_TIME;
+			}
+			previous += SnapshotBuffer.unzigzag(v - 1);
+			return previous;
+		}
+
+		private Object entry(int code) {
+			if( code == 0 ) {
+				return null;
+			}
+			if( code > entries.length ) {
+				throw new BufferUnderflowException();
+			}
+			return entries[code - 1];
+		}
+	}
+}
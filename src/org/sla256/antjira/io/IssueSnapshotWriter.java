@@ -0,0 +1,338 @@
+package org.sla256.antjira.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Writer of issue snapshots: a compact, columnar binary file of a set of issues, read back by
+ * {@link IssueSnapshotReader}.
+ *
+ * Each issue field is stored as a column holding the values of all issues in order. Low cardinality fields
+ * (project, type, priority, status, resolution, assignee, reporter) are dictionary encoded: the column starts
+ * with its distinct values, followed by one varint code per issue. Components, versions and custom field
+ * values are dictionary encoded the same way, as whole beans. Numeric IDs are stored as the difference to the
+ * previous ID, dates as epoch milliseconds relative to the previous date of the column, both as varints.
+ * Other strings are stored as is, in UTF-8 (see {@link SnapshotBuffer} for the primitive encodings).
+ *
+ * File layout: magic and format version (4 byte integers), issue count, metadata (string pairs, e.g. source
+ * and time of the snapshot), then the column descriptors (name, kind and length in bytes) followed by the
+ * column data, so that readers can locate any column without decoding the others.
+ *
+ * Columns are built in memory and written by {@link #close()}; the writer is not thread safe.
+ */
+public class IssueSnapshotWriter implements Closeable {
+
+	static final int MAGIC = 0x414a534e;
+
+	static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Column kind: string per issue.
+	 */
+	static final int STRING = 0;
+
+	/**
+	 * Column kind: string dictionary, then a code per issue (0 for null, otherwise dictionary index + 1).
+	 */
+	static final int DICTIONARY = 1;
+
+	/**
+	 * Column kind: numeric string per issue, as zigzag difference to the previous number + 2; 0 for null,
+	 * 1 followed by the string for values which are not plain decimal numbers.
+	 */
+	static final int NUMERIC_ID = 2;
+
+	/**
+	 * Column kind: Calendar per issue, as zigzag difference of epoch milliseconds to the previous non null
+	 * value + 1; 0 for null.
+	 */
+	static final int TIME = 3;
+
+	/**
+	 * Column kind: Long per issue, zigzag + 1; 0 for null.
+	 */
+	static final int NUMBER = 4;
+
+	/**
+	 * Column kind: string array per issue.
+	 */
+	static final int STRINGS = 5;
+
+	/**
+	 * Column kinds: bean dictionary, then per issue the element count + 1 (0 for null) and a code per element
+	 * (0 for null, otherwise dictionary index + 1).
+	 */
+	static final int COMPONENTS = 6;
+
+	static final int VERSIONS = 7;
+
+	static final int CUSTOM_FIELD_VALUES = 8;
+
+	static final String[] COLUMN_NAMES = { "id", "key", "project", "type", "priority", "status", "resolution",
+		"summary", "description", "environment", "assignee", "reporter", "created", "updated", "duedate", "votes",
+		"components", "affectsVersions", "fixVersions", "attachmentNames", "customFieldValues" };
+
+	static final int[] COLUMN_KINDS = { NUMERIC_ID, STRING, DICTIONARY, DICTIONARY, DICTIONARY, DICTIONARY,
+		DICTIONARY, STRING, STRING, STRING, DICTIONARY, DICTIONARY, TIME, TIME, TIME, NUMBER, COMPONENTS, VERSIONS,
+		VERSIONS, STRINGS, CUSTOM_FIELD_VALUES };
+
+	private final OutputStream out;
+
+	private final Map<String, String> metadata = new LinkedHashMap<String, String>();
+
+	private final Column[] columns = new Column[COLUMN_NAMES.length];
+
+	private int count = 0;
+
+	private boolean closed = false;
+
+	/**
+	 * @param out output, closed by {@link #close()}; should be buffered
+	 */
+	public IssueSnapshotWriter(OutputStream out) {
+		this.out = out;
+		for(int i = 0; i < columns.length; i++) {
+			columns[i] = new Column(COLUMN_KINDS[i]);
+		}
+	}
+
+	/**
+	 * Sets a metadata entry stored in the snapshot, see {@link IssueSnapshotReader#getMetadata(String)}.
+	 * @param name
+	 * @param value
+	 */
+	public void setMetadata(String name, String value) {
+		metadata.put(name, value);
+	}
+
+	/**
+	 * Appends an issue to the snapshot.
+	 * @param issue
+	 */
+	public void write(RemoteIssue issue) {
+		int c = 0;
+		columns[c++].writeId(issue.getId());
+		columns[c++].rows.writeString(issue.getKey());
+		columns[c++].writeCode(issue.getProject());
+		columns[c++].writeCode(issue.getType());
+		columns[c++].writeCode(issue.getPriority());
+		columns[c++].writeCode(issue.getStatus());
+		columns[c++].writeCode(issue.getResolution());
+		columns[c++].rows.writeString(issue.getSummary());
+		columns[c++].rows.writeString(issue.getDescription());
+		columns[c++].rows.writeString(issue.getEnvironment());
+		columns[c++].writeCode(issue.getAssignee());
+		columns[c++].writeCode(issue.getReporter());
+		columns[c++].writeTime(issue.getCreated());
+		columns[c++].writeTime(issue.getUpdated());
+		columns[c++].writeTime(issue.getDuedate());
+		columns[c++].writeNumber(issue.getVotes());
+		columns[c++].writeCodes(issue.getComponents());
+		columns[c++].writeCodes(issue.getAffectsVersions());
+		columns[c++].writeCodes(issue.getFixVersions());
+		columns[c++].rows.writeStrings(issue.getAttachmentNames());
+		columns[c++].writeCodes(issue.getCustomFieldValues());
+		count++;
+	}
+
+	/**
+	 * @return number of issues written so far
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Writes the snapshot and closes the output.
+	 */
+	public void close() throws IOException {
+		if( closed ) {
+			return;
+		}
+		closed = true;
+		try {
+			SnapshotBuffer header = new SnapshotBuffer(4096);
+			header.writeInt(MAGIC);
+			header.writeInt(FORMAT_VERSION);
+			header.writeVarint(count);
+			header.writeVarint(metadata.size());
+			for(Map.Entry<String, String> entry : metadata.entrySet()) {
+				header.writeString(entry.getKey());
+				header.writeString(entry.getValue());
+			}
+
+			SnapshotBuffer[] dictionaries = new SnapshotBuffer[columns.length];
+			header.writeVarint(columns.length);
+			for(int i = 0; i < columns.length; i++) {
+				dictionaries[i] = columns[i].encodeDictionary();
+				header.writeString(COLUMN_NAMES[i]);
+				header.writeVarint(COLUMN_KINDS[i]);
+				header.writeVarint((dictionaries[i] != null ? dictionaries[i].size() : 0) + columns[i].rows.size());
+			}
+			header.writeTo(out);
+			for(int i = 0; i < columns.length; i++) {
+				if( dictionaries[i] != null ) {
+					dictionaries[i].writeTo(out);
+				}
+				columns[i].rows.writeTo(out);
+			}
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Data of one column while being written.
+	 */
+	private static class Column {
+
+		private final int kind;
+
+		final SnapshotBuffer rows = new SnapshotBuffer(4096);
+
+		/**
+		 * Dictionary entries in code order, and their codes (index + 1), for dictionary encoded columns.
+		 */
+		private List<Object> entries;
+
+		private Map<Object, Integer> codes;
+
+		/**
+		 * Previous value of delta encoded columns.
+		 */
+		private long previous = 0;
+
+		Column(int kind) {
+			this.kind = kind;
+			if( kind == DICTIONARY || kind == COMPONENTS || kind == VERSIONS || kind == CUSTOM_FIELD_VALUES ) {
+				entries = new ArrayList<Object>();
+				codes = new HashMap<Object, Integer>();
+			}
+		}
+
+		void writeId(String id) {
+			if( id == null ) {
+				rows.writeVarint(0);
+			}
+			else if( isPlainNumber(id) ) {
+				long n = Long.parseLong(id);
+				rows.writeVarint(SnapshotBuffer.zigzag(n - previous) + 2);
+				previous = n;
+			}
+			else {
+				rows.writeVarint(1);
+				rows.writeString(id);
+			}
+		}
+
+		/**
+		 * @return true if Long.toString would give back the string
+		 */
+		private static boolean isPlainNumber(String s) {
+			int len = s.length();
+			if( len == 0 || len > 18 || (s.charAt(0) == '0' && len > 1) ) {
+				return false;
+			}
+			for(int i = 0; i < len; i++) {
+				char c = s.charAt(i);
+				if( c < '0' || c > '9' ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		void writeTime(Calendar cal) {
+			if( cal == null ) {
+				rows.writeVarint(0);
+				return;
+			}
+			long millis = cal.getTimeInMillis();
+			rows.writeVarint(SnapshotBuffer.zigzag(millis - previous) + 1);
+			previous = millis;
+		}
+
+		void writeNumber(Long n) {
+			rows.writeVarint(n == null ? 0 : SnapshotBuffer.zigzag(n.longValue()) + 1);
+		}
+
+		void writeCode(Object value) {
+			rows.writeVarint(code(value));
+		}
+
+		void writeCodes(Object[] values) {
+			if( values == null ) {
+				rows.writeVarint(0);
+				return;
+			}
+			rows.writeVarint(values.length + 1);
+			for(Object value : values) {
+				rows.writeVarint(code(value));
+			}
+		}
+
+		private int code(Object value) {
+			if( value == null ) {
+				return 0;
+			}
+			Integer code = codes.get(value);
+			if( code == null ) {
+				entries.add(value);
+				code = Integer.valueOf(entries.size());
+				codes.put(value, code);
+			}
+			return code.intValue();
+		}
+
+		/**
+		 * @return the encoded dictionary (entry count, then the entries), null if the column has none
+		 */
+		SnapshotBuffer encodeDictionary() {
+			if( entries == null ) {
+				return null;
+			}
+			SnapshotBuffer dictionary = new SnapshotBuffer(1024);
+			dictionary.writeVarint(entries.size());
+			for(Object entry : entries) {
+				if( kind == DICTIONARY ) {
+					dictionary.writeString((String) entry);
+				}
+				else if( kind == COMPONENTS ) {
+					RemoteComponent component = (RemoteComponent) entry;
+					dictionary.writeString(component.getId());
+					dictionary.writeString(component.getName());
+				}
+				else if( kind == VERSIONS ) {
+					RemoteVersion version = (RemoteVersion) entry;
+					dictionary.writeString(version.getId());
+					dictionary.writeString(version.getName());
+					dictionary.writeVarint((version.isArchived() ? 1 : 0) | (version.isReleased() ? 2 : 0));
+					Calendar releaseDate = version.getReleaseDate();
+					dictionary.writeVarint(releaseDate == null ? 0 : SnapshotBuffer.zigzag(releaseDate.getTimeInMillis()) + 1);
+					Long sequence = version.getSequence();
+					dictionary.writeVarint(sequence == null ? 0 : SnapshotBuffer.zigzag(sequence.longValue()) + 1);
+				}
+				else {
+					RemoteCustomFieldValue value = (RemoteCustomFieldValue) entry;
+					dictionary.writeString(value.getCustomfieldId());
+					dictionary.writeString(value.getKey());
+					dictionary.writeStrings(value.getValues());
+				}
+			}
+			return dictionary;
+		}
+	}
+}
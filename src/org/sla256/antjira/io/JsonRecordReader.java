@@ -0,0 +1,228 @@
+package org.sla256.antjira.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming JSON reader of flat records. Accepts either one top-level array of objects or a sequence of
+ * objects (newline delimited JSON); only the current object is held in memory.
+ * Values must be scalars or arrays of scalars: numbers and booleans are returned in their JSON text form,
+ * arrays as comma separated values, and nulls are omitted from the record.
+ */
+public class JsonRecordReader implements RecordReader {
+
+	private final Reader in;
+
+	private int line = 1;
+
+	/**
+	 * Next character pushed back by the parser, -2 if none.
+	 */
+	private int pushedBack = -2;
+
+	/**
+	 * Whether the input is a top-level array, null until the first token was seen.
+	 */
+	private Boolean inArray;
+
+	private boolean finished = false;
+
+	/**
+	 * @param in input, should be buffered
+	 */
+	public JsonRecordReader(Reader in) {
+		this.in = in;
+	}
+
+	public Map<String, String> next() throws IOException {
+		if( finished ) {
+			return null;
+		}
+		int c = skipWhitespace();
+
+		if( inArray == null ) {
+			inArray = Boolean.valueOf(c == '[');
+			if( inArray.booleanValue() ) {
+				c = skipWhitespace();
+				if( c == ']' ) {
+					finished = true;
+					return null;
+				}
+			}
+		}
+		else if( inArray.booleanValue() ) {
+			if( c == ']' ) {
+				finished = true;
+				return null;
+			}
+			if( c != ',' ) {
+				throw error("expected ',' or ']'");
+			}
+			c = skipWhitespace();
+		}
+
+		if( c == -1 && !inArray.booleanValue() ) {
+			finished = true;
+			return null;
+		}
+		if( c != '{' ) {
+			throw error("expected '{'");
+		}
+		return readObject();
+	}
+
+	public void close() throws IOException {
+		in.close();
+	}
+
+	private Map<String, String> readObject() throws IOException {
+		Map<String, String> record = new LinkedHashMap<String, String>();
+		int c = skipWhitespace();
+		if( c == '}' ) {
+			return record;
+		}
+		while( true ) {
+			if( c != '"' ) {
+				throw error("expected field name");
+			}
+			String name = readString();
+			if( skipWhitespace() != ':' ) {
+				throw error("expected ':'");
+			}
+			String value = readValue(skipWhitespace(), true);
+			if( value != null ) {
+				record.put(name, value);
+			}
+			c = skipWhitespace();
+			if( c == '}' ) {
+				return record;
+			}
+			if( c != ',' ) {
+				throw error("expected ',' or '}'");
+			}
+			c = skipWhitespace();
+		}
+	}
+
+	/**
+	 * @param c first character of the value
+	 * @param allowArray whether an array of scalars is accepted
+	 * @return the value as string, null for JSON null
+	 */
+	private String readValue(int c, boolean allowArray) throws IOException {
+		if( c == '"' ) {
+			return readString();
+		}
+		if( c == '[' && allowArray ) {
+			StringBuilder sb = new StringBuilder();
+			c = skipWhitespace();
+			while( c != ']' ) {
+				String item = readValue(c, false);
+				if( item != null ) {
+					if( sb.length() > 0 ) {
+						sb.append(',');
+					}
+					sb.append(item);
+				}
+				c = skipWhitespace();
+				if( c == ',' ) {
+					c = skipWhitespace();
+				}
+				else if( c != ']' ) {
+					throw error("expected ',' or ']'");
+				}
+			}
+			return sb.toString();
+		}
+		if( c == '{' || c == '[' ) {
+			throw error("nested objects and arrays are not supported");
+		}
+
+		StringBuilder sb = new StringBuilder();
+		while( c != -1 && c != ',' && c != '}' && c != ']' && !Character.isWhitespace(c) ) {
+			sb.append((char) c);
+			c = read();
+		}
+		pushedBack = c;
+		String literal = sb.toString();
+		if( literal.length() == 0 ) {
+			throw error("expected value");
+		}
+		return "null".equals(literal) ? null : literal;
+	}
+
+	private String readString() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		while( true ) {
+			int c = read();
+			if( c == -1 ) {
+				throw error("unterminated string");
+			}
+			if( c == '"' ) {
+				return sb.toString();
+			}
+			if( c == '\\' ) {
+				c = read();
+				switch( c ) {
+				case 'n': sb.append('\n'); break;
+				case 'r': sb.append('\r'); break;
+				case 't': sb.append('\t'); break;
+				case 'b': sb.append('\b'); break;
+				case 'f': sb.append('\f'); break;
+				case 'u':
+					char[] hex = new char[4];
+					for(int i = 0; i < 4; i++) {
+						int h = read();
+						if( h == -1 ) {
+							throw error("unterminated string");
+						}
+						hex[i] = (char) h;
+					}
+					try {
+						sb.append((char) Integer.parseInt(new String(hex), 16));
+					}
+					catch(NumberFormatException e) {
+						throw error("invalid unicode escape");
+					}
+					break;
+				case -1:
+					throw error("unterminated string");
+				default:
+					sb.append((char) c);
+				}
+			}
+			else {
+				sb.append((char) c);
+			}
+		}
+	}
+
+	private int skipWhitespace() throws IOException {
+		int c;
+		do {
+			c = read();
+		} while( c != -1 && Character.isWhitespace(c) );
+		return c;
+	}
+
+	private int read() throws IOException {
+		int c;
+		if( pushedBack != -2 ) {
+			c = pushedBack;
+			pushedBack = -2;
+		}
+		else {
+			c = in.read();
+			if( c == '\n' ) {
+				line++;
+			}
+		}
+		return c;
+	}
+
+	private IOException error(String msg) {
+		return new IOException("Invalid JSON at line " + line + ": " + msg);
+	}
+}
@@ -0,0 +1,88 @@
+package org.sla256.antjira.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Newline delimited JSON writer: one object per record and line, numbers and booleans written as such and
+ * string arrays as JSON arrays.
+ * The output can be read back with {@link JsonRecordReader}.
+ */
+public class JsonRecordWriter implements RecordWriter {
+
+	private final Writer out;
+
+	/**
+	 * @param out output, should be buffered
+	 */
+	public JsonRecordWriter(Writer out) {
+		this.out = out;
+	}
+
+	public void write(Map<String, Object> record) throws IOException {
+		out.write('{');
+		boolean first = true;
+		for(Map.Entry<String, Object> field : record.entrySet()) {
+			Object value = field.getValue();
+			if( value == null ) {
+				continue;
+			}
+			if( !first ) {
+				out.write(',');
+			}
+			first = false;
+			writeString(field.getKey());
+			out.write(':');
+			if( value instanceof String[] ) {
+				out.write('[');
+				String[] values = (String[]) value;
+				for(int i = 0; i < values.length; i++) {
+					if( i > 0 ) {
+						out.write(',');
+					}
+					writeString(values[i]);
+				}
+				out.write(']');
+			}
+			else if( value instanceof Number || value instanceof Boolean ) {
+				out.write(value.toString());
+			}
+			else {
+				writeString(value.toString());
+			}
+		}
+		out.write("}\n");
+	}
+
+	public void close() throws IOException {
+		out.close();
+	}
+
+	private void writeString(String s) throws IOException {
+		if( s == null ) {
+			out.write("null");
+			return;
+		}
+		out.write('"');
+		int len = s.length();
+		for(int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			switch( c ) {
+			case '"': out.write("\\\""); break;
+			case '\\': out.write("\\\\"); break;
+			case '\n': out.write("\\n"); break;
+			case '\r': out.write("\\r"); break;
+			case '\t': out.write("\\t"); break;
+			default:
+				if( c < 0x20 ) {
+					out.write(String.format("\\u%04x", Integer.valueOf(c)));
+				}
+				else {
+					out.write(c);
+				}
+			}
+		}
+		out.write('"');
+	}
+}
@@ -0,0 +1,18 @@
+package org.sla256.antjira.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Streaming reader of flat records (field name to string value), one record at a time, so that input files
+ * of any size can be processed with constant memory.
+ */
+public interface RecordReader extends Closeable {
+
+	/**
+	 * @return the next record, or null at the end of the input
+	 * @throws IOException on read or format errors
+	 */
+	Map<String, String> next() throws IOException;
+}
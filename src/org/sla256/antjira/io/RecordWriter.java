@@ -0,0 +1,18 @@
+package org.sla256.antjira.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Streaming writer of flat records, the counterpart of {@link RecordReader}. Values are strings, numbers or
+ * string arrays; null values are omitted.
+ */
+public interface RecordWriter extends Closeable {
+
+	/**
+	 * @param record field name to value
+	 * @throws IOException
+	 */
+	void write(Map<String, Object> record) throws IOException;
+}
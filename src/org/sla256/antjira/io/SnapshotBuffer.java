@@ -0,0 +1,105 @@
+package org.sla256.antjira.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Growable byte array holding one section of an issue snapshot while it is written, with the primitive
+ * encodings of the format: unsigned varints of 7 bits per byte (low order groups first, the high bit set on
+ * all but the last byte), signed numbers zigzag encoded into unsigned varints, and strings as the varint
+ * length of their UTF-8 bytes plus one (0 for null) followed by the bytes.
+ */
+final class SnapshotBuffer {
+
+	static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private byte[] buf;
+
+	private int size = 0;
+
+	SnapshotBuffer(int capacity) {
+		buf = new byte[capacity];
+	}
+
+	/**
+	 * @param v
+	 * @return v mapped to an unsigned number, small magnitudes (positive or negative) to small numbers
+	 */
+	static long zigzag(long v) {
+		return (v << 1) ^ (v >> 63);
+	}
+
+	/**
+	 * @param v zigzag encoded number
+	 * @return the signed number
+	 */
+	static long unzigzag(long v) {
+		return (v >>> 1) ^ -(v & 1);
+	}
+
+	private void ensure(int extra) {
+		if( size + extra > buf.length ) {
+			byte[] grown = new byte[Math.max(buf.length * 2, size + extra)];
+			System.arraycopy(buf, 0, grown, 0, size);
+			buf = grown;
+		}
+	}
+
+	/**
+	 * @param v number, treated as unsigned
+	 */
+	void writeVarint(long v) {
+		ensure(10);
+		while( (v & ~0x7fL) != 0 ) {
+			buf[size++] = (byte) ((v & 0x7f) | 0x80);
+			v >>>= 7;
+		}
+		buf[size++] = (byte) v;
+	}
+
+	/**
+	 * @param s string, may be null
+	 */
+	void writeString(String s) {
+		if( s == null ) {
+			writeVarint(0);
+			return;
+		}
+		byte[] bytes = s.getBytes(UTF8);
+		writeVarint(bytes.length + 1);
+		ensure(bytes.length);
+		System.arraycopy(bytes, 0, buf, size, bytes.length);
+		size += bytes.length;
+	}
+
+	/**
+	 * @param values strings, may be null: varint count plus one (0 for null), then the strings
+	 */
+	void writeStrings(String[] values) {
+		if( values == null ) {
+			writeVarint(0);
+			return;
+		}
+		writeVarint(values.length + 1);
+		for(String value : values) {
+			writeString(value);
+		}
+	}
+
+	void writeInt(int v) {
+		ensure(4);
+		buf[size++] = (byte) (v >>> 24);
+		buf[size++] = (byte) (v >>> 16);
+		buf[size++] = (byte) (v >>> 8);
+		buf[size++] = (byte) v;
+	}
+
+	int size() {
+		return size;
+	}
+
+	void writeTo(OutputStream out) throws IOException {
+		out.write(buf, 0, size);
+	}
+}
@@ -0,0 +1,1013 @@
+package org.sla256.antjira.jirasoapservice;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.sla256.antjira.AntJiraExecutors;
+
+/**
+ * Asynchronous facade of a {@link JiraSoapService}: every operation is run on an executor and returns at once
+ * with a Future of its result, so that callers can overlap calls without managing threads themselves.
+ *
+ * Calls run on virtual threads when the JVM provides them, otherwise on daemon platform threads (see
+ * {@link AntJiraExecutors}), unless an executor is given. A per-call timeout can be set: a call still
+ * running when it expires completes with a TimeoutException (wrapped in an ExecutionException by Future.get)
+ * and its thread is interrupted, like it is when the Future is cancelled.
+ *
+ * Neither a timeout nor a cancellation aborts the SOAP request in flight: interrupts do not unblock socket
+ * reads, so the request goes on in the background, keeping its executor thread and its HTTP connection,
+ * until Jira answers or the read timeout of the transport expires; its result is then discarded. The
+ * operation may thus still take effect on the Jira side after its Future reported a timeout. Callers that
+ * must bound the time spent on a request should also set a transport read timeout (readTimeout attribute
+ * of the antjira task).
+ *
+ * Operation failures (RemoteException and the Jira exceptions) are reported by Future.get as the cause of
+ * the ExecutionException.
+ *
+ * Example of usage:
+ * <pre>
+ * {@code
+ * AsyncJiraSoapService async = new AsyncJiraSoapService(jiraSoapService);
+ * async.setTimeout(30000);
+ * Future<Long> open = async.getIssueCountForFilter(token, "10021");
+ * Future<Long> closed = async.getIssueCountForFilter(token, "10022");
+ * long total = open.get() + closed.get();
+ * async.shutdown();
+ * }
+ * </pre>
+ */
+public class AsyncJiraSoapService {
+
+	private final JiraSoapService jiraSoapService;
+
+	private final ExecutorService executor;
+
+	/**
+	 * True if the executor was created by this instance, and is shut down with it.
+	 */
+	private final boolean ownExecutor;
+
+	/**
+	 * Timeout of each call in milliseconds, 0 for none.
+	 */
+	private volatile long timeout = 0;
+
+	/**
+	 * Expires calls on timeout, created on first use.
+	 */
+	private ScheduledExecutorService timer;
+
+	/**
+	 * Runs calls on virtual threads if available, on daemon platform threads otherwise. The executor is
+	 * shut down by {@link #shutdown()}.
+	 * @param jiraSoapService service the calls are delegated to, must support concurrent calls (the SOAP
+	 * binding stub does)
+	 */
+	public AsyncJiraSoapService(JiraSoapService jiraSoapService) {
+		this(jiraSoapService, AntJiraExecutors.newUnboundedExecutor("antjira-async"), true);
+	}
+
+	/**
+	 * @param jiraSoapService service the calls are delegated to, must support concurrent calls (the SOAP
+	 * binding stub does)
+	 * @param executor runs the calls; left running by {@link #shutdown()}
+	 */
+	public AsyncJiraSoapService(JiraSoapService jiraSoapService, ExecutorService executor) {
+		this(jiraSoapService, executor, false);
+	}
+
+	private AsyncJiraSoapService(JiraSoapService jiraSoapService, ExecutorService executor, boolean ownExecutor) {
+		this.jiraSoapService = jiraSoapService;
+		this.executor = executor;
+		this.ownExecutor = ownExecutor;
+	}
+
+	public JiraSoapService getJiraSoapService() {
+		return jiraSoapService;
+	}
+
+	/**
+	 * @return timeout of each call in milliseconds, 0 for none
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Timeout of each call in milliseconds, counted from its submission; 0 (the default) for none. Applies
+	 * to calls made after it is set. An expired call only stops being waited for: its request is not
+	 * aborted (see the class documentation).
+	 * @param timeout
+	 */
+	public void setTimeout(long timeout) {
+		if( timeout < 0 ) {
+			throw new IllegalArgumentException("timeout must not be negative");
+		}
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Interrupts pending calls, without aborting their requests in flight, and stops the timeout timer, and the executor if created by this instance.
+	 */
+	public synchronized void shutdown() {
+		if( timer != null ) {
+			timer.shutdownNow();
+			timer = null;
+		}
+		if( ownExecutor ) {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Runs a call on the executor, expiring it after the current timeout.
+	 * @param operation operation name, for the timeout message
+	 * @param callable the call
+	 * @return future of the call result
+	 */
+	protected <T> Future<T> submit(String operation, Callable<T> callable) {
+		final long callTimeout = timeout;
+		final CallFuture<T> future = new CallFuture<T>(operation, callable);
+		executor.execute(future);
+		if( callTimeout > 0 && !future.isDone() ) {
+			future.setTimer(getTimer().schedule(new Runnable() {
+				public void run() {
+					future.expire(callTimeout);
+				}
+			}, callTimeout, TimeUnit.MILLISECONDS));
+		}
+		return future;
+	}
+
+	private synchronized ScheduledExecutorService getTimer() {
+		if( timer == null ) {
+			timer = Executors.newSingleThreadScheduledExecutor(AntJiraExecutors.newDaemonThreadFactory("antjira-async-timeout"));
+		}
+		return timer;
+	}
+
+	/**
+	 * Future of a call, which can be completed with a TimeoutException while the call is running. Expiring
+	 * or cancelling it only interrupts the thread running the call; the call itself runs to its end.
+	 */
+	private static class CallFuture<T> extends FutureTask<T> {
+
+		private final String operation;
+
+		/**
+		 * Thread running the call, null before and after.
+		 */
+		private Thread runner;
+
+		private volatile Future<?> timer;
+
+		CallFuture(String operation, Callable<T> callable) {
+			super(callable);
+			this.operation = operation;
+		}
+
+		public void run() {
+			synchronized(this) {
+				runner = Thread.currentThread();
+			}
+			try {
+				super.run();
+			}
+			finally {
+				synchronized(this) {
+					runner = null;
+				}
+				Future<?> t = timer;
+				if( t != null ) {
+					t.cancel(false);
+				}
+			}
+		}
+
+		void setTimer(Future<?> timer) {
+			this.timer = timer;
+			if( isDone() ) {
+				timer.cancel(false);
+			}
+		}
+
+		void expire(long timeout) {
+			if( isDone() ) {
+				return;
+			}
+			setException(new TimeoutException(operation + " timed out after " + timeout + " ms"));
+			synchronized(this) {
+				if( runner != null ) {
+					runner.interrupt();
+				}
+			}
+		}
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteComment> getComment(final java.lang.String in0, final long in1) {
+		return submit("getComment", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteComment>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteComment call() throws Exception {
+				return jiraSoapService.getComment(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteGroup> createGroup(final java.lang.String in0, final java.lang.String in1, final com.atlassian.jira.rpc.soap.beans.RemoteUser in2) {
+		return submit("createGroup", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteGroup>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteGroup call() throws Exception {
+				return jiraSoapService.createGroup(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteServerInfo> getServerInfo(final java.lang.String in0) {
+		return submit("getServerInfo", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteServerInfo>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteServerInfo call() throws Exception {
+				return jiraSoapService.getServerInfo(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteGroup> getGroup(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getGroup", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteGroup>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteGroup call() throws Exception {
+				return jiraSoapService.getGroup(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.String> login(final java.lang.String in0, final java.lang.String in1) {
+		return submit("login", new Callable<java.lang.String>() {
+			public java.lang.String call() throws Exception {
+				return jiraSoapService.login(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteUser> getUser(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getUser", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteUser>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteUser call() throws Exception {
+				return jiraSoapService.getUser(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteUser> createUser(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2, final java.lang.String in3, final java.lang.String in4) {
+		return submit("createUser", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteUser>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteUser call() throws Exception {
+				return jiraSoapService.createUser(in0, in1, in2, in3, in4);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue> getIssue(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getIssue", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue call() throws Exception {
+				return jiraSoapService.getIssue(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue> createIssue(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteIssue in1) {
+		return submit("createIssue", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue call() throws Exception {
+				return jiraSoapService.createIssue(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteNamedObject[]> getAvailableActions(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getAvailableActions", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteNamedObject[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteNamedObject[] call() throws Exception {
+				return jiraSoapService.getAvailableActions(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue> updateIssue(final java.lang.String in0, final java.lang.String in1, final com.atlassian.jira.rpc.soap.beans.RemoteFieldValue[] in2) {
+		return submit("updateIssue", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue call() throws Exception {
+				return jiraSoapService.updateIssue(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteConfiguration> getConfiguration(final java.lang.String in0) {
+		return submit("getConfiguration", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteConfiguration>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteConfiguration call() throws Exception {
+				return jiraSoapService.getConfiguration(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteComponent[]> getComponents(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getComponents", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteComponent[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteComponent[] call() throws Exception {
+				return jiraSoapService.getComponents(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel> getSecurityLevel(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getSecurityLevel", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel call() throws Exception {
+				return jiraSoapService.getSecurityLevel(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProject> updateProject(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProject in1) {
+		return submit("updateProject", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProject>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProject call() throws Exception {
+				return jiraSoapService.updateProject(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProject> getProjectByKey(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getProjectByKey", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProject>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProject call() throws Exception {
+				return jiraSoapService.getProjectByKey(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemotePriority[]> getPriorities(final java.lang.String in0) {
+		return submit("getPriorities", new Callable<com.atlassian.jira.rpc.soap.beans.RemotePriority[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemotePriority[] call() throws Exception {
+				return jiraSoapService.getPriorities(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteResolution[]> getResolutions(final java.lang.String in0) {
+		return submit("getResolutions", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteResolution[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteResolution[] call() throws Exception {
+				return jiraSoapService.getResolutions(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssueType[]> getIssueTypes(final java.lang.String in0) {
+		return submit("getIssueTypes", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssueType[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssueType[] call() throws Exception {
+				return jiraSoapService.getIssueTypes(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteStatus[]> getStatuses(final java.lang.String in0) {
+		return submit("getStatuses", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteStatus[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteStatus[] call() throws Exception {
+				return jiraSoapService.getStatuses(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssueType[]> getSubTaskIssueTypes(final java.lang.String in0) {
+		return submit("getSubTaskIssueTypes", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssueType[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssueType[] call() throws Exception {
+				return jiraSoapService.getSubTaskIssueTypes(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProjectRole[]> getProjectRoles(final java.lang.String in0) {
+		return submit("getProjectRoles", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProjectRole[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProjectRole[] call() throws Exception {
+				return jiraSoapService.getProjectRoles(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProjectRole> getProjectRole(final java.lang.String in0, final long in1) {
+		return submit("getProjectRole", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProjectRole>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProjectRole call() throws Exception {
+				return jiraSoapService.getProjectRole(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProjectRoleActors> getProjectRoleActors(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in1, final com.atlassian.jira.rpc.soap.beans.RemoteProject in2) {
+		return submit("getProjectRoleActors", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProjectRoleActors>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProjectRoleActors call() throws Exception {
+				return jiraSoapService.getProjectRoleActors(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteRoleActors> getDefaultRoleActors(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in1) {
+		return submit("getDefaultRoleActors", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteRoleActors>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteRoleActors call() throws Exception {
+				return jiraSoapService.getDefaultRoleActors(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> removeAllRoleActorsByNameAndType(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2) {
+		return submit("removeAllRoleActorsByNameAndType", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.removeAllRoleActorsByNameAndType(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> removeAllRoleActorsByProject(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProject in1) {
+		return submit("removeAllRoleActorsByProject", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.removeAllRoleActorsByProject(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deleteProjectRole(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in1, final boolean in2) {
+		return submit("deleteProjectRole", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deleteProjectRole(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> updateProjectRole(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in1) {
+		return submit("updateProjectRole", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.updateProjectRole(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProjectRole> createProjectRole(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in1) {
+		return submit("createProjectRole", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProjectRole>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProjectRole call() throws Exception {
+				return jiraSoapService.createProjectRole(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Boolean> isProjectRoleNameUnique(final java.lang.String in0, final java.lang.String in1) {
+		return submit("isProjectRoleNameUnique", new Callable<java.lang.Boolean>() {
+			public java.lang.Boolean call() throws Exception {
+				return jiraSoapService.isProjectRoleNameUnique(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> addActorsToProjectRole(final java.lang.String in0, final java.lang.String[] in1, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in2, final com.atlassian.jira.rpc.soap.beans.RemoteProject in3, final java.lang.String in4) {
+		return submit("addActorsToProjectRole", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.addActorsToProjectRole(in0, in1, in2, in3, in4);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> removeActorsFromProjectRole(final java.lang.String in0, final java.lang.String[] in1, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in2, final com.atlassian.jira.rpc.soap.beans.RemoteProject in3, final java.lang.String in4) {
+		return submit("removeActorsFromProjectRole", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.removeActorsFromProjectRole(in0, in1, in2, in3, in4);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> addDefaultActorsToProjectRole(final java.lang.String in0, final java.lang.String[] in1, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in2, final java.lang.String in3) {
+		return submit("addDefaultActorsToProjectRole", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.addDefaultActorsToProjectRole(in0, in1, in2, in3);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> removeDefaultActorsFromProjectRole(final java.lang.String in0, final java.lang.String[] in1, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in2, final java.lang.String in3) {
+		return submit("removeDefaultActorsFromProjectRole", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.removeDefaultActorsFromProjectRole(in0, in1, in2, in3);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteScheme[]> getAssociatedNotificationSchemes(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in1) {
+		return submit("getAssociatedNotificationSchemes", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteScheme[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteScheme[] call() throws Exception {
+				return jiraSoapService.getAssociatedNotificationSchemes(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteScheme[]> getAssociatedPermissionSchemes(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProjectRole in1) {
+		return submit("getAssociatedPermissionSchemes", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteScheme[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteScheme[] call() throws Exception {
+				return jiraSoapService.getAssociatedPermissionSchemes(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteField[]> getCustomFields(final java.lang.String in0) {
+		return submit("getCustomFields", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteField[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteField[] call() throws Exception {
+				return jiraSoapService.getCustomFields(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteComment[]> getComments(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getComments", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteComment[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteComment[] call() throws Exception {
+				return jiraSoapService.getComments(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteFilter[]> getFavouriteFilters(final java.lang.String in0) {
+		return submit("getFavouriteFilters", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteFilter[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteFilter[] call() throws Exception {
+				return jiraSoapService.getFavouriteFilters(in0);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> archiveVersion(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2, final boolean in3) {
+		return submit("archiveVersion", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.archiveVersion(in0, in1, in2, in3);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteVersion[]> getVersions(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getVersions", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteVersion[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteVersion[] call() throws Exception {
+				return jiraSoapService.getVersions(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProject> createProject(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2, final java.lang.String in3, final java.lang.String in4, final java.lang.String in5, final com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme in6, final com.atlassian.jira.rpc.soap.beans.RemoteScheme in7, final com.atlassian.jira.rpc.soap.beans.RemoteScheme in8) {
+		return submit("createProject", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProject>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProject call() throws Exception {
+				return jiraSoapService.createProject(in0, in1, in2, in3, in4, in5, in6, in7, in8);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> addComment(final java.lang.String in0, final java.lang.String in1, final com.atlassian.jira.rpc.soap.beans.RemoteComment in2) {
+		return submit("addComment", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.addComment(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteField[]> getFieldsForEdit(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getFieldsForEdit", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteField[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteField[] call() throws Exception {
+				return jiraSoapService.getFieldsForEdit(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssueType[]> getIssueTypesForProject(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getIssueTypesForProject", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssueType[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssueType[] call() throws Exception {
+				return jiraSoapService.getIssueTypesForProject(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssueType[]> getSubTaskIssueTypesForProject(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getSubTaskIssueTypesForProject", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssueType[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssueType[] call() throws Exception {
+				return jiraSoapService.getSubTaskIssueTypesForProject(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> addUserToGroup(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteGroup in1, final com.atlassian.jira.rpc.soap.beans.RemoteUser in2) {
+		return submit("addUserToGroup", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.addUserToGroup(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> removeUserFromGroup(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteGroup in1, final com.atlassian.jira.rpc.soap.beans.RemoteUser in2) {
+		return submit("removeUserFromGroup", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.removeUserFromGroup(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Boolean> logout(final java.lang.String in0) {
+		return submit("logout", new Callable<java.lang.Boolean>() {
+			public java.lang.Boolean call() throws Exception {
+				return jiraSoapService.logout(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProject> getProjectById(final java.lang.String in0, final long in1) {
+		return submit("getProjectById", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProject>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProject call() throws Exception {
+				return jiraSoapService.getProjectById(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProject> getProjectWithSchemesById(final java.lang.String in0, final long in1) {
+		return submit("getProjectWithSchemesById", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProject>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProject call() throws Exception {
+				return jiraSoapService.getProjectWithSchemesById(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deleteProject(final java.lang.String in0, final java.lang.String in1) {
+		return submit("deleteProject", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deleteProject(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> releaseVersion(final java.lang.String in0, final java.lang.String in1, final com.atlassian.jira.rpc.soap.beans.RemoteVersion in2) {
+		return submit("releaseVersion", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.releaseVersion(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel[]> getSecurityLevels(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getSecurityLevels", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel[] call() throws Exception {
+				return jiraSoapService.getSecurityLevels(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deleteIssue(final java.lang.String in0, final java.lang.String in1) {
+		return submit("deleteIssue", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deleteIssue(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue> createIssueWithSecurityLevel(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteIssue in1, final long in2) {
+		return submit("createIssueWithSecurityLevel", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue call() throws Exception {
+				return jiraSoapService.createIssueWithSecurityLevel(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<java.lang.Boolean> addAttachmentsToIssue(final java.lang.String in0, final java.lang.String in1, final java.lang.String[] in2, final byte[][] in3) {
+		return submit("addAttachmentsToIssue", new Callable<java.lang.Boolean>() {
+			public java.lang.Boolean call() throws Exception {
+				return jiraSoapService.addAttachmentsToIssue(in0, in1, in2, in3);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteAttachment[]> getAttachmentsFromIssue(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getAttachmentsFromIssue", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteAttachment[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteAttachment[] call() throws Exception {
+				return jiraSoapService.getAttachmentsFromIssue(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Boolean> hasPermissionToEditComment(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteComment in1) {
+		return submit("hasPermissionToEditComment", new Callable<java.lang.Boolean>() {
+			public java.lang.Boolean call() throws Exception {
+				return jiraSoapService.hasPermissionToEditComment(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteComment> editComment(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteComment in1) {
+		return submit("editComment", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteComment>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteComment call() throws Exception {
+				return jiraSoapService.editComment(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteField[]> getFieldsForAction(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2) {
+		return submit("getFieldsForAction", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteField[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteField[] call() throws Exception {
+				return jiraSoapService.getFieldsForAction(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue> progressWorkflowAction(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2, final com.atlassian.jira.rpc.soap.beans.RemoteFieldValue[] in3) {
+		return submit("progressWorkflowAction", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue call() throws Exception {
+				return jiraSoapService.progressWorkflowAction(in0, in1, in2, in3);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue> getIssueById(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getIssueById", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue call() throws Exception {
+				return jiraSoapService.getIssueById(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteWorklog> addWorklogWithNewRemainingEstimate(final java.lang.String in0, final java.lang.String in1, final com.atlassian.jira.rpc.soap.beans.RemoteWorklog in2, final java.lang.String in3) {
+		return submit("addWorklogWithNewRemainingEstimate", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteWorklog>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteWorklog call() throws Exception {
+				return jiraSoapService.addWorklogWithNewRemainingEstimate(in0, in1, in2, in3);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteWorklog> addWorklogAndAutoAdjustRemainingEstimate(final java.lang.String in0, final java.lang.String in1, final com.atlassian.jira.rpc.soap.beans.RemoteWorklog in2) {
+		return submit("addWorklogAndAutoAdjustRemainingEstimate", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteWorklog>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteWorklog call() throws Exception {
+				return jiraSoapService.addWorklogAndAutoAdjustRemainingEstimate(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteWorklog> addWorklogAndRetainRemainingEstimate(final java.lang.String in0, final java.lang.String in1, final com.atlassian.jira.rpc.soap.beans.RemoteWorklog in2) {
+		return submit("addWorklogAndRetainRemainingEstimate", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteWorklog>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteWorklog call() throws Exception {
+				return jiraSoapService.addWorklogAndRetainRemainingEstimate(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deleteWorklogWithNewRemainingEstimate(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2) {
+		return submit("deleteWorklogWithNewRemainingEstimate", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deleteWorklogWithNewRemainingEstimate(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deleteWorklogAndAutoAdjustRemainingEstimate(final java.lang.String in0, final java.lang.String in1) {
+		return submit("deleteWorklogAndAutoAdjustRemainingEstimate", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deleteWorklogAndAutoAdjustRemainingEstimate(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deleteWorklogAndRetainRemainingEstimate(final java.lang.String in0, final java.lang.String in1) {
+		return submit("deleteWorklogAndRetainRemainingEstimate", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deleteWorklogAndRetainRemainingEstimate(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> updateWorklogWithNewRemainingEstimate(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteWorklog in1, final java.lang.String in2) {
+		return submit("updateWorklogWithNewRemainingEstimate", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.updateWorklogWithNewRemainingEstimate(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> updateWorklogAndAutoAdjustRemainingEstimate(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteWorklog in1) {
+		return submit("updateWorklogAndAutoAdjustRemainingEstimate", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.updateWorklogAndAutoAdjustRemainingEstimate(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> updateWorklogAndRetainRemainingEstimate(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteWorklog in1) {
+		return submit("updateWorklogAndRetainRemainingEstimate", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.updateWorklogAndRetainRemainingEstimate(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteWorklog[]> getWorklogs(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getWorklogs", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteWorklog[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteWorklog[] call() throws Exception {
+				return jiraSoapService.getWorklogs(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Boolean> hasPermissionToCreateWorklog(final java.lang.String in0, final java.lang.String in1) {
+		return submit("hasPermissionToCreateWorklog", new Callable<java.lang.Boolean>() {
+			public java.lang.Boolean call() throws Exception {
+				return jiraSoapService.hasPermissionToCreateWorklog(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Boolean> hasPermissionToDeleteWorklog(final java.lang.String in0, final java.lang.String in1) {
+		return submit("hasPermissionToDeleteWorklog", new Callable<java.lang.Boolean>() {
+			public java.lang.Boolean call() throws Exception {
+				return jiraSoapService.hasPermissionToDeleteWorklog(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Boolean> hasPermissionToUpdateWorklog(final java.lang.String in0, final java.lang.String in1) {
+		return submit("hasPermissionToUpdateWorklog", new Callable<java.lang.Boolean>() {
+			public java.lang.Boolean call() throws Exception {
+				return jiraSoapService.hasPermissionToUpdateWorklog(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteScheme[]> getNotificationSchemes(final java.lang.String in0) {
+		return submit("getNotificationSchemes", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteScheme[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteScheme[] call() throws Exception {
+				return jiraSoapService.getNotificationSchemes(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme[]> getPermissionSchemes(final java.lang.String in0) {
+		return submit("getPermissionSchemes", new Callable<com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme[] call() throws Exception {
+				return jiraSoapService.getPermissionSchemes(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme> createPermissionScheme(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2) {
+		return submit("createPermissionScheme", new Callable<com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme>() {
+			public com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme call() throws Exception {
+				return jiraSoapService.createPermissionScheme(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deletePermissionScheme(final java.lang.String in0, final java.lang.String in1) {
+		return submit("deletePermissionScheme", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deletePermissionScheme(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme> addPermissionTo(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme in1, final com.atlassian.jira.rpc.soap.beans.RemotePermission in2, final com.atlassian.jira.rpc.soap.beans.RemoteEntity in3) {
+		return submit("addPermissionTo", new Callable<com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme>() {
+			public com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme call() throws Exception {
+				return jiraSoapService.addPermissionTo(in0, in1, in2, in3);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme> deletePermissionFrom(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme in1, final com.atlassian.jira.rpc.soap.beans.RemotePermission in2, final com.atlassian.jira.rpc.soap.beans.RemoteEntity in3) {
+		return submit("deletePermissionFrom", new Callable<com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme>() {
+			public com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme call() throws Exception {
+				return jiraSoapService.deletePermissionFrom(in0, in1, in2, in3);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemotePermission[]> getAllPermissions(final java.lang.String in0) {
+		return submit("getAllPermissions", new Callable<com.atlassian.jira.rpc.soap.beans.RemotePermission[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemotePermission[] call() throws Exception {
+				return jiraSoapService.getAllPermissions(in0);
+			}
+		});
+	}
+
+	public Future<java.lang.Long> getIssueCountForFilter(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getIssueCountForFilter", new Callable<java.lang.Long>() {
+			public java.lang.Long call() throws Exception {
+				return jiraSoapService.getIssueCountForFilter(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue[]> getIssuesFromTextSearch(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getIssuesFromTextSearch", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue[] call() throws Exception {
+				return jiraSoapService.getIssuesFromTextSearch(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue[]> getIssuesFromTextSearchWithProject(final java.lang.String in0, final java.lang.String[] in1, final java.lang.String in2, final int in3) {
+		return submit("getIssuesFromTextSearchWithProject", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue[] call() throws Exception {
+				return jiraSoapService.getIssuesFromTextSearchWithProject(in0, in1, in2, in3);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deleteUser(final java.lang.String in0, final java.lang.String in1) {
+		return submit("deleteUser", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deleteUser(in0, in1);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteGroup> updateGroup(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteGroup in1) {
+		return submit("updateGroup", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteGroup>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteGroup call() throws Exception {
+				return jiraSoapService.updateGroup(in0, in1);
+			}
+		});
+	}
+
+	public Future<java.lang.Void> deleteGroup(final java.lang.String in0, final java.lang.String in1, final java.lang.String in2) {
+		return submit("deleteGroup", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.deleteGroup(in0, in1, in2);
+				return null;
+			}
+		});
+	}
+
+	public Future<java.lang.Void> refreshCustomFields(final java.lang.String in0) {
+		return submit("refreshCustomFields", new Callable<java.lang.Void>() {
+			public java.lang.Void call() throws Exception {
+				jiraSoapService.refreshCustomFields(in0);
+				return null;
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProject[]> getProjectsNoSchemes(final java.lang.String in0) {
+		return submit("getProjectsNoSchemes", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProject[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProject[] call() throws Exception {
+				return jiraSoapService.getProjectsNoSchemes(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteVersion> addVersion(final java.lang.String in0, final java.lang.String in1, final com.atlassian.jira.rpc.soap.beans.RemoteVersion in2) {
+		return submit("addVersion", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteVersion>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteVersion call() throws Exception {
+				return jiraSoapService.addVersion(in0, in1, in2);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteFilter[]> getSavedFilters(final java.lang.String in0) {
+		return submit("getSavedFilters", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteFilter[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteFilter[] call() throws Exception {
+				return jiraSoapService.getSavedFilters(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteProject> createProjectFromObject(final java.lang.String in0, final com.atlassian.jira.rpc.soap.beans.RemoteProject in1) {
+		return submit("createProjectFromObject", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteProject>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteProject call() throws Exception {
+				return jiraSoapService.createProjectFromObject(in0, in1);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteScheme[]> getSecuritySchemes(final java.lang.String in0) {
+		return submit("getSecuritySchemes", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteScheme[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteScheme[] call() throws Exception {
+				return jiraSoapService.getSecuritySchemes(in0);
+			}
+		});
+	}
+
+	public Future<com.atlassian.jira.rpc.soap.beans.RemoteIssue[]> getIssuesFromFilter(final java.lang.String in0, final java.lang.String in1) {
+		return submit("getIssuesFromFilter", new Callable<com.atlassian.jira.rpc.soap.beans.RemoteIssue[]>() {
+			public com.atlassian.jira.rpc.soap.beans.RemoteIssue[] call() throws Exception {
+				return jiraSoapService.getIssuesFromFilter(in0, in1);
+			}
+		});
+	}
+}
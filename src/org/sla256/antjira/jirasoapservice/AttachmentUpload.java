@@ -0,0 +1,96 @@
+package org.sla256.antjira.jirasoapservice;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+/**
+ * Attachment files of a streamed addAttachmentsToIssue call. The call is serialized by Axis with a random
+ * placeholder in place of the content of each file; the transport then writes the base64 encoded content of
+ * the file where the base64 encoded placeholder would have gone.
+ */
+public class AttachmentUpload {
+
+	/**
+	 * Length in bytes of a placeholder, i.e. 32 base64 characters.
+	 */
+	private static final int PLACEHOLDER_LENGTH = 24;
+
+	private static final Random random = new Random();
+
+	private final File[] files;
+
+	private final byte[][] placeholders;
+
+	/**
+	 * @param files attachment files, in the order of the attachment names of the call
+	 */
+	public AttachmentUpload(File[] files) {
+		this.files = files.clone();
+		placeholders = new byte[files.length][];
+		for(int i = 0; i < files.length; i++) {
+			placeholders[i] = new byte[PLACEHOLDER_LENGTH];
+			synchronized( random ) {
+				random.nextBytes(placeholders[i]);
+			}
+		}
+	}
+
+	/**
+	 * @return number of files
+	 */
+	public int size() {
+		return files.length;
+	}
+
+	public File getFile(int index) {
+		return files[index];
+	}
+
+	/**
+	 * @return placeholder of a file
+	 */
+	public byte[] getPlaceholder(int index) {
+		return placeholders[index];
+	}
+
+	/**
+	 * @return attachment data parameter of the call, holding the placeholders
+	 */
+	public byte[][] getPlaceholders() {
+		return placeholders.clone();
+	}
+
+	/**
+	 * Reads all files into memory, for transports which can not stream them.
+	 * @return attachment data parameter of the call, holding the file contents
+	 * @throws IOException
+	 */
+	public byte[][] readFiles() throws IOException {
+		byte[][] data = new byte[files.length][];
+		for(int i = 0; i < files.length; i++) {
+			long length = files[i].length();
+			if( length > Integer.MAX_VALUE ) {
+				throw new IOException(files[i] + " is too large to be uploaded without streaming");
+			}
+			data[i] = new byte[(int) length];
+			InputStream in = new FileInputStream(files[i]);
+			try {
+				int off = 0;
+				int n;
+				while( off < data[i].length && (n = in.read(data[i], off, data[i].length - off)) != -1 ) {
+					off += n;
+				}
+				if( off != data[i].length ) {
+					throw new IOException(files[i] + " changed while being read");
+				}
+			}
+			finally {
+				in.close();
+			}
+		}
+		return data;
+	}
+}
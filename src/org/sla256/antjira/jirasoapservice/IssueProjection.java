@@ -0,0 +1,113 @@
+package org.sla256.antjira.jirasoapservice;
+
+import org.sla256.antjira.encoding.BeanCodec;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Set of RemoteIssue fields a caller of a streamed {@link JiraSoapStreamingService} call needs, e.g.
+ * "key,status,updated". The server still sends whole issues, but a streaming transport skips the elements
+ * of the other fields without decoding them: no strings, calendars or nested version, component and custom
+ * field value beans are created for them, and multiRef elements only they refer to are never parsed.
+ * Issues are delivered with the other fields null, whatever the transport.
+ *
+ * Fields are named like the RemoteIssue properties (and the elements of the response): id, key, project,
+ * type, priority, status, resolution, summary, description, environment, assignee, reporter, created,
+ * updated, duedate, votes, components, affectsVersions, fixVersions, attachmentNames, customFieldValues.
+ */
+public final class IssueProjection {
+
+	private static final BeanCodec codec = BeanCodec.forClass(RemoteIssue.class);
+
+	/**
+	 * Included fields, by codec field index.
+	 */
+	private final boolean[] included;
+
+	private IssueProjection(boolean[] included) {
+		this.included = included;
+	}
+
+	/**
+	 * @param fields comma separated field names
+	 * @return projection on the given fields
+	 * @throws IllegalArgumentException if a field is unknown
+	 */
+	public static IssueProjection parse(String fields) {
+		boolean[] included = new boolean[codec.getFieldCount()];
+		for(String name : fields.split(",")) {
+			name = name.trim();
+			if( name.length() == 0 ) {
+				continue;
+			}
+			int field = codec.getField(name);
+			if( field < 0 ) {
+				throw new IllegalArgumentException("Unknown issue field " + name + ", expected one of " + allFields());
+			}
+			included[field] = true;
+		}
+		return new IssueProjection(included);
+	}
+
+	/**
+	 * @param name
+	 * @return true if the name is that of a RemoteIssue field
+	 */
+	public static boolean isField(String name) {
+		return codec.getField(name) >= 0;
+	}
+
+	/**
+	 * @param field field index of the RemoteIssue BeanCodec
+	 * @return true if the field is part of the projection
+	 */
+	public boolean includes(int field) {
+		return included[field];
+	}
+
+	/**
+	 * @param name field name
+	 * @return true if the field is part of the projection
+	 */
+	public boolean includes(String name) {
+		int field = codec.getField(name);
+		return field >= 0 && included[field];
+	}
+
+	/**
+	 * Clears the fields outside of the projection, for issues which were decoded whole.
+	 * @param issue issue, may be null
+	 * @return the issue
+	 */
+	public RemoteIssue apply(RemoteIssue issue) {
+		if( issue != null ) {
+			for(int i = 0; i < included.length; i++) {
+				if( !included[i] ) {
+					codec.set(issue, i, null);
+				}
+			}
+		}
+		return issue;
+	}
+
+	/**
+	 * @return comma separated field names
+	 */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < included.length; i++) {
+			if( included[i] ) {
+				sb.append(sb.length() > 0 ? "," : "").append(codec.getElement(i));
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String allFields() {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < codec.getFieldCount(); i++) {
+			sb.append(i > 0 ? ", " : "").append(codec.getElement(i));
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,262 @@
+package org.sla256.antjira.jirasoapservice;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteComponent;
+import com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+import com.atlassian.jira.rpc.soap.beans.RemoteVersion;
+
+/**
+ * Immutable, compact form of a RemoteIssue, for tasks going through many issues: the created, updated and
+ * due dates are held as epoch milliseconds instead of three Calendar objects (each a few hundred bytes, with
+ * its own time zone and field arrays). Streamed calls deliver records to an {@link IssueRecordHandler} with
+ * the dates parsed straight from the response; {@link #toRemoteIssue()} converts back where a bean is needed.
+ *
+ * The arrays are copied on the way in and out; the nested beans (components, versions, custom field values)
+ * are shared and must not be modified.
+ */
+public final class IssueRecord {
+
+	/**
+	 * Value of an absent date.
+	 */
+	public static final long NO_TIME = Long.MIN_VALUE;
+
+	private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
+	private final String id;
+
+	private final String key;
+
+	private final String project;
+
+	private final String type;
+
+	private final String priority;
+
+	private final String status;
+
+	private final String resolution;
+
+	private final String summary;
+
+	private final String description;
+
+	private final String environment;
+
+	private final String assignee;
+
+	private final String reporter;
+
+	private final long created;
+
+	private final long updated;
+
+	private final long duedate;
+
+	private final Long votes;
+
+	private final RemoteComponent[] components;
+
+	private final RemoteVersion[] affectsVersions;
+
+	private final RemoteVersion[] fixVersions;
+
+	private final String[] attachmentNames;
+
+	private final RemoteCustomFieldValue[] customFieldValues;
+
+	/**
+	 * @param issue issue holding all fields but the dates, whose Calendars are ignored
+	 * @param created creation time, or NO_TIME
+	 * @param updated update time, or NO_TIME
+	 * @param duedate due date, or NO_TIME
+	 */
+	public IssueRecord(RemoteIssue issue, long created, long updated, long duedate) {
+		id = issue.getId();
+		key = issue.getKey();
+		project = issue.getProject();
+		type = issue.getType();
+		priority = issue.getPriority();
+		status = issue.getStatus();
+		resolution = issue.getResolution();
+		summary = issue.getSummary();
+		description = issue.getDescription();
+		environment = issue.getEnvironment();
+		assignee = issue.getAssignee();
+		reporter = issue.getReporter();
+		votes = issue.getVotes();
+		components = copy(issue.getComponents());
+		affectsVersions = copy(issue.getAffectsVersions());
+		fixVersions = copy(issue.getFixVersions());
+		attachmentNames = copy(issue.getAttachmentNames());
+		customFieldValues = copy(issue.getCustomFieldValues());
+		this.created = created;
+		this.updated = updated;
+		this.duedate = duedate;
+	}
+
+	/**
+	 * @param issue
+	 * @return record of the issue
+	 */
+	public static IssueRecord of(RemoteIssue issue) {
+		return new IssueRecord(issue, toMillis(issue.getCreated()), toMillis(issue.getUpdated()),
+				toMillis(issue.getDuedate()));
+	}
+
+	/**
+	 * @return a new RemoteIssue with the fields of this record, dates as GMT calendars
+	 */
+	public RemoteIssue toRemoteIssue() {
+		return new RemoteIssue(id, copy(affectsVersions), assignee, copy(attachmentNames), copy(components),
+				toCalendar(created), copy(customFieldValues), description, toCalendar(duedate), environment,
+				copy(fixVersions), key, priority, project, reporter, resolution, status, summary, type,
+				toCalendar(updated), votes);
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public String getProject() {
+		return project;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public String getPriority() {
+		return priority;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public String getResolution() {
+		return resolution;
+	}
+
+	public String getSummary() {
+		return summary;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public String getEnvironment() {
+		return environment;
+	}
+
+	public String getAssignee() {
+		return assignee;
+	}
+
+	public String getReporter() {
+		return reporter;
+	}
+
+	/**
+	 * @return creation time in epoch milliseconds, or NO_TIME
+	 */
+	public long getCreated() {
+		return created;
+	}
+
+	/**
+	 * @return update time in epoch milliseconds, or NO_TIME
+	 */
+	public long getUpdated() {
+		return updated;
+	}
+
+	/**
+	 * @return due date in epoch milliseconds, or NO_TIME
+	 */
+	public long getDuedate() {
+		return duedate;
+	}
+
+	public Long getVotes() {
+		return votes;
+	}
+
+	public RemoteComponent[] getComponents() {
+		return copy(components);
+	}
+
+	public RemoteVersion[] getAffectsVersions() {
+		return copy(affectsVersions);
+	}
+
+	public RemoteVersion[] getFixVersions() {
+		return copy(fixVersions);
+	}
+
+	public String[] getAttachmentNames() {
+		return copy(attachmentNames);
+	}
+
+	public RemoteCustomFieldValue[] getCustomFieldValues() {
+		return copy(customFieldValues);
+	}
+
+	public boolean equals(Object obj) {
+		if( !(obj instanceof IssueRecord) ) {
+			return false;
+		}
+		IssueRecord other = (IssueRecord) obj;
+		return created == other.created && updated == other.updated && duedate == other.duedate
+				&& eq(id, other.id) && eq(key, other.key) && eq(project, other.project) && eq(type, other.type)
+				&& eq(priority, other.priority) && eq(status, other.status) && eq(resolution, other.resolution)
+				&& eq(summary, other.summary) && eq(description, other.description)
+				&& eq(environment, other.environment) && eq(assignee, other.assignee)
+				&& eq(reporter, other.reporter) && eq(votes, other.votes)
+				&& Arrays.equals(components, other.components) && Arrays.equals(affectsVersions, other.affectsVersions)
+				&& Arrays.equals(fixVersions, other.fixVersions) && Arrays.equals(attachmentNames, other.attachmentNames)
+				&& Arrays.equals(customFieldValues, other.customFieldValues);
+	}
+
+	public int hashCode() {
+		int h = id != null ? id.hashCode() : 0;
+		h = 31 * h + (key != null ? key.hashCode() : 0);
+		h = 31 * h + (int) (updated ^ (updated >>> 32));
+		return h;
+	}
+
+	public String toString() {
+		return key != null ? key : String.valueOf(id);
+	}
+
+	private static boolean eq(Object a, Object b) {
+		return a == null ? b == null : a.equals(b);
+	}
+
+	private static long toMillis(Calendar calendar) {
+		return calendar != null ? calendar.getTimeInMillis() : NO_TIME;
+	}
+
+	private static Calendar toCalendar(long millis) {
+		if( millis == NO_TIME ) {
+			return null;
+		}
+		Calendar calendar = new GregorianCalendar(GMT);
+		calendar.setTimeInMillis(millis);
+		return calendar;
+	}
+
+	private static <T> T[] copy(T[] array) {
+		return array != null ? array.clone() : null;
+	}
+}
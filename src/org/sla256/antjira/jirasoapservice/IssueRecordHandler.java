@@ -0,0 +1,22 @@
+package org.sla256.antjira.jirasoapservice;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Handler receiving the issues of a streamed {@link JiraSoapStreamingService} call as {@link IssueRecord}s.
+ * Passed to a streaming transport, the issues are decoded straight into records, their dates parsed into
+ * epoch milliseconds without creating any Calendar; issues delivered as RemoteIssues (e.g. by a transport
+ * which does not stream) are converted.
+ */
+public abstract class IssueRecordHandler implements RemoteIssueHandler {
+
+	/**
+	 * @param record next issue of the result
+	 * @throws Exception to abort the call; it is rethrown wrapped in an AxisFault
+	 */
+	public abstract void handleRecord(IssueRecord record) throws Exception;
+
+	public final void handleIssue(RemoteIssue issue) throws Exception {
+		handleRecord(issue != null ? IssueRecord.of(issue) : null);
+	}
+}
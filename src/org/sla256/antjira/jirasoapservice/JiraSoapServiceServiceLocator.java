@@ -21,6 +21,13 @@ public class JiraSoapServiceServiceLocator extends org.apache.axis.client.Servic
         super(wsdlLoc, sName);
     }
 
+    /**
+     * @return the registry shared by all locators and stubs, see JiraSoapTypeMappings; not to be registered into
+     */
+    public javax.xml.rpc.encoding.TypeMappingRegistry getTypeMappingRegistry() {
+        return JiraSoapTypeMappings.getRegistry();
+    }
+
     // Use to get a proxy class for JirasoapserviceV2
     private java.lang.String JirasoapserviceV2_address = "https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2";
 
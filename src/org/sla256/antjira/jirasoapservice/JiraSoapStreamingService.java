@@ -0,0 +1,104 @@
+package org.sla256.antjira.jirasoapservice;
+
+/**
+ * Callback variants of the JiraSoapService operations returning large issue arrays. Issues are handed to a
+ * {@link RemoteIssueHandler} while the response is being parsed, so the full array is never materialized.
+ * Issue fields outside of an {@link IssueProjection} are skipped rather than decoded.
+ * Likewise, attachments can be uploaded from files, which are read while the request is being sent.
+ *
+ * Streaming needs a transport which understands {@link #ISSUE_HANDLER_PROPERTY} and {@link #UPLOAD_PROPERTY},
+ * i.e. the org.sla256.antjira.transport.PooledHTTPSender. With any other Axis transport the response is
+ * deserialized as usual and the resulting array is then handed to the handler one issue at a time (with the
+ * fields outside of the projection cleared), and attachment files are read into memory before the call.
+ */
+public interface JiraSoapStreamingService extends java.rmi.Remote {
+
+	/**
+	 * Call / message context property holding the RemoteIssueHandler of a streamed call.
+	 */
+	String ISSUE_HANDLER_PROPERTY = "org.sla256.antjira.issueHandler";
+
+	/**
+	 * Call / message context property holding the IssueProjection of a streamed call, if any.
+	 */
+	String ISSUE_FIELDS_PROPERTY = "org.sla256.antjira.issueFields";
+
+	/**
+	 * Message context property set by the transport to the Integer number of issues it delivered to the
+	 * handler, when it streamed the response itself.
+	 */
+	String STREAMED_COUNT_PROPERTY = "org.sla256.antjira.streamedCount";
+
+	/**
+	 * Call / message context property holding the {@link AttachmentUpload} of a streamed attachment upload.
+	 */
+	String UPLOAD_PROPERTY = "org.sla256.antjira.upload";
+
+	/**
+	 * Axis engine option set to Boolean.TRUE by transports which send the files of an {@link AttachmentUpload}
+	 * in place of its placeholders.
+	 */
+	String STREAMING_UPLOAD_OPTION = "org.sla256.antjira.streamingUpload";
+
+	/**
+	 * Streaming variant of JiraSoapService.getIssuesFromFilter.
+	 * @param in0 login token
+	 * @param in1 filter ID
+	 * @param handler receives the issues of the filter
+	 * @return number of issues handed to the handler
+	 */
+	public int getIssuesFromFilter(java.lang.String in0, java.lang.String in1, RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException;
+
+	/**
+	 * Streaming variant of JiraSoapService.getIssuesFromFilter, decoding only some fields of the issues.
+	 * @param in0 login token
+	 * @param in1 filter ID
+	 * @param fields issue fields to decode, null for all
+	 * @param handler receives the issues of the filter
+	 * @return number of issues handed to the handler
+	 */
+	public int getIssuesFromFilter(java.lang.String in0, java.lang.String in1, IssueProjection fields, RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException;
+
+	/**
+	 * Streaming variant of JiraSoapService.getIssuesFromJqlSearch, an operation added by Jira 4.0 which the
+	 * generated interface (from an older WSDL) does not declare. Servers without it answer with a fault.
+	 * @param in0 login token
+	 * @param in1 JQL query
+	 * @param in2 maximum number of issues returned
+	 * @param handler receives the issues of the query
+	 * @return number of issues handed to the handler
+	 */
+	public int getIssuesFromJqlSearch(java.lang.String in0, java.lang.String in1, int in2, RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException;
+
+	/**
+	 * Streaming variant of getIssuesFromJqlSearch, decoding only some fields of the issues.
+	 * @param in0 login token
+	 * @param in1 JQL query
+	 * @param in2 maximum number of issues returned
+	 * @param fields issue fields to decode, null for all
+	 * @param handler receives the issues of the query
+	 * @return number of issues handed to the handler
+	 */
+	public int getIssuesFromJqlSearch(java.lang.String in0, java.lang.String in1, int in2, IssueProjection fields, RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException;
+
+	/**
+	 * Streaming variant of JiraSoapService.getIssuesFromTextSearch, decoding only some fields of the issues.
+	 * @param in0 login token
+	 * @param in1 search terms
+	 * @param fields issue fields to decode, null for all
+	 * @param handler receives the issues found
+	 * @return number of issues handed to the handler
+	 */
+	public int getIssuesFromTextSearch(java.lang.String in0, java.lang.String in1, IssueProjection fields, RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException;
+
+	/**
+	 * Streaming variant of JiraSoapService.addAttachmentsToIssue: the content of each attachment is read
+	 * from its file and base64 encoded while the request is being sent.
+	 * @param in0 login token
+	 * @param in1 issue key
+	 * @param in2 attachment file names, as shown by Jira
+	 * @param files attachment contents, one file per name
+	 * @return true if the attachments were added
+	 */
+	public boolean addAttachmentsToIssue(java.lang.String in0, java.lang.String in1, java.lang.String[] in2, java.io.File[] files) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemotePermissionException, com.atlassian.jira.rpc.exception.RemoteValidationException, com.atlassian.jira.rpc.exception.RemoteAuthenticationException, com.atlassian.jira.rpc.exception.RemoteException;
+}
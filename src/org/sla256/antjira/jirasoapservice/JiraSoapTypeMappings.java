@@ -0,0 +1,442 @@
+package org.sla256.antjira.jirasoapservice;
+
+import javax.xml.namespace.QName;
+
+import org.apache.axis.Constants;
+import org.apache.axis.encoding.DeserializerFactory;
+import org.apache.axis.encoding.SerializerFactory;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.encoding.TypeMappingRegistry;
+import org.apache.axis.encoding.TypeMappingRegistryImpl;
+import org.apache.axis.encoding.ser.BaseDeserializerFactory;
+import org.apache.axis.encoding.ser.BaseSerializerFactory;
+
+/**
+ * Type mappings of the JiraSoapService beans and arrays, registered once per process into a registry shared by
+ * every {@link JiraSoapServiceServiceLocator} and {@link JirasoapserviceV2SoapBindingStub}.
+ *
+ * The registry is built when the class is initialized and never registered into afterwards, so it is safe to
+ * read from any number of calls concurrently. Stubs no longer build their own type mappings on their first call:
+ * creating a stub costs an object allocation and its calls take no lock on the type mappings.
+ */
+public final class JiraSoapTypeMappings {
+
+	private static final TypeMappingRegistry registry;
+
+	static {
+		TypeMappingRegistryImpl tmr = new TypeMappingRegistryImpl();
+		tmr.doRegisterFromVersion("1.2");
+		registerTypes(tmr.getOrMakeTypeMapping(Constants.URI_SOAP11_ENC));
+		registry = tmr;
+	}
+
+	private JiraSoapTypeMappings() {
+	}
+
+	/**
+	 * @return shared registry holding the default SOAP 1.1 encoding mappings and the JiraSoapService types;
+	 * not to be registered into
+	 */
+	public static TypeMappingRegistry getRegistry() {
+		return registry;
+	}
+
+	/**
+	 * Registers the serializers and deserializers of the JiraSoapService beans and arrays.
+	 * @param tm SOAP 1.1 encoding type mapping
+	 */
+	public static void registerTypes(TypeMapping tm) {
+		java.lang.Class<?> cls;
+		javax.xml.namespace.QName qName;
+		javax.xml.namespace.QName qName2;
+		javax.xml.namespace.QName xmlType;
+		java.lang.Class<?> beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
+		java.lang.Class<?> beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+		// hand-written deserializers of the bean types found in large responses
+		java.lang.Class<?> fastbeandf = org.sla256.antjira.encoding.FastBeanDeserializerFactory.class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "AbstractNamedRemoteEntity");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.AbstractNamedRemoteEntity.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "AbstractRemoteConstant");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.AbstractRemoteConstant.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "AbstractRemoteEntity");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.AbstractRemoteEntity.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteAttachment");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteAttachment.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteComment");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteComment.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteComponent");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteComponent.class;
+		register(tm, cls, xmlType, beansf, fastbeandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteConfiguration");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteConfiguration.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteCustomFieldValue");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue.class;
+		register(tm, cls, xmlType, beansf, fastbeandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteEntity");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteEntity.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteField");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteField.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteFieldValue");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteFieldValue.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteFilter");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteFilter.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteGroup");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteGroup.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteIssue");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteIssue.class;
+		register(tm, cls, xmlType, beansf, fastbeandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteIssueType");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteIssueType.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteNamedObject");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteNamedObject.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermission");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemotePermission.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermissionMapping");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemotePermissionMapping.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermissionScheme");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePriority");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemotePriority.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProject");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteProject.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRole");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteProjectRole.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRoleActors");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteProjectRoleActors.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteResolution");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteResolution.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActor");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteRoleActor.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActors");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteRoleActors.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteScheme");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteScheme.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteSecurityLevel");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteServerInfo");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteServerInfo.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteStatus");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteStatus.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteUser");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteUser.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteVersion");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteVersion.class;
+		register(tm, cls, xmlType, beansf, fastbeandf);
+
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteWorklog");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteWorklog.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.exception.RemoteAuthenticationException.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.exception.RemoteException.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemotePermissionException");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.exception.RemotePermissionException.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteValidationException");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.exception.RemoteValidationException.class;
+		register(tm, cls, xmlType, beansf, beandf);
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteAttachment");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteAttachment[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteAttachment");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteComment");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteComment[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteComment");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteComponent");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteComponent[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteComponent");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteCustomFieldValue");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteCustomFieldValue");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteEntity");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteEntity[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteEntity");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteField");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteField[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteField");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteFieldValue");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteFieldValue[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteFieldValue");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteFilter");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteFilter[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteFilter");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteIssue");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteIssue[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteIssue");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteIssueType");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteIssueType[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteIssueType");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteNamedObject");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteNamedObject[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteNamedObject");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemotePermission");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemotePermission[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermission");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemotePermissionMapping");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemotePermissionMapping[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermissionMapping");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemotePermissionScheme");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermissionScheme");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemotePriority");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemotePriority[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePriority");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteProject");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteProject[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProject");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteProjectRole");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteProjectRole[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRole");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteResolution");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteResolution[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteResolution");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteRoleActor");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteRoleActor[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActor");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteScheme");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteScheme[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteScheme");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteSecurityLevel");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteSecurityLevel");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteStatus");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteStatus[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteStatus");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteUser");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteUser[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteUser");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteVersion");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteVersion[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteVersion");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteWorklog");
+		xmlType = qName;
+		cls = com.atlassian.jira.rpc.soap.beans.RemoteWorklog[].class;
+		qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteWorklog");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_xsd_base64Binary");
+		xmlType = qName;
+		cls = byte[][].class;
+		// items as xsd:base64Binary rather than as arrays of xsd:byte (one multiRef element per byte)
+		qName = new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "base64Binary");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+		qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_xsd_string");
+		xmlType = qName;
+		cls = java.lang.String[].class;
+		qName = new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string");
+		qName2 = null;
+		register(tm, cls, xmlType, new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2), new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+	}
+
+	private static void register(TypeMapping tm, Class<?> cls, QName xmlType, Class<?> sf, Class<?> df) {
+		register(tm, cls, xmlType,
+			BaseSerializerFactory.createFactory(sf, cls, xmlType),
+			BaseDeserializerFactory.createFactory(df, cls, xmlType));
+	}
+
+	private static void register(TypeMapping tm, Class<?> cls, QName xmlType, SerializerFactory sf, DeserializerFactory df) {
+		tm.register(cls, xmlType, sf, df);
+	}
+}
@@ -7,31 +7,43 @@
 
 package org.sla256.antjira.jirasoapservice;
 
-public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stub implements JiraSoapService {
-    private java.util.Vector cachedSerClasses = new java.util.Vector();
-    private java.util.Vector cachedSerQNames = new java.util.Vector();
-    private java.util.Vector cachedSerFactories = new java.util.Vector();
-    private java.util.Vector cachedDeserFactories = new java.util.Vector();
-
-    static org.apache.axis.description.OperationDesc [] _operations;
-
-    static {
-        _operations = new org.apache.axis.description.OperationDesc[97];
-        _initOperationDesc1();
-        _initOperationDesc2();
-        _initOperationDesc3();
-        _initOperationDesc4();
-        _initOperationDesc5();
-        _initOperationDesc6();
-        _initOperationDesc7();
-        _initOperationDesc8();
-        _initOperationDesc9();
-        _initOperationDesc10();
+public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stub implements JiraSoapService, JiraSoapStreamingService {
+    private static final java.util.concurrent.atomic.AtomicReferenceArray<org.apache.axis.description.OperationDesc> _operations =
+            new java.util.concurrent.atomic.AtomicReferenceArray<org.apache.axis.description.OperationDesc>(98);
+
+    /**
+     * Operation descriptors are built on first use of each operation rather than all at class
+     * initialization, as most builds only call a handful of the 98 operations. Concurrent first calls may
+     * both build a descriptor; only one is kept.
+     */
+    static org.apache.axis.description.OperationDesc _getOperation(int index) {
+        org.apache.axis.description.OperationDesc oper = _operations.get(index);
+        if (oper == null) {
+            switch (index / 10) {
+            case 0: oper = _initOperationDesc1(index); break;
+            case 1: oper = _initOperationDesc2(index); break;
+            case 2: oper = _initOperationDesc3(index); break;
+            case 3: oper = _initOperationDesc4(index); break;
+            case 4: oper = _initOperationDesc5(index); break;
+            case 5: oper = _initOperationDesc6(index); break;
+            case 6: oper = _initOperationDesc7(index); break;
+            case 7: oper = _initOperationDesc8(index); break;
+            case 8: oper = _initOperationDesc9(index); break;
+            case 9: oper = _initOperationDesc10(index); break;
+            default: throw new java.lang.IllegalArgumentException("No operation " + index);
+            }
+            if (!_operations.compareAndSet(index, null, oper)) {
+                oper = _operations.get(index);
+            }
+        }
+        return oper;
     }
 
-    private static void _initOperationDesc1(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc1(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 0:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getComment");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -49,8 +61,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[0] = oper;
+        return oper;
 
+        case 1:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("createGroup");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -88,8 +101,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[1] = oper;
+        return oper;
 
+        case 2:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getServerInfo");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -99,8 +113,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
         oper.setReturnQName(new javax.xml.namespace.QName("", "getServerInfoReturn"));
         oper.setStyle(org.apache.axis.constants.Style.RPC);
         oper.setUse(org.apache.axis.constants.Use.ENCODED);
-        _operations[2] = oper;
+        return oper;
 
+        case 3:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getGroup");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -136,8 +151,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[3] = oper;
+        return oper;
 
+        case 4:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("login");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -161,8 +177,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[4] = oper;
+        return oper;
 
+        case 5:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getUser");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -186,8 +203,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException"), 
                       true
                      ));
-        _operations[5] = oper;
+        return oper;
 
+        case 6:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("createUser");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -229,8 +247,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[6] = oper;
+        return oper;
 
+        case 7:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getIssue");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -260,8 +279,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[7] = oper;
+        return oper;
 
+        case 8:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("createIssue");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -297,8 +317,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[8] = oper;
+        return oper;
 
+        case 9:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getAvailableActions");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -316,13 +337,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[9] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc2(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc2(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 10:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("updateIssue");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -342,8 +368,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[10] = oper;
+        return oper;
 
+        case 11:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getConfiguration");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -371,8 +398,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[11] = oper;
+        return oper;
 
+        case 12:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getComponents");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -402,8 +430,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[12] = oper;
+        return oper;
 
+        case 13:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getSecurityLevel");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -427,8 +456,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[13] = oper;
+        return oper;
 
+        case 14:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("updateProject");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -464,8 +494,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[14] = oper;
+        return oper;
 
+        case 15:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getProjectByKey");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -495,8 +526,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[15] = oper;
+        return oper;
 
+        case 16:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getPriorities");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -518,8 +550,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException"), 
                       true
                      ));
-        _operations[16] = oper;
+        return oper;
 
+        case 17:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getResolutions");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -541,8 +574,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException"), 
                       true
                      ));
-        _operations[17] = oper;
+        return oper;
 
+        case 18:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getIssueTypes");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -564,8 +598,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException"), 
                       true
                      ));
-        _operations[18] = oper;
+        return oper;
 
+        case 19:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getStatuses");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -587,13 +622,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException"), 
                       true
                      ));
-        _operations[19] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc3(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc3(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 20:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getSubTaskIssueTypes");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -615,8 +655,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException"), 
                       true
                      ));
-        _operations[20] = oper;
+        return oper;
 
+        case 21:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getProjectRoles");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -632,8 +673,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[21] = oper;
+        return oper;
 
+        case 22:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getProjectRole");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -651,8 +693,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[22] = oper;
+        return oper;
 
+        case 23:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getProjectRoleActors");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -672,8 +715,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[23] = oper;
+        return oper;
 
+        case 24:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getDefaultRoleActors");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -691,8 +735,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[24] = oper;
+        return oper;
 
+        case 25:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("removeAllRoleActorsByNameAndType");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -710,8 +755,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[25] = oper;
+        return oper;
 
+        case 26:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("removeAllRoleActorsByProject");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -727,8 +773,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[26] = oper;
+        return oper;
 
+        case 27:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deleteProjectRole");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -746,8 +793,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[27] = oper;
+        return oper;
 
+        case 28:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("updateProjectRole");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -763,8 +811,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[28] = oper;
+        return oper;
 
+        case 29:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("createProjectRole");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -782,13 +831,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[29] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc4(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc4(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 30:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("isProjectRoleNameUnique");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -806,8 +860,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[30] = oper;
+        return oper;
 
+        case 31:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addActorsToProjectRole");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -829,8 +884,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[31] = oper;
+        return oper;
 
+        case 32:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("removeActorsFromProjectRole");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -852,8 +908,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[32] = oper;
+        return oper;
 
+        case 33:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addDefaultActorsToProjectRole");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -873,8 +930,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[33] = oper;
+        return oper;
 
+        case 34:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("removeDefaultActorsFromProjectRole");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -894,8 +952,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[34] = oper;
+        return oper;
 
+        case 35:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getAssociatedNotificationSchemes");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -913,8 +972,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[35] = oper;
+        return oper;
 
+        case 36:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getAssociatedPermissionSchemes");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -932,8 +992,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[36] = oper;
+        return oper;
 
+        case 37:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getCustomFields");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -949,8 +1010,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[37] = oper;
+        return oper;
 
+        case 38:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getComments");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -980,8 +1042,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[38] = oper;
+        return oper;
 
+        case 39:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getFavouriteFilters");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1009,13 +1072,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[39] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc5(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc5(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 40:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("archiveVersion");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1035,8 +1103,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[40] = oper;
+        return oper;
 
+        case 41:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getVersions");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1066,8 +1135,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[41] = oper;
+        return oper;
 
+        case 42:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("createProject");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1117,8 +1187,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[42] = oper;
+        return oper;
 
+        case 43:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addComment");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1148,8 +1219,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[43] = oper;
+        return oper;
 
+        case 44:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getFieldsForEdit");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1167,8 +1239,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[44] = oper;
+        return oper;
 
+        case 45:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getIssueTypesForProject");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1192,8 +1265,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException"), 
                       true
                      ));
-        _operations[45] = oper;
+        return oper;
 
+        case 46:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getSubTaskIssueTypesForProject");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1217,8 +1291,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException"), 
                       true
                      ));
-        _operations[46] = oper;
+        return oper;
 
+        case 47:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addUserToGroup");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1254,8 +1329,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[47] = oper;
+        return oper;
 
+        case 48:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("removeUserFromGroup");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1291,8 +1367,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[48] = oper;
+        return oper;
 
+        case 49:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("logout");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1302,13 +1379,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
         oper.setReturnQName(new javax.xml.namespace.QName("", "logoutReturn"));
         oper.setStyle(org.apache.axis.constants.Style.RPC);
         oper.setUse(org.apache.axis.constants.Use.ENCODED);
-        _operations[49] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc6(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc6(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 50:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getProjectById");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1338,8 +1420,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[50] = oper;
+        return oper;
 
+        case 51:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getProjectWithSchemesById");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1357,8 +1440,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[51] = oper;
+        return oper;
 
+        case 52:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deleteProject");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1386,8 +1470,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[52] = oper;
+        return oper;
 
+        case 53:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("releaseVersion");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1405,8 +1490,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[53] = oper;
+        return oper;
 
+        case 54:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getSecurityLevels");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1430,8 +1516,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[54] = oper;
+        return oper;
 
+        case 55:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deleteIssue");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1459,8 +1546,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[55] = oper;
+        return oper;
 
+        case 56:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("createIssueWithSecurityLevel");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1498,8 +1586,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[56] = oper;
+        return oper;
 
+        case 57:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addAttachmentsToIssue");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1539,8 +1628,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[57] = oper;
+        return oper;
 
+        case 58:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getAttachmentsFromIssue");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1576,8 +1666,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[58] = oper;
+        return oper;
 
+        case 59:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("hasPermissionToEditComment");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1595,13 +1686,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[59] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc7(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc7(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 60:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("editComment");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1619,8 +1715,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[60] = oper;
+        return oper;
 
+        case 61:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getFieldsForAction");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1640,8 +1737,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[61] = oper;
+        return oper;
 
+        case 62:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("progressWorkflowAction");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1663,8 +1761,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[62] = oper;
+        return oper;
 
+        case 63:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getIssueById");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1694,8 +1793,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[63] = oper;
+        return oper;
 
+        case 64:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addWorklogWithNewRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1729,8 +1829,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[64] = oper;
+        return oper;
 
+        case 65:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addWorklogAndAutoAdjustRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1762,8 +1863,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[65] = oper;
+        return oper;
 
+        case 66:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addWorklogAndRetainRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1795,8 +1897,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[66] = oper;
+        return oper;
 
+        case 67:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deleteWorklogWithNewRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1826,8 +1929,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[67] = oper;
+        return oper;
 
+        case 68:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deleteWorklogAndAutoAdjustRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1855,8 +1959,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[68] = oper;
+        return oper;
 
+        case 69:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deleteWorklogAndRetainRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1884,13 +1989,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[69] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc8(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc8(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 70:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("updateWorklogWithNewRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1920,8 +2030,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[70] = oper;
+        return oper;
 
+        case 71:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("updateWorklogAndAutoAdjustRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1949,8 +2060,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[71] = oper;
+        return oper;
 
+        case 72:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("updateWorklogAndRetainRemainingEstimate");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -1978,8 +2090,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[72] = oper;
+        return oper;
 
+        case 73:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getWorklogs");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2009,8 +2122,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[73] = oper;
+        return oper;
 
+        case 74:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("hasPermissionToCreateWorklog");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2034,8 +2148,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[74] = oper;
+        return oper;
 
+        case 75:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("hasPermissionToDeleteWorklog");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2059,8 +2174,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[75] = oper;
+        return oper;
 
+        case 76:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("hasPermissionToUpdateWorklog");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2084,8 +2200,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[76] = oper;
+        return oper;
 
+        case 77:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getNotificationSchemes");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2113,8 +2230,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[77] = oper;
+        return oper;
 
+        case 78:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getPermissionSchemes");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2142,8 +2260,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[78] = oper;
+        return oper;
 
+        case 79:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("createPermissionScheme");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2181,13 +2300,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[79] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc9(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc9(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 80:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deletePermissionScheme");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2221,8 +2345,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[80] = oper;
+        return oper;
 
+        case 81:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addPermissionTo");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2262,8 +2387,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[81] = oper;
+        return oper;
 
+        case 82:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deletePermissionFrom");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2303,8 +2429,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[82] = oper;
+        return oper;
 
+        case 83:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getAllPermissions");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2332,8 +2459,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[83] = oper;
+        return oper;
 
+        case 84:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getIssueCountForFilter");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2351,8 +2479,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[84] = oper;
+        return oper;
 
+        case 85:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getIssuesFromTextSearch");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2370,8 +2499,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[85] = oper;
+        return oper;
 
+        case 86:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getIssuesFromTextSearchWithProject");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2393,8 +2523,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[86] = oper;
+        return oper;
 
+        case 87:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deleteUser");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2428,8 +2559,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[87] = oper;
+        return oper;
 
+        case 88:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("updateGroup");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2465,8 +2597,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[88] = oper;
+        return oper;
 
+        case 89:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("deleteGroup");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2502,13 +2635,18 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[89] = oper;
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
-    private static void _initOperationDesc10(){
+    private static org.apache.axis.description.OperationDesc _initOperationDesc10(int index){
         org.apache.axis.description.OperationDesc oper;
         org.apache.axis.description.ParameterDesc param;
+        switch (index) {
+        case 90:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("refreshCustomFields");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2522,8 +2660,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[90] = oper;
+        return oper;
 
+        case 91:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getProjectsNoSchemes");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2551,8 +2690,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[91] = oper;
+        return oper;
 
+        case 92:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("addVersion");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2572,8 +2712,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[92] = oper;
+        return oper;
 
+        case 93:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getSavedFilters");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2601,8 +2742,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[93] = oper;
+        return oper;
 
+        case 94:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("createProjectFromObject");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2638,8 +2780,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[94] = oper;
+        return oper;
 
+        case 95:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getSecuritySchemes");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2667,8 +2810,9 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[95] = oper;
+        return oper;
 
+        case 96:
         oper = new org.apache.axis.description.OperationDesc();
         oper.setName("getIssuesFromFilter");
         param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
@@ -2686,8 +2830,33 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                       new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
                       true
                      ));
-        _operations[96] = oper;
+        return oper;
+
+        case 97:
+        oper = new org.apache.axis.description.OperationDesc();
+        oper.setName("getIssuesFromJqlSearch");
+        param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in0"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
+        oper.addParameter(param);
+        param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in1"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string"), java.lang.String.class, false, false);
+        oper.addParameter(param);
+        param = new org.apache.axis.description.ParameterDesc(new javax.xml.namespace.QName("", "in2"), org.apache.axis.description.ParameterDesc.IN, new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "int"), int.class, false, false);
+        oper.addParameter(param);
+        oper.setReturnType(new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteIssue"));
+        oper.setReturnClass(com.atlassian.jira.rpc.soap.beans.RemoteIssue[].class);
+        oper.setReturnQName(new javax.xml.namespace.QName("", "getIssuesFromJqlSearchReturn"));
+        oper.setStyle(org.apache.axis.constants.Style.RPC);
+        oper.setUse(org.apache.axis.constants.Use.ENCODED);
+        oper.addFault(new org.apache.axis.description.FaultDesc(
+                      new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "fault"),
+                      "com.atlassian.jira.rpc.exception.RemoteException",
+                      new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException"), 
+                      true
+                     ));
+        return oper;
 
+        default:
+            throw new java.lang.IllegalArgumentException("No operation " + index);
+        }
     }
 
     public JirasoapserviceV2SoapBindingStub() throws org.apache.axis.AxisFault {
@@ -2705,522 +2874,6 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
         } else {
             super.service = service;
         }
-        ((org.apache.axis.client.Service)super.service).setTypeMappingVersion("1.2");
-            java.lang.Class cls;
-            javax.xml.namespace.QName qName;
-            javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
-            java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
-            java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
-            java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
-            java.lang.Class arraydf = org.apache.axis.encoding.ser.ArrayDeserializerFactory.class;
-            java.lang.Class simplesf = org.apache.axis.encoding.ser.SimpleSerializerFactory.class;
-            java.lang.Class simpledf = org.apache.axis.encoding.ser.SimpleDeserializerFactory.class;
-            java.lang.Class simplelistsf = org.apache.axis.encoding.ser.SimpleListSerializerFactory.class;
-            java.lang.Class simplelistdf = org.apache.axis.encoding.ser.SimpleListDeserializerFactory.class;
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "AbstractNamedRemoteEntity");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.AbstractNamedRemoteEntity.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "AbstractRemoteConstant");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.AbstractRemoteConstant.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "AbstractRemoteEntity");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.AbstractRemoteEntity.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteAttachment");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteAttachment.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteComment");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteComment.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteComponent");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteComponent.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteConfiguration");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteConfiguration.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteCustomFieldValue");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteEntity");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteEntity.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteField");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteField.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteFieldValue");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteFieldValue.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteFilter");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteFilter.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteGroup");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteGroup.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteIssue");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteIssue.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteIssueType");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteIssueType.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteNamedObject");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteNamedObject.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermission");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemotePermission.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermissionMapping");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemotePermissionMapping.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermissionScheme");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePriority");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemotePriority.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProject");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteProject.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRole");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteProjectRole.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRoleActors");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteProjectRoleActors.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteResolution");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteResolution.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActor");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteRoleActor.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActors");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteRoleActors.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteScheme");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteScheme.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteSecurityLevel");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteServerInfo");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteServerInfo.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteStatus");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteStatus.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteUser");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteUser.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteVersion");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteVersion.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteWorklog");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteWorklog.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteAuthenticationException");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.exception.RemoteAuthenticationException.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteException");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.exception.RemoteException.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemotePermissionException");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.exception.RemotePermissionException.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("http://exception.rpc.jira.atlassian.com", "RemoteValidationException");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.exception.RemoteValidationException.class;
-            cachedSerClasses.add(cls);
-            cachedSerFactories.add(beansf);
-            cachedDeserFactories.add(beandf);
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteAttachment");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteAttachment[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteAttachment");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteComment");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteComment[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteComment");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteComponent");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteComponent[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteComponent");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteCustomFieldValue");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteCustomFieldValue[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteCustomFieldValue");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteEntity");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteEntity[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteEntity");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteField");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteField[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteField");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteFieldValue");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteFieldValue[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteFieldValue");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteFilter");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteFilter[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteFilter");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteIssue");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteIssue[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteIssue");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteIssueType");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteIssueType[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteIssueType");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteNamedObject");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteNamedObject[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteNamedObject");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemotePermission");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemotePermission[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermission");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemotePermissionMapping");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemotePermissionMapping[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermissionMapping");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemotePermissionScheme");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemotePermissionScheme[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePermissionScheme");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemotePriority");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemotePriority[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemotePriority");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteProject");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteProject[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProject");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteProjectRole");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteProjectRole[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRole");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteResolution");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteResolution[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteResolution");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteRoleActor");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteRoleActor[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActor");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteScheme");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteScheme[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteScheme");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteSecurityLevel");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteSecurityLevel[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteSecurityLevel");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteStatus");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteStatus[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteStatus");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteUser");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteUser[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteUser");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteVersion");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteVersion[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteVersion");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_tns1_RemoteWorklog");
-            cachedSerQNames.add(qName);
-            cls = com.atlassian.jira.rpc.soap.beans.RemoteWorklog[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://beans.soap.rpc.jira.atlassian.com", "RemoteWorklog");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_xsd_base64Binary");
-            cachedSerQNames.add(qName);
-            cls = byte[][].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "byte");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-            qName = new javax.xml.namespace.QName("https://sandbox.onjira.com/rpc/soap/jirasoapservice-v2", "ArrayOf_xsd_string");
-            cachedSerQNames.add(qName);
-            cls = java.lang.String[].class;
-            cachedSerClasses.add(cls);
-            qName = new javax.xml.namespace.QName("http://www.w3.org/2001/XMLSchema", "string");
-            qName2 = null;
-            cachedSerFactories.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(qName, qName2));
-            cachedDeserFactories.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
     }
 
     protected org.apache.axis.client.Call createCall() throws java.rmi.RemoteException {
@@ -3249,38 +2902,11 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
                 java.lang.String key = (java.lang.String) keys.nextElement();
                 _call.setProperty(key, super.cachedProperties.get(key));
             }
-            // All the type mapping information is registered
-            // when the first call is made.
-            // The type mapping information is actually registered in
-            // the TypeMappingRegistry of the service, which
-            // is the reason why registration is only needed for the first call.
-            synchronized (this) {
-                if (firstCall()) {
-                    // must set encoding style before registering serializers
-                    _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-                    _call.setEncodingStyle(org.apache.axis.Constants.URI_SOAP11_ENC);
-                    for (int i = 0; i < cachedSerFactories.size(); ++i) {
-                        java.lang.Class cls = (java.lang.Class) cachedSerClasses.get(i);
-                        javax.xml.namespace.QName qName =
-                                (javax.xml.namespace.QName) cachedSerQNames.get(i);
-                        java.lang.Object x = cachedSerFactories.get(i);
-                        if (x instanceof Class) {
-                            java.lang.Class sf = (java.lang.Class)
-                                 cachedSerFactories.get(i);
-                            java.lang.Class df = (java.lang.Class)
-                                 cachedDeserFactories.get(i);
-                            _call.registerTypeMapping(cls, qName, sf, df, false);
-                        }
-                        else if (x instanceof javax.xml.rpc.encoding.SerializerFactory) {
-                            org.apache.axis.encoding.SerializerFactory sf = (org.apache.axis.encoding.SerializerFactory)
-                                 cachedSerFactories.get(i);
-                            org.apache.axis.encoding.DeserializerFactory df = (org.apache.axis.encoding.DeserializerFactory)
-                                 cachedDeserFactories.get(i);
-                            _call.registerTypeMapping(cls, qName, sf, df, false);
-                        }
-                    }
-                }
-            }
+            // The type mappings are shared by all stubs and registered once per process,
+            // see JiraSoapTypeMappings.
+            _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
+            _call.setEncodingStyle(org.apache.axis.Constants.URI_SOAP11_ENC);
+            _call.getMessageContext().setTypeMappingRegistry(JiraSoapTypeMappings.getRegistry());
             return _call;
         }
         catch (java.lang.Throwable _t) {
@@ -3293,7 +2919,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[0]);
+        _call.setOperation(_getOperation(0));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3332,7 +2958,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[1]);
+        _call.setOperation(_getOperation(1));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3380,7 +3006,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[2]);
+        _call.setOperation(_getOperation(2));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3411,7 +3037,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[3]);
+        _call.setOperation(_getOperation(3));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3459,7 +3085,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[4]);
+        _call.setOperation(_getOperation(4));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3501,7 +3127,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[5]);
+        _call.setOperation(_getOperation(5));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3543,7 +3169,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[6]);
+        _call.setOperation(_getOperation(6));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3591,7 +3217,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[7]);
+        _call.setOperation(_getOperation(7));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3636,7 +3262,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[8]);
+        _call.setOperation(_getOperation(8));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3684,7 +3310,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[9]);
+        _call.setOperation(_getOperation(9));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3723,7 +3349,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[10]);
+        _call.setOperation(_getOperation(10));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3762,7 +3388,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[11]);
+        _call.setOperation(_getOperation(11));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3807,7 +3433,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[12]);
+        _call.setOperation(_getOperation(12));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3852,7 +3478,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[13]);
+        _call.setOperation(_getOperation(13));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3894,7 +3520,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[14]);
+        _call.setOperation(_getOperation(14));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3942,7 +3568,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[15]);
+        _call.setOperation(_getOperation(15));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -3987,7 +3613,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[16]);
+        _call.setOperation(_getOperation(16));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4029,7 +3655,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[17]);
+        _call.setOperation(_getOperation(17));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4071,7 +3697,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[18]);
+        _call.setOperation(_getOperation(18));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4113,7 +3739,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[19]);
+        _call.setOperation(_getOperation(19));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4155,7 +3781,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[20]);
+        _call.setOperation(_getOperation(20));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4197,7 +3823,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[21]);
+        _call.setOperation(_getOperation(21));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4236,7 +3862,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[22]);
+        _call.setOperation(_getOperation(22));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4275,7 +3901,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[23]);
+        _call.setOperation(_getOperation(23));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4314,7 +3940,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[24]);
+        _call.setOperation(_getOperation(24));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4353,7 +3979,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[25]);
+        _call.setOperation(_getOperation(25));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4385,7 +4011,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[26]);
+        _call.setOperation(_getOperation(26));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4417,7 +4043,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[27]);
+        _call.setOperation(_getOperation(27));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4449,7 +4075,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[28]);
+        _call.setOperation(_getOperation(28));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4481,7 +4107,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[29]);
+        _call.setOperation(_getOperation(29));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4520,7 +4146,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[30]);
+        _call.setOperation(_getOperation(30));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4559,7 +4185,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[31]);
+        _call.setOperation(_getOperation(31));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4591,7 +4217,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[32]);
+        _call.setOperation(_getOperation(32));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4623,7 +4249,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[33]);
+        _call.setOperation(_getOperation(33));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4655,7 +4281,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[34]);
+        _call.setOperation(_getOperation(34));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4687,7 +4313,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[35]);
+        _call.setOperation(_getOperation(35));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4726,7 +4352,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[36]);
+        _call.setOperation(_getOperation(36));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4765,7 +4391,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[37]);
+        _call.setOperation(_getOperation(37));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4804,7 +4430,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[38]);
+        _call.setOperation(_getOperation(38));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4849,7 +4475,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[39]);
+        _call.setOperation(_getOperation(39));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4894,7 +4520,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[40]);
+        _call.setOperation(_getOperation(40));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4926,7 +4552,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[41]);
+        _call.setOperation(_getOperation(41));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -4971,7 +4597,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[42]);
+        _call.setOperation(_getOperation(42));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5019,7 +4645,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[43]);
+        _call.setOperation(_getOperation(43));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5057,7 +4683,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[44]);
+        _call.setOperation(_getOperation(44));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5096,7 +4722,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[45]);
+        _call.setOperation(_getOperation(45));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5138,7 +4764,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[46]);
+        _call.setOperation(_getOperation(46));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5180,7 +4806,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[47]);
+        _call.setOperation(_getOperation(47));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5221,7 +4847,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[48]);
+        _call.setOperation(_getOperation(48));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5262,7 +4888,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[49]);
+        _call.setOperation(_getOperation(49));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5293,7 +4919,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[50]);
+        _call.setOperation(_getOperation(50));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5338,7 +4964,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[51]);
+        _call.setOperation(_getOperation(51));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5377,7 +5003,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[52]);
+        _call.setOperation(_getOperation(52));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5415,7 +5041,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[53]);
+        _call.setOperation(_getOperation(53));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5447,7 +5073,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[54]);
+        _call.setOperation(_getOperation(54));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5489,7 +5115,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[55]);
+        _call.setOperation(_getOperation(55));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5527,7 +5153,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[56]);
+        _call.setOperation(_getOperation(56));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5575,7 +5201,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[57]);
+        _call.setOperation(_getOperation(57));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5623,7 +5249,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[58]);
+        _call.setOperation(_getOperation(58));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5671,7 +5297,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[59]);
+        _call.setOperation(_getOperation(59));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5710,7 +5336,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[60]);
+        _call.setOperation(_getOperation(60));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5749,7 +5375,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[61]);
+        _call.setOperation(_getOperation(61));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5788,7 +5414,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[62]);
+        _call.setOperation(_getOperation(62));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5827,7 +5453,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[63]);
+        _call.setOperation(_getOperation(63));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5872,7 +5498,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[64]);
+        _call.setOperation(_getOperation(64));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5917,7 +5543,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[65]);
+        _call.setOperation(_getOperation(65));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -5962,7 +5588,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[66]);
+        _call.setOperation(_getOperation(66));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6007,7 +5633,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[67]);
+        _call.setOperation(_getOperation(67));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6045,7 +5671,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[68]);
+        _call.setOperation(_getOperation(68));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6083,7 +5709,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[69]);
+        _call.setOperation(_getOperation(69));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6121,7 +5747,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[70]);
+        _call.setOperation(_getOperation(70));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6159,7 +5785,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[71]);
+        _call.setOperation(_getOperation(71));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6197,7 +5823,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[72]);
+        _call.setOperation(_getOperation(72));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6235,7 +5861,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[73]);
+        _call.setOperation(_getOperation(73));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6280,7 +5906,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[74]);
+        _call.setOperation(_getOperation(74));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6322,7 +5948,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[75]);
+        _call.setOperation(_getOperation(75));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6364,7 +5990,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[76]);
+        _call.setOperation(_getOperation(76));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6406,7 +6032,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[77]);
+        _call.setOperation(_getOperation(77));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6451,7 +6077,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[78]);
+        _call.setOperation(_getOperation(78));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6496,7 +6122,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[79]);
+        _call.setOperation(_getOperation(79));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6544,7 +6170,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[80]);
+        _call.setOperation(_getOperation(80));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6585,7 +6211,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[81]);
+        _call.setOperation(_getOperation(81));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6633,7 +6259,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[82]);
+        _call.setOperation(_getOperation(82));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6681,7 +6307,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[83]);
+        _call.setOperation(_getOperation(83));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6726,7 +6352,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[84]);
+        _call.setOperation(_getOperation(84));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6765,7 +6391,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[85]);
+        _call.setOperation(_getOperation(85));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6804,7 +6430,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[86]);
+        _call.setOperation(_getOperation(86));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6843,7 +6469,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[87]);
+        _call.setOperation(_getOperation(87));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6884,7 +6510,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[88]);
+        _call.setOperation(_getOperation(88));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6932,7 +6558,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[89]);
+        _call.setOperation(_getOperation(89));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -6973,7 +6599,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[90]);
+        _call.setOperation(_getOperation(90));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -7005,7 +6631,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[91]);
+        _call.setOperation(_getOperation(91));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -7050,7 +6676,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[92]);
+        _call.setOperation(_getOperation(92));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -7089,7 +6715,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[93]);
+        _call.setOperation(_getOperation(93));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -7134,7 +6760,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[94]);
+        _call.setOperation(_getOperation(94));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -7182,7 +6808,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[95]);
+        _call.setOperation(_getOperation(95));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -7227,7 +6853,7 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
             throw new org.apache.axis.NoEndPointException();
         }
         org.apache.axis.client.Call _call = createCall();
-        _call.setOperation(_operations[96]);
+        _call.setOperation(_getOperation(96));
         _call.setUseSOAPAction(true);
         _call.setSOAPActionURI("");
         _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
@@ -7261,4 +6887,238 @@ public class JirasoapserviceV2SoapBindingStub extends org.apache.axis.client.Stu
 }
     }
 
+    public int getIssuesFromFilter(java.lang.String in0, java.lang.String in1, org.sla256.antjira.jirasoapservice.RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException {
+        return getIssuesFromFilter(in0, in1, null, handler);
+    }
+
+    public int getIssuesFromFilter(java.lang.String in0, java.lang.String in1, org.sla256.antjira.jirasoapservice.IssueProjection fields, org.sla256.antjira.jirasoapservice.RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException {
+        if (super.cachedEndpoint == null) {
+            throw new org.apache.axis.NoEndPointException();
+        }
+        org.apache.axis.client.Call _call = createCall();
+        _call.setOperation(_getOperation(96));
+        _call.setUseSOAPAction(true);
+        _call.setSOAPActionURI("");
+        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
+        _call.setOperationName(new javax.xml.namespace.QName("http://soap.rpc.jira.atlassian.com", "getIssuesFromFilter"));
+        _call.setProperty(ISSUE_HANDLER_PROPERTY, handler);
+        if (fields != null) {
+            _call.setProperty(ISSUE_FIELDS_PROPERTY, fields);
+        }
+
+        setRequestHeaders(_call);
+        setAttachments(_call);
+ try {        java.lang.Object _resp = _call.invoke(new java.lang.Object[] {in0, in1});
+
+        if (_resp instanceof java.rmi.RemoteException) {
+            throw (java.rmi.RemoteException)_resp;
+        }
+        else {
+            extractAttachments(_call);
+            java.lang.Object _streamed = _call.getMessageContext().getProperty(STREAMED_COUNT_PROPERTY);
+            if (_streamed instanceof java.lang.Integer) {
+                return ((java.lang.Integer) _streamed).intValue();
+            }
+            // the transport did not stream the response, hand over the deserialized array instead
+            com.atlassian.jira.rpc.soap.beans.RemoteIssue[] _issues = (com.atlassian.jira.rpc.soap.beans.RemoteIssue[]) org.apache.axis.utils.JavaUtils.convert(_resp, com.atlassian.jira.rpc.soap.beans.RemoteIssue[].class);
+            if (_issues == null) {
+                return 0;
+            }
+            for (int i = 0; i < _issues.length; i++) {
+                handler.handleIssue(fields != null ? fields.apply(_issues[i]) : _issues[i]);
+                _issues[i] = null;
+            }
+            return _issues.length;
+        }
+  } catch (org.apache.axis.AxisFault axisFaultException) {
+    if (axisFaultException.detail != null) {
+        if (axisFaultException.detail instanceof java.rmi.RemoteException) {
+              throw (java.rmi.RemoteException) axisFaultException.detail;
+         }
+        if (axisFaultException.detail instanceof com.atlassian.jira.rpc.exception.RemoteException) {
+              throw (com.atlassian.jira.rpc.exception.RemoteException) axisFaultException.detail;
+         }
+   }
+  throw axisFaultException;
+  } catch (java.rmi.RemoteException _exception) {
+    throw _exception;
+  } catch (java.lang.Exception _exception) {
+    throw org.apache.axis.AxisFault.makeFault(_exception);
+}
+    }
+
+    public int getIssuesFromJqlSearch(java.lang.String in0, java.lang.String in1, int in2, org.sla256.antjira.jirasoapservice.RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException {
+        return getIssuesFromJqlSearch(in0, in1, in2, null, handler);
+    }
+
+    public int getIssuesFromJqlSearch(java.lang.String in0, java.lang.String in1, int in2, org.sla256.antjira.jirasoapservice.IssueProjection fields, org.sla256.antjira.jirasoapservice.RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException {
+        if (super.cachedEndpoint == null) {
+            throw new org.apache.axis.NoEndPointException();
+        }
+        org.apache.axis.client.Call _call = createCall();
+        _call.setOperation(_getOperation(97));
+        _call.setUseSOAPAction(true);
+        _call.setSOAPActionURI("");
+        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
+        _call.setOperationName(new javax.xml.namespace.QName("http://soap.rpc.jira.atlassian.com", "getIssuesFromJqlSearch"));
+        _call.setProperty(ISSUE_HANDLER_PROPERTY, handler);
+        if (fields != null) {
+            _call.setProperty(ISSUE_FIELDS_PROPERTY, fields);
+        }
+
+        setRequestHeaders(_call);
+        setAttachments(_call);
+ try {        java.lang.Object _resp = _call.invoke(new java.lang.Object[] {in0, in1, new java.lang.Integer(in2)});
+
+        if (_resp instanceof java.rmi.RemoteException) {
+            throw (java.rmi.RemoteException)_resp;
+        }
+        else {
+            extractAttachments(_call);
+            java.lang.Object _streamed = _call.getMessageContext().getProperty(STREAMED_COUNT_PROPERTY);
+            if (_streamed instanceof java.lang.Integer) {
+                return ((java.lang.Integer) _streamed).intValue();
+            }
+            // the transport did not stream the response, hand over the deserialized array instead
+            com.atlassian.jira.rpc.soap.beans.RemoteIssue[] _issues = (com.atlassian.jira.rpc.soap.beans.RemoteIssue[]) org.apache.axis.utils.JavaUtils.convert(_resp, com.atlassian.jira.rpc.soap.beans.RemoteIssue[].class);
+            if (_issues == null) {
+                return 0;
+            }
+            for (int i = 0; i < _issues.length; i++) {
+                handler.handleIssue(fields != null ? fields.apply(_issues[i]) : _issues[i]);
+                _issues[i] = null;
+            }
+            return _issues.length;
+        }
+  } catch (org.apache.axis.AxisFault axisFaultException) {
+    if (axisFaultException.detail != null) {
+        if (axisFaultException.detail instanceof java.rmi.RemoteException) {
+              throw (java.rmi.RemoteException) axisFaultException.detail;
+         }
+        if (axisFaultException.detail instanceof com.atlassian.jira.rpc.exception.RemoteException) {
+              throw (com.atlassian.jira.rpc.exception.RemoteException) axisFaultException.detail;
+         }
+   }
+  throw axisFaultException;
+  } catch (java.rmi.RemoteException _exception) {
+    throw _exception;
+  } catch (java.lang.Exception _exception) {
+    throw org.apache.axis.AxisFault.makeFault(_exception);
+}
+    }
+
+    public int getIssuesFromTextSearch(java.lang.String in0, java.lang.String in1, org.sla256.antjira.jirasoapservice.IssueProjection fields, org.sla256.antjira.jirasoapservice.RemoteIssueHandler handler) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemoteException {
+        if (super.cachedEndpoint == null) {
+            throw new org.apache.axis.NoEndPointException();
+        }
+        org.apache.axis.client.Call _call = createCall();
+        _call.setOperation(_getOperation(85));
+        _call.setUseSOAPAction(true);
+        _call.setSOAPActionURI("");
+        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
+        _call.setOperationName(new javax.xml.namespace.QName("http://soap.rpc.jira.atlassian.com", "getIssuesFromTextSearch"));
+        _call.setProperty(ISSUE_HANDLER_PROPERTY, handler);
+        if (fields != null) {
+            _call.setProperty(ISSUE_FIELDS_PROPERTY, fields);
+        }
+
+        setRequestHeaders(_call);
+        setAttachments(_call);
+ try {        java.lang.Object _resp = _call.invoke(new java.lang.Object[] {in0, in1});
+
+        if (_resp instanceof java.rmi.RemoteException) {
+            throw (java.rmi.RemoteException)_resp;
+        }
+        else {
+            extractAttachments(_call);
+            java.lang.Object _streamed = _call.getMessageContext().getProperty(STREAMED_COUNT_PROPERTY);
+            if (_streamed instanceof java.lang.Integer) {
+                return ((java.lang.Integer) _streamed).intValue();
+            }
+            // the transport did not stream the response, hand over the deserialized array instead
+            com.atlassian.jira.rpc.soap.beans.RemoteIssue[] _issues = (com.atlassian.jira.rpc.soap.beans.RemoteIssue[]) org.apache.axis.utils.JavaUtils.convert(_resp, com.atlassian.jira.rpc.soap.beans.RemoteIssue[].class);
+            if (_issues == null) {
+                return 0;
+            }
+            for (int i = 0; i < _issues.length; i++) {
+                handler.handleIssue(fields != null ? fields.apply(_issues[i]) : _issues[i]);
+                _issues[i] = null;
+            }
+            return _issues.length;
+        }
+  } catch (org.apache.axis.AxisFault axisFaultException) {
+    if (axisFaultException.detail != null) {
+        if (axisFaultException.detail instanceof java.rmi.RemoteException) {
+              throw (java.rmi.RemoteException) axisFaultException.detail;
+         }
+        if (axisFaultException.detail instanceof com.atlassian.jira.rpc.exception.RemoteException) {
+              throw (com.atlassian.jira.rpc.exception.RemoteException) axisFaultException.detail;
+         }
+   }
+  throw axisFaultException;
+  } catch (java.rmi.RemoteException _exception) {
+    throw _exception;
+  } catch (java.lang.Exception _exception) {
+    throw org.apache.axis.AxisFault.makeFault(_exception);
+}
+    }
+
+    public boolean addAttachmentsToIssue(java.lang.String in0, java.lang.String in1, java.lang.String[] in2, java.io.File[] files) throws java.rmi.RemoteException, com.atlassian.jira.rpc.exception.RemotePermissionException, com.atlassian.jira.rpc.exception.RemoteValidationException, com.atlassian.jira.rpc.exception.RemoteAuthenticationException, com.atlassian.jira.rpc.exception.RemoteException {
+        if (super.cachedEndpoint == null) {
+            throw new org.apache.axis.NoEndPointException();
+        }
+        org.sla256.antjira.jirasoapservice.AttachmentUpload _upload = new org.sla256.antjira.jirasoapservice.AttachmentUpload(files);
+        if (!java.lang.Boolean.TRUE.equals(((org.apache.axis.client.Service) super.service).getEngine().getOption(STREAMING_UPLOAD_OPTION))) {
+            // the transport can not stream the files, send them from memory instead
+            try {
+                return addAttachmentsToIssue(in0, in1, in2, _upload.readFiles());
+            } catch (java.io.IOException _exception) {
+                throw org.apache.axis.AxisFault.makeFault(_exception);
+            }
+        }
+        org.apache.axis.client.Call _call = createCall();
+        _call.setOperation(_getOperation(57));
+        _call.setUseSOAPAction(true);
+        _call.setSOAPActionURI("");
+        _call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
+        _call.setOperationName(new javax.xml.namespace.QName("http://soap.rpc.jira.atlassian.com", "addAttachmentsToIssue"));
+        _call.setProperty(UPLOAD_PROPERTY, _upload);
+
+        setRequestHeaders(_call);
+        setAttachments(_call);
+ try {        java.lang.Object _resp = _call.invoke(new java.lang.Object[] {in0, in1, in2, _upload.getPlaceholders()});
+
+        if (_resp instanceof java.rmi.RemoteException) {
+            throw (java.rmi.RemoteException)_resp;
+        }
+        else {
+            extractAttachments(_call);
+            try {
+                return ((java.lang.Boolean) _resp).booleanValue();
+            } catch (java.lang.Exception _exception) {
+                return ((java.lang.Boolean) org.apache.axis.utils.JavaUtils.convert(_resp, boolean.class)).booleanValue();
+            }
+        }
+  } catch (org.apache.axis.AxisFault axisFaultException) {
+    if (axisFaultException.detail != null) {
+        if (axisFaultException.detail instanceof java.rmi.RemoteException) {
+              throw (java.rmi.RemoteException) axisFaultException.detail;
+         }
+        if (axisFaultException.detail instanceof com.atlassian.jira.rpc.exception.RemotePermissionException) {
+              throw (com.atlassian.jira.rpc.exception.RemotePermissionException) axisFaultException.detail;
+         }
+        if (axisFaultException.detail instanceof com.atlassian.jira.rpc.exception.RemoteValidationException) {
+              throw (com.atlassian.jira.rpc.exception.RemoteValidationException) axisFaultException.detail;
+         }
+        if (axisFaultException.detail instanceof com.atlassian.jira.rpc.exception.RemoteAuthenticationException) {
+              throw (com.atlassian.jira.rpc.exception.RemoteAuthenticationException) axisFaultException.detail;
+         }
+        if (axisFaultException.detail instanceof com.atlassian.jira.rpc.exception.RemoteException) {
+              throw (com.atlassian.jira.rpc.exception.RemoteException) axisFaultException.detail;
+         }
+   }
+  throw axisFaultException;
+}
+    }
+
 }
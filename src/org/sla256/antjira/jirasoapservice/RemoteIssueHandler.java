@@ -0,0 +1,16 @@
+package org.sla256.antjira.jirasoapservice;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Callback receiving the issues of a streamed {@link JiraSoapStreamingService} call one at a time, in the
+ * order the server returned them.
+ */
+public interface RemoteIssueHandler {
+
+	/**
+	 * @param issue next issue of the result
+	 * @throws Exception to abort the call; it is rethrown wrapped in an AxisFault
+	 */
+	void handleIssue(RemoteIssue issue) throws Exception;
+}
@@ -0,0 +1,144 @@
+package org.sla256.antjira.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-operation metrics of the Jira SOAP calls made through one service handle: call counts and latencies,
+ * recorded by {@link MetricsInvocationHandler}, and SOAP message sizes, recorded by the transport.
+ * Thread safe.
+ */
+public class CallMetrics {
+
+	private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<String, OperationMetrics>();
+
+	private final long startTime = System.currentTimeMillis();
+
+	/**
+	 * @param operation SOAP operation name, e.g. getIssuesFromFilter
+	 * @return metrics of the operation, created on first use
+	 */
+	public OperationMetrics get(String operation) {
+		OperationMetrics metrics = operations.get(operation);
+		if( metrics == null ) {
+			OperationMetrics created = new OperationMetrics(operation);
+			metrics = operations.putIfAbsent(operation, created);
+			if( metrics == null ) {
+				metrics = created;
+			}
+		}
+		return metrics;
+	}
+
+	/**
+	 * @return metrics of all operations called so far, by operation name
+	 */
+	public List<OperationMetrics> getOperations() {
+		List<OperationMetrics> list = new ArrayList<OperationMetrics>(operations.values());
+		Collections.sort(list, new Comparator<OperationMetrics>() {
+			public int compare(OperationMetrics a, OperationMetrics b) {
+				return a.getOperation().compareTo(b.getOperation());
+			}
+		});
+		return list;
+	}
+
+	/**
+	 * @return time these metrics were started, in epoch milliseconds
+	 */
+	public long getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * Writes a JSON report: start time, elapsed time, totals and one entry per operation. Durations are in
+	 * milliseconds.
+	 * @param out output, left open
+	 * @param endpoint Jira SOAP endpoint URL, included in the report
+	 * @throws IOException
+	 */
+	public void writeJson(Writer out, String endpoint) throws IOException {
+		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+		dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+		List<OperationMetrics> list = getOperations();
+		long count = 0;
+		long errors = 0;
+		double totalMillis = 0;
+		long requestBytes = 0;
+		long responseBytes = 0;
+		long uncompressedRequestBytes = 0;
+		long uncompressedResponseBytes = 0;
+		for(OperationMetrics op : list) {
+			count += op.getCount();
+			errors += op.getErrors();
+			totalMillis += op.getTotalMillis();
+			requestBytes += op.getRequestBytes();
+			responseBytes += op.getResponseBytes();
+			uncompressedRequestBytes += op.getUncompressedRequestBytes();
+			uncompressedResponseBytes += op.getUncompressedResponseBytes();
+		}
+
+		out.write("{\n");
+		out.write("  \"endpoint\": " + quote(endpoint) + ",\n");
+		out.write("  \"start\": " + quote(dateFormat.format(new Date(startTime))) + ",\n");
+		out.write("  \"elapsedMs\": " + (System.currentTimeMillis() - startTime) + ",\n");
+		out.write("  \"total\": {\"count\": " + count + ", \"errors\": " + errors + ", \"totalMs\": " + millis(totalMillis)
+				+ ", \"requestBytes\": " + requestBytes + ", \"responseBytes\": " + responseBytes
+				+ ", \"uncompressedRequestBytes\": " + uncompressedRequestBytes
+				+ ", \"uncompressedResponseBytes\": " + uncompressedResponseBytes + "},\n");
+		out.write("  \"operations\": [");
+		for(int i = 0; i < list.size(); i++) {
+			OperationMetrics op = list.get(i);
+			out.write(i == 0 ? "\n" : ",\n");
+			out.write("    {\"operation\": " + quote(op.getOperation())
+					+ ", \"count\": " + op.getCount()
+					+ ", \"errors\": " + op.getErrors()
+					+ ", \"totalMs\": " + millis(op.getTotalMillis())
+					+ ", \"p50Ms\": " + millis(op.getPercentileMillis(50))
+					+ ", \"p95Ms\": " + millis(op.getPercentileMillis(95))
+					+ ", \"p99Ms\": " + millis(op.getPercentileMillis(99))
+					+ ", \"maxMs\": " + millis(op.getMaxMillis())
+					+ ", \"requestBytes\": " + op.getRequestBytes()
+					+ ", \"responseBytes\": " + op.getResponseBytes()
+					+ ", \"uncompressedRequestBytes\": " + op.getUncompressedRequestBytes()
+					+ ", \"uncompressedResponseBytes\": " + op.getUncompressedResponseBytes() + "}");
+		}
+		out.write(list.isEmpty() ? "]\n" : "\n  ]\n");
+		out.write("}\n");
+	}
+
+	private static String millis(double ms) {
+		return String.format(Locale.ROOT, "%.3f", Double.valueOf(ms));
+	}
+
+	private static String quote(String s) {
+		if( s == null ) {
+			return "null";
+		}
+		StringBuilder sb = new StringBuilder("\"");
+		for(int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if( c == '"' || c == '\\' ) {
+				sb.append('\\').append(c);
+			}
+			else if( c < 0x20 ) {
+				sb.append(String.format("\\u%04x", Integer.valueOf(c)));
+			}
+			else {
+				sb.append(c);
+			}
+		}
+		return sb.append('"').toString();
+	}
+}
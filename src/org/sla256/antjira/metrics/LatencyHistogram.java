@@ -0,0 +1,67 @@
+package org.sla256.antjira.metrics;
+
+/**
+ * Log-linear histogram of latencies in microseconds: exact up to 32 us, then 32 buckets per power of two,
+ * i.e. percentiles are accurate within about 3%. Values above 2^40 us (12 days) are clamped.
+ * Not thread safe.
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private static final int MAX_BIT = 40;
+
+	private static final long MAX_VALUE = (1L << (MAX_BIT + 1)) - 1;
+
+	private final long[] counts = new long[SUB_BUCKETS * (MAX_BIT - SUB_BUCKET_BITS + 2)];
+
+	private long total = 0;
+
+	void record(long micros) {
+		counts[index(Math.max(0, Math.min(micros, MAX_VALUE)))]++;
+		total++;
+	}
+
+	long getTotal() {
+		return total;
+	}
+
+	/**
+	 * @param percentile 0 to 100
+	 * @return upper bound of the bucket holding the given percentile, 0 if nothing was recorded
+	 */
+	long getPercentile(double percentile) {
+		if( total == 0 ) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for(int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if( seen >= rank ) {
+				return upperBound(i);
+			}
+		}
+		return MAX_VALUE;
+	}
+
+	static int index(long value) {
+		if( value < SUB_BUCKETS ) {
+			return (int) value;
+		}
+		int msb = 63 - Long.numberOfLeadingZeros(value);
+		int shift = msb - SUB_BUCKET_BITS;
+		return SUB_BUCKETS * (shift + 1) + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	static long upperBound(int index) {
+		if( index < SUB_BUCKETS ) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long top = index % SUB_BUCKETS + SUB_BUCKETS;
+		return ((top + 1) << shift) - 1;
+	}
+}
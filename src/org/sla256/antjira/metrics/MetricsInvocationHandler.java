@@ -0,0 +1,59 @@
+package org.sla256.antjira.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.sla256.antjira.jirasoapservice.JiraSoapService;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+
+/**
+ * Wraps a JiraSoapService so that the duration of every call, including the (de)serialization of its SOAP
+ * messages, is recorded in a {@link CallMetrics}, by operation name.
+ * The proxy also implements JiraSoapStreamingService when the wrapped handle does.
+ */
+public class MetricsInvocationHandler implements InvocationHandler {
+
+	private final JiraSoapService delegate;
+
+	private final CallMetrics metrics;
+
+	private MetricsInvocationHandler(JiraSoapService delegate, CallMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @param delegate Jira SOAP WS handle to wrap
+	 * @param metrics receives the call durations
+	 * @return JiraSoapService recording its calls
+	 */
+	public static JiraSoapService wrap(JiraSoapService delegate, CallMetrics metrics) {
+		Class<?>[] interfaces = delegate instanceof JiraSoapStreamingService
+			? new Class<?>[] { JiraSoapService.class, JiraSoapStreamingService.class }
+			: new Class<?>[] { JiraSoapService.class };
+		return (JiraSoapService) Proxy.newProxyInstance(JiraSoapService.class.getClassLoader(), interfaces,
+				new MetricsInvocationHandler(delegate, metrics));
+	}
+
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if( method.getDeclaringClass() == Object.class ) {
+			return method.invoke(this, args);
+		}
+		OperationMetrics operation = metrics.get(method.getName());
+		boolean failed = true;
+		long start = System.nanoTime();
+		try {
+			Object result = method.invoke(delegate, args);
+			failed = false;
+			return result;
+		}
+		catch(InvocationTargetException e) {
+			throw e.getCause();
+		}
+		finally {
+			operation.recordCall(System.nanoTime() - start, failed);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package org.sla256.antjira.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Call count, latency distribution and SOAP message sizes of one Jira SOAP operation. Thread safe.
+ */
+public class OperationMetrics {
+
+	private final String operation;
+
+	private final LatencyHistogram latencies = new LatencyHistogram();
+
+	private long errors = 0;
+
+	private long totalNanos = 0;
+
+	private long maxNanos = 0;
+
+	private final AtomicLong requestBytes = new AtomicLong();
+
+	private final AtomicLong responseBytes = new AtomicLong();
+
+	private final AtomicLong uncompressedRequestBytes = new AtomicLong();
+
+	private final AtomicLong uncompressedResponseBytes = new AtomicLong();
+
+	OperationMetrics(String operation) {
+		this.operation = operation;
+	}
+
+	/**
+	 * Records a completed call, successful or not.
+	 * @param nanos call duration
+	 * @param failed true if the call threw
+	 */
+	public synchronized void recordCall(long nanos, boolean failed) {
+		latencies.record(nanos / 1000);
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+		if( failed ) {
+			errors++;
+		}
+	}
+
+	/**
+	 * @param bytes size of a SOAP request sent for the operation, as sent on the wire (compressed or not)
+	 */
+	public void addRequestBytes(long bytes) {
+		requestBytes.addAndGet(bytes);
+	}
+
+	/**
+	 * @param bytes number of SOAP response bytes received for the operation, as read from the wire
+	 */
+	public void addResponseBytes(long bytes) {
+		responseBytes.addAndGet(bytes);
+	}
+
+	/**
+	 * @param bytes size of a SOAP request sent for the operation, before compression
+	 */
+	public void addUncompressedRequestBytes(long bytes) {
+		uncompressedRequestBytes.addAndGet(bytes);
+	}
+
+	/**
+	 * @param bytes number of SOAP response bytes received for the operation, after decompression
+	 */
+	public void addUncompressedResponseBytes(long bytes) {
+		uncompressedResponseBytes.addAndGet(bytes);
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return number of calls
+	 */
+	public synchronized long getCount() {
+		return latencies.getTotal();
+	}
+
+	/**
+	 * @return number of calls which threw
+	 */
+	public synchronized long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * @return summed duration of all calls in milliseconds
+	 */
+	public synchronized double getTotalMillis() {
+		return totalNanos / 1e6;
+	}
+
+	/**
+	 * @return duration of the longest call in milliseconds
+	 */
+	public synchronized double getMaxMillis() {
+		return maxNanos / 1e6;
+	}
+
+	/**
+	 * @param percentile 0 to 100, e.g. 95
+	 * @return call duration in milliseconds not exceeded by the given percentage of calls (within 3%, and
+	 * never above the maximum)
+	 */
+	public synchronized double getPercentileMillis(double percentile) {
+		return Math.min(latencies.getPercentile(percentile) / 1e3, maxNanos / 1e6);
+	}
+
+	/**
+	 * @return summed size of the SOAP requests on the wire
+	 */
+	public long getRequestBytes() {
+		return requestBytes.get();
+	}
+
+	/**
+	 * @return summed size of the SOAP responses on the wire
+	 */
+	public long getResponseBytes() {
+		return responseBytes.get();
+	}
+
+	/**
+	 * @return summed size of the SOAP requests before compression, equal to {@link #getRequestBytes()} when
+	 * requests are not compressed
+	 */
+	public long getUncompressedRequestBytes() {
+		return uncompressedRequestBytes.get();
+	}
+
+	/**
+	 * @return summed size of the SOAP responses after decompression, equal to {@link #getResponseBytes()} when
+	 * responses are not compressed
+	 */
+	public long getUncompressedResponseBytes() {
+		return uncompressedResponseBytes.get();
+	}
+}
@@ -0,0 +1,99 @@
+package org.sla256.antjira.transport;
+
+import java.io.FileInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Base64 encodes the content of a file to a stream, reading it in fixed size chunks, without line breaks
+ * (as the Axis Base64 serializer does).
+ */
+final class Base64FileEncoder {
+
+	/**
+	 * Bytes read per chunk, a multiple of 3 so that only the last chunk needs padding.
+	 */
+	private static final int CHUNK = 48 * 1024;
+
+	private static final byte[] ALPHABET =
+		"ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes();
+
+	private Base64FileEncoder() {
+	}
+
+	/**
+	 * @param size number of bytes to encode
+	 * @return number of base64 characters encoding them
+	 */
+	static long encodedLength(long size) {
+		return (size + 2) / 3 * 4;
+	}
+
+	/**
+	 * Writes the base64 encoded content of a file.
+	 * @param file file to encode
+	 * @param size expected size of the file, as announced by the request
+	 * @param out output, left open
+	 * @throws IOException if the file can not be read or its size is no longer the expected one
+	 */
+	static void encode(File file, long size, OutputStream out) throws IOException {
+		FileInputStream in = new FileInputStream(file);
+		try {
+			FileChannel channel = in.getChannel();
+			ByteBuffer chunk = ByteBuffer.allocate(CHUNK);
+			byte[] encoded = new byte[CHUNK / 3 * 4];
+			long total = 0;
+			while( true ) {
+				chunk.clear();
+				while( chunk.hasRemaining() && channel.read(chunk) != -1 ) {
+					// fills whole chunks, so that only the last one is padded
+				}
+				int n = chunk.position();
+				if( n == 0 ) {
+					break;
+				}
+				total += n;
+				if( total > size ) {
+					break;
+				}
+				out.write(encoded, 0, encode(chunk.array(), n, encoded));
+				if( n < CHUNK ) {
+					break;
+				}
+			}
+			if( total != size ) {
+				throw new IOException(file + " changed while being uploaded");
+			}
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * @return number of characters written to out
+	 */
+	private static int encode(byte[] in, int length, byte[] out) {
+		int o = 0;
+		int i = 0;
+		for(; i + 2 < length; i += 3) {
+			int bits = (in[i] & 0xff) << 16 | (in[i + 1] & 0xff) << 8 | (in[i + 2] & 0xff);
+			out[o++] = ALPHABET[bits >>> 18];
+			out[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+			out[o++] = ALPHABET[(bits >>> 6) & 0x3f];
+			out[o++] = ALPHABET[bits & 0x3f];
+		}
+		int rest = length - i;
+		if( rest > 0 ) {
+			int bits = (in[i] & 0xff) << 16 | (rest == 2 ? (in[i + 1] & 0xff) << 8 : 0);
+			out[o++] = ALPHABET[bits >>> 18];
+			out[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+			out[o++] = rest == 2 ? ALPHABET[(bits >>> 6) & 0x3f] : (byte) '=';
+			out[o++] = '=';
+		}
+		return o;
+	}
+}
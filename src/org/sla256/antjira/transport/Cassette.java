@@ -0,0 +1,518 @@
+package org.sla256.antjira.transport;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk record of SOAP calls, for a {@link PooledHTTPSender} to replay instead of calling the server: the
+ * request envelope, the HTTP status, the content type and the (uncompressed) response envelope of each call.
+ *
+ * A cassette is made of two files: the data file holding the envelopes one after the other, and an index file
+ * (same name plus ".idx") with one line per call: key, operation, status, offset, request and response lengths
+ * and content type, tab separated. The key is a SHA-1 of the endpoint URL and the normalized request envelope,
+ * in which the login token of the call (first parameter of every operation but login) and the password of
+ * login are replaced by a placeholder: a replayed call matches a recorded one whatever the session, and no
+ * password is ever written. Recorded tokens are played back by the recorded login calls.
+ *
+ * A call recorded several times is replayed in the order of the recording, its last response being repeated.
+ * Responses are never held in memory: a response being recorded is copied to a spool file next to the
+ * cassette as it is read, then appended to the data file once read up to its end; a replayed response is read
+ * from its range of the data file. Every call is appended to both files as soon as its response is read, so
+ * the cassette of an interrupted build holds the calls completed until then.
+ */
+public class Cassette implements Closeable {
+
+	/**
+	 * Calls go to the server and are recorded, replacing a previous recording.
+	 */
+	public static final String MODE_RECORD = "record";
+
+	/**
+	 * Calls are answered from the cassette; calls which were not recorded fail.
+	 */
+	public static final String MODE_REPLAY = "replay";
+
+	/**
+	 * Calls go to the server, no cassette is used.
+	 */
+	public static final String MODE_PASSTHROUGH = "passthrough";
+
+	private static final String INDEX_SUFFIX = ".idx";
+
+	private static final int COPY_BUFFER_SIZE = 8192;
+
+	private static final Pattern IN0 = Pattern.compile("<in0(\\s[^>]*)?>[^<]*</in0>");
+
+	private static final Pattern IN1 = Pattern.compile("<in1(\\s[^>]*)?>[^<]*</in1>");
+
+	private static final String TOKEN_PLACEHOLDER = "<in0 xsi:type=\"xsd:string\">${token}</in0>";
+
+	private static final String PASSWORD_PLACEHOLDER = "<in1 xsi:type=\"xsd:string\">${password}</in1>";
+
+	private final File file;
+
+	private final boolean replaying;
+
+	/**
+	 * Data file, open for reading (replay) or writing (record).
+	 */
+	private final RandomAccessFile data;
+
+	/**
+	 * Channel of the data file, read with positional reads by the replayed responses.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Recordings not committed or discarded yet, discarded when the cassette is closed.
+	 */
+	private final Set<Recording> recordings = new HashSet<Recording>();
+
+	/**
+	 * Index file being written, null when replaying.
+	 */
+	private final Writer index;
+
+	/**
+	 * Recorded calls by key, in the order of the recording.
+	 */
+	private final Map<String, List<Entry>> entries = new HashMap<String, List<Entry>>();
+
+	/**
+	 * Number of replays of each key so far.
+	 */
+	private final Map<String, Integer> replays = new HashMap<String, Integer>();
+
+	private int size = 0;
+
+	/**
+	 * @param file data file of the cassette; the index file is next to it
+	 * @param mode {@link #MODE_RECORD} or {@link #MODE_REPLAY}
+	 * @throws FileNotFoundException when replaying a cassette which does not exist
+	 * @throws IOException if the cassette cannot be read or created
+	 * @throws IllegalArgumentException for any other mode
+	 */
+	public Cassette(File file, String mode) throws IOException {
+		this.file = file;
+		File indexFile = new File(file.getPath() + INDEX_SUFFIX);
+		if( MODE_REPLAY.equals(mode) ) {
+			replaying = true;
+			if( !file.isFile() || !indexFile.isFile() ) {
+				throw new FileNotFoundException("No cassette " + file + " to replay, record it first with mode=\"record\"");
+			}
+			readIndex(indexFile);
+			data = new RandomAccessFile(file, "r");
+			channel = data.getChannel();
+			index = null;
+		}
+		else if( MODE_RECORD.equals(mode) ) {
+			replaying = false;
+			File dir = file.getAbsoluteFile().getParentFile();
+			if( dir != null && !dir.isDirectory() && !dir.mkdirs() ) {
+				throw new IOException("Cannot create directory " + dir);
+			}
+			data = new RandomAccessFile(file, "rw");
+			data.setLength(0);
+			channel = data.getChannel();
+			index = new OutputStreamWriter(new FileOutputStream(indexFile), "UTF-8");
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported cassette mode " + mode + ", expected record or replay");
+		}
+	}
+
+	/**
+	 * @param mode
+	 * @return true for a valid mode: record, replay or passthrough
+	 */
+	public static boolean isMode(String mode) {
+		return MODE_RECORD.equals(mode) || MODE_REPLAY.equals(mode) || MODE_PASSTHROUGH.equals(mode);
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return true if calls are answered from this cassette, false if they are recorded to it
+	 */
+	public boolean isReplaying() {
+		return replaying;
+	}
+
+	/**
+	 * @return number of calls in the cassette
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Starts the recording of a call, whose response is then written to the returned recording as it is read.
+	 * @param endpoint endpoint URL of the call
+	 * @param operation name of the operation, may be null
+	 * @param request request envelope
+	 * @param status HTTP status of the response
+	 * @param contentType content type of the response, may be null
+	 * @return recording to write the uncompressed response envelope to, then to commit or discard
+	 * @throws IOException
+	 */
+	public Recording record(String endpoint, String operation, byte[] request, int status, String contentType)
+			throws IOException {
+		if( replaying ) {
+			throw new IllegalStateException("Cassette " + file + " is open for replay");
+		}
+		byte[] normalized = normalize(operation, request);
+		Recording recording = new Recording(key(endpoint, normalized), operation, normalized, status, contentType);
+		synchronized (this) {
+			recordings.add(recording);
+		}
+		return recording;
+	}
+
+	/**
+	 * Looks up the recorded response of a call.
+	 * @param endpoint endpoint URL of the call
+	 * @param operation name of the operation, may be null
+	 * @param request request envelope
+	 * @return the recorded call, null if none matches
+	 * @throws IOException
+	 */
+	public synchronized Entry replay(String endpoint, String operation, byte[] request) throws IOException {
+		if( !replaying ) {
+			throw new IllegalStateException("Cassette " + file + " is open for recording");
+		}
+		String key = key(endpoint, normalize(operation, request));
+		List<Entry> recorded = entries.get(key);
+		if( recorded == null ) {
+			return null;
+		}
+		Integer count = replays.get(key);
+		int n = count == null ? 0 : count.intValue();
+		replays.put(key, Integer.valueOf(n + 1));
+		return recorded.get(Math.min(n, recorded.size() - 1));
+	}
+
+	/**
+	 * @param entry recorded call, see {@link #replay(String, String, byte[])}
+	 * @return stream of the recorded response envelope, read from the data file until the cassette is closed
+	 */
+	public InputStream openResponse(Entry entry) {
+		return new RangeInputStream(channel, entry.offset + entry.requestLength, entry.responseLength);
+	}
+
+	public synchronized void close() throws IOException {
+		for(Recording recording : new ArrayList<Recording>(recordings)) {
+			recording.discard();
+		}
+		try {
+			if( index != null ) {
+				index.close();
+			}
+		}
+		finally {
+			data.close();
+		}
+	}
+
+	/**
+	 * @return the request with its login token, or the password of a login call, replaced by a placeholder
+	 */
+	static byte[] normalize(String operation, byte[] request) throws IOException {
+		String xml = new String(request, "UTF-8");
+		Matcher m = "login".equals(operation) ? IN1.matcher(xml) : IN0.matcher(xml);
+		if( !m.find() ) {
+			return request;
+		}
+		String placeholder = "login".equals(operation) ? PASSWORD_PLACEHOLDER : TOKEN_PLACEHOLDER;
+		return (xml.substring(0, m.start()) + placeholder + xml.substring(m.end())).getBytes("UTF-8");
+	}
+
+	private static String key(String endpoint, byte[] normalized) throws IOException {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			digest.update(endpoint.getBytes("UTF-8"));
+			digest.update((byte) '\n');
+			byte[] hash = digest.digest(normalized);
+			StringBuilder sb = new StringBuilder();
+			for(byte b : hash) {
+				sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			}
+			return sb.toString();
+		}
+		catch(NoSuchAlgorithmException e) {
+			throw new IOException(e.getMessage());
+		}
+	}
+
+	private void readIndex(File indexFile) throws IOException {
+		BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(indexFile), "UTF-8"));
+		try {
+			String line;
+			int lineNumber = 0;
+			while( (line = in.readLine()) != null ) {
+				lineNumber++;
+				if( line.length() == 0 ) {
+					continue;
+				}
+				String[] fields = line.split("\t", 7);
+				if( fields.length != 7 ) {
+					throw new IOException("Invalid line " + lineNumber + " of cassette index " + indexFile);
+				}
+				Entry entry;
+				try {
+					entry = new Entry(fields[1], Integer.parseInt(fields[2]), Long.parseLong(fields[3]),
+							Integer.parseInt(fields[4]), Integer.parseInt(fields[5]), fields[6].length() == 0 ? null : fields[6]);
+				}
+				catch(NumberFormatException e) {
+					throw new IOException("Invalid line " + lineNumber + " of cassette index " + indexFile);
+				}
+				List<Entry> recorded = entries.get(fields[0]);
+				if( recorded == null ) {
+					recorded = new ArrayList<Entry>(1);
+					entries.put(fields[0], recorded);
+				}
+				recorded.add(entry);
+				size++;
+			}
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Call recorded in a cassette.
+	 */
+	public static class Entry {
+
+		private final String operation;
+
+		private final int status;
+
+		private final long offset;
+
+		private final int requestLength;
+
+		private final int responseLength;
+
+		private final String contentType;
+
+		Entry(String operation, int status, long offset, int requestLength, int responseLength, String contentType) {
+			this.operation = operation;
+			this.status = status;
+			this.offset = offset;
+			this.requestLength = requestLength;
+			this.responseLength = responseLength;
+			this.contentType = contentType;
+		}
+
+		public String getOperation() {
+			return operation;
+		}
+
+		public int getStatus() {
+			return status;
+		}
+
+		/**
+		 * @return content type of the response, may be null
+		 */
+		public String getContentType() {
+			return contentType;
+		}
+
+		/**
+		 * @return length in bytes of the response envelope
+		 */
+		public int getResponseLength() {
+			return responseLength;
+		}
+	}
+
+	/**
+	 * Response of a call being recorded, spooled to a file next to the cassette until it is committed.
+	 */
+	public class Recording extends OutputStream {
+
+		private final String key;
+
+		private final String operation;
+
+		private final byte[] request;
+
+		private final int status;
+
+		private final String contentType;
+
+		private final File spoolFile;
+
+		private final OutputStream spool;
+
+		private long length = 0;
+
+		private boolean done = false;
+
+		Recording(String key, String operation, byte[] request, int status, String contentType) throws IOException {
+			this.key = key;
+			this.operation = operation;
+			this.request = request;
+			this.status = status;
+			this.contentType = contentType;
+			spoolFile = File.createTempFile(file.getName(), ".part", file.getAbsoluteFile().getParentFile());
+			spool = new BufferedOutputStream(new FileOutputStream(spoolFile), COPY_BUFFER_SIZE);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			spool.write(b);
+			length++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			spool.write(b, off, len);
+			length += len;
+		}
+
+		/**
+		 * Appends the call to the cassette. Does nothing if the recording was already committed or discarded.
+		 * @throws IOException
+		 */
+		public void commit() throws IOException {
+			synchronized (Cassette.this) {
+				if( done ) {
+					return;
+				}
+				done = true;
+				recordings.remove(this);
+				try {
+					spool.close();
+					if( length > Integer.MAX_VALUE ) {
+						throw new IOException("Response of " + operation + " too large to be recorded: " + length + " bytes");
+					}
+					long offset = data.length();
+					data.seek(offset);
+					data.write(request);
+					InputStream in = new FileInputStream(spoolFile);
+					try {
+						byte[] b = new byte[COPY_BUFFER_SIZE];
+						int n;
+						while( (n = in.read(b)) != -1 ) {
+							data.write(b, 0, n);
+						}
+					}
+					finally {
+						in.close();
+					}
+					index.write(key + "\t" + (operation == null ? "-" : operation) + "\t" + status + "\t" + offset + "\t"
+							+ request.length + "\t" + length + "\t" + (contentType == null ? "" : contentType) + "\n");
+					index.flush();
+					size++;
+				}
+				finally {
+					spoolFile.delete();
+				}
+			}
+		}
+
+		/**
+		 * Drops the recording, e.g. of a response which could not be read up to its end. Does nothing if the
+		 * recording was already committed or discarded.
+		 */
+		public void discard() {
+			synchronized (Cassette.this) {
+				if( done ) {
+					return;
+				}
+				done = true;
+				recordings.remove(this);
+			}
+			try {
+				spool.close();
+			}
+			catch(IOException e) {
+				// dropped anyway
+			}
+			spoolFile.delete();
+		}
+
+		/**
+		 * Same as {@link #commit()}.
+		 */
+		@Override
+		public void close() throws IOException {
+			commit();
+		}
+	}
+
+	/**
+	 * Input stream of a byte range of the data file. Positional reads are used so that several such streams
+	 * can share the file channel.
+	 */
+	private static class RangeInputStream extends InputStream {
+
+		private final FileChannel channel;
+
+		private long position;
+
+		private final long end;
+
+		RangeInputStream(FileChannel channel, long start, long length) {
+			this.channel = channel;
+			this.position = start;
+			this.end = start + length;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if( len == 0 ) {
+				return 0;
+			}
+			if( position >= end ) {
+				return -1;
+			}
+			int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+			if( n < 0 ) {
+				throw new IOException("Cassette truncated");
+			}
+			position += n;
+			return n;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(Integer.MAX_VALUE, end - position);
+		}
+	}
+}
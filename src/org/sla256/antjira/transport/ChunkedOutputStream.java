@@ -0,0 +1,55 @@
+package org.sla256.antjira.transport;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes an HTTP/1.1 chunked request body. {@link #finish()} writes the last chunk; the underlying stream is
+ * never closed.
+ */
+class ChunkedOutputStream extends FilterOutputStream {
+
+	private long count = 0;
+
+	ChunkedOutputStream(OutputStream out) {
+		super(out);
+	}
+
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	public void write(byte[] b, int off, int len) throws IOException {
+		if( len == 0 ) {
+			return;
+		}
+		out.write((Integer.toHexString(len) + "\r\n").getBytes("ISO-8859-1"));
+		out.write(b, off, len);
+		out.write('\r');
+		out.write('\n');
+		count += len;
+	}
+
+	/**
+	 * Writes the last, empty chunk.
+	 */
+	void finish() throws IOException {
+		out.write('0');
+		out.write('\r');
+		out.write('\n');
+		out.write('\r');
+		out.write('\n');
+	}
+
+	/**
+	 * @return number of body bytes written, chunk framing excluded
+	 */
+	long getCount() {
+		return count;
+	}
+
+	public void close() throws IOException {
+		flush();
+	}
+}
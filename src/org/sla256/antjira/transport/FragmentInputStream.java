@@ -0,0 +1,74 @@
+package org.sla256.antjira.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Input stream feeding one XML parser with a sequence of elements read from a spool file: a fixed head (the
+ * start tag of an enclosing element), then the byte ranges handed over by {@link #setRange(long, long)}, one
+ * after the other. Positional reads are used so that several such streams can share the file channel.
+ *
+ * The parser must only be asked for events inside the current range; reading past it is an error rather
+ * than a blocking read or an end of stream, which would both leave the parser unusable for later ranges.
+ */
+class FragmentInputStream extends InputStream {
+
+	private final FileChannel channel;
+
+	private final byte[] head;
+
+	private int headPosition = 0;
+
+	private long position = 0;
+
+	private long end = 0;
+
+	FragmentInputStream(FileChannel channel, byte[] head) {
+		this.channel = channel;
+		this.head = head;
+	}
+
+	/**
+	 * @param start offset of the next range in the file
+	 * @param end offset following the next range
+	 */
+	void setRange(long start, long end) {
+		this.position = start;
+		this.end = end;
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] b = new byte[1];
+		return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if( len == 0 ) {
+			return 0;
+		}
+		if( headPosition < head.length ) {
+			int n = Math.min(len, head.length - headPosition);
+			System.arraycopy(head, headPosition, b, off, n);
+			headPosition += n;
+			return n;
+		}
+		if( position >= end ) {
+			throw new IOException("Read past the current multiRef element");
+		}
+		int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+		if( n < 0 ) {
+			throw new IOException("Spooled response truncated");
+		}
+		position += n;
+		return n;
+	}
+
+	@Override
+	public int available() {
+		return (head.length - headPosition) + (int) Math.min(Integer.MAX_VALUE, end - position);
+	}
+}
@@ -0,0 +1,180 @@
+package org.sla256.antjira.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Response body of a pooled HTTP connection. Decodes Content-Length, chunked and read-until-close bodies and
+ * hands the connection back to the pool as soon as the body has been read up to its end. Closing the stream
+ * before the end of the body discards the connection, as it can no longer be reused.
+ */
+class HttpBodyInputStream extends InputStream {
+
+	/**
+	 * Marks a body delimited by the connection being closed by the server.
+	 */
+	static final long UNTIL_CLOSE = -1;
+
+	/**
+	 * Marks a chunked body.
+	 */
+	static final long CHUNKED = -2;
+
+	private final HttpConnectionPool pool;
+
+	private final HttpConnection conn;
+
+	private final InputStream in;
+
+	private final boolean chunked;
+
+	/**
+	 * Whether the connection may go back to the pool once the body was consumed.
+	 */
+	private final boolean keepAlive;
+
+	/**
+	 * Remaining bytes of the body (Content-Length) or of the current chunk; -1 for bodies read until close.
+	 */
+	private long remaining;
+
+	private boolean eof = false;
+
+	private boolean done = false;
+
+	/**
+	 * @param pool owning pool
+	 * @param conn connection the body is read from
+	 * @param length body length, {@link #CHUNKED} or {@link #UNTIL_CLOSE}
+	 * @param keepAlive whether the connection may be reused after the body
+	 */
+	HttpBodyInputStream(HttpConnectionPool pool, HttpConnection conn, long length, boolean keepAlive) throws IOException {
+		this.pool = pool;
+		this.conn = conn;
+		this.in = conn.getInputStream();
+		this.chunked = length == CHUNKED;
+		this.keepAlive = keepAlive && length != UNTIL_CLOSE;
+		this.remaining = chunked ? 0 : length;
+		if( !chunked && remaining == 0 ) {
+			finish();
+		}
+	}
+
+	public int read() throws IOException {
+		byte[] b = new byte[1];
+		int n = read(b, 0, 1);
+		return n == -1 ? -1 : (b[0] & 0xff);
+	}
+
+	public int read(byte[] b, int off, int len) throws IOException {
+		if( eof ) {
+			return -1;
+		}
+		if( len == 0 ) {
+			return 0;
+		}
+		if( chunked && remaining == 0 ) {
+			remaining = nextChunkSize();
+			if( remaining == 0 ) {
+				finish();
+				return -1;
+			}
+		}
+
+		int toRead = remaining < 0 ? len : (int) Math.min(len, remaining);
+		int n;
+		try {
+			n = in.read(b, off, toRead);
+		}
+		catch(IOException e) {
+			abort();
+			throw e;
+		}
+
+		if( n == -1 ) {
+			if( remaining < 0 ) {
+				finish();
+				return -1;
+			}
+			abort();
+			throw new IOException("Premature end of HTTP response body");
+		}
+
+		if( remaining > 0 ) {
+			remaining -= n;
+			if( remaining == 0 && !chunked ) {
+				finish();
+			}
+		}
+		return n;
+	}
+
+	public int available() throws IOException {
+		if( eof ) {
+			return 0;
+		}
+		int n = in.available();
+		return remaining < 0 ? n : (int) Math.min(n, remaining);
+	}
+
+	/**
+	 * Closing before the end of the body discards the underlying connection.
+	 */
+	public void close() throws IOException {
+		if( !done ) {
+			abort();
+		}
+	}
+
+	/**
+	 * Reads the size line of the next chunk; on the last chunk also skips the trailers.
+	 */
+	private long nextChunkSize() throws IOException {
+		String line = HttpHeaders.readLine(in);
+		if( line != null && line.length() == 0 ) {
+			// CRLF terminating the previous chunk
+			line = HttpHeaders.readLine(in);
+		}
+		if( line == null ) {
+			abort();
+			throw new IOException("Premature end of chunked HTTP response body");
+		}
+		int ext = line.indexOf(';');
+		long size;
+		try {
+			size = Long.parseLong((ext == -1 ? line : line.substring(0, ext)).trim(), 16);
+		}
+		catch(NumberFormatException e) {
+			abort();
+			throw new IOException("Invalid HTTP chunk size: " + line);
+		}
+		if( size == 0 ) {
+			String trailer;
+			do {
+				trailer = HttpHeaders.readLine(in);
+			} while( trailer != null && trailer.length() > 0 );
+		}
+		return size;
+	}
+
+	private void finish() {
+		eof = true;
+		if( !done ) {
+			done = true;
+			if( keepAlive ) {
+				pool.release(conn);
+			}
+			else {
+				pool.discard(conn);
+			}
+		}
+	}
+
+	private void abort() {
+		eof = true;
+		if( !done ) {
+			done = true;
+			pool.discard(conn);
+		}
+	}
+}
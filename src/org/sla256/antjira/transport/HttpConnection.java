@@ -0,0 +1,173 @@
+package org.sla256.antjira.transport;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * A single persistent HTTP/1.1 connection (plain or TLS) managed by the {@link HttpConnectionPool}.
+ */
+class HttpConnection {
+
+	/**
+	 * Idle time (ms) after which a connection is probed with a blocking read before it is reused.
+	 */
+	static final long PROBE_IDLE_TIME = 2000;
+
+	/**
+	 * Pool key of this connection, i.e. scheme://host:port.
+	 */
+	private final String route;
+
+	private final Socket socket;
+
+	private final InputStream in;
+
+	private final OutputStream out;
+
+	/**
+	 * Time (System.currentTimeMillis) when the connection was last returned to the pool.
+	 */
+	private long idleSince;
+
+	/**
+	 * True once the connection has been handed out more than once, i.e. it is a kept-alive connection.
+	 */
+	private boolean reused;
+
+	/**
+	 * Opens a new connection to the given host.
+	 * @param route pool key of the connection
+	 * @param secure whether TLS should be negotiated on top of the TCP connection
+	 * @param host
+	 * @param port
+	 * @param connectTimeout connect (and TLS handshake) timeout in milliseconds, 0 for none
+	 * @throws IOException
+	 */
+	HttpConnection(String route, boolean secure, String host, int port, int connectTimeout) throws IOException {
+		this.route = route;
+
+		Socket plain = new Socket();
+		plain.setTcpNoDelay(true);
+		plain.setKeepAlive(true);
+		plain.connect(new InetSocketAddress(host, port), connectTimeout);
+
+		if( secure ) {
+			plain.setSoTimeout(connectTimeout);
+			try {
+				SSLSocket ssl = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault()).createSocket(plain, host, port, true);
+				// without an endpoint identification algorithm, any trusted certificate would be accepted for any host
+				SSLParameters parameters = ssl.getSSLParameters();
+				parameters.setEndpointIdentificationAlgorithm("HTTPS");
+				ssl.setSSLParameters(parameters);
+				ssl.startHandshake();
+				socket = ssl;
+			}
+			catch(IOException e) {
+				plain.close();
+				throw e;
+			}
+		}
+		else {
+			socket = plain;
+		}
+
+		in = new BufferedInputStream(socket.getInputStream(), 8192);
+		out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+	}
+
+	String getRoute() {
+		return route;
+	}
+
+	InputStream getInputStream() {
+		return in;
+	}
+
+	OutputStream getOutputStream() {
+		return out;
+	}
+
+	boolean isReused() {
+		return reused;
+	}
+
+	void setReused(boolean reused) {
+		this.reused = reused;
+	}
+
+	long getIdleSince() {
+		return idleSince;
+	}
+
+	void setIdleSince(long idleSince) {
+		this.idleSince = idleSince;
+	}
+
+	/**
+	 * Sets the socket read timeout in milliseconds, 0 for none.
+	 * @param readTimeout
+	 */
+	void setReadTimeout(int readTimeout) throws IOException {
+		socket.setSoTimeout(readTimeout);
+	}
+
+	/**
+	 * Checks whether an idle connection has been closed by the server (or has unexpected data pending) and
+	 * can therefore not be reused. Only connections idle for longer than PROBE_IDLE_TIME are probed with a
+	 * short blocking read; a close of a recently used one is caught when the call over it gets no response
+	 * (see PooledHTTPSender).
+	 * @param now current time (System.currentTimeMillis)
+	 * @return true if the connection should be discarded
+	 */
+	boolean isStale(long now) {
+		if( socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown() ) {
+			return true;
+		}
+		try {
+			if( in.available() > 0 ) {
+				return true;
+			}
+			if( now - idleSince <= PROBE_IDLE_TIME ) {
+				return false;
+			}
+			int timeout = socket.getSoTimeout();
+			try {
+				// an idle kept-alive connection must not deliver anything: either EOF or stray bytes make it unusable
+				socket.setSoTimeout(1);
+				in.read();
+				return true;
+			}
+			catch(SocketTimeoutException e) {
+				return false;
+			}
+			finally {
+				socket.setSoTimeout(timeout);
+			}
+		}
+		catch(IOException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Closes the underlying socket, ignoring errors.
+	 */
+	void close() {
+		try {
+			socket.close();
+		}
+		catch(IOException e) {
+			// nothing to do, the connection is being discarded anyway
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package org.sla256.antjira.transport;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded pool of persistent HTTP/1.1 connections, keyed by scheme, host and port.
+ * Connections are leased for exactly one request/response exchange and returned once the response body has
+ * been fully consumed. At most poolSize idle connections are kept per route; connections idle for longer
+ * than idleTimeout are closed instead of being reused.
+ * The pool does not run any background thread, eviction happens whenever connections are leased or released.
+ */
+public class HttpConnectionPool {
+
+	/**
+	 * Default maximum number of idle connections kept per route.
+	 */
+	public static final int DEFAULT_POOL_SIZE = 4;
+
+	/**
+	 * Default idle timeout (ms) after which a pooled connection is evicted.
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT = 30000;
+
+	/**
+	 * Default connect timeout (ms).
+	 */
+	public static final int DEFAULT_CONNECT_TIMEOUT = 30000;
+
+	private int poolSize = DEFAULT_POOL_SIZE;
+
+	private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+	private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+	/**
+	 * Read timeout (ms); 0 means the timeout of the Axis call is used.
+	 */
+	private int readTimeout = 0;
+
+	/**
+	 * Idle connections per route, most recently used last.
+	 */
+	private final Map<String, LinkedList<HttpConnection>> idle = new HashMap<String, LinkedList<HttpConnection>>();
+
+	private boolean closed = false;
+
+	/**
+	 * Maximum number of idle connections kept per route. 0 disables keep-alive completely.
+	 * @param poolSize
+	 */
+	public void setPoolSize(int poolSize) {
+		this.poolSize = Math.max(0, poolSize);
+	}
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * Idle time (ms) after which a pooled connection is closed instead of being reused.
+	 * @param idleTimeout
+	 */
+	public void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Connect and TLS handshake timeout (ms), 0 for none.
+	 * @param connectTimeout
+	 */
+	public void setConnectTimeout(int connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	/**
+	 * Socket read timeout (ms). If not set (0) the timeout of the Axis call is used.
+	 * @param readTimeout
+	 */
+	public void setReadTimeout(int readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+
+	public int getReadTimeout() {
+		return readTimeout;
+	}
+
+	/**
+	 * Returns an idle connection to the target of the given URL, or opens a new one.
+	 * @param url target URL (http or https)
+	 * @return leased connection, owned by the caller until released
+	 * @throws IOException
+	 */
+	HttpConnection lease(URL url) throws IOException {
+		String route = routeOf(url);
+		long now = System.currentTimeMillis();
+
+		while( true ) {
+			HttpConnection conn;
+			synchronized (this) {
+				if( closed ) {
+					throw new IOException("HTTP connection pool is closed");
+				}
+				LinkedList<HttpConnection> conns = idle.get(route);
+				conn = (conns == null || conns.isEmpty()) ? null : conns.removeLast();
+			}
+			if( conn == null ) {
+				break;
+			}
+			if( now - conn.getIdleSince() > idleTimeout || conn.isStale(now) ) {
+				conn.close();
+				continue;
+			}
+			conn.setReused(true);
+			return conn;
+		}
+
+		boolean secure = "https".equalsIgnoreCase(url.getProtocol());
+		int port = url.getPort() != -1 ? url.getPort() : (secure ? 443 : 80);
+		return new HttpConnection(route, secure, url.getHost(), port, connectTimeout);
+	}
+
+	/**
+	 * Returns a connection whose last response was fully consumed back to the pool. If the pool for the route
+	 * is full (or the pool closed) the connection is closed instead.
+	 * @param conn
+	 */
+	void release(HttpConnection conn) {
+		List<HttpConnection> evicted = new ArrayList<HttpConnection>();
+		long now = System.currentTimeMillis();
+		conn.setIdleSince(now);
+
+		synchronized (this) {
+			LinkedList<HttpConnection> conns = idle.get(conn.getRoute());
+			if( conns == null ) {
+				conns = new LinkedList<HttpConnection>();
+				idle.put(conn.getRoute(), conns);
+			}
+			for(Iterator<HttpConnection> it = conns.iterator(); it.hasNext(); ) {
+				HttpConnection c = it.next();
+				if( now - c.getIdleSince() > idleTimeout ) {
+					it.remove();
+					evicted.add(c);
+				}
+			}
+			if( closed || conns.size() >= poolSize ) {
+				evicted.add(conn);
+			}
+			else {
+				conns.addLast(conn);
+			}
+		}
+
+		for(HttpConnection c : evicted) {
+			c.close();
+		}
+	}
+
+	/**
+	 * Discards a connection which can not be reused (error, Connection: close, unread response, etc).
+	 * @param conn
+	 */
+	void discard(HttpConnection conn) {
+		conn.close();
+	}
+
+	/**
+	 * Closes all idle connections; connections still leased are closed when released.
+	 */
+	public void close() {
+		List<HttpConnection> all = new ArrayList<HttpConnection>();
+		synchronized (this) {
+			closed = true;
+			for(LinkedList<HttpConnection> conns : idle.values()) {
+				all.addAll(conns);
+			}
+			idle.clear();
+		}
+		for(HttpConnection c : all) {
+			c.close();
+		}
+	}
+
+	/**
+	 * @return pool key of the URL, scheme://host:port with the default port of the scheme if none is given
+	 */
+	static String routeOf(URL url) {
+		int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+		return url.getProtocol().toLowerCase() + "://" + url.getHost().toLowerCase() + ":" + port;
+	}
+}
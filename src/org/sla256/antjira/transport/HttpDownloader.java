@@ -0,0 +1,223 @@
+package org.sla256.antjira.transport;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+import org.apache.axis.encoding.Base64;
+
+/**
+ * Downloads files (e.g. Jira attachments) with plain HTTP GET requests over the connections of a
+ * {@link HttpConnectionPool}, so downloads share the kept-alive connections of the SOAP calls.
+ * Response bodies are handed to FileChannel.transferFrom, which moves them into the target file without an
+ * intermediate copy in user code. The body is written to a temporary file next to the target first and only
+ * renamed to the target once complete, so an interrupted download never leaves a truncated file behind.
+ * Instances hold no per-request state and may be used by several threads at the same time.
+ */
+public class HttpDownloader {
+
+	/**
+	 * Read timeout (ms) used when the pool defines none, same as the default Axis call timeout.
+	 */
+	public static final int DEFAULT_READ_TIMEOUT = 600000;
+
+	/**
+	 * Suffix of the temporary file a download is written to.
+	 */
+	public static final String PART_SUFFIX = ".part";
+
+	private static final String USER_AGENT = "ant-jira";
+
+	private static final int MAX_REDIRECTS = 5;
+
+	/**
+	 * Maximum number of bytes moved by a single transferFrom call.
+	 */
+	private static final long TRANSFER_SIZE = 1024 * 1024;
+
+	private final HttpConnectionPool pool;
+
+	/**
+	 * Value of the Authorization header, null for anonymous downloads.
+	 */
+	private final String authorization;
+
+	/**
+	 * @param pool pool providing the connections
+	 * @param username user name sent with HTTP Basic authentication, null for none
+	 * @param password
+	 */
+	public HttpDownloader(HttpConnectionPool pool, String username, String password) {
+		this.pool = pool;
+		if( username != null ) {
+			String credentials = username + ":" + (password == null ? "" : password);
+			try {
+				authorization = "Basic " + Base64.encode(credentials.getBytes("UTF-8"));
+			}
+			catch(IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		else {
+			authorization = null;
+		}
+	}
+
+	/**
+	 * Downloads the given URL to the target file, following redirects. Credentials are only sent to the scheme,
+	 * host and port of the original URL, so a redirect to another server or from https to http drops them.
+	 * @param url
+	 * @param target file to create or replace
+	 * @return number of bytes written
+	 * @throws IOException on connection errors and responses other than 200
+	 */
+	public long download(URL url, File target) throws IOException {
+		String origin = HttpConnectionPool.routeOf(url);
+		for(int redirects = 0; ; redirects++) {
+			HttpConnection conn = pool.lease(url);
+			HttpHeaders response;
+			try {
+				response = get(conn, url, origin);
+			}
+			catch(IOException e) {
+				pool.discard(conn);
+				if( !conn.isReused() ) {
+					throw e;
+				}
+				// stale kept-alive connection; a GET can safely be repeated over a fresh one
+				conn = pool.lease(url);
+				try {
+					response = get(conn, url, origin);
+				}
+				catch(IOException e2) {
+					pool.discard(conn);
+					throw e2;
+				}
+			}
+
+			InputStream body;
+			try {
+				body = new HttpBodyInputStream(pool, conn, response.getBodyLength(), pool.getPoolSize() > 0 && response.isKeepAlive());
+			}
+			catch(IOException e) {
+				pool.discard(conn);
+				throw e;
+			}
+
+			int code = response.getStatusCode();
+			String location = response.get("Location");
+			if( isRedirect(code) && location != null && redirects < MAX_REDIRECTS ) {
+				discardBody(body);
+				url = new URL(url, location);
+				continue;
+			}
+			if( code != 200 ) {
+				discardBody(body);
+				throw new IOException("HTTP " + code + " " + response.getStatusMessage() + " downloading " + url);
+			}
+			return save(body, response.getBodyLength(), target);
+		}
+	}
+
+	/**
+	 * Sends the GET request and reads the response headers.
+	 */
+	private HttpHeaders get(HttpConnection conn, URL url, String origin) throws IOException {
+		conn.setReadTimeout(pool.getReadTimeout() > 0 ? pool.getReadTimeout() : DEFAULT_READ_TIMEOUT);
+
+		String path = url.getFile();
+		if( path == null || path.length() == 0 ) {
+			path = "/";
+		}
+
+		StringBuilder header = new StringBuilder(256);
+		header.append("GET ").append(path).append(" HTTP/1.1\r\n");
+		header.append("Host: ").append(url.getHost());
+		if( url.getPort() != -1 ) {
+			header.append(':').append(url.getPort());
+		}
+		header.append("\r\n");
+		header.append("User-Agent: ").append(USER_AGENT).append("\r\n");
+		if( authorization != null && origin.equals(HttpConnectionPool.routeOf(url)) ) {
+			header.append("Authorization: ").append(authorization).append("\r\n");
+		}
+		if( pool.getPoolSize() == 0 ) {
+			header.append("Connection: close\r\n");
+		}
+		header.append("\r\n");
+
+		OutputStream out = conn.getOutputStream();
+		out.write(header.toString().getBytes("ISO-8859-1"));
+		out.flush();
+		return HttpHeaders.read(conn.getInputStream());
+	}
+
+	/**
+	 * Transfers the body into a temporary file, then renames it to the target.
+	 * @param length expected body length, negative if unknown
+	 */
+	private static long save(InputStream body, long length, File target) throws IOException {
+		File part = new File(target.getPath() + PART_SUFFIX);
+		long position = 0;
+		boolean complete = false;
+		try {
+			FileOutputStream out = new FileOutputStream(part);
+			try {
+				FileChannel channel = out.getChannel();
+				ReadableByteChannel in = Channels.newChannel(body);
+				long n;
+				while( (n = channel.transferFrom(in, position, TRANSFER_SIZE)) > 0 ) {
+					position += n;
+				}
+			}
+			finally {
+				out.close();
+			}
+			if( length >= 0 && position != length ) {
+				throw new IOException("Download of " + target.getName() + " truncated at " + position + " of " + length + " bytes");
+			}
+			complete = true;
+		}
+		finally {
+			body.close();
+			if( !complete ) {
+				part.delete();
+			}
+		}
+
+		if( target.exists() && !target.delete() ) {
+			part.delete();
+			throw new IOException("Cannot replace " + target);
+		}
+		if( !part.renameTo(target) ) {
+			part.delete();
+			throw new IOException("Cannot rename " + part + " to " + target);
+		}
+		return position;
+	}
+
+	private static boolean isRedirect(int code) {
+		return code == 301 || code == 302 || code == 303 || code == 307 || code == 308;
+	}
+
+	/**
+	 * Reads a body to its end so the connection can be reused.
+	 */
+	private static void discardBody(InputStream body) throws IOException {
+		byte[] b = new byte[4096];
+		try {
+			while( body.read(b) != -1 ) {
+				// skip
+			}
+		}
+		finally {
+			body.close();
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package org.sla256.antjira.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Status line and headers of an HTTP response, read straight from a pooled connection.
+ */
+class HttpHeaders {
+
+	private final String version;
+
+	private final int statusCode;
+
+	private final String statusMessage;
+
+	/**
+	 * Header values keyed by lower-case header name. Repeated headers are joined with a comma.
+	 */
+	private final Map<String, String> headers = new HashMap<String, String>();
+
+	private HttpHeaders(String version, int statusCode, String statusMessage) {
+		this.version = version;
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+	}
+
+	/**
+	 * Reads a status line and the headers following it. Interim 1xx responses are skipped.
+	 * @param in
+	 * @return parsed response headers
+	 * @throws IOException if the connection was closed or the response is malformed
+	 */
+	static HttpHeaders read(InputStream in) throws IOException {
+		while( true ) {
+			String statusLine = readLine(in);
+			if( statusLine == null ) {
+				throw new IOException("Connection closed by server before HTTP response");
+			}
+			if( statusLine.length() == 0 ) {
+				continue;
+			}
+
+			String[] parts = statusLine.split(" ", 3);
+			if( parts.length < 2 || !parts[0].startsWith("HTTP/") ) {
+				throw new IOException("Invalid HTTP status line: " + statusLine);
+			}
+			int code;
+			try {
+				code = Integer.parseInt(parts[1]);
+			}
+			catch(NumberFormatException e) {
+				throw new IOException("Invalid HTTP status line: " + statusLine);
+			}
+			HttpHeaders response = new HttpHeaders(parts[0], code, parts.length > 2 ? parts[2] : "");
+
+			String line;
+			while( (line = readLine(in)) != null && line.length() > 0 ) {
+				int colon = line.indexOf(':');
+				if( colon > 0 ) {
+					String name = line.substring(0, colon).trim().toLowerCase();
+					String value = line.substring(colon + 1).trim();
+					String previous = response.headers.get(name);
+					response.headers.put(name, previous == null ? value : previous + ", " + value);
+				}
+			}
+
+			if( code >= 100 && code < 200 ) {
+				continue;
+			}
+			return response;
+		}
+	}
+
+	/**
+	 * Reads one CRLF (or LF) terminated ISO-8859-1 line.
+	 * @param in
+	 * @return the line without its terminator, or null at end of stream
+	 */
+	static String readLine(InputStream in) throws IOException {
+		StringBuilder sb = new StringBuilder(64);
+		int c;
+		while( (c = in.read()) != -1 ) {
+			if( c == '\n' ) {
+				int len = sb.length();
+				if( len > 0 && sb.charAt(len - 1) == '\r' ) {
+					sb.setLength(len - 1);
+				}
+				return sb.toString();
+			}
+			sb.append((char) c);
+		}
+		return sb.length() == 0 ? null : sb.toString();
+	}
+
+	String getVersion() {
+		return version;
+	}
+
+	int getStatusCode() {
+		return statusCode;
+	}
+
+	String getStatusMessage() {
+		return statusMessage;
+	}
+
+	/**
+	 * @param name header name, case insensitive
+	 * @return header value or null
+	 */
+	String get(String name) {
+		return headers.get(name.toLowerCase());
+	}
+
+	/**
+	 * Determines the body length from Content-Length / Transfer-Encoding.
+	 * @return body length, {@link HttpBodyInputStream#CHUNKED} or {@link HttpBodyInputStream#UNTIL_CLOSE}
+	 */
+	long getBodyLength() {
+		String te = get("Transfer-Encoding");
+		if( te != null && te.toLowerCase().indexOf("chunked") != -1 ) {
+			return HttpBodyInputStream.CHUNKED;
+		}
+		if( statusCode == 204 || statusCode == 304 ) {
+			return 0;
+		}
+		String cl = get("Content-Length");
+		if( cl != null ) {
+			try {
+				return Long.parseLong(cl.trim());
+			}
+			catch(NumberFormatException e) {
+				// fall through, read until close
+			}
+		}
+		return HttpBodyInputStream.UNTIL_CLOSE;
+	}
+
+	/**
+	 * @return whether the server allows the connection to be reused after this response
+	 */
+	boolean isKeepAlive() {
+		String connection = get("Connection");
+		if( connection != null ) {
+			String c = connection.toLowerCase();
+			if( c.indexOf("close") != -1 ) {
+				return false;
+			}
+			if( c.indexOf("keep-alive") != -1 ) {
+				return true;
+			}
+		}
+		return "HTTP/1.1".equals(version);
+	}
+}
@@ -0,0 +1,627 @@
+package org.sla256.antjira.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Constants;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.encoding.Base64;
+import org.apache.axis.handlers.BasicHandler;
+import org.apache.axis.message.SOAPBodyElement;
+import org.apache.axis.transport.http.HTTPConstants;
+import org.sla256.antjira.jirasoapservice.AttachmentUpload;
+import org.sla256.antjira.jirasoapservice.IssueProjection;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+import org.sla256.antjira.metrics.CallMetrics;
+import org.sla256.antjira.metrics.OperationMetrics;
+
+/**
+ * Axis HTTP transport pivot handler which sends SOAP requests over persistent HTTP/1.1 connections taken
+ * from a {@link HttpConnectionPool}, instead of opening a new TCP/TLS connection per call like the default
+ * Axis HTTPSender does.
+ * The response body is handed to Axis as a stream; the connection goes back to the pool once Axis has parsed
+ * the response up to its end.
+ * When a kept-alive connection turns out to be closed by the server, the call is sent once more over a fresh
+ * connection if the request could not be written, or if no byte of the response arrived and the call only reads
+ * from Jira (get operations, login and logout).
+ * Calls carrying a {@link RemoteIssueHandler} (see {@link JiraSoapStreamingService}) get their response
+ * decoded here by a {@link RemoteIssueStreamDecoder}, issue by issue, limited to the fields of their
+ * {@link IssueProjection} if any; Axis then only sees an empty result.
+ * Calls carrying an {@link AttachmentUpload} get the content of its files streamed into the request in place
+ * of their placeholders, see {@link UploadRequestEntity}.
+ * With a {@link CallMetrics}, the sizes of the SOAP requests and responses are recorded by operation.
+ * With gzip compression, responses are requested gzip encoded (Accept-Encoding) and decompressed while Axis
+ * parses them; attachment uploads and requests above {@link #MIN_COMPRESSED_REQUEST} bytes can be gzip
+ * encoded too, for servers which accept compressed request bodies. Metrics then record both the sizes on the
+ * wire and the uncompressed sizes.
+ * With a {@link Cassette} open for recording, every call is recorded to it; with one open for replay, calls
+ * are answered from it and never reach the server.
+ */
+public class PooledHTTPSender extends BasicHandler {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final String USER_AGENT = "Axis/1.4 ant-jira";
+
+	private static final String ACCEPT = "application/soap+xml, application/dime, multipart/related, text/*";
+
+	/**
+	 * Maximum number of bytes of a non-SOAP error response kept for the fault message.
+	 */
+	private static final int MAX_ERROR_BODY = 4096;
+
+	/**
+	 * No compression, the default.
+	 */
+	public static final String COMPRESSION_NONE = "none";
+
+	/**
+	 * Content-Encoding: gzip.
+	 */
+	public static final String COMPRESSION_GZIP = "gzip";
+
+	/**
+	 * Requests smaller than this are sent uncompressed even when request compression is enabled.
+	 */
+	public static final int MIN_COMPRESSED_REQUEST = 1024;
+
+	private static final int GZIP_BUFFER_SIZE = 8192;
+
+	private final HttpConnectionPool pool;
+
+	/**
+	 * Receives the SOAP message sizes, null if not recorded.
+	 */
+	private final CallMetrics metrics;
+
+	/**
+	 * Whether responses are requested gzip encoded.
+	 */
+	private boolean gzip = false;
+
+	/**
+	 * Whether large requests are sent gzip encoded.
+	 */
+	private boolean compressRequests = false;
+
+	/**
+	 * Cassette the calls are recorded to or replayed from, null for none.
+	 */
+	private Cassette cassette;
+
+	/**
+	 * @param pool connection pool used for all requests sent by this handler
+	 */
+	public PooledHTTPSender(HttpConnectionPool pool) {
+		this(pool, null);
+	}
+
+	/**
+	 * @param pool connection pool used for all requests sent by this handler
+	 * @param metrics receives the SOAP message sizes by operation, may be null
+	 */
+	public PooledHTTPSender(HttpConnectionPool pool, CallMetrics metrics) {
+		this.pool = pool;
+		this.metrics = metrics;
+	}
+
+	public HttpConnectionPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * @param compression {@link #COMPRESSION_NONE} (default) or {@link #COMPRESSION_GZIP}
+	 * @throws IllegalArgumentException for any other value
+	 */
+	public void setCompression(String compression) {
+		if( COMPRESSION_GZIP.equals(compression) ) {
+			gzip = true;
+		}
+		else if( COMPRESSION_NONE.equals(compression) ) {
+			gzip = false;
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported compression " + compression + ", expected none or gzip");
+		}
+	}
+
+	public String getCompression() {
+		return gzip ? COMPRESSION_GZIP : COMPRESSION_NONE;
+	}
+
+	/**
+	 * @param compressRequests true to also gzip encode attachment uploads and requests of at least
+	 * {@link #MIN_COMPRESSED_REQUEST} bytes when the compression is gzip; off by default, as not every server
+	 * decodes compressed requests
+	 */
+	public void setCompressRequests(boolean compressRequests) {
+		this.compressRequests = compressRequests;
+	}
+
+	public boolean isCompressRequests() {
+		return compressRequests;
+	}
+
+	/**
+	 * @param cassette cassette to record the calls to or replay them from, null (default) for none
+	 */
+	public void setCassette(Cassette cassette) {
+		this.cassette = cassette;
+	}
+
+	public Cassette getCassette() {
+		return cassette;
+	}
+
+	/**
+	 * Sends the request message of the given context and sets its response message.
+	 */
+	public void invoke(MessageContext msgContext) throws AxisFault {
+		try {
+			URL url = new URL(msgContext.getStrProp(MessageContext.TRANS_URL));
+			Message reqMessage = msgContext.getRequestMessage();
+			byte[] recordedRequest = null;
+			if( cassette != null ) {
+				ByteArrayOutputStream buf = new ByteArrayOutputStream();
+				reqMessage.writeTo(buf);
+				recordedRequest = buf.toByteArray();
+				if( cassette.isReplaying() ) {
+					replay(msgContext, url, recordedRequest);
+					return;
+				}
+			}
+			String contentType = reqMessage.getContentType(msgContext.getSOAPConstants());
+			RequestEntity entity = createEntity(msgContext, reqMessage);
+
+			long wireLength;
+			HttpConnection conn;
+			HttpHeaders response;
+			boolean retried = false;
+			while( true ) {
+				conn = pool.lease(url);
+				try {
+					wireLength = writeRequest(conn, url, msgContext, contentType, entity);
+				}
+				catch(IOException e) {
+					pool.discard(conn);
+					if( !conn.isReused() || retried ) {
+						throw e;
+					}
+					// the kept-alive connection was closed by the server in the meantime, the request did not
+					// make it through, so it is safe to send it once more over a fresh connection
+					retried = true;
+					continue;
+				}
+
+				try {
+					response = readHeaders(conn);
+				}
+				catch(IOException e) {
+					pool.discard(conn);
+					throw e;
+				}
+				if( response != null ) {
+					break;
+				}
+				pool.discard(conn);
+				if( !conn.isReused() || retried || !isIdempotent(msgContext) ) {
+					throw new IOException("Connection closed by " + url.getHost() + " without a response");
+				}
+				// usually the server closed the kept-alive connection before the request reached it, which
+				// only shows once the response is awaited; a read only call can safely be sent once more
+				retried = true;
+			}
+
+			OperationMetrics operationMetrics = null;
+			if( metrics != null && msgContext.getOperation() != null ) {
+				operationMetrics = metrics.get(msgContext.getOperation().getName());
+				operationMetrics.addRequestBytes(wireLength);
+				operationMetrics.addUncompressedRequestBytes(entity.getUncompressedLength());
+			}
+			readResponse(conn, response, url, msgContext, operationMetrics, recordedRequest);
+		}
+		catch(AxisFault e) {
+			throw e;
+		}
+		catch(Exception e) {
+			throw AxisFault.makeFault(e);
+		}
+	}
+
+	/**
+	 * @return body of the request: the message, streamed attachment upload or not, compressed or not
+	 */
+	private RequestEntity createEntity(MessageContext msgContext, Message reqMessage) throws Exception {
+		AttachmentUpload upload = (AttachmentUpload) msgContext.getProperty(JiraSoapStreamingService.UPLOAD_PROPERTY);
+		if( upload != null ) {
+			return new UploadRequestEntity(reqMessage, upload, gzip && compressRequests, GZIP_BUFFER_SIZE);
+		}
+		if( gzip && compressRequests && reqMessage.getContentLength() >= MIN_COMPRESSED_REQUEST ) {
+			return RequestEntity.forCompressedMessage(reqMessage, GZIP_BUFFER_SIZE);
+		}
+		return RequestEntity.forMessage(reqMessage);
+	}
+
+	/**
+	 * @return number of body bytes sent
+	 */
+	private long writeRequest(HttpConnection conn, URL url, MessageContext msgContext, String contentType,
+			RequestEntity entity) throws Exception {
+		int readTimeout = pool.getReadTimeout() > 0 ? pool.getReadTimeout() : msgContext.getTimeout();
+		conn.setReadTimeout(Math.max(0, readTimeout));
+
+		String path = url.getFile();
+		if( path == null || path.length() == 0 ) {
+			path = "/";
+		}
+		String action = msgContext.useSOAPAction() ? msgContext.getSOAPActionURI() : "";
+
+		StringBuilder header = new StringBuilder(512);
+		header.append("POST ").append(path).append(" HTTP/1.1\r\n");
+		header.append("Host: ").append(url.getHost());
+		if( url.getPort() != -1 ) {
+			header.append(':').append(url.getPort());
+		}
+		header.append("\r\n");
+		header.append("Content-Type: ").append(contentType).append("\r\n");
+		header.append("Accept: ").append(ACCEPT).append("\r\n");
+		if( gzip ) {
+			header.append("Accept-Encoding: gzip\r\n");
+		}
+		header.append("User-Agent: ").append(USER_AGENT).append("\r\n");
+		header.append(HTTPConstants.HEADER_SOAP_ACTION).append(": \"").append(action == null ? "" : action).append("\"\r\n");
+		if( msgContext.getUsername() != null ) {
+			String credentials = msgContext.getUsername() + ":" + (msgContext.getPassword() == null ? "" : msgContext.getPassword());
+			header.append("Authorization: Basic ").append(Base64.encode(credentials.getBytes("UTF-8"))).append("\r\n");
+		}
+		if( entity.isGzip() ) {
+			header.append("Content-Encoding: gzip\r\n");
+		}
+		long length = entity.getLength();
+		if( length >= 0 ) {
+			header.append("Content-Length: ").append(length).append("\r\n");
+		}
+		else {
+			header.append("Transfer-Encoding: chunked\r\n");
+		}
+		if( pool.getPoolSize() == 0 ) {
+			header.append("Connection: close\r\n");
+		}
+		header.append("\r\n");
+
+		OutputStream out = conn.getOutputStream();
+		out.write(header.toString().getBytes("ISO-8859-1"));
+		if( length >= 0 ) {
+			entity.writeTo(out);
+		}
+		else {
+			ChunkedOutputStream chunked = new ChunkedOutputStream(out);
+			entity.writeTo(chunked);
+			chunked.finish();
+			length = chunked.getCount();
+		}
+		out.flush();
+		return length;
+	}
+
+	/**
+	 * Answers a call from the cassette.
+	 */
+	private void replay(MessageContext msgContext, URL url, byte[] request) throws Exception {
+		String operation = msgContext.getOperation() != null ? msgContext.getOperation().getName() : null;
+		Cassette.Entry entry = cassette.replay(url.toString(), operation, request);
+		if( entry == null ) {
+			throw new AxisFault("No call to " + operation + " matching this one in cassette " + cassette.getFile());
+		}
+		handleResponse(msgContext, entry.getStatus(), entry.getContentType(), null, cassette.openResponse(entry));
+	}
+
+	/**
+	 * @return headers of the response, null if the connection was closed or reset before any byte of the
+	 * response arrived
+	 */
+	private static HttpHeaders readHeaders(HttpConnection conn) throws IOException {
+		InputStream in = conn.getInputStream();
+		in.mark(1);
+		int first;
+		try {
+			first = in.read();
+		}
+		catch(SocketTimeoutException e) {
+			throw e;
+		}
+		catch(IOException e) {
+			return null;
+		}
+		if( first == -1 ) {
+			return null;
+		}
+		in.reset();
+		return HttpHeaders.read(in);
+	}
+
+	/**
+	 * @return true if the call only reads from Jira, so that sending it twice does no harm
+	 */
+	private static boolean isIdempotent(MessageContext msgContext) {
+		String operation = msgContext.getOperation() != null ? msgContext.getOperation().getName() : null;
+		return operation != null && (operation.startsWith("get") || operation.equals("login") || operation.equals("logout"));
+	}
+
+	/**
+	 * @param response headers of the response, its body still to be read from the connection
+	 * @param recordedRequest request envelope to record along with the response, null to not record
+	 */
+	private void readResponse(HttpConnection conn, HttpHeaders response, URL url, MessageContext msgContext,
+			OperationMetrics operationMetrics, byte[] recordedRequest) throws Exception {
+		InputStream body;
+		try {
+			body = new HttpBodyInputStream(pool, conn, response.getBodyLength(), pool.getPoolSize() > 0 && response.isKeepAlive());
+		}
+		catch(IOException e) {
+			pool.discard(conn);
+			throw e;
+		}
+		String contentEncoding = response.get("Content-Encoding");
+		boolean gzipped = contentEncoding != null && response.getBodyLength() != 0
+				&& ("gzip".equalsIgnoreCase(contentEncoding.trim()) || "x-gzip".equalsIgnoreCase(contentEncoding.trim()));
+		if( operationMetrics != null ) {
+			body = new CountingInputStream(body, operationMetrics, gzipped ? CountingInputStream.WIRE : CountingInputStream.BOTH);
+		}
+		if( gzipped ) {
+			try {
+				body = new GzipBodyInputStream(body);
+			}
+			catch(IOException e) {
+				body.close();
+				throw e;
+			}
+			if( operationMetrics != null ) {
+				body = new CountingInputStream(body, operationMetrics, CountingInputStream.UNCOMPRESSED);
+			}
+		}
+
+		int code = response.getStatusCode();
+		String contentType = response.get("Content-Type");
+		boolean soapResponse = contentType != null
+				&& (contentType.toLowerCase().indexOf("xml") != -1 || contentType.toLowerCase().startsWith("multipart/related"));
+
+		if( (code < 200 || code > 299) && !(code == 500 && soapResponse) ) {
+			String errorBody = readErrorBody(body);
+			AxisFault fault = new AxisFault("HTTP", "(" + code + ")" + response.getStatusMessage(), null, null);
+			fault.setFaultDetailString(errorBody);
+			fault.addFaultDetail(Constants.QNAME_FAULTDETAIL_HTTPERRORCODE, Integer.toString(code));
+			throw fault;
+		}
+
+		if( recordedRequest != null ) {
+			String operation = msgContext.getOperation() != null ? msgContext.getOperation().getName() : null;
+			Cassette.Recording recording;
+			try {
+				recording = cassette.record(url.toString(), operation, recordedRequest, code, contentType);
+			}
+			catch(IOException e) {
+				body.close();
+				throw e;
+			}
+			body = new RecordingInputStream(body, recording);
+		}
+		handleResponse(msgContext, code, contentType, response.get("Content-Location"), body);
+	}
+
+	/**
+	 * Hands a SOAP response over to Axis, or decodes it for the RemoteIssueHandler of the call.
+	 */
+	private void handleResponse(MessageContext msgContext, int code, String contentType, String contentLocation,
+			InputStream body) throws Exception {
+		RemoteIssueHandler handler = (RemoteIssueHandler) msgContext.getProperty(JiraSoapStreamingService.ISSUE_HANDLER_PROPERTY);
+		if( handler != null && code != 500 ) {
+			int count;
+			try {
+				IssueProjection fields = (IssueProjection) msgContext.getProperty(JiraSoapStreamingService.ISSUE_FIELDS_PROPERTY);
+				count = new RemoteIssueStreamDecoder(null, fields).decode(body, handler);
+			}
+			finally {
+				body.close();
+			}
+			msgContext.setProperty(JiraSoapStreamingService.STREAMED_COUNT_PROPERTY, Integer.valueOf(count));
+			msgContext.setResponseMessage(emptyResponse(msgContext));
+			return;
+		}
+
+		Message outMsg = new Message(body, false, contentType, contentLocation);
+		outMsg.setMessageType(Message.RESPONSE);
+		msgContext.setResponseMessage(outMsg);
+	}
+
+	/**
+	 * @return response message with a nil return value, standing for a response streamed to a handler
+	 */
+	private static Message emptyResponse(MessageContext msgContext) throws Exception {
+		SOAPBodyElement request = msgContext.getRequestMessage().getSOAPEnvelope().getFirstBody();
+		String returnName = msgContext.getOperation().getReturnQName().getLocalPart();
+		String xml = "<soapenv:Envelope xmlns:soapenv=\"" + Constants.URI_SOAP11_ENV + "\" xmlns:xsi=\"" + Constants.URI_DEFAULT_SCHEMA_XSI + "\">"
+			+ "<soapenv:Body><ns1:" + request.getName() + "Response xmlns:ns1=\"" + request.getNamespaceURI() + "\">"
+			+ "<" + returnName + " xsi:nil=\"true\"/>"
+			+ "</ns1:" + request.getName() + "Response></soapenv:Body></soapenv:Envelope>";
+		Message message = new Message(xml);
+		message.setMessageType(Message.RESPONSE);
+		return message;
+	}
+
+	private static String readErrorBody(InputStream body) throws IOException {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		byte[] b = new byte[1024];
+		int n;
+		try {
+			while( buf.size() < MAX_ERROR_BODY && (n = body.read(b)) != -1 ) {
+				buf.write(b, 0, n);
+			}
+		}
+		finally {
+			body.close();
+		}
+		return buf.toString("ISO-8859-1");
+	}
+
+	/**
+	 * Adds the number of bytes read to the response sizes of an operation.
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+
+		/**
+		 * Counts the bytes read as the size on the wire.
+		 */
+		static final int WIRE = 1;
+
+		/**
+		 * Counts the bytes read as the uncompressed size.
+		 */
+		static final int UNCOMPRESSED = 2;
+
+		/**
+		 * Counts the bytes read as both sizes, for uncompressed responses.
+		 */
+		static final int BOTH = WIRE | UNCOMPRESSED;
+
+		private final OperationMetrics operationMetrics;
+
+		private final int sizes;
+
+		CountingInputStream(InputStream in, OperationMetrics operationMetrics, int sizes) {
+			super(in);
+			this.operationMetrics = operationMetrics;
+			this.sizes = sizes;
+		}
+
+		public int read() throws IOException {
+			int b = in.read();
+			if( b != -1 ) {
+				count(1);
+			}
+			return b;
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = in.read(b, off, len);
+			if( n > 0 ) {
+				count(n);
+			}
+			return n;
+		}
+
+		public long skip(long n) throws IOException {
+			long skipped = in.skip(n);
+			if( skipped > 0 ) {
+				count(skipped);
+			}
+			return skipped;
+		}
+
+		public boolean markSupported() {
+			return false;
+		}
+
+		private void count(long bytes) {
+			if( (sizes & WIRE) != 0 ) {
+				operationMetrics.addResponseBytes(bytes);
+			}
+			if( (sizes & UNCOMPRESSED) != 0 ) {
+				operationMetrics.addUncompressedResponseBytes(bytes);
+			}
+		}
+	}
+
+	/**
+	 * Copies the response body to a cassette recording while it is read, committing the recording once the
+	 * body was read up to its end (the end of a SOAP envelope is always read up to the end of the stream by
+	 * the XML parser), or when it is closed, the rest of the body being read then. A failed read discards the
+	 * recording.
+	 */
+	private static class RecordingInputStream extends FilterInputStream {
+
+		private final Cassette.Recording recording;
+
+		RecordingInputStream(InputStream in, Cassette.Recording recording) {
+			super(in);
+			this.recording = recording;
+		}
+
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n;
+			try {
+				n = in.read(b, off, len);
+				if( n > 0 ) {
+					recording.write(b, off, n);
+				}
+				else if( n == -1 ) {
+					recording.commit();
+				}
+			}
+			catch(IOException e) {
+				recording.discard();
+				throw e;
+			}
+			return n;
+		}
+
+		public long skip(long n) throws IOException {
+			byte[] b = new byte[(int) Math.min(n, GZIP_BUFFER_SIZE)];
+			int read = read(b, 0, b.length);
+			return read < 0 ? 0 : read;
+		}
+
+		public boolean markSupported() {
+			return false;
+		}
+
+		public void close() throws IOException {
+			try {
+				byte[] b = new byte[GZIP_BUFFER_SIZE];
+				while( read(b, 0, b.length) != -1 ) {
+					// recorded by read
+				}
+			}
+			finally {
+				recording.discard();
+				in.close();
+			}
+		}
+	}
+
+	/**
+	 * Decompresses a gzip encoded response body. Once the compressed data is over, the rest of the body (the
+	 * end of a chunked body) is read as well, so that the connection goes back to the pool.
+	 */
+	private static class GzipBodyInputStream extends GZIPInputStream {
+
+		GzipBodyInputStream(InputStream body) throws IOException {
+			super(body, GZIP_BUFFER_SIZE);
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if( n == -1 ) {
+				byte[] skip = new byte[256];
+				while( in.read(skip) != -1 ) {
+					// trailing bytes of the HTTP body
+				}
+			}
+			return n;
+		}
+	}
+}
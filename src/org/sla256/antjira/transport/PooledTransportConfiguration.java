@@ -0,0 +1,75 @@
+package org.sla256.antjira.transport;
+
+import java.util.Hashtable;
+
+import org.apache.axis.ConfigurationException;
+import org.apache.axis.EngineConfiguration;
+import org.apache.axis.configuration.EngineConfigurationFactoryFinder;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.SimpleTargetedChain;
+import org.sla256.antjira.jirasoapservice.JiraSoapStreamingService;
+import org.sla256.antjira.metrics.CallMetrics;
+
+/**
+ * Axis client engine configuration which replaces the default "http" transport (used for both http and
+ * https endpoints) by a {@link PooledHTTPSender}. Everything else is taken from the default Axis client
+ * configuration. The {@link JiraSoapStreamingService#STREAMING_UPLOAD_OPTION} global option is set, as the
+ * sender streams attachment uploads.
+ *
+ * Usage:
+ * <pre>
+ * {@code
+ * HttpConnectionPool pool = new HttpConnectionPool();
+ * JiraSoapServiceServiceLocator jssLocator = new JiraSoapServiceServiceLocator(new PooledTransportConfiguration(pool));
+ * }
+ * </pre>
+ */
+public class PooledTransportConfiguration extends SimpleProvider {
+
+	private final PooledHTTPSender sender;
+
+	/**
+	 * @param pool connection pool shared by all calls made through this configuration
+	 */
+	public PooledTransportConfiguration(HttpConnectionPool pool) {
+		this(pool, null);
+	}
+
+	/**
+	 * @param pool connection pool shared by all calls made through this configuration
+	 * @param metrics receives the SOAP message sizes of the calls by operation, may be null
+	 */
+	public PooledTransportConfiguration(HttpConnectionPool pool, CallMetrics metrics) {
+		super(defaultClientConfig());
+		sender = new PooledHTTPSender(pool, metrics);
+		deployTransport("http", new SimpleTargetedChain(sender));
+	}
+
+	/**
+	 * @return global options of the default configuration, plus the streaming upload option
+	 */
+	public Hashtable<Object, Object> getGlobalOptions() throws ConfigurationException {
+		Hashtable<Object, Object> options = new Hashtable<Object, Object>();
+		Hashtable<?, ?> defaults = super.getGlobalOptions();
+		if( defaults != null ) {
+			options.putAll(defaults);
+		}
+		options.put(JiraSoapStreamingService.STREAMING_UPLOAD_OPTION, Boolean.TRUE);
+		return options;
+	}
+
+	public HttpConnectionPool getPool() {
+		return sender.getPool();
+	}
+
+	/**
+	 * @return transport handler of this configuration, e.g. to set its compression
+	 */
+	public PooledHTTPSender getSender() {
+		return sender;
+	}
+
+	private static EngineConfiguration defaultClientConfig() {
+		return EngineConfigurationFactoryFinder.newFactory().getClientEngineConfig();
+	}
+}
@@ -0,0 +1,555 @@
+package org.sla256.antjira.transport;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Array;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.axis.Constants;
+import org.apache.axis.description.TypeDesc;
+import org.apache.axis.encoding.ser.CalendarDeserializer;
+import org.apache.axis.utils.BeanPropertyDescriptor;
+import org.sla256.antjira.encoding.BeanCodec;
+import org.sla256.antjira.encoding.Iso8601;
+import org.sla256.antjira.encoding.StringPool;
+import org.sla256.antjira.jirasoapservice.IssueProjection;
+import org.sla256.antjira.jirasoapservice.IssueRecord;
+import org.sla256.antjira.jirasoapservice.IssueRecordHandler;
+import org.sla256.antjira.jirasoapservice.RemoteIssueHandler;
+
+import com.atlassian.jira.rpc.soap.beans.RemoteIssue;
+
+/**
+ * Streaming decoder of SOAP RPC/encoded responses returning a RemoteIssue array (getIssuesFromFilter and
+ * the like). Issues are decoded with StAX and handed to a {@link RemoteIssueHandler} one at a time, instead
+ * of Axis building the whole envelope, then the whole array, in memory.
+ *
+ * Array items encoded inline are delivered while the response is still being received. Axis servers (Jira
+ * included) however send every bean as a multiRef element after the response element, referenced by href,
+ * with nested beans (versions, components, custom field values) following all issues. To keep memory
+ * bounded in that case, the raw response is spooled to a temporary file while it is parsed, with the byte
+ * range of every multiRef; once received, each issue is decoded from the file by following its href, and
+ * handed over before the next one is decoded. What stays in memory is one id per issue and one byte range
+ * per multiRef, not the objects.
+ *
+ * Beans with a {@link BeanCodec} (issues and their nested beans) are populated through it, any other through
+ * its Axis TypeDesc, like the Axis BeanDeserializer does. Values of pooled string fields are shared through
+ * a {@link StringPool} per response. The response is expected in UTF-8.
+ *
+ * An {@link IssueRecordHandler} is handed {@link IssueRecord}s, decoded with their dates parsed by
+ * {@link Iso8601} into epoch milliseconds; no Calendar is created for them.
+ * With an {@link IssueProjection}, the elements of the other issue fields are skipped, along with the
+ * multiRef elements they refer to.
+ */
+public class RemoteIssueStreamDecoder {
+
+	private static final String SOAPENV_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+
+	private static final String XSI_NS = "http://www.w3.org/2001/XMLSchema-instance";
+
+	/**
+	 * Element to property descriptors of bean classes, by class.
+	 */
+	private static final Map<Class<?>, Map<String, BeanPropertyDescriptor>> beanProperties =
+		new ConcurrentHashMap<Class<?>, Map<String, BeanPropertyDescriptor>>();
+
+	private final XMLInputFactory factory;
+
+	private final CalendarDeserializer calendarDeserializer = new CalendarDeserializer(Calendar.class, Constants.XSD_DATETIME);
+
+	/**
+	 * Directory of the temporary spool files, null for the default temporary directory.
+	 */
+	private final File tempDir;
+
+	/**
+	 * Issue fields to decode, null for all.
+	 */
+	private final IssueProjection fields;
+
+	/**
+	 * @param tempDir directory of the temporary spool files, null for the default temporary directory
+	 */
+	public RemoteIssueStreamDecoder(File tempDir) {
+		this(tempDir, null);
+	}
+
+	/**
+	 * @param tempDir directory of the temporary spool files, null for the default temporary directory
+	 * @param fields issue fields to decode, null for all
+	 */
+	public RemoteIssueStreamDecoder(File tempDir, IssueProjection fields) {
+		this.tempDir = tempDir;
+		this.fields = fields;
+		factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+	}
+
+	/**
+	 * Decodes a response, reading the body up to its end.
+	 * @param body SOAP response body
+	 * @param handler receives the issues in array order, as records if it is an IssueRecordHandler
+	 * @return number of issues handed to the handler
+	 * @throws Exception on malformed responses, or as thrown by the handler
+	 */
+	public int decode(InputStream body, RemoteIssueHandler handler) throws Exception {
+		File spoolFile = File.createTempFile("antjira-response", ".xml", tempDir);
+		OutputStream spoolOut = null;
+		XMLStreamReader reader = null;
+		RandomAccessFile spoolIn = null;
+		StringPool pool = new StringPool();
+		Class<?> itemType = handler instanceof IssueRecordHandler ? IssueRecord.class : RemoteIssue.class;
+		try
+		{
+			spoolOut = new BufferedOutputStream(new FileOutputStream(spoolFile), 65536);
+			SpoolingInputStream in = new SpoolingInputStream(body, spoolOut);
+			reader = factory.createXMLStreamReader(in);
+			Map<String, String> namespaces = new LinkedHashMap<String, String>();
+
+			if( !nextChild(reader) || !"Envelope".equals(reader.getLocalName()) ) {
+				throw new IOException("Response is not a SOAP envelope");
+			}
+			collectNamespaces(reader, namespaces);
+			if( !nextChild(reader) ) {
+				throw new IOException("SOAP envelope has no body");
+			}
+			if( "Header".equals(reader.getLocalName()) ) {
+				skipElement(reader);
+				nextChild(reader);
+			}
+			collectNamespaces(reader, namespaces);
+			if( !nextChild(reader) ) {
+				throw new IOException("SOAP body is empty");
+			}
+			if( "Fault".equals(reader.getLocalName()) && SOAPENV_NS.equals(reader.getNamespaceURI()) ) {
+				throw new IOException("Unexpected SOAP fault in a successful response");
+			}
+			collectNamespaces(reader, namespaces);
+
+			int count = 0;
+			String arrayRef = null;
+			List<String> pending = new ArrayList<String>();
+			if( nextChild(reader) ) {
+				collectNamespaces(reader, namespaces);
+				String href = reader.getAttributeValue(null, "href");
+				if( href != null ) {
+					arrayRef = refId(href);
+					skipElement(reader);
+				}
+				else if( isNil(reader) ) {
+					skipElement(reader);
+				}
+				else {
+					while( nextChild(reader) ) {
+						href = reader.getAttributeValue(null, "href");
+						if( href != null ) {
+							pending.add(refId(href));
+							skipElement(reader);
+						}
+						else {
+							deliver(handler, readValue(reader, itemType, null, pool));
+							count++;
+						}
+					}
+				}
+			}
+
+			if( arrayRef == null && pending.isEmpty() ) {
+				in.stopRecording();
+				in.drain();
+				return count;
+			}
+
+			// everything the StAX reader read ahead went through the spool, so the rest of the body is raw
+			in.drain();
+			spoolOut.close();
+			spoolOut = null;
+
+			spoolIn = new RandomAccessFile(spoolFile, "r");
+			Fragments fragments = new Fragments(in, spoolIn.getChannel(), namespaces, pool);
+			if( arrayRef != null ) {
+				XMLStreamReader array = fragments.open(arrayRef);
+				try {
+					while( nextChild(array) ) {
+						deliver(handler, readValue(array, itemType, fragments, pool));
+						count++;
+					}
+				}
+				finally {
+					fragments.release();
+				}
+			}
+			try {
+				for(int i = 0; i < pending.size(); i++) {
+					deliver(handler, fragments.resolve(pending.get(i), itemType));
+					pending.set(i, null);
+					count++;
+				}
+			}
+			finally {
+				fragments.close();
+			}
+			return count;
+		}
+		catch(XMLStreamException e) {
+			throw new IOException("Invalid SOAP response: " + e.getMessage());
+		}
+		finally
+		{
+			if( reader != null ) {
+				try {
+					reader.close();
+				}
+				catch(XMLStreamException e) {
+					// nothing more to do
+				}
+			}
+			if( spoolOut != null ) {
+				spoolOut.close();
+			}
+			if( spoolIn != null ) {
+				spoolIn.close();
+			}
+			spoolFile.delete();
+		}
+	}
+
+	private static void deliver(RemoteIssueHandler handler, Object item) throws Exception {
+		if( handler instanceof IssueRecordHandler ) {
+			((IssueRecordHandler) handler).handleRecord((IssueRecord) item);
+		}
+		else {
+			handler.handleIssue((RemoteIssue) item);
+		}
+	}
+
+	/**
+	 * Decodes the element the reader is positioned on (START_ELEMENT) as the given type, leaving the reader
+	 * on its END_ELEMENT.
+	 * @param fragments resolver of href references, null while the response is still being received
+	 * @param pool pool of the response
+	 */
+	private Object readValue(XMLStreamReader r, Class<?> type, Fragments fragments, StringPool pool) throws Exception {
+		String href = r.getAttributeValue(null, "href");
+		if( href != null ) {
+			if( fragments == null ) {
+				throw new IOException("multiRef reference inside an inline array item is not supported");
+			}
+			skipElement(r);
+			return fragments.resolve(refId(href), type);
+		}
+		if( isNil(r) ) {
+			skipElement(r);
+			return null;
+		}
+
+		if( type.isArray() ) {
+			Class<?> componentType = type.getComponentType();
+			List<Object> items = new ArrayList<Object>();
+			while( nextChild(r) ) {
+				items.add(readValue(r, componentType, fragments, pool));
+			}
+			Object array = Array.newInstance(componentType, items.size());
+			for(int i = 0; i < items.size(); i++) {
+				Array.set(array, i, items.get(i));
+			}
+			return array;
+		}
+		if( type == String.class ) {
+			return r.getElementText();
+		}
+		if( type == Calendar.class ) {
+			return calendarDeserializer.makeValue(r.getElementText().trim());
+		}
+		if( type == Long.class || type == long.class ) {
+			return Long.valueOf(r.getElementText().trim());
+		}
+		if( type == Integer.class || type == int.class ) {
+			return Integer.valueOf(r.getElementText().trim());
+		}
+		if( type == Boolean.class || type == boolean.class ) {
+			String text = r.getElementText().trim();
+			return Boolean.valueOf("true".equals(text) || "1".equals(text));
+		}
+		if( type == Double.class || type == double.class ) {
+			return Double.valueOf(r.getElementText().trim());
+		}
+
+		if( type == IssueRecord.class ) {
+			return readRecord(r, fragments, pool);
+		}
+		BeanCodec codec = BeanCodec.forClass(type);
+		if( codec != null ) {
+			return readBean(r, codec, fragments, pool);
+		}
+		Map<String, BeanPropertyDescriptor> properties = getBeanProperties(type);
+		Object bean = type.getDeclaredConstructor().newInstance();
+		while( nextChild(r) ) {
+			BeanPropertyDescriptor property = properties.get(r.getLocalName());
+			if( property == null ) {
+				skipElement(r);
+				continue;
+			}
+			Object value = readValue(r, property.getType(), fragments, pool);
+			if( value != null || !property.getType().isPrimitive() ) {
+				property.set(bean, value);
+			}
+		}
+		return bean;
+	}
+
+	/**
+	 * Decodes a bean with a codec.
+	 */
+	private Object readBean(XMLStreamReader r, BeanCodec codec, Fragments fragments, StringPool pool) throws Exception {
+		IssueProjection projection = codec.getType() == RemoteIssue.class ? fields : null;
+		Object bean = codec.newInstance();
+		while( nextChild(r) ) {
+			int field = codec.getField(r.getLocalName());
+			if( field < 0 || (projection != null && !projection.includes(field)) ) {
+				skipElement(r);
+				continue;
+			}
+			codec.set(bean, field, readField(r, codec, field, fragments, pool));
+		}
+		return bean;
+	}
+
+	/**
+	 * Decodes an issue as a record: the dates are parsed into epoch milliseconds, the other fields are set on
+	 * a RemoteIssue the record is then built from.
+	 */
+	private IssueRecord readRecord(XMLStreamReader r, Fragments fragments, StringPool pool) throws Exception {
+		BeanCodec codec = BeanCodec.forClass(RemoteIssue.class);
+		RemoteIssue issue = (RemoteIssue) codec.newInstance();
+		long created = IssueRecord.NO_TIME;
+		long updated = IssueRecord.NO_TIME;
+		long duedate = IssueRecord.NO_TIME;
+		while( nextChild(r) ) {
+			String name = r.getLocalName();
+			int field = codec.getField(name);
+			if( field < 0 || (fields != null && !fields.includes(field)) ) {
+				skipElement(r);
+				continue;
+			}
+			if( codec.getKind(field) != BeanCodec.CALENDAR ) {
+				codec.set(issue, field, readField(r, codec, field, fragments, pool));
+				continue;
+			}
+			long millis;
+			if( r.getAttributeValue(null, "href") == null && !isNil(r) ) {
+				millis = Iso8601.parse(r.getElementText().trim());
+			}
+			else {
+				Calendar calendar = (Calendar) readValue(r, Calendar.class, fragments, pool);
+				millis = calendar != null ? calendar.getTimeInMillis() : IssueRecord.NO_TIME;
+			}
+			if( "created".equals(name) ) {
+				created = millis;
+			}
+			else if( "updated".equals(name) ) {
+				updated = millis;
+			}
+			else if( "duedate".equals(name) ) {
+				duedate = millis;
+			}
+		}
+		return new IssueRecord(issue, created, updated, duedate);
+	}
+
+	/**
+	 * Decodes a field of a bean with a codec, a simple field being parsed straight from its element text.
+	 */
+	private Object readField(XMLStreamReader r, BeanCodec codec, int field, Fragments fragments, StringPool pool)
+			throws Exception {
+		if( codec.isSimple(field) && r.getAttributeValue(null, "href") == null && !isNil(r) ) {
+			return codec.parse(field, r.getElementText(), pool);
+		}
+		return readValue(r, codec.getJavaType(field), fragments, pool);
+	}
+
+	private static Map<String, BeanPropertyDescriptor> getBeanProperties(Class<?> type) throws IOException {
+		Map<String, BeanPropertyDescriptor> properties = beanProperties.get(type);
+		if( properties == null ) {
+			TypeDesc typeDesc = TypeDesc.getTypeDescForClass(type);
+			if( typeDesc == null ) {
+				throw new IOException("No type description for " + type.getName());
+			}
+			properties = new HashMap<String, BeanPropertyDescriptor>();
+			for(BeanPropertyDescriptor property : typeDesc.getPropertyDescriptors()) {
+				QName element = typeDesc.getElementNameForField(property.getName());
+				properties.put(element != null ? element.getLocalPart() : property.getName(), property);
+			}
+			beanProperties.put(type, properties);
+		}
+		return properties;
+	}
+
+	/**
+	 * Advances to the next child element of the current element.
+	 * @return true if positioned on the START_ELEMENT of a child, false if on the END_ELEMENT of the parent
+	 */
+	private static boolean nextChild(XMLStreamReader r) throws XMLStreamException {
+		while( r.hasNext() ) {
+			int event = r.next();
+			if( event == XMLStreamConstants.START_ELEMENT ) {
+				return true;
+			}
+			if( event == XMLStreamConstants.END_ELEMENT ) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Skips the element the reader is positioned on, leaving the reader on its END_ELEMENT.
+	 */
+	private static void skipElement(XMLStreamReader r) throws XMLStreamException {
+		int depth = 1;
+		while( depth > 0 ) {
+			int event = r.next();
+			if( event == XMLStreamConstants.START_ELEMENT ) {
+				depth++;
+			}
+			else if( event == XMLStreamConstants.END_ELEMENT ) {
+				depth--;
+			}
+		}
+	}
+
+	private static boolean isNil(XMLStreamReader r) {
+		String nil = r.getAttributeValue(XSI_NS, "nil");
+		return "true".equals(nil) || "1".equals(nil);
+	}
+
+	private static String refId(String href) {
+		return href.startsWith("#") ? href.substring(1) : href;
+	}
+
+	private static void collectNamespaces(XMLStreamReader r, Map<String, String> namespaces) {
+		for(int i = 0; i < r.getNamespaceCount(); i++) {
+			String prefix = r.getNamespacePrefix(i);
+			namespaces.put(prefix == null ? "" : prefix, r.getNamespaceURI(i));
+		}
+	}
+
+	/**
+	 * Resolves href references against the spooled response. Parsers are reused: there is one per nesting
+	 * level of references, each fed the multiRef elements it has to decode one after the other.
+	 */
+	private class Fragments {
+
+		private final SpoolingInputStream spool;
+
+		private final FileChannel channel;
+
+		/**
+		 * Start tag of a wrapper element declaring the namespaces in scope of the multiRef elements.
+		 */
+		private final byte[] wrapper;
+
+		private final StringPool pool;
+
+		private final List<FragmentInputStream> streams = new ArrayList<FragmentInputStream>();
+
+		private final List<XMLStreamReader> readers = new ArrayList<XMLStreamReader>();
+
+		/**
+		 * Nesting level of the reference being resolved.
+		 */
+		private int depth = 0;
+
+		Fragments(SpoolingInputStream spool, FileChannel channel, Map<String, String> namespaces, StringPool pool)
+				throws IOException {
+			this.spool = spool;
+			this.channel = channel;
+			this.pool = pool;
+			StringBuilder sb = new StringBuilder("<f");
+			for(Map.Entry<String, String> ns : namespaces.entrySet()) {
+				sb.append(" xmlns");
+				if( ns.getKey().length() > 0 ) {
+					sb.append(':').append(ns.getKey());
+				}
+				sb.append("=\"").append(ns.getValue().replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;")).append('"');
+			}
+			sb.append('>');
+			wrapper = sb.toString().getBytes("UTF-8");
+		}
+
+		/**
+		 * Opens a multiRef at the next nesting level; must be paired with {@link #release()}.
+		 * @return reader positioned on the START_ELEMENT of the given multiRef
+		 */
+		XMLStreamReader open(String id) throws IOException, XMLStreamException {
+			long start = spool.getStart(id);
+			long end = spool.getEnd(id);
+			if( start < 0 || end < 0 ) {
+				throw new IOException("Unresolved multiRef reference #" + id);
+			}
+			XMLStreamReader r;
+			if( depth < readers.size() ) {
+				streams.get(depth).setRange(start, end);
+				r = readers.get(depth);
+			}
+			else {
+				FragmentInputStream in = new FragmentInputStream(channel, wrapper);
+				in.setRange(start, end);
+				r = factory.createXMLStreamReader(in, "UTF-8");
+				nextChild(r);
+				streams.add(in);
+				readers.add(r);
+			}
+			depth++;
+			if( !nextChild(r) ) {
+				throw new IOException("Invalid multiRef element #" + id);
+			}
+			return r;
+		}
+
+		void release() {
+			depth--;
+		}
+
+		Object resolve(String id, Class<?> type) throws Exception {
+			XMLStreamReader r = open(id);
+			try {
+				return readValue(r, type, this, pool);
+			}
+			finally {
+				release();
+			}
+		}
+
+		void close() {
+			for(XMLStreamReader r : readers) {
+				try {
+					r.close();
+				}
+				catch(XMLStreamException e) {
+					// nothing more to do
+				}
+			}
+		}
+	}
+}
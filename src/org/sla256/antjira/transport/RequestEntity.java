@@ -0,0 +1,89 @@
+package org.sla256.antjira.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.axis.Message;
+
+/**
+ * Body of a SOAP request sent by the {@link PooledHTTPSender}: the serialized Axis message, as is or gzip
+ * encoded, or a streamed attachment upload (see {@link UploadRequestEntity}).
+ */
+abstract class RequestEntity {
+
+	/**
+	 * @return length of the body on the wire, -1 if not known before it is written, in which case it is sent
+	 * chunked
+	 */
+	abstract long getLength();
+
+	/**
+	 * @return length of the SOAP message before compression
+	 */
+	abstract long getUncompressedLength();
+
+	/**
+	 * @return true if the body is gzip encoded
+	 */
+	abstract boolean isGzip();
+
+	/**
+	 * Writes the body. Called once more if the request has to be sent again over a new connection.
+	 * @param out HTTP request stream, not to be closed
+	 */
+	abstract void writeTo(OutputStream out) throws Exception;
+
+	/**
+	 * @return entity writing the message as is
+	 */
+	static RequestEntity forMessage(final Message message) throws Exception {
+		final long length = message.getContentLength();
+		return new RequestEntity() {
+			long getLength() {
+				return length;
+			}
+
+			long getUncompressedLength() {
+				return length;
+			}
+
+			boolean isGzip() {
+				return false;
+			}
+
+			void writeTo(OutputStream out) throws Exception {
+				message.writeTo(out);
+			}
+		};
+	}
+
+	/**
+	 * @return entity writing the message gzip encoded, compressed once, here
+	 */
+	static RequestEntity forCompressedMessage(Message message, int bufferSize) throws Exception {
+		final long length = message.getContentLength();
+		ByteArrayOutputStream buf = new ByteArrayOutputStream((int) Math.min(length / 4 + 64, Integer.MAX_VALUE));
+		GZIPOutputStream gzip = new GZIPOutputStream(buf, bufferSize);
+		message.writeTo(gzip);
+		gzip.close();
+		final byte[] compressed = buf.toByteArray();
+		return new RequestEntity() {
+			long getLength() {
+				return compressed.length;
+			}
+
+			long getUncompressedLength() {
+				return length;
+			}
+
+			boolean isGzip() {
+				return true;
+			}
+
+			void writeTo(OutputStream out) throws Exception {
+				out.write(compressed);
+			}
+		};
+	}
+}
@@ -0,0 +1,280 @@
+package org.sla256.antjira.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Input stream copying everything read through it to a spool output stream, while recording the byte range
+ * of every SOAP encoding multiRef element (as written by Axis: {@code <multiRef id="id12" ...>...</multiRef>})
+ * by its id. The ranges let a {@link RemoteIssueStreamDecoder} resolve href references by reading them back
+ * from the spooled response, instead of keeping referenced objects in memory until the end of the message.
+ */
+class SpoolingInputStream extends FilterInputStream {
+
+	private static final byte[] MULTIREF_TAG = { '<', 'm', 'u', 'l', 't', 'i', 'R', 'e', 'f' };
+
+	private static final byte[] ID_ATTRIBUTE = { 'i', 'd', '=' };
+
+	private static final byte[] MULTIREF_END_TAG = { '<', '/', 'm', 'u', 'l', 't', 'i', 'R', 'e', 'f', '>' };
+
+	private static final int MAX_NUMERIC_ID = 1 << 24;
+
+	private static final int SCAN_TAG = 0;
+
+	private static final int SCAN_TAG_END = 1;
+
+	private static final int SCAN_ATTRIBUTES = 2;
+
+	private static final int SCAN_ID = 3;
+
+	private final OutputStream spool;
+
+	private boolean recording = true;
+
+	private long position = 0;
+
+	private int state = SCAN_TAG;
+
+	private int match = 0;
+
+	private int endMatch = 0;
+
+	private boolean afterWhitespace = false;
+
+	private byte quote;
+
+	private long tagStart;
+
+	private final StringBuilder id = new StringBuilder();
+
+	/**
+	 * Id of the multiRef element being read, null outside of multiRef elements.
+	 */
+	private String openId;
+
+	/**
+	 * Start and end offsets of "idN" multiRefs at index 2N and 2N+1, plus one so that 0 means unknown.
+	 */
+	private long[] numericRanges = new long[128];
+
+	/**
+	 * Start and end offsets of multiRefs whose id is not of the "idN" form.
+	 */
+	private final Map<String, long[]> otherRanges = new HashMap<String, long[]>();
+
+	SpoolingInputStream(InputStream in, OutputStream spool) {
+		super(in);
+		this.spool = spool;
+	}
+
+	/**
+	 * Stops copying to the spool, e.g. once nothing after the current position can be referenced anymore.
+	 */
+	void stopRecording() {
+		recording = false;
+	}
+
+	/**
+	 * @param id multiRef id, without the leading '#' of the href
+	 * @return byte offset of the multiRef start tag in the spool, -1 if not seen
+	 */
+	long getStart(String id) {
+		return getRange(id, 0);
+	}
+
+	/**
+	 * @param id multiRef id, without the leading '#' of the href
+	 * @return byte offset following the multiRef end tag in the spool, -1 if not seen
+	 */
+	long getEnd(String id) {
+		return getRange(id, 1);
+	}
+
+	private long getRange(String id, int bound) {
+		int n = numericId(id);
+		if( n >= 0 ) {
+			return 2 * n + bound < numericRanges.length ? numericRanges[2 * n + bound] - 1 : -1;
+		}
+		long[] range = otherRanges.get(id);
+		return range != null ? range[bound] - 1 : -1;
+	}
+
+	/**
+	 * Reads (and spools) the remaining input.
+	 * @throws IOException
+	 */
+	void drain() throws IOException {
+		byte[] b = new byte[8192];
+		while( read(b, 0, b.length) != -1 ) {
+			// spooled by read
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		int c = in.read();
+		if( c != -1 && recording ) {
+			spool.write(c);
+			scan((byte) c);
+			position++;
+		}
+		return c;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int n = in.read(b, off, len);
+		if( n > 0 && recording ) {
+			spool.write(b, off, n);
+			long start = position;
+			for(int i = 0; i < n; i++) {
+				byte c = b[off + i];
+				// fast path for character data and tags other than multiRef
+				if( c != '<' && state == SCAN_TAG && match == 0 && endMatch == 0 ) {
+					continue;
+				}
+				position = start + i;
+				scan(c);
+			}
+			position = start + n;
+		}
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		byte[] b = new byte[(int) Math.min(n, 8192)];
+		int read = read(b, 0, b.length);
+		return read < 0 ? 0 : read;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	/**
+	 * Advances the multiRef tag scanner by the byte at the current position. Attribute values can not contain a raw '&lt;', so a
+	 * "&lt;multiRef" sequence always starts a start tag.
+	 */
+	private void scan(byte b) {
+		if( b == MULTIREF_END_TAG[endMatch] ) {
+			if( ++endMatch == MULTIREF_END_TAG.length ) {
+				if( openId != null ) {
+					record(openId, 1, position + 1);
+					openId = null;
+				}
+				endMatch = 0;
+			}
+		}
+		else {
+			endMatch = b == '<' ? 1 : 0;
+		}
+
+		switch( state ) {
+		case SCAN_TAG:
+			if( b == MULTIREF_TAG[match] ) {
+				if( ++match == MULTIREF_TAG.length ) {
+					tagStart = position - (MULTIREF_TAG.length - 1);
+					state = SCAN_TAG_END;
+				}
+			}
+			else {
+				match = b == '<' ? 1 : 0;
+			}
+			break;
+		case SCAN_TAG_END:
+			if( isWhitespace(b) ) {
+				state = SCAN_ATTRIBUTES;
+				match = 0;
+				afterWhitespace = true;
+			}
+			else {
+				state = SCAN_TAG;
+				match = b == '<' ? 1 : 0;
+			}
+			break;
+		case SCAN_ATTRIBUTES:
+			if( b == '>' ) {
+				state = SCAN_TAG;
+				match = 0;
+			}
+			else if( match == ID_ATTRIBUTE.length ) {
+				if( b == '"' || b == '\'' ) {
+					quote = b;
+					id.setLength(0);
+					state = SCAN_ID;
+				}
+				else {
+					match = 0;
+				}
+			}
+			else if( b == ID_ATTRIBUTE[match] && (match > 0 || afterWhitespace) ) {
+				match++;
+			}
+			else {
+				match = 0;
+			}
+			afterWhitespace = isWhitespace(b);
+			break;
+		case SCAN_ID:
+			if( b == quote ) {
+				openId = id.toString();
+				record(openId, 0, tagStart);
+				state = SCAN_TAG;
+				match = 0;
+			}
+			else {
+				id.append((char) b);
+			}
+			break;
+		}
+	}
+
+	private void record(String id, int bound, long offset) {
+		int n = numericId(id);
+		if( n >= 0 ) {
+			if( 2 * n + 1 >= numericRanges.length ) {
+				long[] grown = new long[Math.max(2 * n + 2, numericRanges.length * 2)];
+				System.arraycopy(numericRanges, 0, grown, 0, numericRanges.length);
+				numericRanges = grown;
+			}
+			numericRanges[2 * n + bound] = offset + 1;
+		}
+		else {
+			long[] range = otherRanges.get(id);
+			if( range == null ) {
+				range = new long[2];
+				otherRanges.put(id, range);
+			}
+			range[bound] = offset + 1;
+		}
+	}
+
+	/**
+	 * @return N for Axis generated "idN" ids (below 2^24, kept in the range array), -1 for any other id
+	 */
+	private static int numericId(String id) {
+		int len = id.length();
+		if( len < 3 || len > 11 || id.charAt(0) != 'i' || id.charAt(1) != 'd' ) {
+			return -1;
+		}
+		long n = 0;
+		for(int i = 2; i < len; i++) {
+			char c = id.charAt(i);
+			if( c < '0' || c > '9' ) {
+				return -1;
+			}
+			n = n * 10 + (c - '0');
+		}
+		return n >= MAX_NUMERIC_ID ? -1 : (int) n;
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+	}
+}
@@ -0,0 +1,138 @@
+package org.sla256.antjira.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Message;
+import org.apache.axis.encoding.Base64;
+import org.sla256.antjira.jirasoapservice.AttachmentUpload;
+
+/**
+ * Request of a streamed attachment upload. The Axis message, serialized with placeholders in place of the
+ * attachment data, is split around the base64 encoded placeholders; each one is replaced by the base64
+ * encoded content of its file, read and encoded while the request is being written. Memory use does not
+ * depend on the size of the files.
+ *
+ * Uncompressed, the exact length of the request is known beforehand (from the file sizes), so it is sent
+ * with a Content-Length. Gzip encoded, it is sent chunked.
+ */
+class UploadRequestEntity extends RequestEntity {
+
+	private final byte[] envelope;
+
+	private final AttachmentUpload upload;
+
+	/**
+	 * Position in the envelope of the base64 encoded placeholder of each file.
+	 */
+	private final int[] offsets;
+
+	/**
+	 * Length of the base64 encoded placeholder of each file.
+	 */
+	private final int[] placeholderLengths;
+
+	/**
+	 * Size of each file when the request was prepared.
+	 */
+	private final long[] sizes;
+
+	private final long length;
+
+	private final boolean gzip;
+
+	private final int bufferSize;
+
+	/**
+	 * @param message request message serialized with the placeholders of the upload
+	 * @param upload files to send
+	 * @param gzip true to gzip encode the request
+	 * @param bufferSize gzip buffer size
+	 * @throws AxisFault if a placeholder can not be found in the serialized message
+	 */
+	UploadRequestEntity(Message message, AttachmentUpload upload, boolean gzip, int bufferSize) throws Exception {
+		ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		message.writeTo(buf);
+		this.envelope = buf.toByteArray();
+		this.upload = upload;
+		this.gzip = gzip;
+		this.bufferSize = bufferSize;
+
+		int n = upload.size();
+		offsets = new int[n];
+		placeholderLengths = new int[n];
+		sizes = new long[n];
+		long total = envelope.length;
+		int from = 0;
+		for(int i = 0; i < n; i++) {
+			byte[] placeholder = Base64.encode(upload.getPlaceholder(i)).getBytes("US-ASCII");
+			offsets[i] = indexOf(envelope, placeholder, from);
+			if( offsets[i] == -1 ) {
+				throw new AxisFault("Placeholder of attachment " + upload.getFile(i) + " not found in the request");
+			}
+			placeholderLengths[i] = placeholder.length;
+			from = offsets[i] + placeholder.length;
+			sizes[i] = upload.getFile(i).length();
+			total += Base64FileEncoder.encodedLength(sizes[i]) - placeholder.length;
+		}
+		length = total;
+	}
+
+	long getLength() {
+		return gzip ? -1 : length;
+	}
+
+	long getUncompressedLength() {
+		return length;
+	}
+
+	boolean isGzip() {
+		return gzip;
+	}
+
+	void writeTo(OutputStream out) throws Exception {
+		if( gzip ) {
+			GZIPOutputStream gzipOut = new GZIPOutputStream(new FilterOutputStream(out) {
+				public void write(byte[] b, int off, int len) throws IOException {
+					out.write(b, off, len);
+				}
+
+				public void close() {
+					// leaves the HTTP stream open
+				}
+			}, bufferSize);
+			writeBody(gzipOut);
+			gzipOut.close();
+		}
+		else {
+			writeBody(out);
+		}
+	}
+
+	private void writeBody(OutputStream out) throws IOException {
+		int pos = 0;
+		for(int i = 0; i < offsets.length; i++) {
+			out.write(envelope, pos, offsets[i] - pos);
+			Base64FileEncoder.encode(upload.getFile(i), sizes[i], out);
+			pos = offsets[i] + placeholderLengths[i];
+		}
+		out.write(envelope, pos, envelope.length - pos);
+	}
+
+	private static int indexOf(byte[] data, byte[] pattern, int from) {
+		outer:
+		for(int i = from; i <= data.length - pattern.length; i++) {
+			for(int j = 0; j < pattern.length; j++) {
+				if( data[i + j] != pattern[j] ) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+}